@@ -0,0 +1,37 @@
+/**
+ * Copyright 2000-2025 Vaadin Ltd.
+ *
+ * This program is available under Vaadin Commercial License and Service Terms.
+ *
+ * See {@literal <https://vaadin.com/commercial-license-and-service-terms>} for the full
+ * license.
+ */
+package com.vaadin.flow.component;
+
+import com.vaadin.flow.server.VaadinSession;
+
+/**
+ * A UI with a session that is always locked, for attaching components in
+ * benchmarks without a servlet container.
+ */
+public class BenchmarkUI extends UI {
+
+    public BenchmarkUI() {
+        getInternals().setSession(new VaadinSession(null) {
+            @Override
+            public boolean hasLock() {
+                return true;
+            }
+        });
+    }
+
+    /**
+     * Runs the tasks scheduled to run before the client response, such as
+     * data communicator flushes, and discards the resulting JavaScript
+     * invocations.
+     */
+    public void runBeforeClientResponse() {
+        getInternals().getStateTree().runExecutionsBeforeClientResponse();
+        getInternals().dumpPendingJavaScriptInvocations();
+    }
+}
@@ -0,0 +1,120 @@
+/**
+ * Copyright 2000-2025 Vaadin Ltd.
+ *
+ * This program is available under Vaadin Commercial License and Service Terms.
+ *
+ * See {@literal <https://vaadin.com/commercial-license-and-service-terms>} for the full
+ * license.
+ */
+package com.vaadin.flow.component.charts;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.vaadin.flow.component.charts.model.ChartType;
+import com.vaadin.flow.component.charts.model.CompactDataSeries;
+import com.vaadin.flow.component.charts.model.Configuration;
+import com.vaadin.flow.component.charts.model.DataSeries;
+import com.vaadin.flow.component.charts.model.DataSeriesItem;
+import com.vaadin.flow.component.charts.model.ListSeries;
+import com.vaadin.flow.component.charts.util.ChartSerialization;
+
+/**
+ * Measures serializing a chart configuration to JSON, which is done every
+ * time the chart is drawn, for a {@link DataSeries} with one
+ * {@link DataSeriesItem} per point, for a {@link ListSeries} with plain values
+ * and for a {@link CompactDataSeries} with primitive values. The
+ * {@code write} benchmarks stream the JSON into a reused buffer instead of
+ * creating a new string.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ChartSerializationBenchmark {
+
+    @Param({ "1000", "100000" })
+    private int pointCount;
+
+    private Configuration dataSeriesConfiguration;
+
+    private Configuration listSeriesConfiguration;
+
+    private Configuration compactDataSeriesConfiguration;
+
+    private StringWriter writer;
+
+    @Setup
+    public void setup() {
+        DataSeries dataSeries = new DataSeries("Data");
+        Number[] values = new Number[pointCount];
+        double[] xValues = new double[pointCount];
+        double[] yValues = new double[pointCount];
+        for (int i = 0; i < pointCount; i++) {
+            double y = Math.sin(i / 100.0) * 100;
+            dataSeries.add(new DataSeriesItem(i, y), false, false);
+            values[i] = y;
+            xValues[i] = i;
+            yValues[i] = y;
+        }
+
+        dataSeriesConfiguration = new Configuration();
+        dataSeriesConfiguration.getChart().setType(ChartType.LINE);
+        dataSeriesConfiguration.addSeries(dataSeries);
+
+        listSeriesConfiguration = new Configuration();
+        listSeriesConfiguration.getChart().setType(ChartType.LINE);
+        listSeriesConfiguration.addSeries(new ListSeries("List", values));
+
+        compactDataSeriesConfiguration = new Configuration();
+        compactDataSeriesConfiguration.getChart().setType(ChartType.LINE);
+        compactDataSeriesConfiguration.addSeries(
+                new CompactDataSeries(xValues, yValues));
+
+        writer = new StringWriter();
+    }
+
+    @Benchmark
+    public String serializeDataSeries() {
+        return ChartSerialization.toJSON(dataSeriesConfiguration);
+    }
+
+    @Benchmark
+    public String serializeListSeries() {
+        return ChartSerialization.toJSON(listSeriesConfiguration);
+    }
+
+    @Benchmark
+    public String serializeCompactDataSeries() {
+        return ChartSerialization.toJSON(compactDataSeriesConfiguration);
+    }
+
+    @Benchmark
+    public int writeDataSeries() throws IOException {
+        writer.getBuffer().setLength(0);
+        ChartSerialization.writeJSON(dataSeriesConfiguration, writer);
+        return writer.getBuffer().length();
+    }
+
+    @Benchmark
+    public int writeCompactDataSeries() throws IOException {
+        writer.getBuffer().setLength(0);
+        ChartSerialization.writeJSON(compactDataSeriesConfiguration, writer);
+        return writer.getBuffer().length();
+    }
+}
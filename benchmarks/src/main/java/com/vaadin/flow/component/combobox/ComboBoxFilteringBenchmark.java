@@ -0,0 +1,75 @@
+/**
+ * Copyright 2000-2025 Vaadin Ltd.
+ *
+ * This program is available under Vaadin Commercial License and Service Terms.
+ *
+ * See {@literal <https://vaadin.com/commercial-license-and-service-terms>} for the full
+ * license.
+ */
+package com.vaadin.flow.component.combobox;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.vaadin.flow.component.BenchmarkUI;
+
+/**
+ * Measures in-memory filtering of combo box items, as done for every filter
+ * string typed by the user. The combo box is attached to a UI, and each
+ * invocation applies the filter and runs the resulting data communicator
+ * flush, which counts the matching items and generates the first page. The
+ * filter is then cleared so that the next invocation is not a no-op.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ComboBoxFilteringBenchmark {
+
+    @Param({ "1000", "100000" })
+    private int itemCount;
+
+    @Param({ "item 1", "xyz" })
+    private String filter;
+
+    private ComboBox<String> comboBox;
+
+    private BenchmarkUI ui;
+
+    @Setup
+    public void setup() {
+        List<String> items = new ArrayList<>(itemCount);
+        for (int i = 0; i < itemCount; i++) {
+            items.add("Item " + i);
+        }
+        comboBox = new ComboBox<>();
+        comboBox.setItems(items);
+        ui = new BenchmarkUI();
+        ui.add(comboBox);
+        ui.runBeforeClientResponse();
+    }
+
+    @Benchmark
+    public int filterItems() {
+        comboBox.getDataController().setRequestedRange(0, 50, filter);
+        ui.runBeforeClientResponse();
+        int count = comboBox.getDataCommunicator().getItemCount();
+        comboBox.getDataController().setRequestedRange(0, 50, "");
+        return count;
+    }
+}
@@ -0,0 +1,148 @@
+/**
+ * Copyright 2000-2025 Vaadin Ltd.
+ *
+ * This program is available under Vaadin Commercial License and Service Terms.
+ *
+ * See {@literal <https://vaadin.com/commercial-license-and-service-terms>} for the full
+ * license.
+ */
+package com.vaadin.flow.component.grid;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.vaadin.flow.component.BenchmarkUI;
+import com.vaadin.flow.component.html.Span;
+import com.vaadin.flow.data.provider.CompositeDataGenerator;
+import com.vaadin.flow.data.provider.DataCommunicator;
+import com.vaadin.flow.data.renderer.ComponentRenderer;
+import com.vaadin.flow.data.renderer.LitRenderer;
+import com.vaadin.flow.dom.Element;
+import com.vaadin.flow.function.SerializableSupplier;
+import com.vaadin.flow.function.ValueProvider;
+
+import elemental.json.Json;
+import elemental.json.JsonObject;
+
+/**
+ * Measures the server-side cost of generating the JSON for one page of grid
+ * rows, as done by the data communicator for each requested range. Every other
+ * column is a plain text column, the rest use either a {@link LitRenderer} or
+ * a {@link ComponentRenderer}, which creates a component for each row. The
+ * grid is attached to a UI so that the rendered components are attached as
+ * well.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GridPageGenerationBenchmark {
+
+    @Param({ "50", "500" })
+    private int pageSize;
+
+    @Param({ "5", "20", "30" })
+    private int columnCount;
+
+    @Param({ "lit", "component" })
+    private String renderer;
+
+    private List<Person> items;
+
+    private CompositeDataGenerator<Person> dataGenerator;
+
+    @Setup
+    public void setup() {
+        CapturingDataCommunicatorBuilder builder =
+                new CapturingDataCommunicatorBuilder();
+        BenchmarkGrid grid = new BenchmarkGrid(builder);
+        new BenchmarkUI().add(grid);
+        for (int i = 0; i < columnCount; i++) {
+            if (i % 2 == 0) {
+                grid.addColumn(Person::getName).setHeader("Name " + i);
+            } else if ("component".equals(renderer)) {
+                grid.addColumn(new ComponentRenderer<>(
+                        person -> new Span(person.getName())))
+                        .setHeader("Person " + i);
+            } else {
+                grid.addColumn(LitRenderer
+                        .<Person> of("<b>${item.name}</b> ${item.age}")
+                        .withProperty("name", Person::getName)
+                        .withProperty("age", Person::getAge))
+                        .setHeader("Person " + i);
+            }
+        }
+        dataGenerator = builder.dataGenerator;
+
+        items = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            items.add(new Person("Person " + i, i % 100));
+        }
+    }
+
+    @Benchmark
+    public void generatePage(Blackhole blackhole) {
+        for (Person item : items) {
+            JsonObject json = Json.createObject();
+            dataGenerator.generateData(item, json);
+            blackhole.consume(json);
+        }
+        dataGenerator.destroyAllData();
+    }
+
+    public static class Person {
+        private final String name;
+        private final int age;
+
+        public Person(String name, int age) {
+            this.name = name;
+            this.age = age;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getAge() {
+            return age;
+        }
+    }
+
+    private static class BenchmarkGrid extends Grid<Person> {
+        BenchmarkGrid(CapturingDataCommunicatorBuilder builder) {
+            super(50, null, builder);
+        }
+    }
+
+    private static class CapturingDataCommunicatorBuilder extends
+            Grid.DataCommunicatorBuilder<Person, GridArrayUpdater> {
+
+        private CompositeDataGenerator<Person> dataGenerator;
+
+        @Override
+        protected DataCommunicator<Person> build(Element element,
+                CompositeDataGenerator<Person> dataGenerator,
+                GridArrayUpdater arrayUpdater,
+                SerializableSupplier<ValueProvider<Person, String>> uniqueKeyProviderSupplier) {
+            this.dataGenerator = dataGenerator;
+            return super.build(element, dataGenerator, arrayUpdater,
+                    uniqueKeyProviderSupplier);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+/**
+ * Copyright 2000-2025 Vaadin Ltd.
+ *
+ * This program is available under Vaadin Commercial License and Service Terms.
+ *
+ * See {@literal <https://vaadin.com/commercial-license-and-service-terms>} for the full
+ * license.
+ */
+package com.vaadin.flow.component.map;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.vaadin.flow.component.map.configuration.AbstractConfigurationObject;
+import com.vaadin.flow.component.map.configuration.Coordinate;
+import com.vaadin.flow.component.map.configuration.feature.MarkerFeature;
+import com.vaadin.flow.component.map.configuration.style.Icon;
+import com.vaadin.flow.component.map.serialization.MapSerializer;
+
+import elemental.json.JsonValue;
+
+/**
+ * Measures serializing the changed configuration objects of a map with many
+ * markers, as done when the map configuration is synchronized to the client.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapSerializerBenchmark {
+
+    @Param({ "100", "10000" })
+    private int markerCount;
+
+    private Set<AbstractConfigurationObject> changedObjects;
+
+    private MapSerializer serializer;
+
+    @Setup
+    public void setup() {
+        Icon.Options iconOptions = new Icon.Options();
+        iconOptions.setSrc("https://example.com/marker.png");
+        Icon icon = new Icon(iconOptions);
+
+        Map map = new Map();
+        for (int i = 0; i < markerCount; i++) {
+            map.getFeatureLayer().addFeature(new MarkerFeature(
+                    new Coordinate(i % 360 - 180, i % 170 - 85), icon));
+        }
+
+        // Collecting changes resets the dirty state of the objects, so
+        // collect them once and serialize the same set in every invocation
+        changedObjects = new LinkedHashSet<>();
+        map.getRawConfiguration().collectChanges(changedObjects::add);
+        serializer = new MapSerializer();
+    }
+
+    @Benchmark
+    public JsonValue serializeChanges() {
+        return serializer.toJson(changedObjects);
+    }
+}
@@ -0,0 +1,68 @@
+/**
+ * Copyright 2000-2025 Vaadin Ltd.
+ *
+ * This program is available under Vaadin Commercial License and Service Terms.
+ *
+ * See {@literal <https://vaadin.com/commercial-license-and-service-terms>} for the full
+ * license.
+ */
+package com.vaadin.flow.component.spreadsheet;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.vaadin.flow.component.spreadsheet.client.CellData;
+
+/**
+ * Measures loading the cell data of a visible area of a spreadsheet, as done
+ * when the user scrolls the sheet. The cached content is cleared before each
+ * invocation so that every cell is formatted and sent again.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CellValueManagerBenchmark {
+
+    @Param({ "50", "200" })
+    private int rowCount;
+
+    @Param({ "20" })
+    private int columnCount;
+
+    private CellValueManager valueManager;
+
+    @Setup
+    public void setup() {
+        Spreadsheet spreadsheet = new Spreadsheet();
+        for (int row = 0; row < rowCount; row++) {
+            for (int col = 0; col < columnCount; col++) {
+                Object value = col % 2 == 0 ? (Object) (row * col + 0.5)
+                        : "Cell " + row + "," + col;
+                spreadsheet.createCell(row, col, value);
+            }
+        }
+        valueManager = spreadsheet.getCellValueManager();
+    }
+
+    @Benchmark
+    public List<CellData> loadVisibleArea() {
+        valueManager.clearCachedContent();
+        return valueManager.loadCellDataForRowAndColumnRange(1, 1, rowCount,
+                columnCount);
+    }
+}
@@ -134,6 +134,7 @@ public class Accordion extends Component implements HasSize, HasStyle {
      */
     public void close() {
         getElement().setProperty(OPENED_PROPERTY, null);
+        updatePanelsOpened(-1);
     }
 
     /**
@@ -150,6 +151,22 @@ public class Accordion extends Component implements HasSize, HasStyle {
         }
 
         getElement().setProperty(OPENED_PROPERTY, index);
+        updatePanelsOpened(index);
+    }
+
+    /**
+     * Updates the opened state of the panels right away instead of waiting
+     * for the client to do it, so that panels with a content supplier can
+     * create their content in the same round trip.
+     */
+    private void updatePanelsOpened(int openedIndex) {
+        for (int i = 0; i < getElement().getChildCount(); i++) {
+            var opened = i == openedIndex;
+            getElement().getChild(i).getComponent()
+                    .filter(AccordionPanel.class::isInstance)
+                    .map(AccordionPanel.class::cast)
+                    .ifPresent(panel -> panel.setOpened(opened));
+        }
     }
 
     /**
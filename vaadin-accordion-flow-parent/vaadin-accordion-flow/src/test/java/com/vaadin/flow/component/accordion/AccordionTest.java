@@ -0,0 +1,73 @@
+/*
+ * Copyright 2000-2025 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.component.accordion;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.vaadin.flow.component.html.Span;
+
+public class AccordionTest {
+
+    private Accordion accordion;
+    private AccordionPanel panel0;
+    private AccordionPanel panel1;
+
+    @Before
+    public void setup() {
+        accordion = new Accordion();
+        panel0 = accordion.add("Panel 0", new Span("Content 0"));
+        panel1 = accordion.add(new AccordionPanel("Panel 1"));
+    }
+
+    @Test
+    public void open_panelsOpenedStateUpdated() {
+        accordion.open(1);
+        Assert.assertFalse(panel0.isOpened());
+        Assert.assertTrue(panel1.isOpened());
+
+        accordion.open(panel0);
+        Assert.assertTrue(panel0.isOpened());
+        Assert.assertFalse(panel1.isOpened());
+    }
+
+    @Test
+    public void close_panelsClosed() {
+        accordion.open(1);
+        accordion.close();
+
+        Assert.assertFalse(panel0.isOpened());
+        Assert.assertFalse(panel1.isOpened());
+    }
+
+    @Test
+    public void open_panelWithContentSupplier_contentCreated() {
+        var supplierCalls = new AtomicInteger();
+        panel1.setContentSupplier(() -> {
+            supplierCalls.incrementAndGet();
+            return new Span("Content 1");
+        });
+        Assert.assertEquals(0, supplierCalls.get());
+
+        accordion.open(panel1);
+
+        Assert.assertEquals(1, supplierCalls.get());
+        Assert.assertEquals(1, panel1.getContent().count());
+    }
+}
@@ -25,6 +25,7 @@ import com.vaadin.flow.component.Tag;
 import com.vaadin.flow.component.dependency.JsModule;
 import com.vaadin.flow.component.dependency.NpmPackage;
 import com.vaadin.flow.component.shared.HasThemeVariant;
+import com.vaadin.flow.component.shared.SharedResource;
 import com.vaadin.flow.internal.JsonSerializer;
 import com.vaadin.flow.server.AbstractStreamResource;
 
@@ -93,6 +94,7 @@ public class Avatar extends Component
     }
 
     private AbstractStreamResource imageResource;
+    private SharedResource sharedImage;
     private AvatarI18n i18n;
 
     /**
@@ -235,6 +237,7 @@ public class Avatar extends Component
      */
     public void setImage(String url) {
         imageResource = null;
+        sharedImage = null;
 
         if (url == null) {
             getElement().removeAttribute("img");
@@ -255,6 +258,7 @@ public class Avatar extends Component
      */
     public void setImageResource(AbstractStreamResource resource) {
         imageResource = resource;
+        sharedImage = null;
         if (resource == null) {
             getElement().removeAttribute("img");
             return;
@@ -263,6 +267,39 @@ public class Avatar extends Component
         getElement().setAttribute("img", resource);
     }
 
+    /**
+     * Gets the shared image that was set for the avatar.
+     *
+     * @return the shared image or {@code null} if it has not been set
+     */
+    public SharedResource getSharedImage() {
+        return sharedImage;
+    }
+
+    /**
+     * Sets the image for the avatar from a resource that is shared by all the
+     * users of the application. Unlike a stream resource, a shared resource is
+     * served from the same URL to all users, and it can be cached permanently
+     * by the browser. This makes it suitable for images, like user photos,
+     * that are shown in many avatars or to many users.
+     * <p>
+     * Setting the image with this method resets the image URL and the image
+     * resource that were set with {@link Avatar#setImage(String)} or
+     * {@link Avatar#setImageResource(AbstractStreamResource)}.
+     *
+     * @param image
+     *            the shared image or {@code null} to remove the image
+     */
+    public void setSharedImage(SharedResource image) {
+        imageResource = null;
+        sharedImage = image;
+        if (image == null) {
+            getElement().removeAttribute("img");
+        } else {
+            getElement().setAttribute("img", image.getUrl());
+        }
+    }
+
     /**
      * Gets the color index for the avatar.
      *
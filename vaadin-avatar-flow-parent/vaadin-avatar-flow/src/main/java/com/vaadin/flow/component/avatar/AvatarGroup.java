@@ -38,6 +38,7 @@ import com.vaadin.flow.component.dependency.JsModule;
 import com.vaadin.flow.component.dependency.NpmPackage;
 import com.vaadin.flow.component.shared.HasOverlayClassName;
 import com.vaadin.flow.component.shared.HasThemeVariant;
+import com.vaadin.flow.component.shared.SharedResource;
 import com.vaadin.flow.internal.JsonSerializer;
 import com.vaadin.flow.internal.NodeOwner;
 import com.vaadin.flow.internal.StateTree;
@@ -90,6 +91,7 @@ public class AvatarGroup extends Component implements HasOverlayClassName,
         private Command pendingHandle;
 
         private AbstractStreamResource imageResource;
+        private SharedResource sharedImage;
 
         /**
          * Creates a new empty avatar group item.
@@ -213,6 +215,7 @@ public class AvatarGroup extends Component implements HasOverlayClassName,
         public void setImage(String url) {
             unsetResource();
 
+            sharedImage = null;
             this.img = url;
             if (getHost() != null) {
                 getHost().setClientItems();
@@ -231,6 +234,7 @@ public class AvatarGroup extends Component implements HasOverlayClassName,
          */
         public void setImageResource(AbstractStreamResource resource) {
             imageResource = resource;
+            sharedImage = null;
 
             if (resource == null) {
                 unsetResource();
@@ -251,6 +255,39 @@ public class AvatarGroup extends Component implements HasOverlayClassName,
             }
         }
 
+        /**
+         * Gets the shared image that was set for the avatar.
+         *
+         * @return the shared image or {@code null} if it has not been set
+         */
+        public SharedResource getSharedImage() {
+            return sharedImage;
+        }
+
+        /**
+         * Sets the image for the avatar from a resource that is shared by all
+         * the users of the application. Unlike a stream resource, a shared
+         * resource is served from the same URL to all users, and it can be
+         * cached permanently by the browser.
+         * <p>
+         * Setting the image with this method resets the image URL and the
+         * image resource that were set with
+         * {@link AvatarGroupItem#setImage(String)} or
+         * {@link AvatarGroupItem#setImageResource(AbstractStreamResource)}.
+         *
+         * @param image
+         *            the shared image or {@code null} to remove the image
+         */
+        public void setSharedImage(SharedResource image) {
+            unsetResource();
+
+            sharedImage = image;
+            this.img = image == null ? null : image.getUrl();
+            if (getHost() != null) {
+                getHost().setClientItems();
+            }
+        }
+
         private void doSetResource(AbstractStreamResource resource) {
             final URI targetUri;
             if (VaadinSession.getCurrent() != null) {
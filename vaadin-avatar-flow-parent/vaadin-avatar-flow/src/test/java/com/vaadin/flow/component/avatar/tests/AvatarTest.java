@@ -23,6 +23,7 @@ import org.junit.Test;
 
 import com.vaadin.flow.component.avatar.Avatar;
 import com.vaadin.flow.component.avatar.AvatarVariant;
+import com.vaadin.flow.component.shared.SharedResource;
 
 public class AvatarTest {
 
@@ -59,6 +60,24 @@ public class AvatarTest {
         Assert.assertEquals(avatar.getImage(), "https://vaadin.com/");
     }
 
+    @Test
+    public void setSharedImage_getImage() {
+        SharedResource image = SharedResource.create("photo.png",
+                "image/png", new byte[] { 1, 2, 3 });
+        avatar.setSharedImage(image);
+        Assert.assertEquals(image, avatar.getSharedImage());
+        Assert.assertEquals(image.getUrl(), avatar.getImage());
+    }
+
+    @Test
+    public void setSharedImage_setImage_sharedImageReset() {
+        avatar.setSharedImage(SharedResource.create("photo.png", "image/png",
+                new byte[] { 1, 2, 3 }));
+        avatar.setImage("https://vaadin.com/");
+        Assert.assertNull(avatar.getSharedImage());
+        Assert.assertEquals("https://vaadin.com/", avatar.getImage());
+    }
+
     @Test
     public void constructAvatarWithName() {
         Avatar avatar = new Avatar("foo");
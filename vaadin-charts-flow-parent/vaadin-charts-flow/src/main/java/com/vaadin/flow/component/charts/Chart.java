@@ -9,13 +9,21 @@
 package com.vaadin.flow.component.charts;
 
 import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Deque;
+import java.util.IdentityHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.vaadin.flow.component.AttachEvent;
 import com.vaadin.flow.component.Component;
 import com.vaadin.flow.component.ComponentEventListener;
@@ -55,9 +63,9 @@ import com.vaadin.flow.component.charts.events.SeriesMouseOverEvent;
 import com.vaadin.flow.component.charts.events.SeriesShowEvent;
 import com.vaadin.flow.component.charts.events.XAxesExtremesSetEvent;
 import com.vaadin.flow.component.charts.events.YAxesExtremesSetEvent;
-import com.vaadin.flow.component.charts.events.internal.ConfigurationChangeListener;
 import com.vaadin.flow.component.charts.model.AbstractConfigurationObject;
 import com.vaadin.flow.component.charts.model.ChartType;
+import com.vaadin.flow.component.charts.model.CompactDataSeries;
 import com.vaadin.flow.component.charts.model.Configuration;
 import com.vaadin.flow.component.charts.model.DataSeries;
 import com.vaadin.flow.component.charts.model.DataSeriesItem;
@@ -102,7 +110,9 @@ public class Chart extends Component implements HasStyle, HasSize, HasTheme {
 
     private transient JreJsonFactory jsonFactory = new JreJsonFactory();
 
-    private final ConfigurationChangeListener changeListener = new ProxyChangeForwarder(
+    private transient ObjectNode lastSentConfiguration;
+
+    private final ProxyChangeForwarder changeListener = new ProxyChangeForwarder(
             this);
 
     private final static List<ChartType> TIMELINE_NOT_SUPPORTED = Arrays.asList(
@@ -136,6 +146,9 @@ public class Chart extends Component implements HasStyle, HasSize, HasTheme {
     protected void onAttach(AttachEvent attachEvent) {
         super.onAttach(attachEvent);
 
+        // The client side element may have been recreated, so the whole
+        // configuration has to be sent
+        lastSentConfiguration = null;
         beforeClientResponse(attachEvent.getUI(), false);
     }
 
@@ -199,6 +212,11 @@ public class Chart extends Component implements HasStyle, HasSize, HasTheme {
      * ready before element is attached.
      * </p>
      *
+     * <p>
+     * Unless the configuration is reset, only the parts of the configuration
+     * that changed since the previous call are sent to the client.
+     * </p>
+     *
      * @param resetConfiguration
      *            defines whether the chart should be redrawn or not
      * @see #getConfiguration()
@@ -206,11 +224,48 @@ public class Chart extends Component implements HasStyle, HasSize, HasTheme {
     public void drawChart(boolean resetConfiguration) {
         validateTimelineAndConfiguration();
 
-        final JsonObject configurationNode = getJsonFactory()
-                .parse(ChartSerialization.toJSON(configuration));
+        // Send pending point and series operations before the configuration
+        // to keep the order in which the changes were made
+        changeListener.flush();
+
+        final long start = System.nanoTime();
+        final String json = ChartSerialization.toJSON(configuration);
+        final ObjectNode configurationTree = ConfigurationDiff.parse(json);
+        // Digests of the large arrays computed while diffing are reused when
+        // compacting the tree
+        final Map<JsonNode, String> digests = new IdentityHashMap<>();
+        ObjectNode changes = null;
+        if (!resetConfiguration && lastSentConfiguration != null) {
+            changes = ConfigurationDiff.diff(lastSentConfiguration,
+                    configurationTree, digests);
+        }
+
+        if (changes != null && changes.isEmpty()) {
+            lastSentConfiguration = ConfigurationDiff
+                    .compact(configurationTree, digests);
+            logDrawChart("", json, start);
+            return;
+        }
+        final String payload = changes == null ? json : changes.toString();
+        // Large arrays are kept only as digests, the changes share the nodes
+        // of the tree so it is compacted after they have been written
+        lastSentConfiguration = ConfigurationDiff.compact(configurationTree,
+                digests);
+        final JsonObject configurationNode = getJsonFactory().parse(payload);
 
         getElement().callJsFunction("updateConfiguration", configurationNode,
                 resetConfiguration);
+        logDrawChart(payload, json, start);
+    }
+
+    private void logDrawChart(String payload, String json, long start) {
+        final Logger logger = LoggerFactory.getLogger(Chart.class);
+        if (logger.isDebugEnabled()) {
+            logger.debug("Sent {} of {} configuration bytes in {} ms",
+                    payload.getBytes(StandardCharsets.UTF_8).length,
+                    json.getBytes(StandardCharsets.UTF_8).length,
+                    (System.nanoTime() - start) / 1_000_000.0);
+        }
     }
 
     /**
@@ -720,7 +775,11 @@ public class Chart extends Component implements HasStyle, HasSize, HasTheme {
             DataSeriesItem item = null;
             if (series instanceof DataSeries) {
                 DataSeries dataSeries = (DataSeries) series;
-                item = dataSeries.get(pointIndex);
+                item = dataSeries.get(dataSeries.getDataIndex(pointIndex));
+            } else if (series instanceof CompactDataSeries) {
+                CompactDataSeries compactSeries = (CompactDataSeries) series;
+                item = compactSeries
+                        .get(compactSeries.getDataIndex(pointIndex));
             }
             final DrilldownDetails chartDrilldownEvent = new DrilldownDetails(
                     series, item, pointIndex);
@@ -0,0 +1,270 @@
+/**
+ * Copyright 2000-2025 Vaadin Ltd.
+ *
+ * This program is available under Vaadin Commercial License and Service Terms.
+ *
+ * See {@literal <https://vaadin.com/commercial-license-and-service-terms>} for the full
+ * license.
+ */
+package com.vaadin.flow.component.charts;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+
+/**
+ * Computes the changes between two serialized chart configurations.
+ * <p>
+ * The client side applies configuration updates by merging them into the
+ * current configuration, so only changed properties need to be sent. Arrays of
+ * objects with unchanged length (such as series or axes) are updated element
+ * by element, where an empty object leaves the element as it is. Other arrays
+ * are sent as a whole when they change.
+ * <p>
+ * To avoid keeping a copy of large series data in memory, the previously sent
+ * configuration is {@link #compact(ObjectNode) compacted} by replacing large
+ * arrays with a digest of their content. Large arrays are compared by size
+ * before their digests, and the digests computed while diffing can be reused
+ * when compacting, so that each large array is digested at most once per
+ * update.
+ */
+final class ConfigurationDiff {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    /**
+     * Arrays with more elements than this are replaced by a digest when
+     * compacting.
+     */
+    static final int LARGE_ARRAY_SIZE = 1000;
+
+    private ConfigurationDiff() {
+    }
+
+    /**
+     * Parses a serialized configuration.
+     *
+     * @param json
+     *            the configuration as JSON
+     * @return the configuration as a tree
+     */
+    static ObjectNode parse(String json) {
+        try {
+            return (ObjectNode) MAPPER.readTree(json);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Error while parsing configuration", e);
+        }
+    }
+
+    /**
+     * Replaces the large arrays in the given configuration with digests of
+     * their content. The compacted configuration can still be used as the
+     * previous configuration in {@link #diff(ObjectNode, ObjectNode)}, but
+     * changes in large arrays are detected only as a whole.
+     *
+     * @param configuration
+     *            the configuration to compact, modified in place
+     * @return the given configuration
+     */
+    static ObjectNode compact(ObjectNode configuration) {
+        return compact(configuration, new IdentityHashMap<>());
+    }
+
+    /**
+     * Replaces the large arrays in the given configuration with digests of
+     * their content, reusing the digests already computed by
+     * {@link #diff(ObjectNode, ObjectNode, Map)}.
+     *
+     * @param configuration
+     *            the configuration to compact, modified in place
+     * @param digests
+     *            the digests computed while diffing the configuration
+     * @return the given configuration
+     */
+    static ObjectNode compact(ObjectNode configuration,
+            Map<JsonNode, String> digests) {
+        final Iterator<Entry<String, JsonNode>> fields = configuration
+                .fields();
+        while (fields.hasNext()) {
+            final Entry<String, JsonNode> field = fields.next();
+            final JsonNode value = field.getValue();
+            if (isLargeArray(value)) {
+                field.setValue(new DigestNode(value.size(),
+                        digest(value, digests)));
+            } else {
+                compactChildren(value, digests);
+            }
+        }
+        return configuration;
+    }
+
+    private static void compactChildren(JsonNode node,
+            Map<JsonNode, String> digests) {
+        if (node.isObject()) {
+            compact((ObjectNode) node, digests);
+        } else if (node.isArray()) {
+            final ArrayNode array = (ArrayNode) node;
+            for (int i = 0; i < array.size(); i++) {
+                final JsonNode element = array.get(i);
+                if (isLargeArray(element)) {
+                    array.set(i, new DigestNode(element.size(),
+                            digest(element, digests)));
+                } else {
+                    compactChildren(element, digests);
+                }
+            }
+        }
+    }
+
+    private static boolean isLargeArray(JsonNode node) {
+        return node.isArray() && node.size() > LARGE_ARRAY_SIZE;
+    }
+
+    private static String digest(JsonNode node,
+            Map<JsonNode, String> digests) {
+        return digests.computeIfAbsent(node, ConfigurationDiff::digest);
+    }
+
+    private static String digest(JsonNode node) {
+        try {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            // Stream the content into the digest instead of buffering it
+            MAPPER.writeValue(new DigestOutputStream(
+                    OutputStream.nullOutputStream(), digest), node);
+            return Base64.getEncoder().encodeToString(digest.digest());
+        } catch (NoSuchAlgorithmException | IOException e) {
+            throw new RuntimeException("Error while compacting configuration",
+                    e);
+        }
+    }
+
+    /**
+     * Computes the update that turns the previous configuration into the
+     * current one when merged into it.
+     *
+     * @param previous
+     *            the configuration that was sent previously
+     * @param current
+     *            the current configuration
+     * @return the properties to update, or {@code null} if some property was
+     *         removed, in which case the whole configuration must be sent
+     */
+    static ObjectNode diff(ObjectNode previous, ObjectNode current) {
+        return diff(previous, current, new IdentityHashMap<>());
+    }
+
+    /**
+     * Computes the update that turns the previous configuration into the
+     * current one when merged into it, collecting the digests of the large
+     * arrays of the current configuration that had to be computed.
+     *
+     * @param previous
+     *            the configuration that was sent previously
+     * @param current
+     *            the current configuration
+     * @param digests
+     *            the map to add the computed digests to, to be passed to
+     *            {@link #compact(ObjectNode, Map)}
+     * @return the properties to update, or {@code null} if some property was
+     *         removed, in which case the whole configuration must be sent
+     */
+    static ObjectNode diff(ObjectNode previous, ObjectNode current,
+            Map<JsonNode, String> digests) {
+        final ObjectNode changes = MAPPER.createObjectNode();
+        return diffObject(previous, current, changes, digests) ? changes
+                : null;
+    }
+
+    private static boolean diffObject(ObjectNode previous, ObjectNode current,
+            ObjectNode changes, Map<JsonNode, String> digests) {
+        final Iterator<String> previousNames = previous.fieldNames();
+        while (previousNames.hasNext()) {
+            if (!current.has(previousNames.next())) {
+                // Merging cannot remove properties
+                return false;
+            }
+        }
+
+        final Iterator<Entry<String, JsonNode>> fields = current.fields();
+        while (fields.hasNext()) {
+            final Entry<String, JsonNode> field = fields.next();
+            final JsonNode previousValue = previous.get(field.getKey());
+            final JsonNode currentValue = field.getValue();
+            if (previousValue == null) {
+                changes.set(field.getKey(), currentValue);
+            } else if (previousValue instanceof DigestNode) {
+                // Only arrays of the same size need to be digested
+                final DigestNode previousDigest = (DigestNode) previousValue;
+                if (!currentValue.isArray()
+                        || currentValue.size() != previousDigest.size
+                        || !previousDigest.textValue()
+                                .equals(digest(currentValue, digests))) {
+                    changes.set(field.getKey(), currentValue);
+                }
+            } else if (previousValue.equals(currentValue)) {
+                continue;
+            } else if (previousValue.isObject() && currentValue.isObject()) {
+                final ObjectNode nestedChanges = changes
+                        .putObject(field.getKey());
+                if (!diffObject((ObjectNode) previousValue,
+                        (ObjectNode) currentValue, nestedChanges, digests)) {
+                    return false;
+                }
+            } else if (isObjectArray(previousValue)
+                    && isObjectArray(currentValue)
+                    && previousValue.size() == currentValue.size()) {
+                final ArrayNode arrayChanges = changes.putArray(field.getKey());
+                for (int i = 0; i < currentValue.size(); i++) {
+                    final ObjectNode elementChanges = arrayChanges.addObject();
+                    if (!diffObject((ObjectNode) previousValue.get(i),
+                            (ObjectNode) currentValue.get(i), elementChanges,
+                            digests)) {
+                        return false;
+                    }
+                }
+            } else {
+                changes.set(field.getKey(), currentValue);
+            }
+        }
+        return true;
+    }
+
+    private static boolean isObjectArray(JsonNode node) {
+        if (!node.isArray()) {
+            return false;
+        }
+        for (JsonNode element : node) {
+            if (!element.isObject()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Digest of a large array in a compacted configuration.
+     */
+    private static final class DigestNode extends TextNode {
+
+        private final int size;
+
+        DigestNode(int size, String digest) {
+            super(digest);
+            this.size = size;
+        }
+    }
+}
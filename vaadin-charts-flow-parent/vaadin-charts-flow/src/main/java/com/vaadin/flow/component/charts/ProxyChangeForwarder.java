@@ -8,7 +8,13 @@
  */
 package com.vaadin.flow.component.charts;
 
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import org.slf4j.LoggerFactory;
+
 import com.vaadin.flow.component.charts.events.internal.AbstractSeriesEvent;
+import com.vaadin.flow.component.charts.events.internal.AbstractSeriesItemEvent;
 import com.vaadin.flow.component.charts.events.internal.AxisRescaledEvent;
 import com.vaadin.flow.component.charts.events.internal.ConfigurationChangeListener;
 import com.vaadin.flow.component.charts.events.internal.DataAddedEvent;
@@ -20,60 +26,105 @@ import com.vaadin.flow.component.charts.events.internal.SeriesChangedEvent;
 import com.vaadin.flow.component.charts.events.internal.SeriesStateEvent;
 import com.vaadin.flow.component.charts.model.AbstractConfigurationObject;
 import com.vaadin.flow.component.charts.model.AxisDimension;
+import com.vaadin.flow.component.charts.model.CompactDataSeries;
+import com.vaadin.flow.component.charts.model.DataSeries;
+import com.vaadin.flow.component.charts.model.Series;
 import com.vaadin.flow.component.charts.util.ChartSerialization;
 
+import elemental.json.Json;
+import elemental.json.JsonArray;
+import elemental.json.JsonValue;
+
+/**
+ * Forwards configuration changes to the client side chart.
+ * <p>
+ * Point and series operations are not sent one by one. Instead they are
+ * buffered until the next client response and sent as a single batch, which
+ * the client applies without redrawing and then redraws the chart once.
+ * Operations that are not batched (axis extremes, slicing, zoom reset) flush
+ * the buffer first so that the order of operations is preserved.
+ * <p>
+ * Point operations on a downsampled {@link DataSeries} or
+ * {@link CompactDataSeries} cannot be applied by index on the client, so such
+ * series are sent as a whole instead, once per batch.
+ */
 class ProxyChangeForwarder implements ConfigurationChangeListener {
 
+    private static final String TARGET_CHART = "chart";
+    private static final String TARGET_SERIES = "series";
+    private static final String TARGET_POINT = "point";
+
+    //@formatter:off
+    private static final String APPLY_OPERATIONS_SCRIPT =
+            "const chart = this.configuration;"
+            + "if (!chart) { return; }"
+            + "$0.forEach(([target, fn, seriesIndex, pointIndex, args]) => {"
+            + "  if (target === 'chart') { chart[fn](...args); return; }"
+            + "  const series = chart.series[seriesIndex];"
+            + "  if (!series) { return; }"
+            + "  if (target === 'series') { series[fn](...args); return; }"
+            + "  const point = series.data[pointIndex];"
+            + "  if (point) { point[fn](...args); }"
+            + "});"
+            + "chart.redraw();";
+    //@formatter:on
+
     private final Chart chart;
 
+    private JsonArray pendingOperations = Json.createArray();
+
+    private final Set<Series> pendingSeriesUpdates = new LinkedHashSet<>();
+
+    private boolean flushScheduled;
+
+    private long flushCount;
+
+    private long flushedOperationCount;
+
     ProxyChangeForwarder(Chart chart) {
         this.chart = chart;
     }
 
     @Override
     public void dataAdded(DataAddedEvent event) {
-        if (event.getItem() != null) {
-            chart.getElement().callJsFunction("__callSeriesFunction",
-                    "addPoint", getSeriesIndex(event),
-                    chart.getJsonFactory()
-                            .parse(ChartSerialization.toJSON(event.getItem())),
-                    true, event.isShift());
+        if (isDownsampled(event.getSeries())) {
+            enqueueSeriesUpdate(event.getSeries());
+        } else {
+            enqueue(TARGET_SERIES, "addPoint", getSeriesIndex(event), null,
+                    toJson(event), Json.create(false),
+                    Json.create(event.isShift()));
         }
     }
 
     @Override
     public void dataRemoved(DataRemovedEvent event) {
-        chart.getElement().callJsFunction("__callPointFunction", "remove",
-                getSeriesIndex(event), event.getIndex());
+        if (isDownsampled(event.getSeries())) {
+            enqueueSeriesUpdate(event.getSeries());
+            return;
+        }
+        enqueue(TARGET_POINT, "remove", getSeriesIndex(event),
+                event.getIndex(), Json.create(false));
     }
 
     @Override
     public void dataUpdated(DataUpdatedEvent event) {
-        if (event.getValue() != null) {
-            chart.getElement().callJsFunction("__callPointFunction", "update",
-                    getSeriesIndex(event), event.getPointIndex(),
-                    event.getValue().doubleValue());
-        } else {
-            chart.getElement().callJsFunction("__callPointFunction", "update",
-                    getSeriesIndex(event), event.getPointIndex(),
-                    chart.getJsonFactory()
-                            .parse(ChartSerialization.toJSON(event.getItem())));
+        if (isDownsampled(event.getSeries())) {
+            enqueueSeriesUpdate(event.getSeries());
+            return;
         }
+        enqueue(TARGET_POINT, "update", getSeriesIndex(event),
+                event.getPointIndex(), toJson(event), Json.create(false));
     }
 
     @Override
     public void seriesStateChanged(SeriesStateEvent event) {
-        if (event.isEnabled()) {
-            chart.getElement().callJsFunction("__callSeriesFunction", "show",
-                    getSeriesIndex(event));
-        } else {
-            chart.getElement().callJsFunction("__callSeriesFunction", "hide",
-                    getSeriesIndex(event));
-        }
+        enqueue(TARGET_SERIES, "setVisible", getSeriesIndex(event), null,
+                Json.create(event.isEnabled()), Json.create(false));
     }
 
     @Override
     public void axisRescaled(AxisRescaledEvent event) {
+        flush();
         chart.getElement().callJsFunction("__callAxisFunction", "setExtremes",
                 event.getAxis(), event.getAxisIndex(),
                 event.getMinimum() == null ? null
@@ -85,6 +136,7 @@ class ProxyChangeForwarder implements ConfigurationChangeListener {
 
     @Override
     public void itemSliced(ItemSlicedEvent event) {
+        flush();
         chart.getElement().callJsFunction("__callPointFunction", "slice",
                 getSeriesIndex(event), event.getIndex(), event.isSliced(),
                 event.isRedraw(), event.isAnimation());
@@ -92,21 +144,21 @@ class ProxyChangeForwarder implements ConfigurationChangeListener {
 
     @Override
     public void seriesAdded(SeriesAddedEvent event) {
-        chart.getElement().callJsFunction("__callChartFunction", "addSeries",
-                chart.getJsonFactory().parse(ChartSerialization.toJSON(
-                        (AbstractConfigurationObject) event.getSeries())));
+        enqueue(TARGET_CHART, "addSeries", null, null,
+                toJson((AbstractConfigurationObject) event.getSeries()),
+                Json.create(false));
     }
 
     @Override
     public void seriesChanged(SeriesChangedEvent event) {
-        chart.getElement().callJsFunction("__callSeriesFunction", "update",
-                getSeriesIndex(event),
-                chart.getJsonFactory().parse(ChartSerialization.toJSON(
-                        (AbstractConfigurationObject) event.getSeries())));
+        enqueue(TARGET_SERIES, "update", getSeriesIndex(event), null,
+                toJson((AbstractConfigurationObject) event.getSeries()),
+                Json.create(false));
     }
 
     @Override
     public void resetZoom(boolean redraw, boolean animate) {
+        flush();
         for (int i = 0; i < chart.getConfiguration().getNumberOfxAxes(); i++) {
             chart.getElement().callJsFunction("__callAxisFunction",
                     "setExtremes", AxisDimension.X_AXIS.getIndex(), i, null,
@@ -119,6 +171,129 @@ class ProxyChangeForwarder implements ConfigurationChangeListener {
         }
     }
 
+    /**
+     * Sends all buffered operations to the client as a single batch. Does
+     * nothing if there are no buffered operations.
+     */
+    void flush() {
+        for (Series series : pendingSeriesUpdates) {
+            enqueueOperation(TARGET_SERIES, "update",
+                    chart.getConfiguration().getSeries().indexOf(series), null,
+                    toJson((AbstractConfigurationObject) series),
+                    Json.create(false));
+        }
+        pendingSeriesUpdates.clear();
+
+        final int operationCount = pendingOperations.length();
+        if (operationCount == 0) {
+            return;
+        }
+        final JsonArray operations = pendingOperations;
+        pendingOperations = Json.createArray();
+        chart.getElement().executeJs(APPLY_OPERATIONS_SCRIPT, operations);
+
+        flushCount++;
+        flushedOperationCount += operationCount;
+        LoggerFactory.getLogger(ProxyChangeForwarder.class).debug(
+                "Coalesced {} chart operations into a single client call",
+                operationCount);
+    }
+
+    /**
+     * Gets the number of operations that are buffered and not yet sent to the
+     * client.
+     *
+     * @return the number of pending operations
+     */
+    int getPendingOperationCount() {
+        return pendingOperations.length() + pendingSeriesUpdates.size();
+    }
+
+    /**
+     * Gets the number of batches sent to the client so far.
+     *
+     * @return the number of flushes
+     */
+    long getFlushCount() {
+        return flushCount;
+    }
+
+    /**
+     * Gets the total number of operations sent to the client in batches so
+     * far.
+     *
+     * @return the number of flushed operations
+     */
+    long getFlushedOperationCount() {
+        return flushedOperationCount;
+    }
+
+    private void enqueue(String target, String function, Integer seriesIndex,
+            Integer pointIndex, JsonValue... arguments) {
+        enqueueOperation(target, function, seriesIndex, pointIndex, arguments);
+        scheduleFlush();
+    }
+
+    private void enqueueSeriesUpdate(Series series) {
+        pendingSeriesUpdates.add(series);
+        scheduleFlush();
+    }
+
+    private void enqueueOperation(String target, String function,
+            Integer seriesIndex, Integer pointIndex, JsonValue... arguments) {
+        final JsonArray args = Json.createArray();
+        for (int i = 0; i < arguments.length; i++) {
+            args.set(i, arguments[i]);
+        }
+        final JsonArray operation = Json.createArray();
+        operation.set(0, target);
+        operation.set(1, function);
+        operation.set(2, seriesIndex == null ? Json.createNull()
+                : Json.create(seriesIndex));
+        operation.set(3, pointIndex == null ? Json.createNull()
+                : Json.create(pointIndex));
+        operation.set(4, args);
+        pendingOperations.set(pendingOperations.length(), operation);
+    }
+
+    private void scheduleFlush() {
+        if (flushScheduled) {
+            return;
+        }
+        flushScheduled = true;
+        chart.getElement().getNode().runWhenAttached(
+                ui -> ui.beforeClientResponse(chart, context -> {
+                    flushScheduled = false;
+                    flush();
+                }));
+    }
+
+    private JsonValue toJson(AbstractConfigurationObject object) {
+        return chart.getJsonFactory().parse(ChartSerialization.toJSON(object));
+    }
+
+    /**
+     * Gets the point of an item event as JSON. Events of series storing
+     * primitive values have only a value, which is {@code null} for a missing
+     * value.
+     */
+    private JsonValue toJson(AbstractSeriesItemEvent event) {
+        if (event.getItem() != null) {
+            return toJson(event.getItem());
+        }
+        return event.getValue() != null
+                ? Json.create(event.getValue().doubleValue())
+                : Json.createNull();
+    }
+
+    private static boolean isDownsampled(Series series) {
+        if (series instanceof CompactDataSeries) {
+            return ((CompactDataSeries) series).getDownsampler() != null;
+        }
+        return series instanceof DataSeries
+                && ((DataSeries) series).getDownsampler() != null;
+    }
+
     private int getSeriesIndex(AbstractSeriesEvent event) {
         return chart.getConfiguration().getSeries().indexOf(event.getSeries());
     }
@@ -10,6 +10,7 @@ package com.vaadin.flow.component.charts.events;
 
 import com.vaadin.flow.component.charts.Chart;
 import com.vaadin.flow.component.charts.model.AbstractSeriesItem;
+import com.vaadin.flow.component.charts.model.CompactDataSeries;
 import com.vaadin.flow.component.charts.model.DataSeries;
 import com.vaadin.flow.component.charts.model.DataSeriesItem;
 import com.vaadin.flow.component.charts.model.ListSeries;
@@ -77,9 +78,12 @@ public interface HasItem extends HasSeries {
      * Returns the data series item that this event is associated with.
      * <p>
      * <b>NOTE:</b> This method only works with series of type
-     * {@link DataSeries}. For other series an
+     * {@link DataSeries} and {@link CompactDataSeries}. For other series an
      * {@link UnsupportedOperationException} will be thrown. See
      * {@link #getItemIndex()} or {@link #getItemId()} for alternatives.
+     * <p>
+     * For a downsampled series, the item index refers to the points sent to
+     * the client, and is mapped to the index of the item in the series.
      *
      * @return the {@link DataSeriesItem} that is associated with this event
      * @throws UnsupportedOperationException
@@ -89,12 +93,18 @@ public interface HasItem extends HasSeries {
      */
     default DataSeriesItem getItem() {
         Series series = getSeries();
+        if (series instanceof CompactDataSeries) {
+            CompactDataSeries compactSeries = (CompactDataSeries) series;
+            return compactSeries
+                    .get(compactSeries.getDataIndex(getItemIndex()));
+        }
         if (!(series instanceof DataSeries)) {
             String seriesClassName = series.getClass().getSimpleName();
             throw new UnsupportedOperationException(String.format(
                     "HasItem.getItem does not support series of type: %s. Only series of type com.vaadin.flow.component.charts.model.DataSeries are supported. Please check the API docs for further information.",
                     seriesClassName));
         }
-        return ((DataSeries) series).get(getItemIndex());
+        DataSeries dataSeries = (DataSeries) series;
+        return dataSeries.get(dataSeries.getDataIndex(getItemIndex()));
     }
 }
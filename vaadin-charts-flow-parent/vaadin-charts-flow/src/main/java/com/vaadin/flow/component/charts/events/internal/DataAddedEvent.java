@@ -37,6 +37,22 @@ public class DataAddedEvent extends AbstractSeriesItemEvent {
         shift = false;
     }
 
+    /**
+     * Constructs the event with given series, number and a shift information.
+     *
+     * @param series
+     *            Series.
+     * @param value
+     *            A value, or {@code null} for a missing value.
+     * @param shift
+     *            true if the data addition was a shift and first item was
+     *            removed
+     */
+    public DataAddedEvent(Series series, Number value, boolean shift) {
+        super(series, value);
+        this.shift = shift;
+    }
+
     /**
      * Constructs the event with given series, item and a shift information.
      *
@@ -0,0 +1,487 @@
+/**
+ * Copyright 2000-2025 Vaadin Ltd.
+ *
+ * This program is available under Vaadin Commercial License and Service Terms.
+ *
+ * See {@literal <https://vaadin.com/commercial-license-and-service-terms>} for the full
+ * license.
+ */
+package com.vaadin.flow.component.charts.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.vaadin.flow.component.charts.util.Util;
+
+/**
+ * A series of (x, y) data points stored as primitive doubles. This is a memory
+ * efficient alternative to {@link DataSeries} for series with a large number
+ * of points: a point without any other options takes sixteen bytes instead of
+ * a {@link DataSeriesItem} instance with boxed values.
+ * <p>
+ * Points that need other options, such as a name, a color or a marker, can be
+ * given as {@link DataSeriesItem customized items}. Such items are stored
+ * separately only for the points that have them, so a few highlighted points
+ * do not increase the memory used by the rest of the series.
+ * <p>
+ * Missing y values are represented as {@link Double#NaN} and are sent to the
+ * client as {@code null}. Dates can be used as x values by converting them to
+ * epoch milliseconds.
+ *
+ * @see CompactListSeries
+ */
+public class CompactDataSeries extends AbstractSeries {
+
+    @JsonIgnore
+    private DoubleValues xValues = new DoubleValues();
+
+    @JsonIgnore
+    private DoubleValues yValues = new DoubleValues();
+
+    @JsonIgnore
+    private TreeMap<Integer, DataSeriesItem> customizedItems = new TreeMap<>();
+
+    @JsonIgnore
+    private Downsampler downsampler;
+
+    @JsonIgnore
+    private int downsamplingThreshold;
+
+    @JsonIgnore
+    private Number visibleRangeMin;
+
+    @JsonIgnore
+    private Number visibleRangeMax;
+
+    /**
+     * The indices selected by the downsampler, or {@code null} if they have
+     * not been selected since the data or the downsampling last changed.
+     */
+    @JsonIgnore
+    private int[] downsampledIndices;
+
+    /**
+     * Constructs an empty series.
+     */
+    public CompactDataSeries() {
+    }
+
+    /**
+     * Constructs an empty series with the given name.
+     *
+     * @param name
+     *            the name of the series
+     */
+    public CompactDataSeries(String name) {
+        super(name);
+    }
+
+    /**
+     * Constructs a series with the given x and y values.
+     *
+     * @param xValues
+     *            the x values of the points
+     * @param yValues
+     *            the y values of the points, of the same length as the x
+     *            values
+     */
+    public CompactDataSeries(double[] xValues, double[] yValues) {
+        setData(xValues, yValues);
+    }
+
+    /**
+     * Sets the data points, first clearing the old ones. The chart is not
+     * updated, use {@link #updateSeries()} to update a chart that has already
+     * been drawn.
+     *
+     * @param xValues
+     *            the x values of the points
+     * @param yValues
+     *            the y values of the points, of the same length as the x
+     *            values
+     */
+    public void setData(double[] xValues, double[] yValues) {
+        if (xValues.length != yValues.length) {
+            throw new IllegalArgumentException(
+                    "The x and y values must be of equal length");
+        }
+        this.xValues = new DoubleValues(xValues);
+        this.yValues = new DoubleValues(yValues);
+        customizedItems.clear();
+        downsampledIndices = null;
+    }
+
+    /**
+     * Gets a copy of the x values of the points.
+     *
+     * @return an array of the x values
+     */
+    public double[] getXValues() {
+        return xValues.toArray();
+    }
+
+    /**
+     * Gets a copy of the y values of the points.
+     *
+     * @return an array of the y values
+     */
+    public double[] getYValues() {
+        return yValues.toArray();
+    }
+
+    /**
+     * Gets the x value of the point at the given index.
+     *
+     * @param index
+     *            the index of the point
+     * @return the x value
+     * @throws IndexOutOfBoundsException
+     *             if the series doesn't have a point at the given index
+     */
+    public double getX(int index) {
+        return xValues.get(index);
+    }
+
+    /**
+     * Gets the y value of the point at the given index.
+     *
+     * @param index
+     *            the index of the point
+     * @return the y value, or {@link Double#NaN} if the value is missing
+     * @throws IndexOutOfBoundsException
+     *             if the series doesn't have a point at the given index
+     */
+    public double getY(int index) {
+        return yValues.get(index);
+    }
+
+    /**
+     * Gets the point at the given index as a {@link DataSeriesItem}. For a
+     * customized point, the item given when adding the point is returned.
+     * Otherwise, a new item is created, and changing it does not affect the
+     * series.
+     *
+     * @param index
+     *            the index of the point
+     * @return the item
+     * @throws IndexOutOfBoundsException
+     *             if the series doesn't have a point at the given index
+     */
+    public DataSeriesItem get(int index) {
+        DataSeriesItem item = customizedItems.get(index);
+        if (item != null) {
+            return item;
+        }
+        return new DataSeriesItem(Util.toNumber(xValues.get(index)),
+                Util.toNumber(yValues.get(index)));
+    }
+
+    /**
+     * @return the number of points in the series
+     */
+    public int size() {
+        return xValues.size();
+    }
+
+    /**
+     * Removes all points from the series.
+     */
+    public void clear() {
+        xValues.clear();
+        yValues.clear();
+        customizedItems.clear();
+        downsampledIndices = null;
+    }
+
+    /**
+     * Adds a point and immediately updates the chart if it already has been
+     * drawn.
+     *
+     * @param x
+     *            the x value of the point
+     * @param y
+     *            the y value of the point
+     * @see #add(double, double, boolean, boolean)
+     */
+    public void add(double x, double y) {
+        add(x, y, true, false);
+    }
+
+    /**
+     * Adds a point and immediately sends an update to the chart if so
+     * specified.
+     *
+     * @param x
+     *            the x value of the point
+     * @param y
+     *            the y value of the point
+     * @param updateChartImmediately
+     *            Updates the chart immediately if true.
+     * @param shift
+     *            If true, the first point from the series is removed. Handy if
+     *            dynamically adjusting adding points and fixed amount of points
+     *            should be kept visible.
+     */
+    public void add(double x, double y, boolean updateChartImmediately,
+            boolean shift) {
+        addPoint(x, y, null, updateChartImmediately, shift);
+    }
+
+    /**
+     * Adds a data item and immediately updates the chart if it already has been
+     * drawn.
+     *
+     * @param item
+     *            the item to add
+     * @see #add(DataSeriesItem, boolean, boolean)
+     */
+    public void add(DataSeriesItem item) {
+        add(item, true, false);
+    }
+
+    /**
+     * Adds a data item and immediately sends an update to the chart if so
+     * specified. Only the x and y values of the item are stored, unless the
+     * item is {@link DataSeriesItem#isCustomized() customized}, in which case
+     * the item itself is kept for the point. Items without an x value use
+     * their index as the x value.
+     *
+     * @param item
+     *            the item to add
+     * @param updateChartImmediately
+     *            Updates the chart immediately if true.
+     * @param shift
+     *            If true, the first point from the series is removed.
+     */
+    public void add(DataSeriesItem item, boolean updateChartImmediately,
+            boolean shift) {
+        Objects.requireNonNull(item, "Item cannot be null");
+        int index = shift ? size() - 1 : size();
+        addPoint(Downsampling.toDouble(item.getX(), index),
+                Downsampling.toDouble(item.getY(), Double.NaN),
+                item.isCustomized() ? item : null, updateChartImmediately,
+                shift);
+    }
+
+    private void addPoint(double x, double y, DataSeriesItem customizedItem,
+            boolean updateChartImmediately, boolean shift) {
+        if (shift) {
+            removePoint(0);
+        }
+        xValues.add(x);
+        yValues.add(y);
+        downsampledIndices = null;
+        int index = size() - 1;
+        if (customizedItem != null) {
+            customizedItems.put(index, customizedItem);
+        }
+        if (updateChartImmediately && getConfiguration() != null) {
+            getConfiguration().fireDataAdded(this, get(index), shift);
+        }
+    }
+
+    /**
+     * Replaces the point at the given index with the given item and
+     * immediately updates the chart.
+     *
+     * @param index
+     *            the index of the point to replace
+     * @param item
+     *            the new item
+     * @see #add(DataSeriesItem, boolean, boolean)
+     */
+    public void set(int index, DataSeriesItem item) {
+        Objects.requireNonNull(item, "Item cannot be null");
+        xValues.set(index, Downsampling.toDouble(item.getX(), index));
+        yValues.set(index, Downsampling.toDouble(item.getY(), Double.NaN));
+        downsampledIndices = null;
+        if (item.isCustomized()) {
+            customizedItems.put(index, item);
+        } else {
+            customizedItems.remove(index);
+        }
+        if (getConfiguration() != null) {
+            getConfiguration().fireDataUpdated(this, get(index), index);
+        }
+    }
+
+    /**
+     * Updates the y value of the point at the given index and immediately
+     * updates it on the chart.
+     *
+     * @param index
+     *            the index of the point to update
+     * @param y
+     *            the new y value
+     */
+    public void update(int index, double y) {
+        yValues.set(index, y);
+        downsampledIndices = null;
+        DataSeriesItem item = customizedItems.get(index);
+        if (item != null) {
+            item.setY(Util.toNumber(y));
+        }
+        if (getConfiguration() != null) {
+            getConfiguration().fireDataUpdated(this, Util.toNumber(y),
+                    index);
+        }
+    }
+
+    /**
+     * Removes the point at the given index and immediately removes it from the
+     * chart.
+     *
+     * @param index
+     *            the index of the point to remove
+     */
+    public void remove(int index) {
+        removePoint(index);
+        if (getConfiguration() != null) {
+            getConfiguration().fireDataRemoved(this, index);
+        }
+    }
+
+    private void removePoint(int index) {
+        xValues.remove(index);
+        yValues.remove(index);
+        downsampledIndices = null;
+        if (customizedItems.isEmpty()) {
+            return;
+        }
+        customizedItems.remove(index);
+        Map<Integer, DataSeriesItem> following = customizedItems
+                .tailMap(index, false);
+        List<Map.Entry<Integer, DataSeriesItem>> shifted = new ArrayList<>(
+                following.entrySet());
+        following.clear();
+        for (Map.Entry<Integer, DataSeriesItem> entry : shifted) {
+            customizedItems.put(entry.getKey() - 1, entry.getValue());
+        }
+    }
+
+    /**
+     * Gets the customized item of the point at the given index.
+     *
+     * @param index
+     *            the index of the point
+     * @return the customized item, or {@code null} if the point has only x and
+     *         y values
+     */
+    public DataSeriesItem getCustomizedItem(int index) {
+        return customizedItems.get(index);
+    }
+
+    /**
+     * Enables downsampling of the series data. When enabled, at most the given
+     * number of points are sent to the client, selected by the given
+     * downsampler. The data in this series is not modified.
+     * <p>
+     * The points must be ordered by their x values.
+     * <p>
+     * Note that when downsampling is enabled, adding, removing or updating a
+     * point sends the whole downsampled series to the client instead of a
+     * single point, and point indices in events refer to the downsampled
+     * points. Use {@link #getDataIndex(int)} to get the index of the point in
+     * this series.
+     *
+     * @param downsampler
+     *            the downsampler to use, or {@code null} to disable
+     *            downsampling
+     * @param threshold
+     *            the maximum number of points to send to the client, at least
+     *            3
+     * @see DataSeries#setDownsampling(Downsampler, int)
+     */
+    public void setDownsampling(Downsampler downsampler, int threshold) {
+        if (downsampler != null) {
+            Downsampling.checkThreshold(threshold);
+        }
+        this.downsampler = downsampler;
+        this.downsamplingThreshold = threshold;
+        downsampledIndices = null;
+        updateSeries();
+    }
+
+    /**
+     * Gets the downsampler used for this series.
+     *
+     * @return the downsampler, or {@code null} if downsampling is not enabled
+     */
+    public Downsampler getDownsampler() {
+        return downsampler;
+    }
+
+    /**
+     * Gets the maximum number of points sent to the client when downsampling
+     * is enabled.
+     *
+     * @return the downsampling threshold
+     */
+    public int getDownsamplingThreshold() {
+        return downsamplingThreshold;
+    }
+
+    /**
+     * Sets the x range the downsampled points are selected from, typically
+     * the current extremes of the x axis. Has no effect unless downsampling is
+     * enabled. Updates the chart if the series is already rendered.
+     *
+     * @param min
+     *            the start of the range, or {@code null} for no lower bound
+     * @param max
+     *            the end of the range, or {@code null} for no upper bound
+     * @see DataSeries#setVisibleRange(Number, Number)
+     */
+    public void setVisibleRange(Number min, Number max) {
+        visibleRangeMin = min;
+        visibleRangeMax = max;
+        downsampledIndices = null;
+        if (downsampler != null) {
+            updateSeries();
+        }
+    }
+
+    /**
+     * Gets the indices of the points that are sent to the client. If
+     * downsampling is not enabled, all points are sent.
+     *
+     * @return the indices of the points to send, in ascending order, or
+     *         {@code null} if all points are sent
+     * @see #setDownsampling(Downsampler, int)
+     */
+    public int[] getDownsampledIndices() {
+        final int[] indices = selectIndices();
+        return indices == null ? null : indices.clone();
+    }
+
+    private int[] selectIndices() {
+        if (downsampler == null) {
+            return null;
+        }
+        if (downsampledIndices == null) {
+            downsampledIndices = Downsampling.selectIndices(xValues.toArray(),
+                    yValues.toArray(), downsampler, downsamplingThreshold,
+                    visibleRangeMin, visibleRangeMax);
+        }
+        return downsampledIndices;
+    }
+
+    /**
+     * Gets the index of a point in this series from the index of the point on
+     * the client, such as the one in
+     * {@link com.vaadin.flow.component.charts.events.HasItem#getItemIndex()}.
+     * The indices differ when downsampling is enabled.
+     *
+     * @param pointIndex
+     *            the index of the point on the client
+     * @return the index of the point in this series
+     * @see #setDownsampling(Downsampler, int)
+     */
+    public int getDataIndex(int pointIndex) {
+        return Downsampling.toDataIndex(selectIndices(), pointIndex);
+    }
+}
@@ -0,0 +1,187 @@
+/**
+ * Copyright 2000-2025 Vaadin Ltd.
+ *
+ * This program is available under Vaadin Commercial License and Service Terms.
+ *
+ * See {@literal <https://vaadin.com/commercial-license-and-service-terms>} for the full
+ * license.
+ */
+package com.vaadin.flow.component.charts.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.vaadin.flow.component.charts.util.Util;
+
+/**
+ * A series consisting of a list of numerical values, stored as primitive
+ * doubles. This is a memory efficient alternative to {@link ListSeries} for
+ * series with a large number of points: each value takes eight bytes instead
+ * of a reference to a boxed number.
+ * <p>
+ * As with {@link ListSeries}, the values are interpreted as Y values, and X
+ * values are calculated automatically from pointStart and pointInterval given
+ * in the plotOptions. Missing values are represented as {@link Double#NaN}
+ * and are sent to the client as {@code null}.
+ *
+ * @see CompactDataSeries
+ */
+public class CompactListSeries extends AbstractSeries {
+
+    @JsonIgnore
+    private DoubleValues data = new DoubleValues();
+
+    /**
+     * Constructs an empty series.
+     */
+    public CompactListSeries() {
+    }
+
+    /**
+     * Constructs an empty series with the given series name.
+     *
+     * @param name
+     *            the name of the series
+     */
+    public CompactListSeries(String name) {
+        super(name);
+    }
+
+    /**
+     * Constructs a series with the given values.
+     *
+     * @param values
+     *            the values to use
+     */
+    public CompactListSeries(double... values) {
+        setData(values);
+    }
+
+    /**
+     * Constructs a series with the given series name and values.
+     *
+     * @param name
+     *            the name of the series
+     * @param values
+     *            the values to use
+     */
+    public CompactListSeries(String name, double... values) {
+        this(name);
+        setData(values);
+    }
+
+    /**
+     * Gets a copy of the values of this series.
+     *
+     * @return an array of the values
+     */
+    public double[] getData() {
+        return data.toArray();
+    }
+
+    /**
+     * Sets the values of this series, first clearing the old ones. The chart
+     * is not updated, use {@link #updateSeries()} to update a chart that has
+     * already been drawn.
+     *
+     * @param values
+     *            the values to use
+     */
+    public void setData(double... values) {
+        data = new DoubleValues(values);
+    }
+
+    /**
+     * Gets the value at the given index.
+     *
+     * @param index
+     *            the index of the value
+     * @return the value, or {@link Double#NaN} if the value is missing
+     * @throws IndexOutOfBoundsException
+     *             if the series doesn't have a value at the given index
+     */
+    public double get(int index) {
+        return data.get(index);
+    }
+
+    /**
+     * @return the number of values in the series
+     */
+    public int size() {
+        return data.size();
+    }
+
+    /**
+     * Removes all values from the series.
+     */
+    public void clear() {
+        data.clear();
+    }
+
+    /**
+     * Adds a value to the series and immediately updates the chart if it
+     * already has been drawn.
+     *
+     * @param value
+     *            the value to add
+     * @see #addData(double, boolean, boolean)
+     */
+    public void addData(double value) {
+        addData(value, true, false);
+    }
+
+    /**
+     * Adds a value to the series and optionally immediately updates the chart
+     * if it has been drawn.
+     *
+     * @param value
+     *            the value to add
+     * @param updateChartImmediately
+     *            if true the chart will be dynamically updated, using animation
+     *            if enabled.
+     * @param shift
+     *            If true, the first value from the series is removed. Handy if
+     *            dynamically adjusting adding points and fixed amount of points
+     *            should be kept visible.
+     */
+    public void addData(double value, boolean updateChartImmediately,
+            boolean shift) {
+        if (shift) {
+            data.remove(0);
+        }
+        data.add(value);
+        if (updateChartImmediately && getConfiguration() != null) {
+            getConfiguration().fireDataAdded(this,
+                    Util.toNumber(value), shift);
+        }
+    }
+
+    /**
+     * Updates the value of the point at the given index and immediately
+     * updates it on the chart using animation if enabled.
+     *
+     * @param pointIndex
+     *            the index of the point to update
+     * @param newValue
+     *            the new value of the point
+     */
+    public void updatePoint(int pointIndex, double newValue) {
+        data.set(pointIndex, newValue);
+        if (getConfiguration() != null) {
+            getConfiguration().fireDataUpdated(this,
+                    Util.toNumber(newValue), pointIndex);
+        }
+    }
+
+    /**
+     * Removes the point at the given index and immediately removes it from the
+     * chart.
+     *
+     * @param pointIndex
+     *            the index of the point to remove
+     */
+    public void remove(int pointIndex) {
+        data.remove(pointIndex);
+        if (getConfiguration() != null) {
+            getConfiguration().fireDataRemoved(this, pointIndex);
+        }
+    }
+}
@@ -876,6 +876,19 @@ public class Configuration extends AbstractConfigurationObject
         }
     }
 
+    /**
+     * Notifies listeners that a data point with only a value has been added
+     *
+     * @param shift
+     */
+    void fireDataAdded(Series series, Number value, boolean shift) {
+        DataAddedEvent dataAddedEvent = new DataAddedEvent(series, value,
+                shift);
+        for (ConfigurationChangeListener listener : changeListeners) {
+            listener.dataAdded(dataAddedEvent);
+        }
+    }
+
     /** Notifies listeners that a data point has been removed */
     void fireDataRemoved(Series series, int index) {
         DataRemovedEvent dataRemovedEvent = new DataRemovedEvent(series, index);
@@ -11,19 +11,21 @@ package com.vaadin.flow.component.charts.model;
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toMap;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Stream;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.vaadin.flow.data.provider.DataProvider;
 import com.vaadin.flow.data.provider.DataProviderListener;
 import com.vaadin.flow.data.provider.Query;
+import com.vaadin.flow.function.SerializableBiFunction;
 import com.vaadin.flow.function.SerializableFunction;
-import com.vaadin.flow.shared.Registration;
 
 /**
  * A series which is based on data from a DataProvider.
@@ -32,8 +34,9 @@ import com.vaadin.flow.shared.Registration;
  * data bean to use as <code>y</code> values.
  * <p>
  * Note that even if you use a lazy loading {@link DataProvider}, this series
- * will work in an eager fashion and load all the data from the provider at
- * once.
+ * will by default work in an eager fashion and load all the data from the
+ * provider at once. Use {@link #setRangeFetching(SerializableBiFunction, int)}
+ * to only fetch the data around the visible range.
  */
 public class DataProviderSeries<T> extends AbstractSeries {
 
@@ -55,11 +58,43 @@ public class DataProviderSeries<T> extends AbstractSeries {
     private boolean automaticChartUpdateEnabled = true;
 
     @JsonIgnore
-    private Registration dataProviderRegistration;
+    private Downsampler downsampler;
+
+    @JsonIgnore
+    private int downsamplingThreshold;
+
+    @JsonIgnore
+    private Number visibleRangeMin;
+
+    @JsonIgnore
+    private Number visibleRangeMax;
+
+    @JsonIgnore
+    private SerializableBiFunction<Number, Number, ?> rangeFilterProvider;
+
+    @JsonIgnore
+    private int rangeFetchLimit;
+
+    @JsonIgnore
+    private transient List<T> fetchedItems;
+
+    @JsonIgnore
+    private Number fetchedRangeMin;
+
+    @JsonIgnore
+    private Number fetchedRangeMax;
+
+    @JsonIgnore
+    private boolean fetchTruncated;
 
     @JsonIgnore
     private DataProviderListener<T> listener = (DataProviderListener<T>) event -> {
-        updateSeries();
+        // The cache is cleared also when the chart is not updated
+        // automatically, so that the next update gets the new data
+        fetchedItems = null;
+        if (automaticChartUpdateEnabled) {
+            updateSeries();
+        }
     };
 
     /**
@@ -84,8 +119,7 @@ public class DataProviderSeries<T> extends AbstractSeries {
     public DataProviderSeries(DataProvider<T, ?> dataProvider) {
         this.dataProvider = dataProvider;
         chartAttributeToCallback = new HashMap<>();
-        dataProviderRegistration = dataProvider
-                .addDataProviderListener(listener);
+        dataProvider.addDataProviderListener(listener);
     }
 
     /**
@@ -220,12 +254,16 @@ public class DataProviderSeries<T> extends AbstractSeries {
     /**
      * Returns a list mappings between chart attributes(keys) and values. For
      * example: x->1, x->2, y->2, y->3 for linear chart
+     * <p>
+     * If downsampling is enabled, only the values of the selected points are
+     * returned.
      *
      * @return
+     * @see #setDownsampling(Downsampler, int)
      */
 
     public List<Map<String, Optional<Object>>> getValues() {
-        return dataProvider.fetch(new Query<>())
+        final List<Map<String, Optional<Object>>> values = fetchItems()
                 .map((item) -> chartAttributeToCallback.entrySet().stream()
                         .collect(toMap(Entry::getKey,
                                 entry -> (entry.getValue() != null)
@@ -233,6 +271,228 @@ public class DataProviderSeries<T> extends AbstractSeries {
                                                 entry.getValue().apply(item))
                                         : Optional.empty())))
                 .collect(toList());
+        if (downsampler == null
+                || !chartAttributeToCallback.containsKey(Y_ATTRIBUTE)) {
+            return values;
+        }
+        return downsample(values);
+    }
+
+    private Stream<T> fetchItems() {
+        if (rangeFilterProvider == null) {
+            return dataProvider.fetch(new Query<>());
+        }
+        if (fetchedItems == null
+                || !isFetched(visibleRangeMin, visibleRangeMax)) {
+            // Fetch the adjacent windows as well, so that panning and zooming
+            // out a bit does not require a new query
+            final Number min = visibleRangeMin;
+            final Number max = visibleRangeMax;
+            final double width = min != null && max != null
+                    ? max.doubleValue() - min.doubleValue()
+                    : 0;
+            fetchedRangeMin = min == null ? null : min.doubleValue() - width;
+            fetchedRangeMax = max == null ? null : max.doubleValue() + width;
+            List<T> items = fetchRange(fetchedRangeMin, fetchedRangeMax);
+            if (items.size() >= rangeFetchLimit && width > 0) {
+                // The adjacent windows may have used up the limit before the
+                // visible range, fetch only the visible range instead
+                fetchedRangeMin = min;
+                fetchedRangeMax = max;
+                items = fetchRange(min, max);
+            }
+            fetchTruncated = items.size() >= rangeFetchLimit;
+            fetchedItems = items;
+        }
+        return fetchedItems.stream();
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private List<T> fetchRange(Number min, Number max) {
+        final Object filter = rangeFilterProvider.apply(min, max);
+        return ((DataProvider) dataProvider)
+                .fetch(new Query<>(0, rangeFetchLimit, null, null, filter))
+                .toList();
+    }
+
+    private boolean isFetched(Number min, Number max) {
+        if (fetchTruncated) {
+            // Only the same range can be reused from a truncated fetch
+            return isSameBound(min, fetchedRangeMin)
+                    && isSameBound(max, fetchedRangeMax);
+        }
+        final boolean minFetched = fetchedRangeMin == null || (min != null
+                && min.doubleValue() >= fetchedRangeMin.doubleValue());
+        final boolean maxFetched = fetchedRangeMax == null || (max != null
+                && max.doubleValue() <= fetchedRangeMax.doubleValue());
+        return minFetched && maxFetched;
+    }
+
+    private static boolean isSameBound(Number bound, Number fetchedBound) {
+        return bound == null ? fetchedBound == null
+                : fetchedBound != null
+                        && bound.doubleValue() == fetchedBound.doubleValue();
+    }
+
+    private List<Map<String, Optional<Object>>> downsample(
+            List<Map<String, Optional<Object>>> values) {
+        final int size = values.size();
+        final double[] xValues = new double[size];
+        final double[] yValues = new double[size];
+        for (int i = 0; i < size; i++) {
+            final Map<String, Optional<Object>> value = values.get(i);
+            xValues[i] = Downsampling.toDouble(value
+                    .getOrDefault(X_ATTRIBUTE, Optional.empty()).orElse(null),
+                    i);
+            yValues[i] = Downsampling.toDouble(value
+                    .getOrDefault(Y_ATTRIBUTE, Optional.empty()).orElse(null),
+                    Double.NaN);
+        }
+        final int[] indices = Downsampling.selectIndices(xValues, yValues,
+                downsampler, downsamplingThreshold, visibleRangeMin,
+                visibleRangeMax);
+        final List<Map<String, Optional<Object>>> sampled = new ArrayList<>(
+                indices.length);
+        for (int index : indices) {
+            final Map<String, Optional<Object>> value = values.get(index);
+            if (!value.getOrDefault(X_ATTRIBUTE, Optional.empty())
+                    .isPresent()) {
+                // Place the point by its index in the full data, not by its
+                // position in the downsampled data
+                value.put(X_ATTRIBUTE, Optional.of(index));
+            }
+            sampled.add(value);
+        }
+        return sampled;
+    }
+
+    /**
+     * Enables downsampling of the series data. When enabled, at most the given
+     * number of points are sent to the client, selected by the given
+     * downsampler from the points fetched from the data provider.
+     * <p>
+     * Downsampling requires {@code y} values. The items must be ordered by
+     * their {@code x} values. If no {@code x} values are defined, the index of
+     * the item is used instead, and sent to the client as the {@code x} value
+     * of the selected points.
+     *
+     * @param downsampler
+     *            the downsampler to use, or {@code null} to disable
+     *            downsampling
+     * @param threshold
+     *            the maximum number of points to send to the client, at least
+     *            3
+     * @see Downsampler#largestTriangleThreeBuckets()
+     * @see Downsampler#minMax()
+     * @see #setVisibleRange(Number, Number)
+     */
+    public void setDownsampling(Downsampler downsampler, int threshold) {
+        if (downsampler != null) {
+            Downsampling.checkThreshold(threshold);
+        }
+        this.downsampler = downsampler;
+        this.downsamplingThreshold = threshold;
+        updateSeries();
+    }
+
+    /**
+     * Gets the downsampler used for this series.
+     *
+     * @return the downsampler, or {@code null} if downsampling is not enabled
+     */
+    public Downsampler getDownsampler() {
+        return downsampler;
+    }
+
+    /**
+     * Gets the maximum number of points sent to the client when downsampling
+     * is enabled.
+     *
+     * @return the downsampling threshold
+     */
+    public int getDownsamplingThreshold() {
+        return downsamplingThreshold;
+    }
+
+    /**
+     * Sets the x range the downsampled points are selected from, typically
+     * the current extremes of the x axis. This allows showing more details when
+     * the chart is zoomed in, for example:
+     *
+     * <pre>
+     * chart.addXAxesExtremesSetListener(
+     *         e -&gt; series.setVisibleRange(e.getMinimum(), e.getMaximum()));
+     * </pre>
+     *
+     * Has no effect unless downsampling or range fetching is enabled. With
+     * range fetching, the data around the new range is fetched if it has not
+     * been fetched already. Updates the chart if the series is already
+     * rendered.
+     *
+     * @param min
+     *            the start of the range, or {@code null} for no lower bound
+     * @param max
+     *            the end of the range, or {@code null} for no upper bound
+     * @see #setDownsampling(Downsampler, int)
+     * @see #setRangeFetching(SerializableBiFunction, int)
+     */
+    public void setVisibleRange(Number min, Number max) {
+        final boolean fetchNeeded = rangeFilterProvider != null
+                && (fetchedItems == null || !isFetched(min, max));
+        visibleRangeMin = min;
+        visibleRangeMax = max;
+        if (downsampler != null || fetchNeeded) {
+            updateSeries();
+        }
+    }
+
+    /**
+     * Enables fetching only the data around the visible range from the data
+     * provider, instead of fetching all the data. This turns opening the chart
+     * into a bounded query, for example an indexed query against a database.
+     * <p>
+     * The given function creates the data provider filter for an x range,
+     * where either bound may be {@code null} to indicate an open range. The
+     * visible range is set with {@link #setVisibleRange(Number, Number)},
+     * typically from the extremes of the x axis:
+     *
+     * <pre>
+     * series.setRangeFetching(
+     *         (min, max) -&gt; new MeasurementFilter(min, max), 10000);
+     * series.setVisibleRange(start, end);
+     * chart.addXAxesExtremesSetListener(
+     *         e -&gt; series.setVisibleRange(e.getMinimum(), e.getMaximum()));
+     * </pre>
+     *
+     * In addition to the visible range, the windows of the same width before
+     * and after it are fetched, and the fetched range is cached. Changing the
+     * visible range within the fetched range does not query the data provider
+     * again. If the limit is reached, only the visible range is fetched, and
+     * it is fetched again whenever the visible range changes. The cache is
+     * cleared when the data provider reports a data change.
+     * <p>
+     * The items returned by the data provider must be ordered by their
+     * {@code x} values.
+     *
+     * @param rangeFilterProvider
+     *            function creating a filter of the data provider's filter type
+     *            for the given x range, or {@code null} to disable range
+     *            fetching
+     * @param limit
+     *            the maximum number of items to fetch in a single query
+     * @param <F>
+     *            the filter type of the data provider
+     */
+    public <F> void setRangeFetching(
+            SerializableBiFunction<Number, Number, F> rangeFilterProvider,
+            int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException(
+                    "The range fetch limit must be positive");
+        }
+        this.rangeFilterProvider = rangeFilterProvider;
+        this.rangeFetchLimit = limit;
+        fetchedItems = null;
     }
 
     /**
@@ -264,18 +524,5 @@ public class DataProviderSeries<T> extends AbstractSeries {
     public void setAutomaticChartUpdateEnabled(
             boolean automaticChartUpdateEnabled) {
         this.automaticChartUpdateEnabled = automaticChartUpdateEnabled;
-
-        if (automaticChartUpdateEnabled) {
-            if (dataProviderRegistration == null) {
-                // TODO Enable it again
-                dataProviderRegistration = dataProvider
-                        .addDataProviderListener(listener);
-            }
-        } else {
-            if (dataProviderRegistration != null) {
-                dataProviderRegistration.remove();
-                dataProviderRegistration = null;
-            }
-        }
     }
 }
@@ -35,6 +35,25 @@ public class DataSeries extends AbstractSeries {
     @JsonIgnore
     private List<Series> drilldownSeries = new ArrayList<>();
 
+    @JsonIgnore
+    private Downsampler downsampler;
+
+    @JsonIgnore
+    private int downsamplingThreshold;
+
+    @JsonIgnore
+    private Number visibleRangeMin;
+
+    @JsonIgnore
+    private Number visibleRangeMax;
+
+    /**
+     * The indices selected by the downsampler, or {@code null} if they have
+     * not been selected since the data or the downsampling last changed.
+     */
+    @JsonIgnore
+    private int[] downsampledIndices;
+
     /**
      * Constructs an empty {@link DataSeries}. Developers should then populate
      * the series with various addData and setData methods.
@@ -99,6 +118,7 @@ public class DataSeries extends AbstractSeries {
         for (Number[] entry : entries) {
             data.add(new DataSeriesItem(entry[0], entry[1]));
         }
+        downsampledIndices = null;
     }
 
     /**
@@ -119,6 +139,7 @@ public class DataSeries extends AbstractSeries {
         for (int i = 0; i < categoryNames.length; i++) {
             data.add(new DataSeriesItem(categoryNames[i], values[i]));
         }
+        downsampledIndices = null;
     }
 
     /**
@@ -146,6 +167,7 @@ public class DataSeries extends AbstractSeries {
             item.setColor(colors[i]);
             data.add(item);
         }
+        downsampledIndices = null;
     }
 
     /**
@@ -159,6 +181,7 @@ public class DataSeries extends AbstractSeries {
         for (int i = 0; i < values.length; i++) {
             data.add(new DataSeriesItem("" + values[i], values[i]));
         }
+        downsampledIndices = null;
     }
 
     /**
@@ -168,6 +191,7 @@ public class DataSeries extends AbstractSeries {
      */
     public void setData(List<DataSeriesItem> data) {
         this.data = data;
+        downsampledIndices = null;
     }
 
     /**
@@ -274,6 +298,7 @@ public class DataSeries extends AbstractSeries {
             data.remove(0);
         }
         data.add(item);
+        downsampledIndices = null;
         if (updateChartImmediately && getConfiguration() != null) {
             getConfiguration().fireDataAdded(this, item, shift);
         }
@@ -288,6 +313,7 @@ public class DataSeries extends AbstractSeries {
     public void remove(DataSeriesItem item) {
         int index = data.indexOf(item);
         data.remove(index);
+        downsampledIndices = null;
         if (getConfiguration() != null) {
             getConfiguration().fireDataRemoved(this, index);
         }
@@ -308,6 +334,7 @@ public class DataSeries extends AbstractSeries {
      *            The item to update.
      */
     public void update(DataSeriesItem item) {
+        downsampledIndices = null;
         if (getConfiguration() != null) {
             getConfiguration().fireDataUpdated(this, item, data.indexOf(item));
         }
@@ -337,6 +364,7 @@ public class DataSeries extends AbstractSeries {
      */
     public void clear() {
         data.clear();
+        downsampledIndices = null;
     }
 
     /**
@@ -388,4 +416,154 @@ public class DataSeries extends AbstractSeries {
         getConfiguration().fireItemSliced(this, index, sliced, redraw,
                 animation);
     }
+
+    /**
+     * Enables downsampling of the series data. When enabled, at most the given
+     * number of points are sent to the client, selected by the given
+     * downsampler. The data in this series is not modified.
+     * <p>
+     * The items must be ordered by their x values. Items without an x value
+     * use their index as the x value.
+     * <p>
+     * Note that when downsampling is enabled, adding, removing or updating an
+     * item sends the whole downsampled series to the client instead of a
+     * single point, and point indices in events refer to the downsampled
+     * points. Use {@link #getDataIndex(int)} to get the index of the item in
+     * this series. Items without an x value are sent with their index as the x
+     * value, so that the client places them as in the full series.
+     *
+     * @param downsampler
+     *            the downsampler to use, or {@code null} to disable
+     *            downsampling
+     * @param threshold
+     *            the maximum number of points to send to the client, at least
+     *            3
+     * @see Downsampler#largestTriangleThreeBuckets()
+     * @see Downsampler#minMax()
+     * @see #setVisibleRange(Number, Number)
+     */
+    public void setDownsampling(Downsampler downsampler, int threshold) {
+        if (downsampler != null) {
+            Downsampling.checkThreshold(threshold);
+        }
+        this.downsampler = downsampler;
+        this.downsamplingThreshold = threshold;
+        downsampledIndices = null;
+        updateSeries();
+    }
+
+    /**
+     * Gets the downsampler used for this series.
+     *
+     * @return the downsampler, or {@code null} if downsampling is not enabled
+     */
+    public Downsampler getDownsampler() {
+        return downsampler;
+    }
+
+    /**
+     * Gets the maximum number of points sent to the client when downsampling
+     * is enabled.
+     *
+     * @return the downsampling threshold
+     */
+    public int getDownsamplingThreshold() {
+        return downsamplingThreshold;
+    }
+
+    /**
+     * Sets the x range the downsampled points are selected from, typically
+     * the current extremes of the x axis. This allows showing more details when
+     * the chart is zoomed in, for example:
+     *
+     * <pre>
+     * chart.addXAxesExtremesSetListener(
+     *         e -&gt; series.setVisibleRange(e.getMinimum(), e.getMaximum()));
+     * </pre>
+     *
+     * Has no effect unless downsampling is enabled. Updates the chart if the
+     * series is already rendered.
+     *
+     * @param min
+     *            the start of the range, or {@code null} for no lower bound
+     * @param max
+     *            the end of the range, or {@code null} for no upper bound
+     * @see #setDownsampling(Downsampler, int)
+     */
+    public void setVisibleRange(Number min, Number max) {
+        visibleRangeMin = min;
+        visibleRangeMax = max;
+        downsampledIndices = null;
+        if (downsampler != null) {
+            updateSeries();
+        }
+    }
+
+    /**
+     * Gets the data items that are sent to the client. If downsampling is not
+     * enabled, this is the same as {@link #getData()}.
+     *
+     * @return an unmodifiable list of the data items to send to the client
+     * @see #setDownsampling(Downsampler, int)
+     */
+    public List<DataSeriesItem> getDownsampledData() {
+        final int[] indices = selectIndices();
+        if (indices == null) {
+            return getData();
+        }
+        final List<DataSeriesItem> sampled = new ArrayList<>(indices.length);
+        for (int index : indices) {
+            sampled.add(data.get(index));
+        }
+        return Collections.unmodifiableList(sampled);
+    }
+
+    /**
+     * Gets the indices of the items that are sent to the client. If
+     * downsampling is not enabled, all items are sent.
+     *
+     * @return the indices of the items to send, in ascending order, or
+     *         {@code null} if all items are sent
+     * @see #setDownsampling(Downsampler, int)
+     */
+    public int[] getDownsampledIndices() {
+        final int[] indices = selectIndices();
+        return indices == null ? null : indices.clone();
+    }
+
+    private int[] selectIndices() {
+        if (downsampler == null) {
+            return null;
+        }
+        if (downsampledIndices != null) {
+            return downsampledIndices;
+        }
+        final int size = data.size();
+        final double[] xValues = new double[size];
+        final double[] yValues = new double[size];
+        for (int i = 0; i < size; i++) {
+            final DataSeriesItem item = data.get(i);
+            xValues[i] = Downsampling.toDouble(item.getX(), i);
+            yValues[i] = Downsampling.toDouble(item.getY(), Double.NaN);
+        }
+        downsampledIndices = Downsampling.selectIndices(xValues, yValues,
+                downsampler, downsamplingThreshold, visibleRangeMin,
+                visibleRangeMax);
+        return downsampledIndices;
+    }
+
+    /**
+     * Gets the index of an item in this series from the index of the point on
+     * the client, such as the one in
+     * {@link com.vaadin.flow.component.charts.events.HasItem#getItemIndex()}.
+     * The indices differ when downsampling is enabled.
+     *
+     * @param pointIndex
+     *            the index of the point on the client
+     * @return the index of the item in this series
+     * @see #setDownsampling(Downsampler, int)
+     */
+    public int getDataIndex(int pointIndex) {
+        return Downsampling.toDataIndex(selectIndices(), pointIndex);
+    }
 }
@@ -0,0 +1,82 @@
+/**
+ * Copyright 2000-2025 Vaadin Ltd.
+ *
+ * This program is available under Vaadin Commercial License and Service Terms.
+ *
+ * See {@literal <https://vaadin.com/commercial-license-and-service-terms>} for the full
+ * license.
+ */
+package com.vaadin.flow.component.charts.model;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * A growable list of primitive double values, used by the compact series
+ * instead of lists of boxed numbers. Missing values are stored as
+ * {@link Double#NaN}.
+ *
+ * @see CompactListSeries
+ * @see CompactDataSeries
+ */
+final class DoubleValues implements Serializable {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private double[] values;
+    private int size;
+
+    DoubleValues() {
+        values = new double[DEFAULT_CAPACITY];
+    }
+
+    DoubleValues(double[] values) {
+        this.values = values.clone();
+        size = values.length;
+    }
+
+    int size() {
+        return size;
+    }
+
+    double get(int index) {
+        Objects.checkIndex(index, size);
+        return values[index];
+    }
+
+    void set(int index, double value) {
+        Objects.checkIndex(index, size);
+        values[index] = value;
+    }
+
+    void add(double value) {
+        if (size == values.length) {
+            values = Arrays.copyOf(values,
+                    Math.max(DEFAULT_CAPACITY, size + (size >> 1)));
+        }
+        values[size++] = value;
+    }
+
+    void remove(int index) {
+        Objects.checkIndex(index, size);
+        System.arraycopy(values, index + 1, values, index, size - index - 1);
+        size--;
+    }
+
+    void clear() {
+        size = 0;
+        if (values.length > DEFAULT_CAPACITY) {
+            values = new double[DEFAULT_CAPACITY];
+        }
+    }
+
+    /**
+     * Gets a copy of the values.
+     *
+     * @return an array with the values, not {@code null}
+     */
+    double[] toArray() {
+        return Arrays.copyOf(values, size);
+    }
+}
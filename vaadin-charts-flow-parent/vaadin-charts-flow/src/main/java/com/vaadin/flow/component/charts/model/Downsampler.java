@@ -0,0 +1,62 @@
+/**
+ * Copyright 2000-2025 Vaadin Ltd.
+ *
+ * This program is available under Vaadin Commercial License and Service Terms.
+ *
+ * See {@literal <https://vaadin.com/commercial-license-and-service-terms>} for the full
+ * license.
+ */
+package com.vaadin.flow.component.charts.model;
+
+import java.io.Serializable;
+
+/**
+ * Reduces the number of points of a series before they are sent to the client.
+ * <p>
+ * A downsampler selects a subset of the points of a series, trying to keep the
+ * visual shape of the series intact. The points are given as parallel arrays of
+ * x and y values, sorted by x value. Missing y values are represented as
+ * {@link Double#NaN}.
+ *
+ * @see DataSeries#setDownsampling(Downsampler, int)
+ * @see DataProviderSeries#setDownsampling(Downsampler, int)
+ */
+@FunctionalInterface
+public interface Downsampler extends Serializable {
+
+    /**
+     * Selects the points to keep.
+     *
+     * @param xValues
+     *            the x values of the points, in ascending order
+     * @param yValues
+     *            the y values of the points
+     * @param threshold
+     *            the maximum number of points to keep
+     * @return the indices of the points to keep, in ascending order
+     */
+    int[] downsample(double[] xValues, double[] yValues, int threshold);
+
+    /**
+     * Gets a downsampler using the Largest-Triangle-Three-Buckets algorithm.
+     * The algorithm keeps the first and the last point, and from each bucket
+     * in between the point that forms the largest triangle with the previously
+     * selected point and the average of the next bucket.
+     *
+     * @return the LTTB downsampler
+     */
+    static Downsampler largestTriangleThreeBuckets() {
+        return new LttbDownsampler();
+    }
+
+    /**
+     * Gets a downsampler that keeps the points with the minimum and the
+     * maximum y value of each bucket. This preserves peaks, which makes it
+     * suitable for e.g. sensor data.
+     *
+     * @return the min/max downsampler
+     */
+    static Downsampler minMax() {
+        return new MinMaxDownsampler();
+    }
+}
@@ -0,0 +1,120 @@
+/**
+ * Copyright 2000-2025 Vaadin Ltd.
+ *
+ * This program is available under Vaadin Commercial License and Service Terms.
+ *
+ * See {@literal <https://vaadin.com/commercial-license-and-service-terms>} for the full
+ * license.
+ */
+package com.vaadin.flow.component.charts.model;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Date;
+
+/**
+ * Helpers for applying a {@link Downsampler} to series data.
+ */
+final class Downsampling {
+
+    private Downsampling() {
+    }
+
+    /**
+     * Selects the points to send to the client. Only the points within the
+     * given range, plus the closest point on each side of the range, are
+     * considered. The x values are expected to be in ascending order.
+     *
+     * @param xValues
+     *            the x values of all points
+     * @param yValues
+     *            the y values of all points
+     * @param downsampler
+     *            the downsampler to use
+     * @param threshold
+     *            the maximum number of points to select
+     * @param rangeMin
+     *            the start of the range, or {@code null} for no lower bound
+     * @param rangeMax
+     *            the end of the range, or {@code null} for no upper bound
+     * @return the indices of the selected points, in ascending order
+     */
+    static int[] selectIndices(double[] xValues, double[] yValues,
+            Downsampler downsampler, int threshold, Number rangeMin,
+            Number rangeMax) {
+        int from = 0;
+        int to = xValues.length;
+        if (rangeMin != null) {
+            while (from < to && xValues[from] < rangeMin.doubleValue()) {
+                from++;
+            }
+            from = Math.max(0, from - 1);
+        }
+        if (rangeMax != null) {
+            int end = from;
+            while (end < to && xValues[end] <= rangeMax.doubleValue()) {
+                end++;
+            }
+            to = Math.min(to, end + 1);
+        }
+
+        final int[] selected;
+        if (from == 0 && to == xValues.length) {
+            selected = downsampler.downsample(xValues, yValues, threshold);
+        } else {
+            selected = downsampler.downsample(
+                    Arrays.copyOfRange(xValues, from, to),
+                    Arrays.copyOfRange(yValues, from, to), threshold);
+            for (int i = 0; i < selected.length; i++) {
+                selected[i] += from;
+            }
+        }
+        return selected;
+    }
+
+    /**
+     * Converts a point value to a double.
+     *
+     * @param value
+     *            the value, may be {@code null}
+     * @param fallback
+     *            the value to use if the value cannot be converted
+     * @return the value as a double
+     */
+    static double toDouble(Object value, double fallback) {
+        if (value instanceof Number) {
+            return ((Number) value).doubleValue();
+        } else if (value instanceof Instant) {
+            return ((Instant) value).toEpochMilli();
+        } else if (value instanceof Date) {
+            return ((Date) value).getTime();
+        }
+        return fallback;
+    }
+
+    /**
+     * Maps the index of a point sent to the client to the index of the point
+     * in the full data.
+     *
+     * @param indices
+     *            the indices of the points sent to the client, or {@code null}
+     *            if all points are sent
+     * @param pointIndex
+     *            the index of the point on the client
+     * @return the index of the point in the full data
+     */
+    static int toDataIndex(int[] indices, int pointIndex) {
+        if (indices == null || pointIndex < 0
+                || pointIndex >= indices.length) {
+            return pointIndex;
+        }
+        return indices[pointIndex];
+    }
+
+    static void checkThreshold(int threshold) {
+        if (threshold < 3) {
+            throw new IllegalArgumentException(
+                    "The downsampling threshold must be at least 3");
+        }
+    }
+}
@@ -0,0 +1,80 @@
+/**
+ * Copyright 2000-2025 Vaadin Ltd.
+ *
+ * This program is available under Vaadin Commercial License and Service Terms.
+ *
+ * See {@literal <https://vaadin.com/commercial-license-and-service-terms>} for the full
+ * license.
+ */
+package com.vaadin.flow.component.charts.model;
+
+import java.util.stream.IntStream;
+
+/**
+ * Largest-Triangle-Three-Buckets downsampler.
+ *
+ * @see Downsampler#largestTriangleThreeBuckets()
+ */
+class LttbDownsampler implements Downsampler {
+
+    @Override
+    public int[] downsample(double[] xValues, double[] yValues,
+            int threshold) {
+        final int length = xValues.length;
+        if (threshold >= length || threshold < 3) {
+            return IntStream.range(0, length).toArray();
+        }
+
+        final int[] sampled = new int[threshold];
+        int sampledIndex = 0;
+        // Buckets exclude the first and the last point, which are always kept
+        final double bucketSize = (double) (length - 2) / (threshold - 2);
+
+        int a = 0;
+        sampled[sampledIndex++] = a;
+
+        for (int i = 0; i < threshold - 2; i++) {
+            // Average point of the next bucket
+            int avgRangeStart = (int) Math.floor((i + 1) * bucketSize) + 1;
+            int avgRangeEnd = Math.min(
+                    (int) Math.floor((i + 2) * bucketSize) + 1, length);
+            double avgX = 0;
+            double avgY = 0;
+            int avgCount = 0;
+            for (int j = avgRangeStart; j < avgRangeEnd; j++) {
+                if (!Double.isNaN(yValues[j])) {
+                    avgX += xValues[j];
+                    avgY += yValues[j];
+                    avgCount++;
+                }
+            }
+            if (avgCount > 0) {
+                avgX /= avgCount;
+                avgY /= avgCount;
+            } else {
+                avgX = xValues[length - 1];
+                avgY = yValues[length - 1];
+            }
+
+            // Point in the current bucket forming the largest triangle
+            int rangeStart = (int) Math.floor(i * bucketSize) + 1;
+            int rangeEnd = (int) Math.floor((i + 1) * bucketSize) + 1;
+            double maxArea = -1;
+            int next = rangeStart;
+            for (int j = rangeStart; j < rangeEnd; j++) {
+                double area = Math.abs((xValues[a] - avgX)
+                        * (yValues[j] - yValues[a])
+                        - (xValues[a] - xValues[j]) * (avgY - yValues[a]));
+                if (area > maxArea) {
+                    maxArea = area;
+                    next = j;
+                }
+            }
+            sampled[sampledIndex++] = next;
+            a = next;
+        }
+
+        sampled[sampledIndex] = length - 1;
+        return sampled;
+    }
+}
@@ -0,0 +1,61 @@
+/**
+ * Copyright 2000-2025 Vaadin Ltd.
+ *
+ * This program is available under Vaadin Commercial License and Service Terms.
+ *
+ * See {@literal <https://vaadin.com/commercial-license-and-service-terms>} for the full
+ * license.
+ */
+package com.vaadin.flow.component.charts.model;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * Downsampler keeping the minimum and the maximum point of each bucket.
+ *
+ * @see Downsampler#minMax()
+ */
+class MinMaxDownsampler implements Downsampler {
+
+    @Override
+    public int[] downsample(double[] xValues, double[] yValues,
+            int threshold) {
+        final int length = xValues.length;
+        if (threshold >= length || threshold < 2) {
+            return IntStream.range(0, length).toArray();
+        }
+
+        final int bucketCount = threshold / 2;
+        final double bucketSize = (double) length / bucketCount;
+        final int[] sampled = new int[bucketCount * 2];
+        int sampledIndex = 0;
+
+        for (int bucket = 0; bucket < bucketCount; bucket++) {
+            int start = (int) Math.floor(bucket * bucketSize);
+            int end = Math.min((int) Math.floor((bucket + 1) * bucketSize),
+                    length);
+            int min = -1;
+            int max = -1;
+            for (int j = start; j < end; j++) {
+                if (Double.isNaN(yValues[j])) {
+                    continue;
+                }
+                if (min < 0 || yValues[j] < yValues[min]) {
+                    min = j;
+                }
+                if (max < 0 || yValues[j] > yValues[max]) {
+                    max = j;
+                }
+            }
+            if (min < 0) {
+                continue;
+            }
+            sampled[sampledIndex++] = Math.min(min, max);
+            if (min != max) {
+                sampled[sampledIndex++] = Math.max(min, max);
+            }
+        }
+        return Arrays.copyOf(sampled, sampledIndex);
+    }
+}
@@ -107,4 +107,37 @@ public class BeanSerializerDelegator<T> extends BeanSerializerBase {
             throws IOException, JsonGenerationException {
         super.serializeFields(bean, jgen, provider);
     }
+
+    /**
+     * Serializes the fields of the bean like
+     * {@link #serializeFields(Object, JsonGenerator, SerializerProvider)},
+     * except for the field with the given name.
+     *
+     * @param bean
+     *            the bean to serialize
+     * @param jgen
+     *            the generator to write to
+     * @param provider
+     *            the serializer provider
+     * @param excludedField
+     *            the name of the field not to serialize
+     * @throws IOException
+     *             if writing fails
+     */
+    public void serializeFieldsExcluding(Object bean, JsonGenerator jgen,
+            SerializerProvider provider, String excludedField)
+            throws IOException {
+        final BeanPropertyWriter[] props = (_filteredProps != null
+                && provider.getActiveView() != null) ? _filteredProps : _props;
+        for (BeanPropertyWriter prop : props) {
+            if (prop == null || prop.getName().equals(excludedField)) {
+                continue;
+            }
+            try {
+                prop.serializeAsField(bean, jgen, provider);
+            } catch (Exception e) {
+                wrapAndThrow(provider, e, bean, prop.getName());
+            }
+        }
+    }
 }
@@ -0,0 +1,83 @@
+/**
+ * Copyright 2000-2025 Vaadin Ltd.
+ *
+ * This program is available under Vaadin Commercial License and Service Terms.
+ *
+ * See {@literal <https://vaadin.com/commercial-license-and-service-terms>} for the full
+ * license.
+ */
+package com.vaadin.flow.component.charts.model.serializers;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.vaadin.flow.component.charts.model.CompactDataSeries;
+import com.vaadin.flow.component.charts.model.DataSeriesItem;
+import com.vaadin.flow.component.charts.model.PlotOptionsSeries;
+import com.vaadin.flow.component.charts.util.Util;
+
+/**
+ * Custom bean serializer for {@link CompactDataSeries} that adds the type field
+ * and writes the points directly from the primitive arrays. Only the
+ * customized points are written as objects. When downsampling is enabled, only
+ * the selected points are written.
+ *
+ * @see CompactDataSeries#setDownsampling(com.vaadin.flow.component.charts.model.Downsampler,
+ *      int)
+ */
+public class CompactDataSeriesBeanSerializer
+        extends BeanSerializationDelegate<CompactDataSeries> {
+
+    @Override
+    public Class<CompactDataSeries> getBeanClass() {
+        return CompactDataSeries.class;
+    }
+
+    @Override
+    public void serialize(CompactDataSeries bean,
+            BeanSerializerDelegator<CompactDataSeries> serializer,
+            JsonGenerator jgen, SerializerProvider provider)
+            throws IOException {
+        jgen.writeStartObject();
+
+        // write other fields as per normal serialization rules
+        serializer.serializeFields(bean, jgen, provider);
+
+        jgen.writeArrayFieldStart("data");
+        int[] indices = bean.getDownsampledIndices();
+        if (indices == null) {
+            for (int i = 0; i < bean.size(); i++) {
+                writePoint(bean, i, jgen, provider);
+            }
+        } else {
+            for (int index : indices) {
+                writePoint(bean, index, jgen, provider);
+            }
+        }
+        jgen.writeEndArray();
+
+        if (bean.getPlotOptions() != null
+                && !(bean.getPlotOptions() instanceof PlotOptionsSeries)) {
+            jgen.writeObjectField("type", bean.getPlotOptions().getChartType());
+        }
+
+        jgen.writeEndObject();
+    }
+
+    private void writePoint(CompactDataSeries bean, int index,
+            JsonGenerator jgen, SerializerProvider provider)
+            throws IOException {
+        DataSeriesItem item = bean.getCustomizedItem(index);
+        if (item != null) {
+            // items added without x use the x stored in the series
+            DataSeriesItemBeanSerializer.serializeWithX(item,
+                    Util.toNumber(bean.getX(index)), jgen, provider);
+            return;
+        }
+        jgen.writeStartArray();
+        CompactListSeriesBeanSerializer.writeValue(jgen, bean.getX(index));
+        CompactListSeriesBeanSerializer.writeValue(jgen, bean.getY(index));
+        jgen.writeEndArray();
+    }
+}
@@ -0,0 +1,77 @@
+/**
+ * Copyright 2000-2025 Vaadin Ltd.
+ *
+ * This program is available under Vaadin Commercial License and Service Terms.
+ *
+ * See {@literal <https://vaadin.com/commercial-license-and-service-terms>} for the full
+ * license.
+ */
+package com.vaadin.flow.component.charts.model.serializers;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.vaadin.flow.component.charts.model.CompactListSeries;
+import com.vaadin.flow.component.charts.model.PlotOptionsSeries;
+import com.vaadin.flow.component.charts.util.Util;
+
+/**
+ * Custom bean serializer for {@link CompactListSeries} that adds the type field
+ * and writes the values directly from the primitive array, without creating
+ * an intermediate object for each point.
+ */
+public class CompactListSeriesBeanSerializer
+        extends BeanSerializationDelegate<CompactListSeries> {
+
+    @Override
+    public Class<CompactListSeries> getBeanClass() {
+        return CompactListSeries.class;
+    }
+
+    @Override
+    public void serialize(CompactListSeries bean,
+            BeanSerializerDelegator<CompactListSeries> serializer,
+            JsonGenerator jgen, SerializerProvider provider)
+            throws IOException {
+        jgen.writeStartObject();
+
+        // write other fields as per normal serialization rules
+        serializer.serializeFields(bean, jgen, provider);
+
+        jgen.writeArrayFieldStart("data");
+        for (int i = 0; i < bean.size(); i++) {
+            writeValue(jgen, bean.get(i));
+        }
+        jgen.writeEndArray();
+
+        if (bean.getPlotOptions() != null
+                && !(bean.getPlotOptions() instanceof PlotOptionsSeries)) {
+            jgen.writeObjectField("type", bean.getPlotOptions().getChartType());
+        }
+
+        jgen.writeEndObject();
+    }
+
+    /**
+     * Writes a point value as {@link Util#toNumber(double)} converts it,
+     * without boxing the value.
+     *
+     * @param jgen
+     *            the generator to write to
+     * @param value
+     *            the value to write
+     * @throws IOException
+     *             if writing fails
+     */
+    static void writeValue(JsonGenerator jgen, double value)
+            throws IOException {
+        if (!Double.isFinite(value)) {
+            jgen.writeNull();
+        } else if (Util.isExactInteger(value)) {
+            jgen.writeNumber((long) value);
+        } else {
+            jgen.writeNumber(value);
+        }
+    }
+}
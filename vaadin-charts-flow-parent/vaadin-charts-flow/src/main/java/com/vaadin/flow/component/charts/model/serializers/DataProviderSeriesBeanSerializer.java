@@ -20,10 +20,6 @@ import java.util.Set;
 
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.SerializerProvider;
-import com.fasterxml.jackson.databind.node.ArrayNode;
-import com.fasterxml.jackson.databind.node.JsonNodeFactory;
-import com.fasterxml.jackson.databind.node.ObjectNode;
-import com.fasterxml.jackson.databind.node.ValueNode;
 import com.vaadin.flow.component.charts.model.DataProviderSeries;
 import com.vaadin.flow.component.charts.model.PlotOptionsSeries;
 
@@ -60,19 +56,23 @@ public class DataProviderSeriesBeanSerializer
         // write other fields as per normal serialization rules
         serializer.serializeFields(bean, jgen, provider);
 
-        ArrayNode data = createDataArray(bean);
-
-        jgen.writeObjectField("data", data);
+        jgen.writeFieldName("data");
+        writeDataArray(bean, jgen);
 
         jgen.writeEndObject();
     }
 
-    private ArrayNode createDataArray(DataProviderSeries<?> chartDataProvider) {
-        ArrayNode data = JsonNodeFactory.instance.arrayNode();
+    /**
+     * Writes the values directly to the generator, without building an
+     * intermediate JSON tree of all points.
+     */
+    private void writeDataArray(DataProviderSeries<?> chartDataProvider,
+            JsonGenerator jgen) throws IOException {
         Set<String> attributes = chartDataProvider.getChartAttributes();
         checkRequiredProperties(attributes);
         Mode mode = inferSerializationMode(attributes);
 
+        jgen.writeStartArray();
         for (final Map<String, Optional<Object>> chartAttributeToValue : chartDataProvider
                 .getValues()) {
             Optional<Object> xValue = chartAttributeToValue
@@ -90,33 +90,37 @@ public class DataProviderSeriesBeanSerializer
 
             switch (mode) {
             case ONLY_Y:
-                final Optional<Object> value = chartAttributeToValue
-                        .get(yAttribute);
-                addValue(data, value);
+                if (xValue.isPresent()) {
+                    // Downsampled points have the index of the item as x
+                    jgen.writeStartArray();
+                    addValue(jgen, xValue);
+                    jgen.writeObject(yValue.orElse(null));
+                    jgen.writeEndArray();
+                } else {
+                    addValue(jgen, yValue);
+                }
                 break;
             case XY:
                 if (xValue.isPresent() && yValue.isPresent()) {
-                    final ArrayNode entryArray = JsonNodeFactory.instance
-                            .arrayNode();
-                    data.add(entryArray);
-                    addValue(entryArray, xValue);
-                    addValue(entryArray, yValue);
+                    jgen.writeStartArray();
+                    addValue(jgen, xValue);
+                    addValue(jgen, yValue);
+                    jgen.writeEndArray();
                 } else {
-                    data.addNull();
+                    jgen.writeNull();
                 }
                 break;
             case XLH:
 
                 if (xValue.isPresent() && lValue.isPresent()
                         && hValue.isPresent()) {
-                    final ArrayNode entryArray = JsonNodeFactory.instance
-                            .arrayNode();
-                    data.add(entryArray);
-                    addValue(entryArray, xValue);
-                    addValue(entryArray, lValue);
-                    addValue(entryArray, hValue);
+                    jgen.writeStartArray();
+                    addValue(jgen, xValue);
+                    addValue(jgen, lValue);
+                    addValue(jgen, hValue);
+                    jgen.writeEndArray();
                 } else {
-                    data.addNull();
+                    jgen.writeNull();
                 }
                 break;
             case XOHLC:
@@ -125,42 +129,39 @@ public class DataProviderSeriesBeanSerializer
                         && hValue.isPresent() && lValue.isPresent()
                         && cValue.isPresent()) {
 
-                    final ArrayNode entryArray = JsonNodeFactory.instance
-                            .arrayNode();
-                    data.add(entryArray);
-                    addValue(entryArray, xValue);
-                    addValue(entryArray, oValue);
-                    addValue(entryArray, hValue);
-                    addValue(entryArray, lValue);
-                    addValue(entryArray, cValue);
+                    jgen.writeStartArray();
+                    addValue(jgen, xValue);
+                    addValue(jgen, oValue);
+                    addValue(jgen, hValue);
+                    addValue(jgen, lValue);
+                    addValue(jgen, cValue);
+                    jgen.writeEndArray();
                 } else {
-                    data.addNull();
+                    jgen.writeNull();
                 }
                 break;
 
             default:
                 // render as json object
-                final ObjectNode entryObject = JsonNodeFactory.instance
-                        .objectNode();
+                jgen.writeStartObject();
 
-                xValue.ifPresent(
-                        o -> addNamedValue(entryObject, xAttribute, xValue));
-                yValue.ifPresent(
-                        o -> addNamedValue(entryObject, yAttribute, yValue));
+                addNamedValue(jgen, xAttribute, xValue);
+                addNamedValue(jgen, yAttribute, yValue);
 
-                chartAttributeToValue.entrySet().stream()
-                        .filter(e -> !e.getKey().equals(xAttribute))
-                        .filter(e -> !e.getKey().equals(yAttribute))
-                        .forEach(e -> addNamedValue(entryObject, e.getKey(),
-                                e.getValue()));
+                for (Map.Entry<String, Optional<Object>> entry : chartAttributeToValue
+                        .entrySet()) {
+                    if (!entry.getKey().equals(xAttribute)
+                            && !entry.getKey().equals(yAttribute)) {
+                        addNamedValue(jgen, entry.getKey(), entry.getValue());
+                    }
+                }
 
-                data.add(entryObject);
+                jgen.writeEndObject();
 
                 break;
             }
         }
-
-        return data;
+        jgen.writeEndArray();
     }
 
     private void checkRequiredProperties(Set<String> attributes) {
@@ -207,19 +208,17 @@ public class DataProviderSeriesBeanSerializer
         }
     }
 
-    private void addValue(ArrayNode data, Optional<Object> value) {
+    private void addValue(JsonGenerator jgen, Optional<Object> value)
+            throws IOException {
         if (value.isPresent()) {
-            ValueNode node = JsonNodeFactory.instance.pojoNode(value.get());
-            data.add(node);
+            jgen.writeObject(value.get());
         }
     }
 
-    private void addNamedValue(ObjectNode data, String name,
-            Optional<Object> value) {
+    private void addNamedValue(JsonGenerator jgen, String name,
+            Optional<Object> value) throws IOException {
         if (value.isPresent()) {
-            ValueNode node = JsonNodeFactory.instance.pojoNode(value.get());
-            data.set(name, node);
-
+            jgen.writeObjectField(name, value.get());
         }
     }
 }
@@ -0,0 +1,64 @@
+/**
+ * Copyright 2000-2025 Vaadin Ltd.
+ *
+ * This program is available under Vaadin Commercial License and Service Terms.
+ *
+ * See {@literal <https://vaadin.com/commercial-license-and-service-terms>} for the full
+ * license.
+ */
+package com.vaadin.flow.component.charts.model.serializers;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.vaadin.flow.component.charts.model.DataSeries;
+import com.vaadin.flow.component.charts.model.PlotOptionsSeries;
+
+/**
+ * Custom bean serializer for {@link DataSeries} that adds the type field and
+ * writes the downsampled data when downsampling is enabled.
+ *
+ * @see DataSeries#setDownsampling(com.vaadin.flow.component.charts.model.Downsampler,
+ *      int)
+ */
+public class DataSeriesBeanSerializer
+        extends BeanSerializationDelegate<DataSeries> {
+
+    private static final String DATA_FIELD = "data";
+
+    @Override
+    public Class<DataSeries> getBeanClass() {
+        return DataSeries.class;
+    }
+
+    @Override
+    public void serialize(DataSeries bean,
+            BeanSerializerDelegator<DataSeries> serializer, JsonGenerator jgen,
+            SerializerProvider provider) throws IOException {
+        jgen.writeStartObject();
+
+        if (bean.getDownsampler() == null) {
+            // write other fields as per normal serialization rules
+            serializer.serializeFields(bean, jgen, provider);
+        } else {
+            serializer.serializeFieldsExcluding(bean, jgen, provider,
+                    DATA_FIELD);
+            jgen.writeArrayFieldStart(DATA_FIELD);
+            for (int index : bean.getDownsampledIndices()) {
+                // Items without x are placed by their index in the series,
+                // not by their position in the downsampled data
+                DataSeriesItemBeanSerializer.serializeWithX(bean.get(index),
+                        index, jgen, provider);
+            }
+            jgen.writeEndArray();
+        }
+
+        if (bean.getPlotOptions() != null
+                && !(bean.getPlotOptions() instanceof PlotOptionsSeries)) {
+            jgen.writeObjectField("type", bean.getPlotOptions().getChartType());
+        }
+
+        jgen.writeEndObject();
+    }
+}
@@ -12,14 +12,13 @@ import java.io.IOException;
 
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.SerializerProvider;
-import com.fasterxml.jackson.databind.node.ArrayNode;
-import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.vaadin.flow.component.charts.model.DataSeriesItem;
 import com.vaadin.flow.component.charts.model.OhlcItem;
 
 /**
- * Custom bean serializer for {@link DataSeriesItem}
- *
+ * Custom bean serializer for {@link DataSeriesItem}. Items that are not
+ * customized are written directly as numbers or arrays, without building an
+ * intermediate JSON tree for each point.
  */
 public class DataSeriesItemBeanSerializer
         extends BeanSerializationDelegate<DataSeriesItem> {
@@ -41,44 +40,77 @@ public class DataSeriesItemBeanSerializer
             serializer.serializeFields(bean, jgen, provider);
             jgen.writeEndObject();
 
-        } else if (bean instanceof OhlcItem) {
-            OhlcItem ohlcBean = (OhlcItem) bean;
-            ArrayNode jsonArray = JsonNodeFactory.instance.arrayNode();
-            jsonArray.addPOJO(ohlcBean.getX());
-            jsonArray.addPOJO(ohlcBean.getOpen());
-            jsonArray.addPOJO(ohlcBean.getHigh());
-            jsonArray.addPOJO(ohlcBean.getLow());
-            jsonArray.addPOJO(ohlcBean.getClose());
-            jgen.writeTree(jsonArray);
+        } else if (bean.getX() != null || bean instanceof OhlcItem) {
+            writeArray(bean, bean.getX(), jgen);
 
         } else {
-            Number x = bean.getX();
-            Number y = bean.getY();
-            if (x != null) {
-                ArrayNode jsonArray = JsonNodeFactory.instance.arrayNode();
-                jsonArray.addPOJO(x);
-                if (y != null) {
-                    jsonArray.addPOJO(y);
-                } else if (bean.getLow() != null) {
-                    jsonArray.addPOJO(bean.getLow());
-                    jsonArray.addPOJO(bean.getHigh());
-                } else {
-                    jsonArray.addNull();
-                    jsonArray.addNull();
-                }
-                jgen.writeTree(jsonArray);
+            // If no x set, make it like list series, just number or
+            // min-max pairs
+            if (bean.getY() != null) {
+                jgen.writeObject(bean.getY());
             } else {
-                // If no x set, make it like list series, just number or
-                // min-max pairs
-                if (y != null) {
-                    jgen.writeObject(y);
-                } else {
-                    ArrayNode jsonArray = JsonNodeFactory.instance.arrayNode();
-                    jsonArray.addPOJO(bean.getLow());
-                    jsonArray.addPOJO(bean.getHigh());
-                    jgen.writeTree(jsonArray);
-                }
+                jgen.writeStartArray();
+                jgen.writeObject(bean.getLow());
+                jgen.writeObject(bean.getHigh());
+                jgen.writeEndArray();
             }
         }
     }
+
+    /**
+     * Writes the given item using the given x value if the item doesn't have
+     * an x value. Used when the position of the item in the written data
+     * doesn't match its index in the series, for example when the series is
+     * downsampled.
+     *
+     * @param bean
+     *            the item to write
+     * @param x
+     *            the x value to use if the item has none
+     * @param jgen
+     *            the generator to write to
+     * @param provider
+     *            the serializer provider
+     * @throws IOException
+     *             if writing fails
+     */
+    @SuppressWarnings("unchecked")
+    static void serializeWithX(DataSeriesItem bean, Number x,
+            JsonGenerator jgen, SerializerProvider provider)
+            throws IOException {
+        if (bean.getX() != null) {
+            jgen.writeObject(bean);
+        } else if (bean.isCustomized()) {
+            jgen.writeStartObject();
+            jgen.writeObjectField("x", x);
+            ((BeanSerializerDelegator<DataSeriesItem>) provider
+                    .findValueSerializer(bean.getClass()))
+                    .serializeFields(bean, jgen, provider);
+            jgen.writeEndObject();
+        } else {
+            writeArray(bean, x, jgen);
+        }
+    }
+
+    private static void writeArray(DataSeriesItem bean, Number x,
+            JsonGenerator jgen) throws IOException {
+        jgen.writeStartArray();
+        jgen.writeObject(x);
+        if (bean instanceof OhlcItem) {
+            OhlcItem ohlcBean = (OhlcItem) bean;
+            jgen.writeObject(ohlcBean.getOpen());
+            jgen.writeObject(ohlcBean.getHigh());
+            jgen.writeObject(ohlcBean.getLow());
+            jgen.writeObject(ohlcBean.getClose());
+        } else if (bean.getY() != null) {
+            jgen.writeObject(bean.getY());
+        } else if (bean.getLow() != null) {
+            jgen.writeObject(bean.getLow());
+            jgen.writeObject(bean.getHigh());
+        } else {
+            jgen.writeNull();
+            jgen.writeNull();
+        }
+        jgen.writeEndArray();
+    }
 }
@@ -15,7 +15,10 @@ import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
 import com.fasterxml.jackson.databind.ser.std.BeanSerializerBase;
 import com.vaadin.flow.component.charts.model.AbstractSeries;
 import com.vaadin.flow.component.charts.model.AxisTitle;
+import com.vaadin.flow.component.charts.model.CompactDataSeries;
+import com.vaadin.flow.component.charts.model.CompactListSeries;
 import com.vaadin.flow.component.charts.model.DataProviderSeries;
+import com.vaadin.flow.component.charts.model.DataSeries;
 import com.vaadin.flow.component.charts.model.DataSeriesItem;
 import com.vaadin.flow.component.charts.model.LegendTitle;
 import com.vaadin.flow.component.charts.model.Title;
@@ -51,6 +54,21 @@ public class DefaultBeanSerializerModifier extends BeanSerializerModifier {
             return new BeanSerializerDelegator<>(
                     (BeanSerializerBase) serializer,
                     new LegendTitleBeanSerializer());
+        } else if (DataSeries.class
+                .isAssignableFrom(beanDesc.getBeanClass())) {
+            return new BeanSerializerDelegator<>(
+                    (BeanSerializerBase) serializer,
+                    new DataSeriesBeanSerializer());
+        } else if (CompactDataSeries.class
+                .isAssignableFrom(beanDesc.getBeanClass())) {
+            return new BeanSerializerDelegator<>(
+                    (BeanSerializerBase) serializer,
+                    new CompactDataSeriesBeanSerializer());
+        } else if (CompactListSeries.class
+                .isAssignableFrom(beanDesc.getBeanClass())) {
+            return new BeanSerializerDelegator<>(
+                    (BeanSerializerBase) serializer,
+                    new CompactListSeriesBeanSerializer());
         } else if (AbstractSeries.class
                 .isAssignableFrom(beanDesc.getBeanClass())) {
             return new BeanSerializerDelegator<>(
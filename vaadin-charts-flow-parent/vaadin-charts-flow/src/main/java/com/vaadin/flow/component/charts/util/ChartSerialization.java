@@ -8,11 +8,14 @@
  */
 package com.vaadin.flow.component.charts.util;
 
+import java.io.IOException;
 import java.io.Serializable;
+import java.io.Writer;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectWriter;
@@ -97,6 +100,27 @@ public class ChartSerialization implements Serializable {
         jsonWriter = newObjectWriter;
     }
 
+    /**
+     * Writes the given configuration object as JSON to the given writer. The
+     * JSON is generated directly into the writer, which allows reusing the
+     * same buffer for several objects instead of creating a new string for
+     * each of them.
+     *
+     * @param object
+     *            the configuration object to serialize
+     * @param writer
+     *            the writer to write the JSON to, not closed by this method
+     * @throws IOException
+     *             if writing to the writer fails
+     */
+    public static void writeJSON(AbstractConfigurationObject object,
+            Writer writer) throws IOException {
+        try (JsonGenerator generator = jsonWriter.createGenerator(writer)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+            jsonWriter.writeValue(generator, object);
+        }
+    }
+
     public static String toJSON(AbstractConfigurationObject object) {
         try {
             return jsonWriter.writeValueAsString(object);
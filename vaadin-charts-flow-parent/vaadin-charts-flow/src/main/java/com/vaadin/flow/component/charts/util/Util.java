@@ -15,6 +15,12 @@ import java.util.TimeZone;
 
 public class Util {
 
+    /**
+     * The largest magnitude of a double up to which all integers are exactly
+     * representable.
+     */
+    private static final double MAX_EXACT_INTEGER = 9007199254740992d;
+
     /**
      * @deprecated as of 4.0. Use {@link #toHighchartsTS(Instant)}
      */
@@ -59,4 +65,40 @@ public class Util {
         return Instant.ofEpochMilli((long) rawClientSideValue);
     }
 
+    /**
+     * Checks whether the given value is an integer that is exactly
+     * representable both as a double and as a long, such as a timestamp.
+     *
+     * @param value
+     *            the value to check
+     * @return {@code true} if the value can be written as a long without loss,
+     *         {@code false} otherwise, including for non-finite values
+     */
+    public static boolean isExactInteger(double value) {
+        return value == Math.rint(value)
+                && Math.abs(value) <= MAX_EXACT_INTEGER;
+    }
+
+    /**
+     * Converts a value stored as a primitive double to the number that is
+     * written to the client, so that integral values such as timestamps are
+     * not written with a fraction. Non-finite values, which have no JSON
+     * representation, are converted to {@code null}, which is also how a
+     * missing value is written.
+     *
+     * @param value
+     *            the value to convert
+     * @return the value as a {@link Long} if it is an exact integer, as a
+     *         {@link Double} otherwise, or {@code null} if it is
+     *         {@link Double#NaN} or infinite
+     */
+    public static Number toNumber(double value) {
+        if (!Double.isFinite(value)) {
+            return null;
+        }
+        if (isExactInteger(value)) {
+            return (long) value;
+        }
+        return value;
+    }
 }
@@ -0,0 +1,202 @@
+/**
+ * Copyright 2000-2025 Vaadin Ltd.
+ *
+ * This program is available under Vaadin Commercial License and Service Terms.
+ *
+ * See {@literal <https://vaadin.com/commercial-license-and-service-terms>} for the full
+ * license.
+ */
+package com.vaadin.flow.component.charts;
+
+import static com.vaadin.flow.component.charts.util.ChartSerialization.toJSON;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.stream.IntStream;
+
+import org.junit.Test;
+
+import com.vaadin.flow.component.charts.model.CompactDataSeries;
+import com.vaadin.flow.component.charts.model.CompactListSeries;
+import com.vaadin.flow.component.charts.model.DataSeriesItem;
+import com.vaadin.flow.component.charts.model.Downsampler;
+import com.vaadin.flow.component.charts.model.PlotOptionsLine;
+import com.vaadin.flow.component.charts.model.style.SolidColor;
+
+public class CompactSeriesTest {
+
+    @Test
+    public void compactListSeries_toJSON_valuesWrittenAsNumbers() {
+        CompactListSeries series = new CompactListSeries("values", 1, 2.5,
+                Double.NaN, 1.6e12);
+
+        assertEquals(
+                "{\"name\":\"values\",\"data\":[1,2.5,null,1600000000000]}",
+                toJSON(series));
+    }
+
+    @Test
+    public void compactListSeries_withPlotOptions_typeWritten() {
+        CompactListSeries series = new CompactListSeries(1);
+        series.setPlotOptions(new PlotOptionsLine());
+
+        assertTrue(toJSON(series).endsWith("\"data\":[1],\"type\":\"line\"}"));
+    }
+
+    @Test
+    public void compactListSeries_addWithShift_firstValueRemoved() {
+        CompactListSeries series = new CompactListSeries(1, 2, 3);
+
+        series.addData(4, false, true);
+        series.remove(0);
+        series.updatePoint(0, 5);
+
+        assertArrayEquals(new double[] { 5, 4 }, series.getData(), 0);
+    }
+
+    @Test
+    public void compactDataSeries_toJSON_pointsWrittenAsArrays() {
+        CompactDataSeries series = new CompactDataSeries(
+                new double[] { 0, 1.5, 2 },
+                new double[] { 10, 20, Double.NaN });
+
+        assertEquals("{\"data\":[[0,10],[1.5,20],[2,null]]}", toJSON(series));
+    }
+
+    @Test
+    public void compactSeries_toJSON_nonFiniteValuesWrittenAsNull() {
+        CompactListSeries listSeries = new CompactListSeries(
+                Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY);
+        CompactDataSeries dataSeries = new CompactDataSeries(
+                new double[] { 0 },
+                new double[] { Double.POSITIVE_INFINITY });
+
+        assertEquals("{\"data\":[null,null]}", toJSON(listSeries));
+        assertEquals("{\"data\":[[0,null]]}", toJSON(dataSeries));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void compactDataSeries_valuesOfDifferentLength_throws() {
+        new CompactDataSeries(new double[] { 0, 1 }, new double[] { 0 });
+    }
+
+    @Test
+    public void compactDataSeries_customizedItem_writtenAsObject() {
+        CompactDataSeries series = new CompactDataSeries();
+        series.add(0, 1);
+        DataSeriesItem peak = new DataSeriesItem(1, 100);
+        peak.setName("Peak");
+        series.add(peak);
+        series.add(new DataSeriesItem(2, 3));
+
+        assertSame(peak, series.get(1));
+        assertNull(series.getCustomizedItem(2));
+        String json = toJSON(series);
+        assertTrue(json.startsWith("{\"data\":[[0,1],{"));
+        assertTrue(json.contains("\"name\":\"Peak\""));
+        assertTrue(json.endsWith("},[2,3]]}"));
+    }
+
+    @Test
+    public void compactDataSeries_customizedItemWithoutX_storedXWritten() {
+        CompactDataSeries series = new CompactDataSeries();
+        series.add(10, 1);
+        DataSeriesItem peak = new DataSeriesItem();
+        peak.setY(100);
+        peak.setName("Peak");
+        series.add(peak);
+
+        assertEquals(1, series.getX(1), 0);
+        String json = toJSON(series);
+        assertTrue(json.startsWith("{\"data\":[[10,1],{\"x\":1,"));
+        assertTrue(json.contains("\"name\":\"Peak\""));
+    }
+
+    @Test
+    public void compactDataSeries_removePoint_customizedItemsShifted() {
+        CompactDataSeries series = new CompactDataSeries();
+        DataSeriesItem first = new DataSeriesItem(0, 0);
+        first.setColor(SolidColor.RED);
+        DataSeriesItem last = new DataSeriesItem(3, 3);
+        last.setColor(SolidColor.BLUE);
+        series.add(first);
+        series.add(1, 1);
+        series.add(2, 2);
+        series.add(last);
+
+        series.remove(1);
+        series.add(4, 4, false, true);
+
+        assertEquals(3, series.size());
+        assertArrayEquals(new double[] { 2, 3, 4 }, series.getXValues(), 0);
+        assertNull(series.getCustomizedItem(0));
+        assertSame(last, series.getCustomizedItem(1));
+        assertNull(series.getCustomizedItem(2));
+    }
+
+    @Test
+    public void compactDataSeries_updateCustomizedPoint_itemUpdated() {
+        CompactDataSeries series = new CompactDataSeries();
+        DataSeriesItem item = new DataSeriesItem(0, 0);
+        item.setName("Item");
+        series.add(item);
+
+        series.update(0, 5);
+
+        assertEquals(5, item.getY().intValue());
+        assertEquals(5, series.getY(0), 0);
+    }
+
+    @Test
+    public void compactDataSeries_downsampling_onlySelectedPointsWritten() {
+        double[] x = IntStream.range(0, 100).asDoubleStream().toArray();
+        CompactDataSeries series = new CompactDataSeries(x, x);
+
+        series.setDownsampling(Downsampler.largestTriangleThreeBuckets(), 10);
+
+        assertEquals(10, series.getDownsampledIndices().length);
+        assertEquals(100, series.size());
+        assertTrue(toJSON(series).contains("\"data\":[[0,0],[9,9],"));
+    }
+
+    @Test
+    public void compactSeries_pointOperations_bufferedAsPointOperations() {
+        Chart chart = new Chart();
+        CompactDataSeries dataSeries = new CompactDataSeries();
+        CompactListSeries listSeries = new CompactListSeries();
+        chart.getConfiguration().addSeries(dataSeries);
+        chart.getConfiguration().addSeries(listSeries);
+        ProxyChangeForwarder forwarder = new ProxyChangeForwarder(chart);
+        chart.getConfiguration().addChangeListener(forwarder);
+
+        dataSeries.add(0, 0);
+        dataSeries.add(1, Double.NaN);
+        dataSeries.update(1, 1);
+        listSeries.addData(Double.NaN);
+        listSeries.updatePoint(0, 1);
+        listSeries.remove(0);
+
+        assertEquals(6, forwarder.getPendingOperationCount());
+        forwarder.flush();
+        assertEquals(6, forwarder.getFlushedOperationCount());
+    }
+
+    @Test
+    public void downsampledCompactSeries_pointOperations_sentAsSeriesUpdate() {
+        Chart chart = new Chart();
+        CompactDataSeries series = new CompactDataSeries();
+        series.setDownsampling(Downsampler.minMax(), 10);
+        chart.getConfiguration().addSeries(series);
+        ProxyChangeForwarder forwarder = new ProxyChangeForwarder(chart);
+        chart.getConfiguration().addChangeListener(forwarder);
+
+        for (int i = 0; i < 100; i++) {
+            series.add(i, i);
+        }
+
+        assertEquals(1, forwarder.getPendingOperationCount());
+    }
+}
@@ -0,0 +1,152 @@
+/**
+ * Copyright 2000-2025 Vaadin Ltd.
+ *
+ * This program is available under Vaadin Commercial License and Service Terms.
+ *
+ * See {@literal <https://vaadin.com/commercial-license-and-service-terms>} for the full
+ * license.
+ */
+package com.vaadin.flow.component.charts;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import org.junit.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+public class ConfigurationDiffTest {
+
+    @Test
+    public void unchangedConfiguration_emptyDiff() {
+        ObjectNode config = ConfigurationDiff
+                .parse("{\"title\":{\"text\":\"A\"},\"series\":[{\"data\":[1,2]}]}");
+
+        assertEquals("{}",
+                ConfigurationDiff.diff(config, config.deepCopy()).toString());
+    }
+
+    @Test
+    public void changedNestedProperty_onlyChangedPropertySent() {
+        ObjectNode previous = ConfigurationDiff.parse(
+                "{\"title\":{\"text\":\"A\",\"align\":\"left\"},\"chart\":{\"type\":\"line\"}}");
+        ObjectNode current = ConfigurationDiff.parse(
+                "{\"title\":{\"text\":\"B\",\"align\":\"left\"},\"chart\":{\"type\":\"line\"}}");
+
+        assertEquals("{\"title\":{\"text\":\"B\"}}",
+                ConfigurationDiff.diff(previous, current).toString());
+    }
+
+    @Test
+    public void addedProperty_propertySent() {
+        ObjectNode previous = ConfigurationDiff.parse("{\"chart\":{}}");
+        ObjectNode current = ConfigurationDiff
+                .parse("{\"chart\":{},\"subtitle\":{\"text\":\"S\"}}");
+
+        assertEquals("{\"subtitle\":{\"text\":\"S\"}}",
+                ConfigurationDiff.diff(previous, current).toString());
+    }
+
+    @Test
+    public void changedSeries_otherSeriesSentAsEmptyObjects() {
+        ObjectNode previous = ConfigurationDiff.parse(
+                "{\"series\":[{\"name\":\"a\",\"data\":[1]},{\"name\":\"b\",\"data\":[2]}]}");
+        ObjectNode current = ConfigurationDiff.parse(
+                "{\"series\":[{\"name\":\"a\",\"data\":[1]},{\"name\":\"b\",\"data\":[3]}]}");
+
+        assertEquals("{\"series\":[{},{\"data\":[3]}]}",
+                ConfigurationDiff.diff(previous, current).toString());
+    }
+
+    @Test
+    public void addedSeries_wholeArraySent() {
+        ObjectNode previous = ConfigurationDiff
+                .parse("{\"series\":[{\"name\":\"a\"}]}");
+        ObjectNode current = ConfigurationDiff
+                .parse("{\"series\":[{\"name\":\"a\"},{\"name\":\"b\"}]}");
+
+        assertEquals("{\"series\":[{\"name\":\"a\"},{\"name\":\"b\"}]}",
+                ConfigurationDiff.diff(previous, current).toString());
+    }
+
+    @Test
+    public void removedProperty_noDiff() {
+        ObjectNode previous = ConfigurationDiff
+                .parse("{\"title\":{\"text\":\"A\",\"align\":\"left\"}}");
+        ObjectNode current = ConfigurationDiff
+                .parse("{\"title\":{\"text\":\"A\"}}");
+
+        assertNull(ConfigurationDiff.diff(previous, current));
+    }
+
+    @Test
+    public void compactedLargeData_unchanged_emptyDiff() {
+        String json = seriesJson(ConfigurationDiff.LARGE_ARRAY_SIZE + 1, 0);
+        ObjectNode previous = ConfigurationDiff
+                .compact(ConfigurationDiff.parse(json));
+
+        assertFalse(previous.toString().contains("[0,1,2"));
+        assertEquals("{}", ConfigurationDiff
+                .diff(previous, ConfigurationDiff.parse(json)).toString());
+    }
+
+    @Test
+    public void compactedLargeData_changed_wholeArraySent() {
+        int size = ConfigurationDiff.LARGE_ARRAY_SIZE + 1;
+        ObjectNode previous = ConfigurationDiff
+                .compact(ConfigurationDiff.parse(seriesJson(size, 0)));
+        ObjectNode current = ConfigurationDiff.parse(seriesJson(size, 1));
+
+        ObjectNode changes = ConfigurationDiff.diff(previous, current);
+
+        assertEquals(current.get("series").get(0).get("data"),
+                changes.get("series").get(0).get("data"));
+    }
+
+    @Test
+    public void compactedLargeData_sizeChanged_notDigestedWhileDiffing() {
+        int size = ConfigurationDiff.LARGE_ARRAY_SIZE + 1;
+        ObjectNode previous = ConfigurationDiff
+                .compact(ConfigurationDiff.parse(seriesJson(size, 0)));
+        ObjectNode current = ConfigurationDiff
+                .parse(seriesJson(size + 1, 0));
+        Map<JsonNode, String> digests = new IdentityHashMap<>();
+
+        ObjectNode changes = ConfigurationDiff.diff(previous, current,
+                digests);
+
+        assertTrue(digests.isEmpty());
+        assertEquals(current.get("series").get(0).get("data"),
+                changes.get("series").get(0).get("data"));
+    }
+
+    @Test
+    public void compactedLargeData_unchanged_digestReusedWhenCompacting() {
+        String json = seriesJson(ConfigurationDiff.LARGE_ARRAY_SIZE + 1, 0);
+        ObjectNode previous = ConfigurationDiff
+                .compact(ConfigurationDiff.parse(json));
+        ObjectNode current = ConfigurationDiff.parse(json);
+        Map<JsonNode, String> digests = new IdentityHashMap<>();
+
+        ConfigurationDiff.diff(previous, current, digests);
+        assertEquals(1, digests.size());
+        JsonNode data = current.get("series").get(0).get("data");
+        digests.put(data, "reused");
+        ConfigurationDiff.compact(current, digests);
+
+        assertEquals("reused",
+                current.get("series").get(0).get("data").textValue());
+    }
+
+    private static String seriesJson(int size, int offset) {
+        return "{\"series\":[{\"data\":" + IntStream.range(0, size)
+                .map(i -> i + offset).boxed().toList() + "}]}";
+    }
+}
@@ -11,6 +11,9 @@ package com.vaadin.flow.component.charts;
 import static com.vaadin.flow.component.charts.util.ChartSerialization.toJSON;
 import static org.junit.Assert.assertEquals;
 
+import java.io.IOException;
+import java.io.StringWriter;
+
 import org.junit.Test;
 
 import com.vaadin.flow.component.charts.events.internal.AxisRescaledEvent;
@@ -25,12 +28,15 @@ import com.vaadin.flow.component.charts.events.internal.SeriesStateEvent;
 import com.vaadin.flow.component.charts.model.AnnotationItemLabel;
 import com.vaadin.flow.component.charts.model.AnnotationItemLabelPoint;
 import com.vaadin.flow.component.charts.model.Configuration;
+import com.vaadin.flow.component.charts.model.DataSeries;
+import com.vaadin.flow.component.charts.model.DataSeriesItem;
 import com.vaadin.flow.component.charts.model.Inactive;
 import com.vaadin.flow.component.charts.model.ListSeries;
 import com.vaadin.flow.component.charts.model.PlotOptionsPie;
 import com.vaadin.flow.component.charts.model.States;
 import com.vaadin.flow.component.charts.model.YAxis;
 import com.vaadin.flow.component.charts.model.style.SolidColor;
+import com.vaadin.flow.component.charts.util.ChartSerialization;
 
 /**
  * Tests for the JSON serialization in {@link Configuration}
@@ -160,4 +166,20 @@ public class ConfigurationJSONSerializationTest {
                 "{\"chart\":{\"styledMode\":false},\"plotOptions\":{},\"series\":[],\"exporting\":{\"enabled\":false},\"annotations\":[{\"labels\":[{\"point\":{\"x\":100,\"y\":100},\"text\":\"Sample\",\"useHTML\":true}]}]}",
                 toJSON(conf));
     }
+
+    @Test
+    public void configurationJSONSerialization_writeJSON_sameAsToJSON()
+            throws IOException {
+        Configuration conf = new Configuration();
+        DataSeries series = new DataSeries("Data");
+        series.add(new DataSeriesItem(1, 2));
+        series.add(new DataSeriesItem("Named", 3));
+        conf.addSeries(series);
+        conf.addSeries(new ListSeries("List", 1, 2, 3));
+
+        StringWriter writer = new StringWriter();
+        ChartSerialization.writeJSON(conf, writer);
+
+        assertEquals(toJSON(conf), writer.toString());
+    }
 }
@@ -0,0 +1,144 @@
+/**
+ * Copyright 2000-2025 Vaadin Ltd.
+ *
+ * This program is available under Vaadin Commercial License and Service Terms.
+ *
+ * See {@literal <https://vaadin.com/commercial-license-and-service-terms>} for the full
+ * license.
+ */
+package com.vaadin.flow.component.charts;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.vaadin.flow.component.charts.model.DataProviderSeries;
+import com.vaadin.flow.data.provider.CallbackDataProvider;
+import com.vaadin.flow.data.provider.DataProvider;
+import com.vaadin.flow.data.provider.Query;
+import com.vaadin.flow.function.SerializablePredicate;
+
+public class DataProviderSeriesRangeFetchingTest {
+
+    private final List<Integer> items = IntStream.range(0, 1000).boxed()
+            .toList();
+    private final AtomicInteger fetchCount = new AtomicInteger();
+    private DataProvider<Integer, SerializablePredicate<Integer>> dataProvider;
+    private DataProviderSeries<Integer> series;
+
+    @Before
+    public void setup() {
+        dataProvider = new CallbackDataProvider<>(this::fetch,
+                query -> (int) items.stream()
+                        .filter(query.getFilter().orElse(i -> true)).count());
+        series = new DataProviderSeries<>(dataProvider, item -> item);
+        series.setX(item -> item);
+        series.setRangeFetching(this::rangeFilter, 500);
+    }
+
+    private SerializablePredicate<Integer> rangeFilter(Number min,
+            Number max) {
+        return item -> (min == null || item >= min.doubleValue())
+                && (max == null || item <= max.doubleValue());
+    }
+
+    private Stream<Integer> fetch(
+            Query<Integer, SerializablePredicate<Integer>> query) {
+        fetchCount.incrementAndGet();
+        return items.stream().filter(query.getFilter().orElse(i -> true))
+                .skip(query.getOffset()).limit(query.getLimit());
+    }
+
+    @Test
+    public void visibleRange_adjacentWindowsFetched() {
+        series.setVisibleRange(100, 200);
+
+        assertEquals(301, series.getValues().size());
+        assertEquals(1, fetchCount.get());
+    }
+
+    @Test
+    public void noVisibleRange_limitApplied() {
+        assertEquals(500, series.getValues().size());
+    }
+
+    @Test
+    public void visibleRangeWithinFetchedRange_notFetchedAgain() {
+        series.setVisibleRange(100, 200);
+        series.getValues();
+
+        series.setVisibleRange(50, 150);
+        series.getValues();
+
+        assertEquals(1, fetchCount.get());
+    }
+
+    @Test
+    public void visibleRangeOutsideFetchedRange_fetchedAgain() {
+        series.setVisibleRange(100, 200);
+        series.getValues();
+
+        series.setVisibleRange(400, 500);
+
+        assertEquals(301, series.getValues().size());
+        assertEquals(2, fetchCount.get());
+    }
+
+    @Test
+    public void dataProviderRefreshed_fetchedAgain() {
+        series.setVisibleRange(100, 200);
+        series.getValues();
+
+        dataProvider.refreshAll();
+        series.getValues();
+
+        assertEquals(2, fetchCount.get());
+    }
+
+    @Test
+    public void limitReachedBeforeVisibleRange_visibleRangeFetched() {
+        series.setRangeFetching(this::rangeFilter, 150);
+        series.setVisibleRange(400, 500);
+
+        List<Map<String, Optional<Object>>> values = series.getValues();
+
+        assertEquals(101, values.size());
+        assertEquals(400, values.get(0).get("x").get());
+        assertEquals(500, values.get(100).get("x").get());
+    }
+
+    @Test
+    public void truncatedRange_fetchedAgainWhenVisibleRangeChanges() {
+        series.setRangeFetching(this::rangeFilter, 50);
+        series.setVisibleRange(100, 200);
+        series.getValues();
+        series.getValues();
+        int fetchesForRange = fetchCount.get();
+
+        series.setVisibleRange(120, 180);
+
+        assertEquals(120, series.getValues().get(0).get("x").get());
+        assertTrue(fetchCount.get() > fetchesForRange);
+    }
+
+    @Test
+    public void automaticUpdateDisabled_dataProviderRefreshed_fetchedAgain() {
+        series.setAutomaticChartUpdateEnabled(false);
+        series.setVisibleRange(100, 200);
+        series.getValues();
+
+        dataProvider.refreshAll();
+        series.getValues();
+
+        assertEquals(2, fetchCount.get());
+    }
+}
@@ -15,6 +15,7 @@ import org.junit.Test;
 
 import com.vaadin.flow.component.charts.model.DataSeriesItem;
 import com.vaadin.flow.component.charts.model.DataSeriesItemSankey;
+import com.vaadin.flow.component.charts.model.OhlcItem;
 
 /**
  * Tests for the serialization of custom data series items extending
@@ -33,4 +34,26 @@ public class DataSeriesItemSerializationTest {
         var json = toJSON(item);
         Assert.assertEquals("{\"from\":\"A\",\"to\":\"B\",\"weight\":1}", json);
     }
+
+    @Test
+    public void dataSeriesItem_xAndY_toJSON() {
+        Assert.assertEquals("[1,2.5]", toJSON(new DataSeriesItem(1, 2.5)));
+    }
+
+    @Test
+    public void dataSeriesItem_onlyY_toJSON() {
+        var item = new DataSeriesItem();
+        item.setY(3);
+        Assert.assertEquals("3", toJSON(item));
+    }
+
+    @Test
+    public void dataSeriesItem_lowAndHigh_toJSON() {
+        Assert.assertEquals("[1,2,3]", toJSON(new DataSeriesItem(1, 2, 3)));
+    }
+
+    @Test
+    public void ohlcItem_toJSON() {
+        Assert.assertEquals("[1,2,4,1,3]", toJSON(new OhlcItem(1, 2, 4, 1, 3)));
+    }
 }
@@ -0,0 +1,215 @@
+/**
+ * Copyright 2000-2025 Vaadin Ltd.
+ *
+ * This program is available under Vaadin Commercial License and Service Terms.
+ *
+ * See {@literal <https://vaadin.com/commercial-license-and-service-terms>} for the full
+ * license.
+ */
+package com.vaadin.flow.component.charts;
+
+import static com.vaadin.flow.component.charts.util.ChartSerialization.toJSON;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.junit.Test;
+
+import com.vaadin.flow.component.charts.model.CompactDataSeries;
+import com.vaadin.flow.component.charts.model.DataProviderSeries;
+import com.vaadin.flow.component.charts.model.DataSeries;
+import com.vaadin.flow.component.charts.model.DataSeriesItem;
+import com.vaadin.flow.component.charts.model.Downsampler;
+import com.vaadin.flow.data.provider.DataProvider;
+
+public class DownsamplingTest {
+
+    @Test
+    public void lttb_belowThreshold_allPointsKept() {
+        int[] indices = Downsampler.largestTriangleThreeBuckets()
+                .downsample(new double[] { 0, 1, 2 }, new double[] { 1, 2, 3 },
+                        10);
+
+        assertArrayEquals(new int[] { 0, 1, 2 }, indices);
+    }
+
+    @Test
+    public void lttb_keepsFirstLastAndPeak() {
+        double[] x = IntStream.range(0, 1000).asDoubleStream().toArray();
+        double[] y = new double[1000];
+        y[500] = 100;
+
+        int[] indices = Downsampler.largestTriangleThreeBuckets().downsample(x,
+                y, 20);
+
+        assertEquals(20, indices.length);
+        assertEquals(0, indices[0]);
+        assertEquals(999, indices[19]);
+        assertTrue(IntStream.of(indices).anyMatch(i -> i == 500));
+    }
+
+    @Test
+    public void minMax_keepsMinimumAndMaximumOfEachBucket() {
+        double[] x = { 0, 1, 2, 3, 4, 5, 6, 7 };
+        double[] y = { 5, 1, 9, 5, 5, 0, 5, 7 };
+
+        int[] indices = Downsampler.minMax().downsample(x, y, 4);
+
+        assertArrayEquals(new int[] { 1, 2, 5, 7 }, indices);
+    }
+
+    @Test
+    public void dataSeries_downsamplingEnabled_downsampledDataSerialized() {
+        DataSeries series = new DataSeries();
+        for (int i = 0; i < 100; i++) {
+            series.add(new DataSeriesItem(i, i % 10));
+        }
+        series.setDownsampling(Downsampler.minMax(), 10);
+
+        assertEquals(10, series.getDownsampledData().size());
+        assertEquals(100, series.getData().size());
+        assertTrue(toJSON(series).contains("\"data\":[[0,0],[9,9],"));
+    }
+
+    @Test
+    public void dataSeries_downsamplingDisabled_allDataSerialized() {
+        DataSeries series = new DataSeries();
+        for (int i = 0; i < 100; i++) {
+            series.add(new DataSeriesItem(i, i));
+        }
+
+        assertEquals(100, series.getDownsampledData().size());
+    }
+
+    @Test
+    public void dataSeries_visibleRange_pointsSelectedFromRange() {
+        DataSeries series = new DataSeries();
+        for (int i = 0; i < 100; i++) {
+            series.add(new DataSeriesItem(i, i));
+        }
+        series.setDownsampling(Downsampler.largestTriangleThreeBuckets(), 50);
+        series.setVisibleRange(20, 30);
+
+        List<DataSeriesItem> data = series.getDownsampledData();
+
+        assertEquals(13, data.size());
+        assertEquals(19, data.get(0).getX().intValue());
+        assertEquals(31, data.get(12).getX().intValue());
+    }
+
+    @Test
+    public void dataProviderSeries_downsamplingEnabled_valuesDownsampled() {
+        List<Integer> items = new ArrayList<>();
+        IntStream.range(0, 1000).forEach(items::add);
+        DataProviderSeries<Integer> series = new DataProviderSeries<>(
+                DataProvider.ofCollection(items), Integer::doubleValue);
+        series.setX(item -> item);
+        series.setDownsampling(Downsampler.largestTriangleThreeBuckets(),
+                100);
+
+        assertEquals(100, series.getValues().size());
+    }
+
+    @Test
+    public void dataSeries_yOnlyData_indicesSerializedAsX() {
+        DataSeries series = new DataSeries();
+        for (int i = 0; i < 100; i++) {
+            DataSeriesItem item = new DataSeriesItem();
+            item.setY(i % 10);
+            series.add(item);
+        }
+        series.get(9).setName("Peak");
+        series.setDownsampling(Downsampler.minMax(), 10);
+
+        String json = toJSON(series);
+
+        assertTrue(json.contains("\"data\":[[0,0],{\"x\":9,"));
+        assertTrue(json.contains("\"name\":\"Peak\""));
+        assertTrue(json.endsWith("[99,9]]}"));
+    }
+
+    @Test
+    public void dataSeries_downsampled_pointIndexMappedToDataIndex() {
+        DataSeries series = new DataSeries();
+        for (int i = 0; i < 100; i++) {
+            series.add(new DataSeriesItem(i, i % 10));
+        }
+        series.setDownsampling(Downsampler.minMax(), 10);
+
+        assertEquals(9, series.getDataIndex(1));
+        series.setDownsampling(null, 0);
+        assertEquals(1, series.getDataIndex(1));
+    }
+
+    @Test
+    public void dataProviderSeries_yOnlyData_indicesSerializedAsX() {
+        List<Integer> items = new ArrayList<>();
+        IntStream.range(0, 100).forEach(items::add);
+        DataProviderSeries<Integer> series = new DataProviderSeries<>(
+                DataProvider.ofCollection(items), item -> item % 10);
+        series.setDownsampling(Downsampler.minMax(), 10);
+
+        String json = toJSON(series);
+
+        assertTrue(json.contains("\"data\":[[0,0],[9,9],"));
+        assertTrue(json.endsWith("[99,9]]}"));
+    }
+
+    @Test
+    public void dataSeries_indicesCachedUntilDataOrRangeChanged() {
+        AtomicInteger downsamplings = new AtomicInteger();
+        Downsampler minMax = Downsampler.minMax();
+        DataSeries series = new DataSeries();
+        for (int i = 0; i < 100; i++) {
+            series.add(new DataSeriesItem(i, i % 10));
+        }
+        series.setDownsampling((x, y, threshold) -> {
+            downsamplings.incrementAndGet();
+            return minMax.downsample(x, y, threshold);
+        }, 10);
+
+        series.getDataIndex(1);
+        series.getDataIndex(2);
+        series.getDownsampledData();
+        assertEquals(1, downsamplings.get());
+
+        series.add(new DataSeriesItem(100, 5));
+        series.getDataIndex(1);
+        series.setVisibleRange(10, 20);
+        series.getDataIndex(1);
+        assertEquals(3, downsamplings.get());
+    }
+
+    @Test
+    public void compactDataSeries_indicesCachedUntilDataChanged() {
+        AtomicInteger downsamplings = new AtomicInteger();
+        Downsampler minMax = Downsampler.minMax();
+        CompactDataSeries series = new CompactDataSeries();
+        for (int i = 0; i < 100; i++) {
+            series.add(i, i % 10);
+        }
+        series.setDownsampling((x, y, threshold) -> {
+            downsamplings.incrementAndGet();
+            return minMax.downsample(x, y, threshold);
+        }, 10);
+
+        series.getDataIndex(1);
+        series.getDownsampledIndices()[0] = -1;
+        assertEquals(0, series.getDownsampledIndices()[0]);
+        assertEquals(1, downsamplings.get());
+
+        series.update(5, 100);
+        series.getDataIndex(1);
+        assertEquals(2, downsamplings.get());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void setDownsampling_tooSmallThreshold_throws() {
+        new DataSeries().setDownsampling(Downsampler.minMax(), 2);
+    }
+}
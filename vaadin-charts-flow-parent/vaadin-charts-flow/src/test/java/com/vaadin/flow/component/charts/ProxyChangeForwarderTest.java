@@ -0,0 +1,83 @@
+/**
+ * Copyright 2000-2025 Vaadin Ltd.
+ *
+ * This program is available under Vaadin Commercial License and Service Terms.
+ *
+ * See {@literal <https://vaadin.com/commercial-license-and-service-terms>} for the full
+ * license.
+ */
+package com.vaadin.flow.component.charts;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.vaadin.flow.component.charts.model.DataSeries;
+import com.vaadin.flow.component.charts.model.DataSeriesItem;
+
+public class ProxyChangeForwarderTest {
+
+    private Chart chart;
+    private ProxyChangeForwarder forwarder;
+    private DataSeries series;
+
+    @Before
+    public void setup() {
+        chart = new Chart();
+        series = new DataSeries();
+        chart.getConfiguration().addSeries(series);
+        forwarder = new ProxyChangeForwarder(chart);
+        chart.getConfiguration().addChangeListener(forwarder);
+    }
+
+    @Test
+    public void addPoints_operationsBufferedUntilFlush() {
+        for (int i = 0; i < 500; i++) {
+            series.add(new DataSeriesItem(i, i));
+        }
+
+        assertEquals(500, forwarder.getPendingOperationCount());
+        assertEquals(0, forwarder.getFlushCount());
+
+        forwarder.flush();
+
+        assertEquals(0, forwarder.getPendingOperationCount());
+        assertEquals(1, forwarder.getFlushCount());
+        assertEquals(500, forwarder.getFlushedOperationCount());
+    }
+
+    @Test
+    public void mixedPointAndSeriesOperations_coalescedIntoSingleFlush() {
+        DataSeriesItem item = new DataSeriesItem(1, 1);
+        series.add(item);
+        item.setY(2);
+        series.update(item);
+        series.setVisible(false);
+        series.remove(item);
+
+        forwarder.flush();
+
+        assertEquals(1, forwarder.getFlushCount());
+        assertEquals(4, forwarder.getFlushedOperationCount());
+    }
+
+    @Test
+    public void axisRescaled_pendingOperationsFlushedFirst() {
+        series.add(new DataSeriesItem(1, 1));
+        series.add(new DataSeriesItem(2, 2));
+
+        chart.getConfiguration().getxAxis().setExtremes(0, 10);
+
+        assertEquals(0, forwarder.getPendingOperationCount());
+        assertEquals(1, forwarder.getFlushCount());
+        assertEquals(2, forwarder.getFlushedOperationCount());
+    }
+
+    @Test
+    public void flushWithoutOperations_nothingSent() {
+        forwarder.flush();
+
+        assertEquals(0, forwarder.getFlushCount());
+    }
+}
@@ -30,6 +30,7 @@ import com.vaadin.flow.component.dependency.JsModule;
 import com.vaadin.flow.component.dependency.NpmPackage;
 import com.vaadin.flow.component.page.PendingJavaScriptResult;
 import com.vaadin.flow.dom.DomEvent;
+import com.vaadin.flow.dom.DomListenerRegistration;
 import com.vaadin.flow.function.SerializableRunnable;
 import com.vaadin.flow.shared.Registration;
 
@@ -74,6 +75,7 @@ public abstract class ContextMenuBase<C extends ContextMenuBase<C, I, S>, I exte
     private PendingJavaScriptResult targetJsRegistration;
 
     private boolean autoAddedToTheUi;
+    private boolean clientSideOpening;
 
     /**
      * Creates an empty context menu.
@@ -87,7 +89,7 @@ public abstract class ContextMenuBase<C extends ContextMenuBase<C, I, S>, I exte
         getElement().setProperty("openOn", "none");
 
         getElement().addEventListener("opened-changed", event -> {
-            if (autoAddedToTheUi && !isOpened()) {
+            if (autoAddedToTheUi && !isOpened() && !clientSideOpening) {
                 getElement().removeFromParent();
                 autoAddedToTheUi = false;
             }
@@ -143,11 +145,14 @@ public abstract class ContextMenuBase<C extends ContextMenuBase<C, I, S>, I exte
         targetAttachRegistration = target
                 .addAttachListener(e -> onTargetAttach(e.getUI()));
 
-        // Server round-trip before opening the overlay
-        targetBeforeOpenRegistration = target.getElement()
+        // Server round-trip before opening the overlay, unless the target
+        // has opened it on the client
+        DomListenerRegistration beforeOpenRegistration = target.getElement()
                 .addEventListener("vaadin-context-menu-before-open",
                         this::beforeOpenHandler)
                 .addEventData(EVENT_DETAIL);
+        beforeOpenRegistration.setFilter("!event.detail.openedOnClient");
+        targetBeforeOpenRegistration = beforeOpenRegistration;
     }
 
     /**
@@ -190,6 +195,49 @@ public abstract class ContextMenuBase<C extends ContextMenuBase<C, I, S>, I exte
         return "click".equals(openOnEventName);
     }
 
+    /**
+     * Sets whether the target component may open this context menu on the
+     * client, without a server round-trip.
+     * <p>
+     * When enabled, the context menu is kept attached to the UI so that the
+     * client can open it at any time, and targets that support it decide on
+     * the client whether and how the menu is opened. Targets that do not
+     * support it, and events for which the target cannot decide on the client,
+     * still make a server round-trip before opening the menu. In that case
+     * {@link #onBeforeOpenMenu(JsonObject)} is called as usual.
+     *
+     * @param clientSideOpening
+     *            {@code true} to allow opening the menu on the client,
+     *            {@code false} to always make a server round-trip first
+     */
+    protected void setClientSideOpening(boolean clientSideOpening) {
+        if (this.clientSideOpening == clientSideOpening) {
+            return;
+        }
+        this.clientSideOpening = clientSideOpening;
+        if (clientSideOpening) {
+            if (target != null) {
+                target.getUI().ifPresent(this::addContextMenuToUi);
+            }
+        } else if (autoAddedToTheUi && !isOpened()) {
+            getElement().removeFromParent();
+            autoAddedToTheUi = false;
+        }
+        requestTargetJsExecutions();
+    }
+
+    /**
+     * Gets whether the target component may open this context menu on the
+     * client, without a server round-trip.
+     *
+     * @return {@code true} if the menu may be opened on the client,
+     *         {@code false} otherwise
+     * @see #setClientSideOpening(boolean)
+     */
+    protected boolean isClientSideOpening() {
+        return clientSideOpening;
+    }
+
     /**
      * Closes this context menu if it is currently open.
      */
@@ -414,6 +462,9 @@ public abstract class ContextMenuBase<C extends ContextMenuBase<C, I, S>, I exte
 
     private void onTargetAttach(UI ui) {
         ui.getInternals().addComponentDependencies(ContextMenu.class);
+        if (clientSideOpening) {
+            addContextMenuToUi(ui);
+        }
         requestTargetJsExecutions();
     }
 
@@ -429,8 +480,9 @@ public abstract class ContextMenuBase<C extends ContextMenuBase<C, I, S>, I exte
             }
             targetJsRegistration = target.getElement().executeJs(
                     "window.Vaadin.Flow.contextMenuTargetConnector.init(this);"
-                            + "this.$contextMenuTargetConnector.updateOpenOn($0);",
-                    openOnEventName);
+                            + "this.$contextMenuTargetConnector.updateOpenOn($0);"
+                            + "this.$contextMenuTargetConnector.updateClientSideMenu($1);",
+                    openOnEventName, clientSideOpening ? getElement() : null);
         }
     }
 
@@ -445,18 +497,19 @@ public abstract class ContextMenuBase<C extends ContextMenuBase<C, I, S>, I exte
         boolean shouldOpenMenu = onBeforeOpenMenu(eventDetail);
 
         if (shouldOpenMenu) {
-            addContextMenuToUi();
+            addContextMenuToUi(getCurrentUI());
             target.getElement().callJsFunction(
                     "$contextMenuTargetConnector.openMenu", getElement());
         }
     }
 
-    private void addContextMenuToUi() {
+    private void addContextMenuToUi(UI ui) {
         if (getElement().getNode().getParent() == null) {
-            UI ui = getCurrentUI();
             ui.beforeClientResponse(ui, context -> {
-                ui.addToModalComponent(this);
-                autoAddedToTheUi = true;
+                if (getElement().getNode().getParent() == null) {
+                    ui.addToModalComponent(this);
+                    autoAddedToTheUi = true;
+                }
             });
         }
     }
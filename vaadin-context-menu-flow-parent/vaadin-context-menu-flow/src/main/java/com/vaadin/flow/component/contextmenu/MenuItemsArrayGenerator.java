@@ -16,6 +16,14 @@
 package com.vaadin.flow.component.contextmenu;
 
 import java.io.Serializable;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import com.vaadin.flow.component.Component;
@@ -23,10 +31,18 @@ import com.vaadin.flow.component.UI;
 import com.vaadin.flow.dom.Element;
 import com.vaadin.flow.function.SerializableConsumer;
 
+import elemental.json.Json;
+import elemental.json.JsonArray;
+
 /**
  * A class which is utilized internally by components such as context menu and
  * menu bar. It transform the components added to the menus and their sub menus
  * to the hierarchical items array of the web component.
+ * <p>
+ * The container elements of the menu and its sub menus are kept between
+ * updates. When the items are regenerated, only the containers whose children
+ * have changed are updated, and only the corresponding parts of the items
+ * array are regenerated on the client.
  *
  * @param <I>
  *            the menu item type
@@ -34,23 +50,39 @@ import com.vaadin.flow.function.SerializableConsumer;
 public class MenuItemsArrayGenerator<I extends MenuItemBase<?, I, ?>>
         implements Serializable {
 
+    private static final String CONTAINER_NODE_ID_PROPERTY = "_containerNodeId";
+
     private Component menu;
 
     private boolean updateScheduled = false;
+    private boolean fullUpdateNeeded = true;
     private final Element container;
 
+    /**
+     * The container elements of the menu and the parent items, by the menu or
+     * the parent item.
+     */
+    private final Map<Component, Element> containers = new HashMap<>();
+
     public MenuItemsArrayGenerator(Component menu) {
         this.menu = menu;
         container = new Element("div");
         getElement().appendVirtualChild(container);
 
         menu.getUI().ifPresent(this::addContextMenuDependencies);
-        menu.addAttachListener(e -> addContextMenuDependencies(e.getUI()));
+        menu.addAttachListener(e -> {
+            // The client-side items array needs to be generated from scratch
+            fullUpdateNeeded = true;
+            addContextMenuDependencies(e.getUI());
+        });
     }
 
     /**
      * Rebuilds the client-side items array with the current components in the
      * menu and its sub menus.
+     * <p>
+     * The update is done once before the client response, and covers all
+     * changes made until then.
      */
     public void generate() {
         if (updateScheduled) {
@@ -58,37 +90,101 @@ public class MenuItemsArrayGenerator<I extends MenuItemBase<?, I, ?>>
         }
         updateScheduled = true;
         runBeforeClientResponse(ui -> {
-            container.removeAllChildren();
-            getItems().forEach(this::resetContainers);
-
-            int containerNodeId = createNewContainer(menu.getChildren());
-            getElement().callJsFunction("$connector.generateItems",
-                    containerNodeId);
-
+            Set<Integer> changedContainerIds = new LinkedHashSet<>();
+            Set<Component> owners = new HashSet<>();
+
+            int containerNodeId = updateContainer(menu, menu.getChildren(),
+                    owners, changedContainerIds);
+            getItems().forEach(item -> updateContainers(item, containerNodeId,
+                    owners, changedContainerIds));
+            removeUnusedContainers(owners);
+
+            if (fullUpdateNeeded) {
+                getElement().callJsFunction("$connector.generateItems",
+                        containerNodeId);
+            } else if (!changedContainerIds.isEmpty()) {
+                JsonArray ids = Json.createArray();
+                changedContainerIds.forEach(id -> ids.set(ids.length(), id));
+                getElement().callJsFunction("$connector.generateItems",
+                        containerNodeId, ids);
+            }
+
+            fullUpdateNeeded = false;
             updateScheduled = false;
         });
     }
 
-    private void resetContainers(MenuItemBase<?, I, ?> menuItem) {
+    private void updateContainers(MenuItemBase<?, I, ?> menuItem,
+            int parentContainerNodeId, Set<Component> owners,
+            Set<Integer> changedContainerIds) {
+        Element itemElement = menuItem.getElement();
+        Integer previousNodeId = null;
+        if (itemElement.hasProperty(CONTAINER_NODE_ID_PROPERTY)) {
+            previousNodeId = itemElement
+                    .getProperty(CONTAINER_NODE_ID_PROPERTY, 0);
+        }
         if (!menuItem.isParentItem()) {
-            menuItem.getElement().removeProperty("_containerNodeId");
+            if (previousNodeId != null) {
+                itemElement.removeProperty(CONTAINER_NODE_ID_PROPERTY);
+                // The item needs to be regenerated without children
+                changedContainerIds.add(parentContainerNodeId);
+            }
             return;
         }
         SubMenuBase<?, I, ?> subMenu = menuItem.getSubMenu();
 
-        int containerNodeId = createNewContainer(subMenu.getChildren());
-        menuItem.getElement().setProperty("_containerNodeId", containerNodeId);
+        int containerNodeId = updateContainer(menuItem, subMenu.getChildren(),
+                owners, changedContainerIds);
+        if (!Objects.equals(previousNodeId, containerNodeId)) {
+            itemElement.setProperty(CONTAINER_NODE_ID_PROPERTY,
+                    containerNodeId);
+            // The item needs to be regenerated with children
+            changedContainerIds.add(parentContainerNodeId);
+        }
 
-        subMenu.getItems().stream().forEach(this::resetContainers);
+        subMenu.getItems().forEach(item -> updateContainers(item,
+                containerNodeId, owners, changedContainerIds));
     }
 
-    private int createNewContainer(Stream<Component> components) {
-        Element subContainer = new Element("div");
-        container.appendChild(subContainer);
+    private int updateContainer(Component owner, Stream<Component> components,
+            Set<Component> owners, Set<Integer> changedContainerIds) {
+        owners.add(owner);
+        Element subContainer = containers.computeIfAbsent(owner, key -> {
+            Element newContainer = new Element("div");
+            container.appendChild(newContainer);
+            return newContainer;
+        });
+        int containerNodeId = subContainer.getNode().getId();
+
+        List<Element> children = components.map(Component::getElement)
+                .collect(Collectors.toList());
+        if (!children.equals(
+                subContainer.getChildren().collect(Collectors.toList()))) {
+            children.forEach(child -> {
+                Element previousParent = child.getParent();
+                if (previousParent != null && previousParent != subContainer
+                        && previousParent.getParent() == container) {
+                    // The child is moved from another container, which may
+                    // have been compared already
+                    changedContainerIds
+                            .add(previousParent.getNode().getId());
+                }
+            });
+            subContainer.removeAllChildren();
+            children.forEach(subContainer::appendChild);
+            changedContainerIds.add(containerNodeId);
+        }
+        return containerNodeId;
+    }
 
-        components
-                .forEach(child -> subContainer.appendChild(child.getElement()));
-        return subContainer.getNode().getId();
+    private void removeUnusedContainers(Set<Component> owners) {
+        containers.entrySet().removeIf(entry -> {
+            if (owners.contains(entry.getKey())) {
+                return false;
+            }
+            entry.getValue().removeFromParent();
+            return true;
+        });
     }
 
     private Stream<MenuItemBase> getItems() {
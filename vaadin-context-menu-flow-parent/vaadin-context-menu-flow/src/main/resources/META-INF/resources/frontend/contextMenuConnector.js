@@ -22,9 +22,24 @@ function initLazy(contextMenu, appId) {
     /**
      * Generates and assigns the items to the context menu.
      *
+     * When the ids of the changed containers are provided, only the
+     * corresponding parts of the existing items tree are regenerated.
+     *
      * @param {number} nodeId
+     * @param {number[] | undefined} changedNodeIds
      */
-    generateItems(nodeId) {
+    generateItems(nodeId, changedNodeIds) {
+      if (
+        changedNodeIds &&
+        contextMenu.items &&
+        !changedNodeIds.includes(nodeId) &&
+        updateItemsTree(appId, contextMenu.items, changedNodeIds)
+      ) {
+        // Assign a new array to re-render the menu
+        contextMenu.items = [...contextMenu.items];
+        return;
+      }
+
       const items = generateItemsTree(appId, nodeId);
 
       contextMenu.items = items;
@@ -65,6 +80,48 @@ function generateItemsTree(appId, nodeId) {
   });
 }
 
+/**
+ * Regenerates the children of the items in the given items tree whose sub menu
+ * containers are among the given changed containers.
+ *
+ * Returns `false` if some of the changed containers does not belong to an
+ * item in the tree, in which case the full tree needs to be regenerated.
+ *
+ * @param {string} appId
+ * @param {object[]} items
+ * @param {number[]} changedNodeIds
+ * @return {boolean}
+ */
+function updateItemsTree(appId, items, changedNodeIds) {
+  const pendingNodeIds = new Set(changedNodeIds);
+
+  const removeRegenerated = (items) => {
+    items.forEach((item) => {
+      pendingNodeIds.delete(item.component._containerNodeId);
+      if (item.children) {
+        removeRegenerated(item.children);
+      }
+    });
+  };
+
+  const update = (items) => {
+    items.forEach((item) => {
+      const containerNodeId = item.component._containerNodeId;
+      if (pendingNodeIds.has(containerNodeId)) {
+        pendingNodeIds.delete(containerNodeId);
+        item.children = generateItemsTree(appId, containerNodeId);
+        // Nested changes are covered by regenerating the sub tree
+        removeRegenerated(item.children);
+      } else if (item.children) {
+        update(item.children);
+      }
+    });
+  };
+
+  update(items);
+  return pendingNodeIds.size === 0;
+}
+
 /**
  * Sets the checked state for a context menu item.
  *
@@ -116,6 +173,7 @@ function setTheme(component, theme) {
 window.Vaadin.Flow.contextMenuConnector = {
   initLazy,
   generateItemsTree,
+  updateItemsTree,
   setChecked,
   setKeepOpen,
   setTheme
@@ -18,11 +18,25 @@ function init(target) {
       if (target.getContextMenuBeforeOpenDetail) {
         detail = target.getContextMenuBeforeOpenDetail(e);
       }
+      // The target can decide on the client whether to open the menu, in
+      // which case the server round-trip is skipped. `undefined` means that
+      // the target cannot decide and the server has to be asked.
+      const menu = this.$contextMenuTargetConnector.clientSideMenu;
+      let openOnClient;
+      if (menu && menu.isConnected && target.prepareClientSideContextMenu) {
+        openOnClient = target.prepareClientSideContextMenu(menu, e);
+      }
+      if (openOnClient !== undefined) {
+        detail.openedOnClient = true;
+      }
       target.dispatchEvent(
         new CustomEvent('vaadin-context-menu-before-open', {
           detail: detail
         })
       );
+      if (openOnClient) {
+        menu.open(e);
+      }
     },
 
     updateOpenOn(eventType) {
@@ -48,6 +62,10 @@ function init(target) {
       }
     },
 
+    updateClientSideMenu(contextMenu) {
+      this.clientSideMenu = contextMenu;
+    },
+
     openMenu(contextMenu) {
       contextMenu.open(this.openEvent);
     },
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2000-2025 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.component.contextmenu;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.component.html.Span;
+import com.vaadin.flow.component.internal.PendingJavaScriptInvocation;
+
+import elemental.json.JsonArray;
+
+public class MenuItemsArrayGeneratorTest {
+
+    private UI ui;
+    private ContextMenu contextMenu;
+    private MenuItem file;
+    private MenuItem edit;
+
+    @Before
+    public void setup() {
+        ui = new UI();
+        contextMenu = new ContextMenu();
+        ui.add(contextMenu);
+
+        file = contextMenu.addItem("File");
+        file.getSubMenu().addItem("Open");
+        edit = contextMenu.addItem("Edit");
+        edit.getSubMenu().addItem("Copy");
+
+        List<PendingJavaScriptInvocation> invocations = flush();
+        Assert.assertEquals(1, invocations.size());
+        // Full update without changed containers
+        Assert.assertEquals(2, invocations.get(0).getInvocation()
+                .getParameters().size());
+    }
+
+    @Test
+    public void addSubMenuItem_onlyChangedContainerSent() {
+        int fileContainerNodeId = getContainerNodeId(file);
+        int editContainerNodeId = getContainerNodeId(edit);
+
+        edit.getSubMenu().addItem("Paste");
+        edit.getSubMenu().addItem("Cut");
+
+        List<PendingJavaScriptInvocation> invocations = flush();
+        Assert.assertEquals(1, invocations.size());
+        JsonArray changedNodeIds = getChangedNodeIds(invocations.get(0));
+        Assert.assertEquals(1, changedNodeIds.length());
+        Assert.assertEquals(editContainerNodeId,
+                (int) changedNodeIds.getNumber(0));
+
+        Assert.assertEquals(fileContainerNodeId, getContainerNodeId(file));
+        Assert.assertEquals(editContainerNodeId, getContainerNodeId(edit));
+    }
+
+    @Test
+    public void addSubMenuToItem_parentContainerSent() {
+        MenuItem view = contextMenu.addItem("View");
+        flush();
+        int rootContainerNodeId = view.getElement().getParent().getNode()
+                .getId();
+
+        view.getSubMenu().addItem("Zoom");
+
+        JsonArray changedNodeIds = getChangedNodeIds(flush().get(0));
+        Assert.assertEquals(2, changedNodeIds.length());
+        Assert.assertEquals(getContainerNodeId(view),
+                (int) changedNodeIds.getNumber(0));
+        Assert.assertEquals(rootContainerNodeId,
+                (int) changedNodeIds.getNumber(1));
+    }
+
+    @Test
+    public void moveComponentBetweenSubMenus_bothContainersSent() {
+        Span span = new Span("Moved");
+        edit.getSubMenu().add(span);
+        flush();
+
+        edit.getSubMenu().remove(span);
+        file.getSubMenu().add(span);
+
+        JsonArray changedNodeIds = getChangedNodeIds(flush().get(0));
+        List<Integer> ids = new ArrayList<>();
+        for (int i = 0; i < changedNodeIds.length(); i++) {
+            ids.add((int) changedNodeIds.getNumber(i));
+        }
+        Assert.assertEquals(2, ids.size());
+        Assert.assertTrue(ids.contains(getContainerNodeId(file)));
+        Assert.assertTrue(ids.contains(getContainerNodeId(edit)));
+    }
+
+    @Test
+    public void removeAllFromSubMenu_containerRemoved() {
+        Assert.assertTrue(file.getElement().hasProperty("_containerNodeId"));
+
+        file.getSubMenu().removeAll();
+        flush();
+
+        Assert.assertFalse(file.getElement().hasProperty("_containerNodeId"));
+    }
+
+    @Test
+    public void addAndRemoveItem_nothingSent() {
+        MenuItem item = edit.getSubMenu().addItem("Paste");
+        edit.getSubMenu().remove(item);
+
+        Assert.assertTrue(flush().isEmpty());
+    }
+
+    @Test
+    public void reattach_fullUpdateSent() {
+        ui.remove(contextMenu);
+        ui.add(contextMenu);
+
+        List<PendingJavaScriptInvocation> invocations = flush();
+        Assert.assertEquals(1, invocations.size());
+        Assert.assertEquals(2, invocations.get(0).getInvocation()
+                .getParameters().size());
+    }
+
+    private int getContainerNodeId(MenuItem item) {
+        return item.getElement().getProperty("_containerNodeId", -1);
+    }
+
+    private JsonArray getChangedNodeIds(
+            PendingJavaScriptInvocation invocation) {
+        List<Object> parameters = invocation.getInvocation().getParameters();
+        return (JsonArray) parameters.get(parameters.size() - 1);
+    }
+
+    private List<PendingJavaScriptInvocation> flush() {
+        ui.getInternals().getStateTree().runExecutionsBeforeClientResponse();
+        return ui.getInternals().dumpPendingJavaScriptInvocations().stream()
+                .filter(invocation -> invocation.getInvocation()
+                        .getExpression().contains("generateItems"))
+                .collect(Collectors.toList());
+    }
+}
@@ -8,20 +8,35 @@
  */
 package com.vaadin.flow.component.crud;
 
+import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import com.vaadin.flow.component.ComponentUtil;
+import com.vaadin.flow.component.UI;
 import com.vaadin.flow.component.grid.Grid;
 import com.vaadin.flow.component.grid.HeaderRow;
 import com.vaadin.flow.component.textfield.TextField;
 import com.vaadin.flow.data.provider.ConfigurableFilterDataProvider;
 import com.vaadin.flow.data.provider.DataProvider;
+import com.vaadin.flow.data.provider.DataProviderWrapper;
+import com.vaadin.flow.data.provider.Query;
 import com.vaadin.flow.data.value.ValueChangeMode;
 import com.vaadin.flow.shared.util.SharedUtil;
 
 /**
  * A simple grid implementation for Crud that allows searching and sorting
  * backed by a data provider.
+ * <p>
+ * Changes to the filters and sort orders are applied once per round trip, so
+ * that several changes made in the same round trip result in a single query
+ * to the data provider. The filter fields can additionally be debounced with
+ * {@link #setFilterDebounceTimeout(int)}, and the queries for a new filter can
+ * be run in the background with {@link #setFilterFetchExecutor(Executor)}.
  *
  * @param <E>
  *            the bean type
@@ -32,6 +47,14 @@ public class CrudGrid<E> extends Grid<E> {
     private final boolean autogenerated;
     private final CrudFilter filter = new CrudFilter();
     private DataProvider<E, ?> dataProvider;
+    private ConfigurableFilterDataProvider<E, Void, CrudFilter> filterDataProvider;
+    private PrefetchingDataProvider<E> prefetchingDataProvider;
+    private final List<TextField> filterFields = new ArrayList<>();
+    private int filterDebounceTimeout;
+    private boolean filterRefreshScheduled;
+    private int filterGeneration;
+    private transient Executor filterFetchExecutor;
+    private transient FutureTask<?> pendingFilterFetch;
 
     /**
      * Instantiates a new CrudGrid for the supplied bean type.
@@ -84,10 +107,11 @@ public class CrudGrid<E> extends Grid<E> {
                             event.getValue());
                 }
 
-                super.getDataProvider().refreshAll();
+                scheduleFilterRefresh();
             });
 
-            field.setValueChangeMode(ValueChangeMode.EAGER);
+            filterFields.add(field);
+            applyFilterDebounceTimeout(field);
 
             filterRow.getCell(column).setComponent(field);
             field.setSizeFull();
@@ -101,10 +125,141 @@ public class CrudGrid<E> extends Grid<E> {
             filter.getSortOrders().clear();
             event.getSortOrder().forEach(e -> filter.getSortOrders()
                     .put(e.getSorted().getKey(), e.getDirection()));
-            super.getDataProvider().refreshAll();
+            scheduleFilterRefresh();
         });
     }
 
+    /**
+     * Sets the time to wait after the user has stopped typing in a filter
+     * field before the filter is applied. A timeout of zero, which is the
+     * default, applies the filter on every keystroke.
+     *
+     * @param timeout
+     *            the debounce timeout in milliseconds, not negative
+     */
+    public void setFilterDebounceTimeout(int timeout) {
+        if (timeout < 0) {
+            throw new IllegalArgumentException(
+                    "Filter debounce timeout must not be negative");
+        }
+        filterDebounceTimeout = timeout;
+        filterFields.forEach(this::applyFilterDebounceTimeout);
+    }
+
+    /**
+     * Gets the time to wait after the user has stopped typing in a filter
+     * field before the filter is applied.
+     *
+     * @return the debounce timeout in milliseconds
+     */
+    public int getFilterDebounceTimeout() {
+        return filterDebounceTimeout;
+    }
+
+    /**
+     * Sets an executor for running the data provider queries for a changed
+     * filter in the background.
+     * <p>
+     * When an executor is set, a filter or sort order change does not block
+     * the UI. The item count and the first items for the new filter are
+     * fetched with the executor, and the grid is updated with the results
+     * through {@link UI#access(com.vaadin.flow.server.Command)} once they are
+     * available, which requires server push to be enabled. The filter returned
+     * by {@link #getFilter()} is updated right away, but the grid keeps
+     * showing the results of the previous filter until then. If the filter
+     * changes again while a fetch is running, the running fetch is cancelled
+     * and its results are discarded.
+     * <p>
+     * The data provider must support being called from a background thread.
+     *
+     * @param executor
+     *            the executor to fetch with, or <code>null</code> to fetch
+     *            synchronously
+     */
+    public void setFilterFetchExecutor(Executor executor) {
+        cancelPendingFilterFetch();
+        filterFetchExecutor = executor;
+    }
+
+    /**
+     * Gets the executor used for running the data provider queries for a
+     * changed filter in the background.
+     *
+     * @return the executor, or <code>null</code> if the queries are run
+     *         synchronously
+     */
+    public Executor getFilterFetchExecutor() {
+        return filterFetchExecutor;
+    }
+
+    private void applyFilterDebounceTimeout(TextField field) {
+        if (filterDebounceTimeout > 0) {
+            field.setValueChangeMode(ValueChangeMode.LAZY);
+            field.setValueChangeTimeout(filterDebounceTimeout);
+        } else {
+            field.setValueChangeMode(ValueChangeMode.EAGER);
+        }
+    }
+
+    private void scheduleFilterRefresh() {
+        if (filterRefreshScheduled) {
+            return;
+        }
+        filterRefreshScheduled = true;
+        getElement().getNode().runWhenAttached(
+                ui -> ui.beforeClientResponse(this, context -> {
+                    filterRefreshScheduled = false;
+                    refreshFilter(ui);
+                }));
+    }
+
+    private void refreshFilter(UI ui) {
+        cancelPendingFilterFetch();
+        if (filterDataProvider == null) {
+            return;
+        }
+        final int generation = ++filterGeneration;
+        if (filterFetchExecutor == null) {
+            filterDataProvider.setFilter(filter);
+            return;
+        }
+
+        final CrudFilter snapshot = copyFilter(filter);
+        final PrefetchingDataProvider<E> provider = prefetchingDataProvider;
+        final Query<E, CrudFilter> query = new Query<>(0,
+                getPageSize() * 3,
+                getDataCommunicator().getBackEndSorting(),
+                getDataCommunicator().getInMemorySorting(), snapshot);
+        final FutureTask<Void> task = new FutureTask<>(() -> {
+            PrefetchedResult<E> result = provider.prefetch(query);
+            ui.access(() -> {
+                // Discard the results if the filter has changed again
+                if (generation == filterGeneration) {
+                    pendingFilterFetch = null;
+                    provider.setPrefetchedResult(result);
+                    filterDataProvider.setFilter(snapshot);
+                }
+            });
+            return null;
+        });
+        pendingFilterFetch = task;
+        filterFetchExecutor.execute(task);
+    }
+
+    private void cancelPendingFilterFetch() {
+        if (pendingFilterFetch != null) {
+            pendingFilterFetch.cancel(true);
+            pendingFilterFetch = null;
+        }
+    }
+
+    private static CrudFilter copyFilter(CrudFilter filter) {
+        CrudFilter copy = new CrudFilter();
+        copy.getConstraints().putAll(filter.getConstraints());
+        copy.getSortOrders().putAll(filter.getSortOrders());
+        return copy;
+    }
+
     /**
      * Gets the filter applied to this grid
      *
@@ -140,13 +295,19 @@ public class CrudGrid<E> extends Grid<E> {
         // Attempt a cast to ensure that the captured ? is actually a CrudFilter
         // Unfortunately this cannot be enforced by the compiler
         try {
-            ConfigurableFilterDataProvider<E, Void, CrudFilter> provider = ((DataProvider<E, CrudFilter>) dataProvider)
+            PrefetchingDataProvider<E> prefetchingProvider = new PrefetchingDataProvider<>(
+                    (DataProvider<E, CrudFilter>) dataProvider);
+            ConfigurableFilterDataProvider<E, Void, CrudFilter> provider = prefetchingProvider
                     .withConfigurableFilter();
 
+            cancelPendingFilterFetch();
             provider.setFilter(filter);
 
             super.setDataProvider(provider);
 
+            this.prefetchingDataProvider = prefetchingProvider;
+            this.filterDataProvider = provider;
+
             // Keep a reference to the original data provider being wrapped
             this.dataProvider = dataProvider;
         } catch (ClassCastException ex) {
@@ -166,4 +327,91 @@ public class CrudGrid<E> extends Grid<E> {
             getThemeNames().removeAll(variantNames);
         }
     }
+
+    /**
+     * Results fetched in the background for a filter, covering the item count
+     * and the items from the start of the result set.
+     */
+    private static class PrefetchedResult<E> implements Serializable {
+        private final CrudFilter filter;
+        private final int count;
+        private final List<E> items;
+        private final boolean complete;
+        private boolean countServed;
+
+        private PrefetchedResult(CrudFilter filter, int count, List<E> items,
+                boolean complete) {
+            this.filter = filter;
+            this.count = count;
+            this.items = items;
+            this.complete = complete;
+        }
+
+        private boolean covers(Query<E, CrudFilter> query) {
+            return query.getFilter().orElse(null) == filter
+                    && (complete || query.getOffset()
+                            + query.getLimit() <= items.size());
+        }
+    }
+
+    /**
+     * Data provider wrapper that serves the queries for a filter from results
+     * that have already been fetched in the background, and delegates all
+     * other queries to the wrapped data provider.
+     */
+    private static class PrefetchingDataProvider<E>
+            extends DataProviderWrapper<E, CrudFilter, CrudFilter> {
+
+        private transient PrefetchedResult<E> prefetchedResult;
+
+        private PrefetchingDataProvider(
+                DataProvider<E, CrudFilter> dataProvider) {
+            super(dataProvider);
+        }
+
+        private PrefetchedResult<E> prefetch(Query<E, CrudFilter> query) {
+            CrudFilter filter = query.getFilter().orElse(null);
+            int count = dataProvider.size(new Query<>(filter));
+            List<E> items = dataProvider.fetch(query)
+                    .collect(Collectors.toList());
+            return new PrefetchedResult<>(filter, count, items,
+                    items.size() < query.getLimit());
+        }
+
+        private void setPrefetchedResult(PrefetchedResult<E> result) {
+            prefetchedResult = result;
+        }
+
+        @Override
+        protected CrudFilter getFilter(Query<E, CrudFilter> query) {
+            return query.getFilter().orElse(null);
+        }
+
+        @Override
+        public int size(Query<E, CrudFilter> query) {
+            PrefetchedResult<E> result = prefetchedResult;
+            if (result != null
+                    && query.getFilter().orElse(null) == result.filter) {
+                // The count is requested once when the filter is applied. Any
+                // further count query means that the data has been refreshed,
+                // so the prefetched results are no longer valid.
+                if (!result.countServed) {
+                    result.countServed = true;
+                    return result.count;
+                }
+                prefetchedResult = null;
+            }
+            return super.size(query);
+        }
+
+        @Override
+        public Stream<E> fetch(Query<E, CrudFilter> query) {
+            PrefetchedResult<E> result = prefetchedResult;
+            if (result != null && result.covers(query)) {
+                return result.items.stream().skip(query.getOffset())
+                        .limit(query.getLimit());
+            }
+            return super.fetch(query);
+        }
+    }
 }
@@ -0,0 +1,152 @@
+/**
+ * Copyright 2000-2025 Vaadin Ltd.
+ *
+ * This program is available under Vaadin Commercial License and Service Terms.
+ *
+ * See {@literal <https://vaadin.com/commercial-license-and-service-terms>} for the full
+ * license.
+ */
+package com.vaadin.flow.component.crud;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.FutureTask;
+import java.util.stream.Stream;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.component.grid.Grid;
+import com.vaadin.flow.component.textfield.TextField;
+import com.vaadin.flow.data.provider.DataProvider;
+import com.vaadin.flow.data.value.ValueChangeMode;
+import com.vaadin.flow.server.Command;
+import com.vaadin.flow.server.VaadinSession;
+
+public class CrudGridTest {
+
+    private UI ui;
+    private CrudGrid<Thing> grid;
+    private int refreshCount;
+    private final List<String> fetchedFilters = new ArrayList<>();
+
+    @Before
+    public void setup() {
+        VaadinSession session = Mockito.mock(VaadinSession.class);
+        Mockito.doAnswer(invocation -> {
+            invocation.<Command> getArgument(0).execute();
+            return null;
+        }).when(session).access(Mockito.any());
+        ui = new UI();
+        ui.getInternals().setSession(session);
+
+        grid = new CrudGrid<>(Thing.class, true);
+        DataProvider<Thing, CrudFilter> dataProvider = DataProvider
+                .fromFilteringCallbacks(query -> {
+                    fetchedFilters.add(query.getFilter()
+                            .map(filter -> filter.getConstraints().toString())
+                            .orElse(null));
+                    return Stream.empty();
+                }, query -> 0);
+        grid.setDataProvider(dataProvider);
+        grid.getDataProvider().addDataProviderListener(e -> refreshCount++);
+        ui.add(grid);
+        flushBeforeClientResponse();
+        refreshCount = 0;
+        fetchedFilters.clear();
+    }
+
+    @Test
+    public void changeFiltersInSameRoundTrip_refreshedOnce() {
+        getFilterField("name").setValue("foo");
+        getFilterField("description").setValue("bar");
+        getFilterField("name").setValue("foobar");
+
+        Assert.assertEquals(0, refreshCount);
+
+        flushBeforeClientResponse();
+
+        Assert.assertEquals(1, refreshCount);
+        Assert.assertEquals("foobar",
+                grid.getFilter().getConstraints().get("name"));
+        Assert.assertEquals("bar",
+                grid.getFilter().getConstraints().get("description"));
+    }
+
+    @Test
+    public void setFilterDebounceTimeout_filterFieldsUseLazyMode() {
+        grid.setFilterDebounceTimeout(300);
+
+        TextField field = getFilterField("name");
+        Assert.assertEquals(ValueChangeMode.LAZY, field.getValueChangeMode());
+        Assert.assertEquals(300, field.getValueChangeTimeout());
+
+        grid.setFilterDebounceTimeout(0);
+
+        Assert.assertEquals(ValueChangeMode.EAGER, field.getValueChangeMode());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void setNegativeFilterDebounceTimeout_throws() {
+        grid.setFilterDebounceTimeout(-1);
+    }
+
+    @Test
+    public void filterFetchExecutor_supersededFetchCancelled() {
+        List<Runnable> tasks = new ArrayList<>();
+        grid.setFilterFetchExecutor(tasks::add);
+
+        getFilterField("name").setValue("foo");
+        flushBeforeClientResponse();
+        getFilterField("name").setValue("bar");
+        flushBeforeClientResponse();
+
+        Assert.assertEquals(2, tasks.size());
+        Assert.assertTrue(((FutureTask<?>) tasks.get(0)).isCancelled());
+        Assert.assertEquals(0, refreshCount);
+        Assert.assertTrue(fetchedFilters.isEmpty());
+
+        tasks.get(0).run();
+        Assert.assertTrue(fetchedFilters.isEmpty());
+
+        tasks.get(1).run();
+        Assert.assertEquals(List.of("{name=bar}"), fetchedFilters);
+        Assert.assertEquals(1, refreshCount);
+    }
+
+    @SuppressWarnings("unchecked")
+    private TextField getFilterField(String columnKey) {
+        Grid.Column<Thing> column = grid.getColumnByKey(columnKey);
+        return (TextField) grid.getHeaderRows()
+                .get(grid.getHeaderRows().size() - 1).getCell(column)
+                .getComponent();
+    }
+
+    private void flushBeforeClientResponse() {
+        ui.getInternals().getStateTree().runExecutionsBeforeClientResponse();
+    }
+
+    public static class Thing {
+        private String name;
+        private String description;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+
+        public void setDescription(String description) {
+            this.description = description;
+        }
+    }
+}
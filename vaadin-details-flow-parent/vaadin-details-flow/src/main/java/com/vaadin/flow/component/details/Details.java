@@ -16,6 +16,7 @@
 package com.vaadin.flow.component.details;
 
 import java.util.Collection;
+import java.util.Objects;
 import java.util.stream.Stream;
 
 import com.vaadin.flow.component.Component;
@@ -32,6 +33,7 @@ import com.vaadin.flow.component.html.Span;
 import com.vaadin.flow.component.shared.HasThemeVariant;
 import com.vaadin.flow.component.shared.HasTooltip;
 import com.vaadin.flow.component.shared.SlotUtils;
+import com.vaadin.flow.function.SerializableSupplier;
 import com.vaadin.flow.shared.Registration;
 
 /**
@@ -63,6 +65,10 @@ public class Details extends Component implements HasComponents, HasSize,
     private final Component summaryContainer;
     private final Div contentContainer;
 
+    private SerializableSupplier<? extends Component> contentSupplier;
+    private Component suppliedContent;
+    private boolean releaseContentOnClose;
+
     /**
      * Server-side component for the {@code <vaadin-details-summary>} element.
      */
@@ -86,8 +92,10 @@ public class Details extends Component implements HasComponents, HasSize,
             setOpened(false);
         }
 
-        getElement().addPropertyChangeListener("opened", event -> fireEvent(
-                new OpenedChangeEvent(this, event.isUserOriginated())));
+        getElement().addPropertyChangeListener("opened", event -> {
+            updateSuppliedContent();
+            fireEvent(new OpenedChangeEvent(this, event.isUserOriginated()));
+        });
     }
 
     /**
@@ -308,6 +316,7 @@ public class Details extends Component implements HasComponents, HasSize,
     @Override
     public void removeAll() {
         contentContainer.removeAll();
+        suppliedContent = null;
     }
 
     /**
@@ -338,6 +347,101 @@ public class Details extends Component implements HasComponents, HasSize,
         return contentContainer.getChildren();
     }
 
+    /**
+     * Sets a supplier for content that is created only when the details are
+     * opened. The content is added to the content section when the details
+     * are opened for the first time, after any components added with
+     * {@link #add(Component...)}. If the details are already opened, the
+     * content is created immediately.
+     * <p>
+     * Until then, the content does not use any memory on the server and it is
+     * not sent to the client, which makes it possible to have many details
+     * that are rarely opened without building the content of all of them
+     * up front.
+     * <p>
+     * Any content previously created with another supplier is removed.
+     *
+     * @param contentSupplier
+     *            the supplier of the content, or {@code null} to remove the
+     *            supplier and any content created with it
+     * @see #setReleaseContentOnClose(boolean)
+     */
+    public void setContentSupplier(
+            SerializableSupplier<? extends Component> contentSupplier) {
+        removeSuppliedContent();
+        this.contentSupplier = contentSupplier;
+        updateSuppliedContent();
+    }
+
+    /**
+     * Gets the supplier for content that is created only when the details are
+     * opened.
+     *
+     * @return the content supplier, or {@code null} if none has been set
+     * @see #setContentSupplier(SerializableSupplier)
+     */
+    public SerializableSupplier<? extends Component> getContentSupplier() {
+        return contentSupplier;
+    }
+
+    /**
+     * Sets whether the content created with the
+     * {@link #setContentSupplier(SerializableSupplier) content supplier} is
+     * removed when the details are closed. The content is then created again
+     * with the supplier when the details are opened the next time, and any
+     * state in the content, such as the values of fields, is lost.
+     * <p>
+     * By default, the content is kept after it has been created.
+     *
+     * @param releaseContentOnClose
+     *            {@code true} to remove the supplied content when the details
+     *            are closed, {@code false} to keep it
+     */
+    public void setReleaseContentOnClose(boolean releaseContentOnClose) {
+        this.releaseContentOnClose = releaseContentOnClose;
+        updateSuppliedContent();
+    }
+
+    /**
+     * Gets whether the content created with the content supplier is removed
+     * when the details are closed.
+     *
+     * @return {@code true} if the supplied content is removed when the details
+     *         are closed, {@code false} otherwise
+     * @see #setReleaseContentOnClose(boolean)
+     */
+    public boolean isReleaseContentOnClose() {
+        return releaseContentOnClose;
+    }
+
+    private void updateSuppliedContent() {
+        if (contentSupplier == null) {
+            return;
+        }
+        if (isOpened()) {
+            if (suppliedContent == null) {
+                suppliedContent = Objects.requireNonNull(
+                        contentSupplier.get(),
+                        "The content supplier cannot return null");
+                add(suppliedContent);
+            }
+        } else if (releaseContentOnClose) {
+            removeSuppliedContent();
+        }
+    }
+
+    private void removeSuppliedContent() {
+        if (suppliedContent != null) {
+            // The content might have been removed or moved elsewhere
+            if (suppliedContent.getParent()
+                    .filter(parent -> parent == contentContainer)
+                    .isPresent()) {
+                remove(suppliedContent);
+            }
+            suppliedContent = null;
+        }
+    }
+
     /**
      * See {@link #setOpened(boolean)}
      *
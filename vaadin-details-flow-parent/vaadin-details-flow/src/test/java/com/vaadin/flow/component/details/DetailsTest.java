@@ -72,4 +72,106 @@ public class DetailsTest {
 
         Assert.assertEquals(1, listenerInvokedCount.get());
     }
+
+    @Test
+    public void contentSupplier_closed_contentNotCreated() {
+        var supplierCalls = new AtomicInteger();
+        details.setContentSupplier(() -> {
+            supplierCalls.incrementAndGet();
+            return new Span("Content");
+        });
+
+        Assert.assertEquals(0, supplierCalls.get());
+        Assert.assertEquals(0, details.getContent().count());
+    }
+
+    @Test
+    public void contentSupplier_opened_contentCreatedOnce() {
+        var supplierCalls = new AtomicInteger();
+        var content = new Span("Content");
+        details.add(new Span("Eager content"));
+        details.setContentSupplier(() -> {
+            supplierCalls.incrementAndGet();
+            return content;
+        });
+
+        details.setOpened(true);
+        details.setOpened(false);
+        details.setOpened(true);
+
+        Assert.assertEquals(1, supplierCalls.get());
+        Assert.assertEquals(2, details.getContent().count());
+        Assert.assertEquals(content, details.getContent().skip(1).findFirst()
+                .orElse(null));
+    }
+
+    @Test
+    public void contentSupplier_alreadyOpened_contentCreated() {
+        details.setOpened(true);
+        details.setContentSupplier(() -> new Span("Content"));
+
+        Assert.assertEquals(1, details.getContent().count());
+    }
+
+    @Test
+    public void contentSupplier_contentCreatedBeforeOpenedChangeEvent() {
+        details.setContentSupplier(() -> new Span("Content"));
+        var contentCount = new AtomicInteger(-1);
+        details.addOpenedChangeListener(
+                e -> contentCount.set((int) details.getContent().count()));
+
+        details.setOpened(true);
+
+        Assert.assertEquals(1, contentCount.get());
+    }
+
+    @Test
+    public void contentSupplier_releaseContentOnClose_contentRecreated() {
+        var supplierCalls = new AtomicInteger();
+        details.setReleaseContentOnClose(true);
+        details.setContentSupplier(() -> {
+            supplierCalls.incrementAndGet();
+            return new Span("Content");
+        });
+
+        details.setOpened(true);
+        details.setOpened(false);
+
+        Assert.assertEquals(0, details.getContent().count());
+
+        details.setOpened(true);
+
+        Assert.assertEquals(2, supplierCalls.get());
+        Assert.assertEquals(1, details.getContent().count());
+    }
+
+    @Test
+    public void contentSupplier_replaced_previousContentRemoved() {
+        details.setOpened(true);
+        details.setContentSupplier(() -> new Span("Content 1"));
+        var content2 = new Span("Content 2");
+
+        details.setContentSupplier(() -> content2);
+
+        Assert.assertEquals(1, details.getContent().count());
+        Assert.assertEquals(content2,
+                details.getContent().findFirst().orElse(null));
+    }
+
+    @Test
+    public void contentSupplier_removeAll_contentRecreatedOnNextOpen() {
+        var supplierCalls = new AtomicInteger();
+        details.setContentSupplier(() -> {
+            supplierCalls.incrementAndGet();
+            return new Span("Content");
+        });
+        details.setOpened(true);
+        details.setOpened(false);
+
+        details.removeAll();
+        details.setOpened(true);
+
+        Assert.assertEquals(2, supplierCalls.get());
+        Assert.assertEquals(1, details.getContent().count());
+    }
 }
@@ -0,0 +1,234 @@
+/*
+ * Copyright 2000-2025 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.component.shared;
+
+import java.io.Serializable;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+
+import com.vaadin.flow.component.shared.internal.SharedResourceRegistry;
+import com.vaadin.flow.server.AbstractStreamResource;
+
+/**
+ * An immutable resource, such as an icon or an image, that is shared by all
+ * the sessions of the application. Unlike {@link AbstractStreamResource}s that
+ * are registered separately for each component and session, a shared resource
+ * is identified by a hash of its content, so that the same content is kept in
+ * memory only once and is served from the same URL to all users.
+ * <p>
+ * Only images can be shared, as the resources are served to anyone who knows
+ * their URL. Supported content types are PNG, JPEG, GIF, WebP, AVIF, BMP, ICO
+ * and SVG.
+ * <p>
+ * As the content of the URL never changes, the browser is allowed to cache the
+ * resource permanently. By default, shared caches such as proxies are not
+ * allowed to store the resource. Resources that contain no user specific
+ * content can be made {@link #create(String, String, byte[], boolean)
+ * publicly cacheable}. To show different content, create a new resource.
+ * <p>
+ * A resource is available for as long as it is referenced, for example by a
+ * component that displays it.
+ *
+ * @author Vaadin Ltd
+ */
+public final class SharedResource implements Serializable {
+
+    /**
+     * The path prefix of the URLs of shared resources, relative to the
+     * application root.
+     */
+    public static final String URL_PREFIX = "VAADIN/shared-resource/";
+
+    private static final Set<String> CONTENT_TYPES = Set.of("image/png",
+            "image/jpeg", "image/gif", "image/webp", "image/avif", "image/bmp",
+            "image/x-icon", "image/vnd.microsoft.icon", "image/svg+xml");
+
+    private final String fileName;
+    private final String contentType;
+    private final byte[] content;
+    private final boolean publiclyCacheable;
+    private final String hash;
+
+    private SharedResource(String fileName, String contentType, byte[] content,
+            boolean publiclyCacheable) {
+        this.fileName = fileName;
+        this.contentType = contentType;
+        this.content = content;
+        this.publiclyCacheable = publiclyCacheable;
+        this.hash = computeHash(contentType, content, publiclyCacheable);
+    }
+
+    /**
+     * Creates a shared resource with the given content. If a resource with the
+     * same content and content type exists, that resource is returned
+     * instead. The resource is not stored by shared caches.
+     *
+     * @param fileName
+     *            the file name used in the URL of the resource, not
+     *            {@code null}
+     * @param contentType
+     *            the MIME type of the content, not {@code null}
+     * @param content
+     *            the content of the resource, not {@code null}. The array
+     *            must not be modified after creating the resource.
+     * @return the shared resource with the given content
+     * @throws IllegalArgumentException
+     *             if the content type is not a supported image type
+     */
+    public static SharedResource create(String fileName, String contentType,
+            byte[] content) {
+        return create(fileName, contentType, content, false);
+    }
+
+    /**
+     * Creates a shared resource with the given content. If a resource with the
+     * same content, content type and caching exists, that resource is
+     * returned instead.
+     *
+     * @param fileName
+     *            the file name used in the URL of the resource, not
+     *            {@code null}
+     * @param contentType
+     *            the MIME type of the content, not {@code null}
+     * @param content
+     *            the content of the resource, not {@code null}. The array
+     *            must not be modified after creating the resource.
+     * @param publiclyCacheable
+     *            {@code true} to allow shared caches such as proxies and CDNs
+     *            to store the resource, {@code false} to allow only the
+     *            browser to store it
+     * @return the shared resource with the given content
+     * @throws IllegalArgumentException
+     *             if the content type is not a supported image type
+     */
+    public static SharedResource create(String fileName, String contentType,
+            byte[] content, boolean publiclyCacheable) {
+        Objects.requireNonNull(fileName, "File name cannot be null");
+        Objects.requireNonNull(contentType, "Content type cannot be null");
+        Objects.requireNonNull(content, "Content cannot be null");
+        String normalizedContentType = contentType.trim()
+                .toLowerCase(Locale.ROOT);
+        if (!CONTENT_TYPES.contains(normalizedContentType)) {
+            throw new IllegalArgumentException(
+                    "Unsupported content type for a shared resource: "
+                            + contentType);
+        }
+        return SharedResourceRegistry.register(new SharedResource(fileName,
+                normalizedContentType, content, publiclyCacheable));
+    }
+
+    /**
+     * Gets the file name of this resource.
+     *
+     * @return the file name
+     */
+    public String getFileName() {
+        return fileName;
+    }
+
+    /**
+     * Gets the MIME type of the content of this resource.
+     *
+     * @return the content type
+     */
+    public String getContentType() {
+        return contentType;
+    }
+
+    /**
+     * Gets whether shared caches such as proxies are allowed to store this
+     * resource.
+     *
+     * @return {@code true} if the resource is publicly cacheable,
+     *         {@code false} if only the browser may store it
+     */
+    public boolean isPubliclyCacheable() {
+        return publiclyCacheable;
+    }
+
+    /**
+     * Gets the hash that identifies the content of this resource.
+     *
+     * @return the content hash, as a hexadecimal string
+     */
+    public String getHash() {
+        return hash;
+    }
+
+    /**
+     * Gets the size of the content of this resource.
+     *
+     * @return the content length, in bytes
+     */
+    public int getContentLength() {
+        return content.length;
+    }
+
+    /**
+     * Gets the content of this resource. The returned array must not be
+     * modified.
+     *
+     * @return the content of the resource
+     */
+    public byte[] getContent() {
+        return content;
+    }
+
+    /**
+     * Gets the URL of this resource, relative to the application root.
+     *
+     * @return the URL of the resource
+     */
+    public String getUrl() {
+        return URL_PREFIX + hash + "/" + URLEncoder
+                .encode(fileName, StandardCharsets.UTF_8).replace("+", "%20");
+    }
+
+    /**
+     * Registers the resource again after deserialization, as the resource may
+     * not be known in the deserializing application.
+     *
+     * @return the registered resource with the same content
+     */
+    private Object readResolve() {
+        return SharedResourceRegistry.register(this);
+    }
+
+    private static String computeHash(String contentType, byte[] content,
+            boolean publiclyCacheable) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(contentType.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) (publiclyCacheable ? 1 : 0));
+            digest.update(content);
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256 is supported by all Java platforms
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return getUrl();
+    }
+}
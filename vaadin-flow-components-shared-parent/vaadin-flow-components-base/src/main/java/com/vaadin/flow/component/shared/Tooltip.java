@@ -33,17 +33,35 @@ import com.vaadin.flow.function.SerializableRunnable;
  */
 @NpmPackage(value = "@vaadin/tooltip", version = "24.7.0-beta1")
 @JsModule("@vaadin/tooltip/src/vaadin-tooltip.js")
+@JsModule("./tooltip.ts")
 public class Tooltip implements Serializable {
 
     private static final String TOOLTIP_DATA_KEY = "tooltip";
 
+    private static final String TOOLTIP_POOL_DATA_KEY = "tooltip-pool";
+
+    private static final String POOLED_ATTRIBUTE = "data-vaadin-tooltip";
+
+    /**
+     * The {@code <vaadin-tooltip>} element controlled by this tooltip instance,
+     * or {@code null} if the tooltip is pooled.
+     */
+    private final Element tooltipElement;
+
     /**
-     * The {@code <vaadin-tooltip>} element controlled by this tooltip instance.
+     * The target element of a pooled tooltip, or {@code null} if the tooltip
+     * is not pooled.
      */
-    private final Element tooltipElement = new Element("vaadin-tooltip");
+    private final Element pooledTarget;
 
     private Tooltip() {
-        super();
+        this(null);
+    }
+
+    private Tooltip(Element pooledTarget) {
+        this.pooledTarget = pooledTarget;
+        tooltipElement = pooledTarget == null ? new Element("vaadin-tooltip")
+                : null;
     }
 
     /**
@@ -96,6 +114,10 @@ public class Tooltip implements Serializable {
      * @return the tooltip handle
      */
     private static Tooltip forElement(Element element) {
+        if (TooltipConfiguration.isPooled()) {
+            return forPooledElement(element);
+        }
+
         // Create a new Tooltip handle instance
         var tooltip = new Tooltip();
 
@@ -122,6 +144,47 @@ public class Tooltip implements Serializable {
         return tooltip;
     }
 
+    /**
+     * Creates a pooled tooltip for the given element. The configuration of the
+     * tooltip is stored as attributes of the element, and the shared tooltip
+     * element of the UI is added when the element is attached.
+     *
+     * @param element
+     *            the element to attach the tooltip to
+     * @return the tooltip handle
+     */
+    private static Tooltip forPooledElement(Element element) {
+        var tooltip = new Tooltip(element);
+        element.addAttachListener(e -> attachTooltipPool(UI.getCurrent()));
+        if (element.getNode().isAttached()) {
+            attachTooltipPool(UI.getCurrent());
+        }
+        return tooltip;
+    }
+
+    /**
+     * Adds the {@code <vaadin-tooltip>} element shared by all pooled tooltips
+     * to the given UI, unless it's already there.
+     *
+     * @param ui
+     *            the UI to add the shared tooltip element to
+     */
+    private static void attachTooltipPool(UI ui) {
+        var poolElement = (Element) ComponentUtil.getData(ui,
+                TOOLTIP_POOL_DATA_KEY);
+        if (poolElement != null
+                && ui.getElement().equals(poolElement.getParent())) {
+            return;
+        }
+        if (poolElement == null) {
+            poolElement = new Element("vaadin-tooltip");
+            ComponentUtil.setData(ui, TOOLTIP_POOL_DATA_KEY, poolElement);
+        }
+        poolElement.removeFromTree(false);
+        ui.getElement().appendChild(poolElement);
+        poolElement.executeJs("window.Vaadin.Flow.tooltip.initPool(this)");
+    }
+
     /**
      * Creates a tooltip to the given {@code Component} if one hasn't already
      * been created.
@@ -160,8 +223,13 @@ public class Tooltip implements Serializable {
      * @return the tooltip handle
      */
     static Tooltip forHasTooltip(HasTooltip hasTooltip) {
-        var tooltip = new Tooltip();
-        SlotUtils.setSlot(hasTooltip, "tooltip", tooltip.tooltipElement);
+        Tooltip tooltip;
+        if (TooltipConfiguration.isPooled()) {
+            tooltip = forPooledElement(hasTooltip.getElement());
+        } else {
+            tooltip = new Tooltip();
+            SlotUtils.setSlot(hasTooltip, "tooltip", tooltip.tooltipElement);
+        }
         var component = ComponentUtil
                 .getInnermostComponent(hasTooltip.getElement());
         ComponentUtil.setData(component, TOOLTIP_DATA_KEY, tooltip);
@@ -175,6 +243,10 @@ public class Tooltip implements Serializable {
      *            the text to set
      */
     public void setText(String text) {
+        if (pooledTarget != null) {
+            setPooledAttribute("", text);
+            return;
+        }
         tooltipElement.setProperty("text", text);
     }
 
@@ -184,6 +256,9 @@ public class Tooltip implements Serializable {
      * @return the text
      */
     public String getText() {
+        if (pooledTarget != null) {
+            return pooledTarget.getAttribute(POOLED_ATTRIBUTE);
+        }
         return tooltipElement.getProperty("text");
     }
 
@@ -206,6 +281,10 @@ public class Tooltip implements Serializable {
      *            the delay in milliseconds
      */
     public void setFocusDelay(int focusDelay) {
+        if (pooledTarget != null) {
+            setPooledAttribute("-focus-delay", String.valueOf(focusDelay));
+            return;
+        }
         tooltipElement.setProperty("focusDelay", focusDelay);
     }
 
@@ -216,6 +295,9 @@ public class Tooltip implements Serializable {
      * @return the delay in milliseconds
      */
     public int getFocusDelay() {
+        if (pooledTarget != null) {
+            return getPooledIntAttribute("-focus-delay");
+        }
         return tooltipElement.getProperty("focusDelay", 0);
     }
 
@@ -239,6 +321,10 @@ public class Tooltip implements Serializable {
      *            the delay in milliseconds
      */
     public void setHideDelay(int hideDelay) {
+        if (pooledTarget != null) {
+            setPooledAttribute("-hide-delay", String.valueOf(hideDelay));
+            return;
+        }
         tooltipElement.setProperty("hideDelay", hideDelay);
     }
 
@@ -249,6 +335,9 @@ public class Tooltip implements Serializable {
      * @return the delay in milliseconds
      */
     public int getHideDelay() {
+        if (pooledTarget != null) {
+            return getPooledIntAttribute("-hide-delay");
+        }
         return tooltipElement.getProperty("hideDelay", 0);
     }
 
@@ -272,6 +361,10 @@ public class Tooltip implements Serializable {
      *            the delay in milliseconds
      */
     public void setHoverDelay(int hoverDelay) {
+        if (pooledTarget != null) {
+            setPooledAttribute("-hover-delay", String.valueOf(hoverDelay));
+            return;
+        }
         tooltipElement.setProperty("hoverDelay", hoverDelay);
     }
 
@@ -282,6 +375,9 @@ public class Tooltip implements Serializable {
      * @return the delay in milliseconds
      */
     public int getHoverDelay() {
+        if (pooledTarget != null) {
+            return getPooledIntAttribute("-hover-delay");
+        }
         return tooltipElement.getProperty("hoverDelay", 0);
     }
 
@@ -304,6 +400,10 @@ public class Tooltip implements Serializable {
      *            the position to set
      */
     public void setPosition(TooltipPosition position) {
+        if (pooledTarget != null) {
+            setPooledAttribute("-position", position.getPosition());
+            return;
+        }
         tooltipElement.setProperty("position", position.getPosition());
     }
 
@@ -313,7 +413,9 @@ public class Tooltip implements Serializable {
      * @return the position
      */
     public TooltipPosition getPosition() {
-        var positionString = tooltipElement.getProperty("position");
+        var positionString = pooledTarget != null
+                ? pooledTarget.getAttribute(POOLED_ATTRIBUTE + "-position")
+                : tooltipElement.getProperty("position");
         return Arrays.stream(TooltipPosition.values())
                 .filter(p -> p.getPosition().equals(positionString)).findFirst()
                 .orElse(null);
@@ -336,8 +438,12 @@ public class Tooltip implements Serializable {
      *
      * @param manual
      *            true to enable manual mode
+     * @throws UnsupportedOperationException
+     *             if the tooltip is pooled
+     * @see TooltipConfiguration#setPooled(boolean)
      */
     public void setManual(boolean manual) {
+        requireNotPooled();
         tooltipElement.setProperty("manual", manual);
     }
 
@@ -348,6 +454,9 @@ public class Tooltip implements Serializable {
      * @return true if manual mode is enabled
      */
     public boolean isManual() {
+        if (pooledTarget != null) {
+            return false;
+        }
         return tooltipElement.getProperty("manual", false);
     }
 
@@ -369,8 +478,12 @@ public class Tooltip implements Serializable {
      *
      * @param opened
      *            true to open the tooltip
+     * @throws UnsupportedOperationException
+     *             if the tooltip is pooled
+     * @see TooltipConfiguration#setPooled(boolean)
      */
     public void setOpened(boolean opened) {
+        requireNotPooled();
         tooltipElement.setProperty("opened", opened);
     }
 
@@ -381,6 +494,29 @@ public class Tooltip implements Serializable {
      * @return true if the tooltip is opened
      */
     public boolean isOpened() {
+        if (pooledTarget != null) {
+            return false;
+        }
         return tooltipElement.getProperty("opened", false);
     }
+
+    private void setPooledAttribute(String suffix, String value) {
+        if (value == null) {
+            pooledTarget.removeAttribute(POOLED_ATTRIBUTE + suffix);
+        } else {
+            pooledTarget.setAttribute(POOLED_ATTRIBUTE + suffix, value);
+        }
+    }
+
+    private int getPooledIntAttribute(String suffix) {
+        var value = pooledTarget.getAttribute(POOLED_ATTRIBUTE + suffix);
+        return value == null ? 0 : Integer.parseInt(value);
+    }
+
+    private void requireNotPooled() {
+        if (pooledTarget != null) {
+            throw new UnsupportedOperationException(
+                    "Manual mode is not supported by pooled tooltips");
+        }
+    }
 }
@@ -35,6 +35,40 @@ public class TooltipConfiguration implements Serializable {
     private static Integer defaultFocusDelay;
     private static Integer defaultHoverDelay;
     private static boolean uiInitListenerRegistered = false;
+    private static boolean pooled = false;
+
+    /**
+     * Sets whether tooltips created from now on (running in the same JVM) are
+     * pooled.
+     * <p>
+     * A pooled tooltip does not create an element of its own. Instead, its
+     * configuration is stored as attributes of the target element, and a
+     * single {@code <vaadin-tooltip>} element per UI serves all pooled targets
+     * by moving to the target that is hovered or focused. This avoids adding
+     * an element, and a client-side call for assigning its target, for every
+     * component with a tooltip, which matters for views with hundreds of
+     * tooltips.
+     * <p>
+     * Pooled tooltips don't support manual mode. Tooltips that have already
+     * been created are not affected.
+     *
+     * @param pooled
+     *            {@code true} to pool tooltips, {@code false} to create a
+     *            separate tooltip element for each target
+     */
+    public static void setPooled(boolean pooled) {
+        TooltipConfiguration.pooled = pooled;
+    }
+
+    /**
+     * Gets whether tooltips created from now on are pooled.
+     *
+     * @return {@code true} if tooltips are pooled, {@code false} otherwise
+     * @see #setPooled(boolean)
+     */
+    public static boolean isPooled() {
+        return pooled;
+    }
 
     /**
      * Sets the default focus delay to be used by all tooltip instances (running
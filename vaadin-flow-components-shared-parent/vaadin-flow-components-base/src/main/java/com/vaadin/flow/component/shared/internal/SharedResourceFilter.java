@@ -0,0 +1,91 @@
+/*
+ * Copyright 2000-2025 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.component.shared.internal;
+
+import java.io.IOException;
+
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import com.vaadin.flow.server.VaadinServletRequest;
+import com.vaadin.flow.server.VaadinServletResponse;
+
+/**
+ * A servlet filter that serves
+ * {@link com.vaadin.flow.component.shared.SharedResource}s before the request
+ * reaches the Vaadin servlet, so that serving a resource does not look up or
+ * create a session.
+ * <p>
+ * The filter is not registered automatically. Without it, the resources are
+ * served by {@link SharedResourceRequestHandler} within the Vaadin servlet. An
+ * application can register the filter for the Vaadin servlet, by its servlet
+ * name, in the position of its filter chain where the resources should be
+ * served. The filter only serves requests whose path within the servlet
+ * starts with the shared resource URL prefix, and passes all other requests
+ * on.
+ *
+ * @author Vaadin Ltd
+ */
+public class SharedResourceFilter implements Filter {
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response,
+            FilterChain chain) throws IOException, ServletException {
+        if (request instanceof HttpServletRequest httpRequest
+                && response instanceof HttpServletResponse httpResponse) {
+            String path = getSharedResourcePath(httpRequest);
+            if (path != null) {
+                SharedResourceRequestHandler.serve(path,
+                        new VaadinServletRequest(httpRequest, null),
+                        new VaadinServletResponse(httpResponse, null));
+                return;
+            }
+        }
+        chain.doFilter(request, response);
+    }
+
+    /**
+     * Gets the path of the shared resource requested with the given request.
+     * The shared resource URLs are relative to the mapping of the Vaadin
+     * servlet, so the path is taken from the path within the servlet that the
+     * request is mapped to.
+     *
+     * @param request
+     *            the request
+     * @return the path starting with the shared resource URL prefix, or
+     *         {@code null} if the request is not for a shared resource
+     */
+    static String getSharedResourcePath(HttpServletRequest request) {
+        if (!"GET".equals(request.getMethod())
+                && !"HEAD".equals(request.getMethod())) {
+            return null;
+        }
+        String path = request.getPathInfo();
+        if (path == null) {
+            // The servlet is mapped as the default servlet
+            path = request.getServletPath();
+        }
+        return path != null
+                && path.startsWith(SharedResourceRequestHandler.PATH_PREFIX)
+                        ? path
+                        : null;
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2000-2025 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.component.shared.internal;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.vaadin.flow.component.shared.SharedResource;
+
+/**
+ * An internal registry of the {@link SharedResource}s of the application. Not
+ * intended to be used publicly.
+ * <p>
+ * The registry only keeps weak references to the resources, so that a
+ * resource is removed once it is no longer referenced by any component.
+ *
+ * @author Vaadin Ltd
+ */
+public final class SharedResourceRegistry {
+
+    private static final class ResourceReference
+            extends WeakReference<SharedResource> {
+        private final String hash;
+
+        private ResourceReference(SharedResource resource,
+                ReferenceQueue<SharedResource> queue) {
+            super(resource, queue);
+            this.hash = resource.getHash();
+        }
+    }
+
+    private static final Map<String, ResourceReference> RESOURCES = new ConcurrentHashMap<>();
+
+    private static final ReferenceQueue<SharedResource> QUEUE = new ReferenceQueue<>();
+
+    private SharedResourceRegistry() {
+    }
+
+    /**
+     * Registers the given resource, unless a resource with the same hash is
+     * already registered.
+     *
+     * @param resource
+     *            the resource to register, not {@code null}
+     * @return the registered resource with the hash of the given resource
+     */
+    public static SharedResource register(SharedResource resource) {
+        expungeStaleReferences();
+        SharedResource[] registered = new SharedResource[1];
+        RESOURCES.compute(resource.getHash(), (hash, reference) -> {
+            SharedResource existing = reference == null ? null
+                    : reference.get();
+            if (existing != null) {
+                registered[0] = existing;
+                return reference;
+            }
+            registered[0] = resource;
+            return new ResourceReference(resource, QUEUE);
+        });
+        return registered[0];
+    }
+
+    /**
+     * Gets the registered resource with the given hash.
+     *
+     * @param hash
+     *            the content hash of the resource
+     * @return the resource, or {@code null} if no resource with the hash is
+     *         registered
+     */
+    public static SharedResource get(String hash) {
+        ResourceReference reference = RESOURCES.get(hash);
+        return reference == null ? null : reference.get();
+    }
+
+    private static void expungeStaleReferences() {
+        Reference<? extends SharedResource> reference;
+        while ((reference = QUEUE.poll()) != null) {
+            RESOURCES.remove(((ResourceReference) reference).hash, reference);
+        }
+    }
+}
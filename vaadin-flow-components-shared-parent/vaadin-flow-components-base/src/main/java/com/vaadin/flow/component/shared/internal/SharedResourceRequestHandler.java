@@ -0,0 +1,104 @@
+/*
+ * Copyright 2000-2025 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.component.shared.internal;
+
+import java.io.IOException;
+
+import jakarta.servlet.http.HttpServletResponse;
+
+import com.vaadin.flow.component.shared.SharedResource;
+import com.vaadin.flow.server.RequestHandler;
+import com.vaadin.flow.server.VaadinRequest;
+import com.vaadin.flow.server.VaadinResponse;
+import com.vaadin.flow.server.VaadinSession;
+
+/**
+ * An internal request handler that serves {@link SharedResource}s. Not
+ * intended to be used publicly.
+ * <p>
+ * The resources are served with headers that allow the browser, and shared
+ * caches for {@link SharedResource#isPubliclyCacheable() publicly cacheable}
+ * resources, to store them permanently, as the URL of a resource changes
+ * whenever its content changes. An application can register
+ * {@link SharedResourceFilter} to serve the resources before a session is
+ * looked up; otherwise they are served by this handler.
+ *
+ * @author Vaadin Ltd
+ */
+public class SharedResourceRequestHandler implements RequestHandler {
+
+    static final String PATH_PREFIX = "/" + SharedResource.URL_PREFIX;
+
+    private static final String MAX_AGE = ", max-age=31536000, immutable";
+
+    // Keeps scripts in SVG images from running if opened as a document
+    private static final String CONTENT_SECURITY_POLICY = "default-src "
+            + "'none'; style-src 'unsafe-inline'; sandbox";
+
+    @Override
+    public boolean handleRequest(VaadinSession session, VaadinRequest request,
+            VaadinResponse response) throws IOException {
+        String pathInfo = request.getPathInfo();
+        if (pathInfo == null || !pathInfo.startsWith(PATH_PREFIX)) {
+            return false;
+        }
+        serve(pathInfo, request, response);
+        return true;
+    }
+
+    /**
+     * Serves the shared resource at the given path.
+     *
+     * @param path
+     *            the path of the resource, starting with the shared resource
+     *            URL prefix
+     * @param request
+     *            the request
+     * @param response
+     *            the response to write the resource to
+     * @throws IOException
+     *             if writing the response fails
+     */
+    static void serve(String path, VaadinRequest request,
+            VaadinResponse response) throws IOException {
+        String resourcePath = path.substring(PATH_PREFIX.length());
+        int separator = resourcePath.indexOf('/');
+        String hash = separator < 0 ? resourcePath
+                : resourcePath.substring(0, separator);
+        SharedResource resource = SharedResourceRegistry.get(hash);
+        if (resource == null) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND,
+                    "Resource is not available");
+            return;
+        }
+
+        String etag = '"' + resource.getHash() + '"';
+        response.setHeader("ETag", etag);
+        response.setHeader("Cache-Control",
+                (resource.isPubliclyCacheable() ? "public" : "private")
+                        + MAX_AGE);
+        response.setHeader("X-Content-Type-Options", "nosniff");
+        response.setHeader("Content-Security-Policy",
+                CONTENT_SECURITY_POLICY);
+        if (etag.equals(request.getHeader("If-None-Match"))) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+        response.setContentType(resource.getContentType());
+        response.setContentLength(resource.getContentLength());
+        response.getOutputStream().write(resource.getContent());
+    }
+}
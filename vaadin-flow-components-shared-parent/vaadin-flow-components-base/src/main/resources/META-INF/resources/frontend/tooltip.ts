@@ -5,10 +5,47 @@ _window.Vaadin ||= {};
 _window.Vaadin.Flow ||= {};
 _window.Vaadin.Flow.tooltip ||= {};
 
+const POOLED_ATTRIBUTE = 'data-vaadin-tooltip';
+
+function getPooledDelay(target: HTMLElement, name: string): number | undefined {
+  const value = target.getAttribute(`${POOLED_ATTRIBUTE}-${name}`);
+  return value === null ? undefined : Number(value);
+}
+
+/**
+ * Makes the given tooltip serve all elements that have the pooled tooltip
+ * attribute. The tooltip is moved to such an element, and configured from its
+ * attributes, when the element is hovered or focused. This happens in the
+ * capture phase, so the tooltip's own listeners on the new target receive the
+ * event that follows.
+ */
+function initPool(tooltip: any) {
+  if (tooltip.__pooledTargetListener) {
+    return;
+  }
+  tooltip.__pooledTargetListener = (e: Event) => {
+    const target = e
+      .composedPath()
+      .find((node) => node instanceof HTMLElement && node.hasAttribute(POOLED_ATTRIBUTE)) as HTMLElement | undefined;
+    if (!target || target === tooltip.target) {
+      return;
+    }
+    tooltip.text = target.getAttribute(POOLED_ATTRIBUTE);
+    tooltip.position = target.getAttribute(`${POOLED_ATTRIBUTE}-position`);
+    tooltip.focusDelay = getPooledDelay(target, 'focus-delay');
+    tooltip.hideDelay = getPooledDelay(target, 'hide-delay');
+    tooltip.hoverDelay = getPooledDelay(target, 'hover-delay');
+    tooltip.target = target;
+  };
+  document.addEventListener('mouseover', tooltip.__pooledTargetListener, true);
+  document.addEventListener('focusin', tooltip.__pooledTargetListener, true);
+}
+
 Object.assign(_window.Vaadin.Flow.tooltip, {
   setDefaultHideDelay: (hideDelay: number) => Tooltip.setDefaultHideDelay(hideDelay),
   setDefaultFocusDelay: (focusDelay: number) => Tooltip.setDefaultFocusDelay(focusDelay),
-  setDefaultHoverDelay: (hoverDelay: number) => Tooltip.setDefaultHoverDelay(hoverDelay)
+  setDefaultHoverDelay: (hoverDelay: number) => Tooltip.setDefaultHoverDelay(hoverDelay),
+  initPool
 });
 
 const { defaultHideDelay, defaultFocusDelay, defaultHoverDelay } = _window.Vaadin.Flow.tooltip;
@@ -0,0 +1,229 @@
+/*
+ * Copyright 2000-2025 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.component.shared;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import com.vaadin.flow.component.shared.internal.SharedResourceFilter;
+import com.vaadin.flow.component.shared.internal.SharedResourceRequestHandler;
+import com.vaadin.flow.server.VaadinRequest;
+import com.vaadin.flow.server.VaadinResponse;
+
+public class SharedResourceTest {
+
+    private byte[] content;
+    private SharedResource resource;
+
+    @Before
+    public void setup() {
+        content = new byte[] { 1, 2, 3 };
+        resource = SharedResource.create("my icon.svg", "image/svg+xml",
+                content);
+    }
+
+    @Test
+    public void create_urlContainsHashAndFileName() {
+        Assert.assertEquals(64, resource.getHash().length());
+        Assert.assertEquals("VAADIN/shared-resource/" + resource.getHash()
+                + "/my%20icon.svg", resource.getUrl());
+    }
+
+    @Test
+    public void createWithSameContent_sameResourceReturned() {
+        SharedResource other = SharedResource.create("other.svg",
+                "image/svg+xml", new byte[] { 1, 2, 3 });
+
+        Assert.assertSame(resource, other);
+    }
+
+    @Test
+    public void createWithDifferentContentType_differentResourceReturned() {
+        SharedResource other = SharedResource.create("my icon.svg",
+                "image/png", content);
+
+        Assert.assertNotEquals(resource.getHash(), other.getHash());
+    }
+
+    @Test
+    public void serializeAndDeserialize_sameResourceReturned()
+            throws IOException, ClassNotFoundException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(resource);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(
+                new ByteArrayInputStream(bytes.toByteArray()))) {
+            Assert.assertSame(resource, in.readObject());
+        }
+    }
+
+    @Test
+    public void handleRequest_resourceServedWithCacheHeaders()
+            throws IOException {
+        VaadinRequest request = mockRequest("/" + resource.getUrl());
+        VaadinResponse response = Mockito.mock(VaadinResponse.class);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        Mockito.when(response.getOutputStream()).thenReturn(output);
+
+        Assert.assertTrue(new SharedResourceRequestHandler()
+                .handleRequest(null, request, response));
+
+        Mockito.verify(response).setContentType("image/svg+xml");
+        Mockito.verify(response).setHeader("Cache-Control",
+                "private, max-age=31536000, immutable");
+        Mockito.verify(response).setHeader("X-Content-Type-Options",
+                "nosniff");
+        Assert.assertArrayEquals(content, output.toByteArray());
+    }
+
+    @Test
+    public void handleRequest_publiclyCacheable_publicCacheControl()
+            throws IOException {
+        SharedResource publicResource = SharedResource.create("my icon.svg",
+                "image/svg+xml", content, true);
+        VaadinRequest request = mockRequest("/" + publicResource.getUrl());
+        VaadinResponse response = Mockito.mock(VaadinResponse.class);
+        Mockito.when(response.getOutputStream())
+                .thenReturn(new ByteArrayOutputStream());
+
+        new SharedResourceRequestHandler().handleRequest(null, request,
+                response);
+
+        Assert.assertNotEquals(resource.getHash(), publicResource.getHash());
+        Mockito.verify(response).setHeader("Cache-Control",
+                "public, max-age=31536000, immutable");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void createWithNonImageContentType_throws() {
+        SharedResource.create("page.html", "text/html", content);
+    }
+
+    @Test
+    public void filter_resourceUnderServletPath_servedWithoutSession()
+            throws IOException, ServletException {
+        HttpServletRequest request = mockHttpRequest("/ui",
+                "/" + resource.getUrl());
+        HttpServletResponse response = Mockito
+                .mock(HttpServletResponse.class);
+        ServletOutputStream output = Mockito.mock(ServletOutputStream.class);
+        Mockito.when(response.getOutputStream()).thenReturn(output);
+        FilterChain chain = Mockito.mock(FilterChain.class);
+
+        new SharedResourceFilter().doFilter(request, response, chain);
+
+        Mockito.verify(output).write(content);
+        Mockito.verify(request, Mockito.never()).getSession();
+        Mockito.verify(request, Mockito.never())
+                .getSession(Mockito.anyBoolean());
+        Mockito.verifyNoInteractions(chain);
+    }
+
+    @Test
+    public void filter_otherPath_passedToChain()
+            throws IOException, ServletException {
+        HttpServletRequest request = mockHttpRequest("/ui", "/view");
+        HttpServletResponse response = Mockito
+                .mock(HttpServletResponse.class);
+        FilterChain chain = Mockito.mock(FilterChain.class);
+
+        new SharedResourceFilter().doFilter(request, response, chain);
+
+        Mockito.verify(chain).doFilter(request, response);
+    }
+
+    @Test
+    public void filter_prefixNotAtServletRoot_passedToChain()
+            throws IOException, ServletException {
+        HttpServletRequest request = mockHttpRequest("/other",
+                "/files/" + resource.getUrl());
+        HttpServletResponse response = Mockito
+                .mock(HttpServletResponse.class);
+        FilterChain chain = Mockito.mock(FilterChain.class);
+
+        new SharedResourceFilter().doFilter(request, response, chain);
+
+        Mockito.verify(chain).doFilter(request, response);
+        Mockito.verify(response, Mockito.never()).getOutputStream();
+    }
+
+    @Test
+    public void handleRequest_matchingEtag_notModified() throws IOException {
+        VaadinRequest request = mockRequest("/" + resource.getUrl());
+        Mockito.when(request.getHeader("If-None-Match"))
+                .thenReturn('"' + resource.getHash() + '"');
+        VaadinResponse response = Mockito.mock(VaadinResponse.class);
+
+        Assert.assertTrue(new SharedResourceRequestHandler()
+                .handleRequest(null, request, response));
+
+        Mockito.verify(response).setStatus(304);
+        Mockito.verify(response, Mockito.never()).getOutputStream();
+    }
+
+    @Test
+    public void handleRequest_unknownResource_notFound() throws IOException {
+        VaadinRequest request = mockRequest(
+                "/VAADIN/shared-resource/unknown/file.svg");
+        VaadinResponse response = Mockito.mock(VaadinResponse.class);
+
+        Assert.assertTrue(new SharedResourceRequestHandler()
+                .handleRequest(null, request, response));
+
+        Mockito.verify(response).sendError(Mockito.eq(404),
+                Mockito.anyString());
+    }
+
+    @Test
+    public void handleRequest_otherPath_notHandled() throws IOException {
+        VaadinRequest request = mockRequest("/VAADIN/dynamic/resource/1/2");
+        VaadinResponse response = Mockito.mock(VaadinResponse.class);
+
+        Assert.assertFalse(new SharedResourceRequestHandler()
+                .handleRequest(null, request, response));
+    }
+
+    private HttpServletRequest mockHttpRequest(String servletPath,
+            String pathInfo) {
+        HttpServletRequest request = Mockito.mock(HttpServletRequest.class);
+        Mockito.when(request.getMethod()).thenReturn("GET");
+        Mockito.when(request.getContextPath()).thenReturn("/app");
+        Mockito.when(request.getServletPath()).thenReturn(servletPath);
+        Mockito.when(request.getPathInfo()).thenReturn(pathInfo);
+        return request;
+    }
+
+    private VaadinRequest mockRequest(String pathInfo) {
+        VaadinRequest request = Mockito.mock(VaadinRequest.class);
+        Mockito.when(request.getPathInfo()).thenReturn(pathInfo);
+        return request;
+    }
+}
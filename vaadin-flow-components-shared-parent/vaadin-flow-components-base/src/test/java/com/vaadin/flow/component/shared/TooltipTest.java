@@ -43,6 +43,7 @@ public class TooltipTest {
     @After
     public void tearDown() {
         UI.setCurrent(null);
+        TooltipConfiguration.setPooled(false);
     }
 
     @Test
@@ -194,6 +195,66 @@ public class TooltipTest {
                 getTooltipElement().get().getProperty("manual", false));
     }
 
+    @Test
+    public void pooled_createTooltips_singleTooltipElementAttached() {
+        TooltipConfiguration.setPooled(true);
+        var otherComponent = new TestComponent();
+        Tooltip.forComponent(component).setText("foo");
+        Tooltip.forComponent(otherComponent).setText("bar");
+
+        ui.add(component, otherComponent);
+
+        Assert.assertEquals(1, ui.getElement().getChildren()
+                .filter(child -> child.getTag().equals("vaadin-tooltip"))
+                .count());
+        Assert.assertEquals("foo",
+                component.getElement().getAttribute("data-vaadin-tooltip"));
+        Assert.assertEquals("bar", otherComponent.getElement()
+                .getAttribute("data-vaadin-tooltip"));
+    }
+
+    @Test
+    public void pooled_removeComponent_tooltipElementKept() {
+        TooltipConfiguration.setPooled(true);
+        Tooltip.forComponent(component);
+        ui.add(component);
+        ui.remove(component);
+
+        Assert.assertTrue(getTooltipElement().isPresent());
+    }
+
+    @Test
+    public void pooled_configureTooltip_storedAsAttributes() {
+        TooltipConfiguration.setPooled(true);
+        var tooltip = Tooltip.forComponent(component).withText("foo")
+                .withFocusDelay(200).withHideDelay(1000).withHoverDelay(500)
+                .withPosition(TooltipPosition.BOTTOM_END);
+
+        var element = component.getElement();
+        Assert.assertEquals("200",
+                element.getAttribute("data-vaadin-tooltip-focus-delay"));
+        Assert.assertEquals("1000",
+                element.getAttribute("data-vaadin-tooltip-hide-delay"));
+        Assert.assertEquals("500",
+                element.getAttribute("data-vaadin-tooltip-hover-delay"));
+        Assert.assertEquals("bottom-end",
+                element.getAttribute("data-vaadin-tooltip-position"));
+        Assert.assertEquals("foo", tooltip.getText());
+        Assert.assertEquals(200, tooltip.getFocusDelay());
+        Assert.assertEquals(1000, tooltip.getHideDelay());
+        Assert.assertEquals(500, tooltip.getHoverDelay());
+        Assert.assertEquals(TooltipPosition.BOTTOM_END, tooltip.getPosition());
+
+        tooltip.setText(null);
+        Assert.assertFalse(element.hasAttribute("data-vaadin-tooltip"));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void pooled_setManual_throws() {
+        TooltipConfiguration.setPooled(true);
+        Tooltip.forComponent(component).setManual(true);
+    }
+
     private Optional<Element> getTooltipElement() {
         return ui.getElement().getChildren()
                 .filter(child -> child.getTag().equals("vaadin-tooltip"))
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2000-2025 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.component.grid;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import com.vaadin.flow.component.grid.Grid.Column;
+import com.vaadin.flow.data.provider.DataGenerator;
+
+import elemental.json.JsonObject;
+
+/**
+ * Samples the cell texts of the first items sent to the client after the data
+ * has been reset, and sets the estimated widths to the columns once the items
+ * have been generated, so that the widths are sent in the same response as the
+ * data.
+ *
+ * @param <T>
+ *            the grid bean type
+ * @author Vaadin Ltd
+ * @see ColumnWidthEstimator
+ */
+class ColumnWidthEstimation<T> implements DataGenerator<T> {
+
+    private final Grid<T> grid;
+    private final Map<Column<T>, Float> cellTextWidths = new HashMap<>();
+    private int sampledItems;
+    private boolean completed;
+
+    ColumnWidthEstimation(Grid<T> grid) {
+        this.grid = grid;
+    }
+
+    /**
+     * Starts sampling again from the next item that is sent to the client.
+     */
+    void restart() {
+        cellTextWidths.clear();
+        sampledItems = 0;
+        completed = false;
+    }
+
+    @Override
+    public void generateData(T item, JsonObject jsonObject) {
+        ColumnWidthEstimator estimator = grid.getColumnWidthEstimator();
+        if (completed || estimator == null
+                || sampledItems >= estimator.getSampleSize()) {
+            return;
+        }
+        if (sampledItems == 0) {
+            grid.getElement().getNode()
+                    .runWhenAttached(ui -> ui.beforeClientResponse(grid,
+                            context -> applyWidths()));
+        }
+        sampledItems++;
+        for (Column<T> column : grid.getColumns()) {
+            if (column.isWidthEstimated()) {
+                cellTextWidths.merge(column,
+                        estimator.estimateTextWidth(column.getCellText(item)),
+                        Math::max);
+            }
+        }
+    }
+
+    private void applyWidths() {
+        ColumnWidthEstimator estimator = grid.getColumnWidthEstimator();
+        if (completed || estimator == null) {
+            return;
+        }
+        completed = true;
+        for (Column<T> column : grid.getColumns()) {
+            if (column.isWidthEstimated()) {
+                int width = estimator.estimateColumnWidth(
+                        column.getHeaderText(), column.isSortable(),
+                        cellTextWidths.getOrDefault(column, 0f));
+                column.setWidth(width + "px");
+            }
+        }
+        cellTextWidths.clear();
+    }
+}
@@ -0,0 +1,275 @@
+/*
+ * Copyright 2000-2025 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.component.grid;
+
+import java.io.Serializable;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Estimates the widths of grid columns on the server, based on the length of
+ * the text shown in the cells.
+ * <p>
+ * When an estimator is set with
+ * {@link Grid#setColumnWidthEstimator(ColumnWidthEstimator)}, the widths of
+ * the columns that have {@link Grid.Column#setAutoWidth(boolean) automatic
+ * width} enabled and that have been added with
+ * {@link Grid#addColumn(com.vaadin.flow.function.ValueProvider)} are not
+ * measured by the browser. Instead, the text of the first items sent to the
+ * client is sampled, and the resulting widths are sent as fixed widths
+ * together with the data.
+ * <p>
+ * The text widths are estimated from the advance widths of a proportional
+ * sans-serif font, scaled to the configured font size. The actual width of the
+ * text depends on the font used by the browser, so the estimated width is an
+ * approximation. The defaults match the cells of the Lumo theme.
+ *
+ * @author Vaadin Ltd
+ */
+public class ColumnWidthEstimator implements Serializable {
+
+    /**
+     * The default number of items sampled for estimating the column widths.
+     */
+    public static final int DEFAULT_SAMPLE_SIZE = 50;
+
+    /**
+     * The default font size of the cells, in pixels.
+     */
+    public static final float DEFAULT_FONT_SIZE = 16;
+
+    /**
+     * The default sum of the start and end padding of the cells, in pixels.
+     */
+    public static final int DEFAULT_CELL_PADDING = 32;
+
+    private static final int MIN_CHAR = 32;
+
+    /**
+     * Advance widths of the printable ASCII characters starting from space,
+     * in thousandths of the font size.
+     */
+    private static final short[] ASCII_WIDTHS = { 278, 278, 355, 556, 556,
+            889, 667, 191, 333, 333, 389, 584, 278, 333, 278, 278, 556, 556,
+            556, 556, 556, 556, 556, 556, 556, 556, 278, 278, 584, 584, 584,
+            556, 1015, 667, 667, 722, 722, 667, 611, 778, 722, 278, 500, 667,
+            556, 833, 722, 778, 667, 778, 722, 667, 611, 722, 667, 944, 667,
+            667, 611, 278, 278, 278, 469, 556, 333, 556, 556, 500, 556, 556,
+            278, 556, 556, 222, 222, 500, 222, 833, 556, 556, 556, 556, 333,
+            500, 278, 556, 500, 722, 500, 500, 500, 334, 260, 334, 584 };
+
+    private static final short DEFAULT_WIDTH = 556;
+
+    private static final short WIDE_WIDTH = 1000;
+
+    /**
+     * Character widths in pixels, cached per font size as the same sizes are
+     * used by all grids using the same theme.
+     */
+    private static final Map<Float, float[]> FONT_METRICS = new ConcurrentHashMap<>();
+
+    private final float fontSize;
+    private final int cellPadding;
+    private int sampleSize = DEFAULT_SAMPLE_SIZE;
+    private int minWidth = 0;
+    private int maxWidth = Integer.MAX_VALUE;
+
+    private transient float[] charWidths;
+
+    /**
+     * Creates a new estimator with the default font size and cell padding,
+     * which match the Lumo theme.
+     */
+    public ColumnWidthEstimator() {
+        this(DEFAULT_FONT_SIZE, DEFAULT_CELL_PADDING);
+    }
+
+    /**
+     * Creates a new estimator for the given font size and cell padding.
+     *
+     * @param fontSize
+     *            the font size of the cells, in pixels, greater than 0
+     * @param cellPadding
+     *            the sum of the start and end padding of the cells, in
+     *            pixels, not negative
+     */
+    public ColumnWidthEstimator(float fontSize, int cellPadding) {
+        if (fontSize <= 0) {
+            throw new IllegalArgumentException(
+                    "Font size must be greater than 0");
+        }
+        if (cellPadding < 0) {
+            throw new IllegalArgumentException(
+                    "Cell padding cannot be negative");
+        }
+        this.fontSize = fontSize;
+        this.cellPadding = cellPadding;
+    }
+
+    /**
+     * Gets the font size of the cells.
+     *
+     * @return the font size, in pixels
+     */
+    public float getFontSize() {
+        return fontSize;
+    }
+
+    /**
+     * Gets the sum of the start and end padding of the cells.
+     *
+     * @return the cell padding, in pixels
+     */
+    public int getCellPadding() {
+        return cellPadding;
+    }
+
+    /**
+     * Sets the number of items sampled for estimating the column widths. The
+     * default is {@value #DEFAULT_SAMPLE_SIZE}.
+     *
+     * @param sampleSize
+     *            the number of items to sample, greater than 0
+     */
+    public void setSampleSize(int sampleSize) {
+        if (sampleSize <= 0) {
+            throw new IllegalArgumentException(
+                    "Sample size must be greater than 0");
+        }
+        this.sampleSize = sampleSize;
+    }
+
+    /**
+     * Gets the number of items sampled for estimating the column widths.
+     *
+     * @return the number of items to sample
+     */
+    public int getSampleSize() {
+        return sampleSize;
+    }
+
+    /**
+     * Sets the minimum width of the estimated columns. The default is 0.
+     *
+     * @param minWidth
+     *            the minimum width, in pixels
+     */
+    public void setMinWidth(int minWidth) {
+        this.minWidth = minWidth;
+    }
+
+    /**
+     * Gets the minimum width of the estimated columns.
+     *
+     * @return the minimum width, in pixels
+     */
+    public int getMinWidth() {
+        return minWidth;
+    }
+
+    /**
+     * Sets the maximum width of the estimated columns. By default, the width
+     * is not limited.
+     *
+     * @param maxWidth
+     *            the maximum width, in pixels
+     */
+    public void setMaxWidth(int maxWidth) {
+        this.maxWidth = maxWidth;
+    }
+
+    /**
+     * Gets the maximum width of the estimated columns.
+     *
+     * @return the maximum width, in pixels
+     */
+    public int getMaxWidth() {
+        return maxWidth;
+    }
+
+    /**
+     * Estimates the width of the given text when rendered with the font size
+     * of this estimator.
+     *
+     * @param text
+     *            the text to measure, or {@code null}
+     * @return the estimated width of the text, in pixels
+     */
+    public float estimateTextWidth(String text) {
+        if (text == null || text.isEmpty()) {
+            return 0;
+        }
+        if (charWidths == null) {
+            charWidths = FONT_METRICS.computeIfAbsent(fontSize,
+                    ColumnWidthEstimator::createCharWidths);
+        }
+        float width = 0;
+        for (int i = 0; i < text.length();) {
+            int codePoint = text.codePointAt(i);
+            i += Character.charCount(codePoint);
+            if (codePoint >= MIN_CHAR
+                    && codePoint < MIN_CHAR + charWidths.length) {
+                width += charWidths[codePoint - MIN_CHAR];
+            } else if (isWide(codePoint)) {
+                width += WIDE_WIDTH * fontSize / 1000;
+            } else if (!Character.isISOControl(codePoint)) {
+                width += DEFAULT_WIDTH * fontSize / 1000;
+            }
+        }
+        return width;
+    }
+
+    /**
+     * Estimates the width of a column from the width of its header text and
+     * the widest sampled cell text.
+     *
+     * @param headerText
+     *            the header text of the column, or {@code null}
+     * @param sortable
+     *            whether the header shows a sort indicator
+     * @param maxCellTextWidth
+     *            the width of the widest sampled cell text, in pixels
+     * @return the estimated width of the column, in pixels
+     */
+    public int estimateColumnWidth(String headerText, boolean sortable,
+            float maxCellTextWidth) {
+        float headerWidth = estimateTextWidth(headerText);
+        if (sortable) {
+            headerWidth += fontSize;
+        }
+        int width = (int) Math.ceil(Math.max(headerWidth, maxCellTextWidth))
+                + cellPadding;
+        return Math.min(Math.max(width, minWidth), maxWidth);
+    }
+
+    private static float[] createCharWidths(float fontSize) {
+        float[] widths = new float[ASCII_WIDTHS.length];
+        for (int i = 0; i < widths.length; i++) {
+            widths[i] = ASCII_WIDTHS[i] * fontSize / 1000;
+        }
+        return widths;
+    }
+
+    private static boolean isWide(int codePoint) {
+        Character.UnicodeScript script = Character.UnicodeScript
+                .of(codePoint);
+        return script == Character.UnicodeScript.HAN
+                || script == Character.UnicodeScript.HIRAGANA
+                || script == Character.UnicodeScript.KATAKANA
+                || script == Character.UnicodeScript.HANGUL
+                || Character.isSupplementaryCodePoint(codePoint);
+    }
+}
@@ -23,6 +23,8 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
@@ -466,6 +468,9 @@ public class Grid<T> extends Component implements HasStyle, HasSize,
 
         private SerializableComparator<T> comparator;
 
+        private boolean autoWidth;
+        private ValueProvider<T, String> textProvider;
+
         private Registration columnDataGeneratorRegistration;
         private Registration editorDataGeneratorRegistration;
 
@@ -660,8 +665,13 @@ public class Grid<T> extends Component implements HasStyle, HasSize,
          * <p>
          * The column width may still grow larger when {@code flexGrow} is not
          * 0.
+         * <p>
+         * If a {@link ColumnWidthEstimator} is set for the grid and this column
+         * has been added with {@link Grid#addColumn(ValueProvider)}, the width
+         * is estimated on the server instead of being measured by the browser.
          *
          * @see Grid#recalculateColumnWidths()
+         * @see Grid#setColumnWidthEstimator(ColumnWidthEstimator)
          * @see Column#setFlexGrow
          *
          * @param autoWidth
@@ -670,7 +680,8 @@ public class Grid<T> extends Component implements HasStyle, HasSize,
          * @return this column, for method chaining
          */
         public Column<T> setAutoWidth(boolean autoWidth) {
-            getElement().setProperty("autoWidth", autoWidth);
+            this.autoWidth = autoWidth;
+            updateAutoWidth();
             return this;
         }
 
@@ -680,7 +691,41 @@ public class Grid<T> extends Component implements HasStyle, HasSize,
          * @return whether this column has automatic width enabled
          */
         public boolean isAutoWidth() {
-            return getElement().getProperty("autoWidth", false);
+            return autoWidth;
+        }
+
+        /**
+         * Checks whether the width of this column is estimated on the server.
+         *
+         * @return {@code true} if the width is estimated with the
+         *         {@link ColumnWidthEstimator} of the grid, {@code false}
+         *         otherwise
+         */
+        boolean isWidthEstimated() {
+            return autoWidth && textProvider != null
+                    && getGrid().getColumnWidthEstimator() != null;
+        }
+
+        /**
+         * Gets the text shown for the given item in this column, for
+         * estimating the column width.
+         *
+         * @param item
+         *            the item to get the text for
+         * @return the text of the cell, or {@code null} if this column does
+         *         not show plain text
+         */
+        String getCellText(T item) {
+            return textProvider == null ? null : textProvider.apply(item);
+        }
+
+        /**
+         * Updates the automatic width on the client, which is disabled when
+         * the width is estimated on the server instead.
+         */
+        void updateAutoWidth() {
+            getElement().setProperty("autoWidth",
+                    autoWidth && !isWidthEstimated());
         }
 
         /**
@@ -1266,6 +1311,15 @@ public class Grid<T> extends Component implements HasStyle, HasSize,
 
         private final HashSet<T> detailsVisible = new HashSet<>();
 
+        /**
+         * Items whose details have been generated when lazy details are
+         * enabled, in least recently used order.
+         */
+        private final LinkedHashMap<T, Boolean> detailsGenerated = new LinkedHashMap<>(
+                16, 0.75f, true);
+
+        private int detailsCacheSize;
+
         /**
          * Constructs a new details manager for the given grid.
          *
@@ -1289,6 +1343,7 @@ public class Grid<T> extends Component implements HasStyle, HasSize,
             boolean refresh = false;
             if (!visible) {
                 refresh = detailsVisible.remove(item);
+                detailsGenerated.remove(item);
             } else {
                 detailsVisible.add(item);
                 refresh = true;
@@ -1316,11 +1371,84 @@ public class Grid<T> extends Component implements HasStyle, HasSize,
                     && detailsVisible.contains(item);
         }
 
+        private boolean isLazy() {
+            return detailsCacheSize > 0;
+        }
+
+        private boolean isDetailsGenerated(T item) {
+            // Uses get to mark the details as recently used
+            return !isLazy() || detailsGenerated.get(item) != null;
+        }
+
+        private void setDetailsCacheSize(int detailsCacheSize) {
+            boolean lazyChanged = isLazy() != detailsCacheSize > 0;
+            this.detailsCacheSize = detailsCacheSize;
+            if (lazyChanged) {
+                detailsGenerated.clear();
+                if (itemDetailsDataGenerator != null) {
+                    itemDetailsDataGenerator.destroyAllData();
+                    getGrid().getDataCommunicator().reset();
+                }
+            } else {
+                evictDetails(Collections.emptySet());
+            }
+        }
+
+        /**
+         * Generates the details of the given items, which are all the items
+         * with opened details rendered on the client. Details that have not
+         * been used recently are destroyed if the cache size is exceeded. The
+         * details of the given items are kept even if there are more of them
+         * than the cache size, as the client would otherwise request them
+         * again.
+         */
+        private void generateDetails(Collection<T> items) {
+            if (!isLazy() || itemDetailsDataGenerator == null) {
+                return;
+            }
+            for (T item : items) {
+                if (isDetailsVisible(item)
+                        && detailsGenerated.put(item, Boolean.TRUE) == null) {
+                    refresh(item);
+                }
+            }
+            evictDetails(items);
+        }
+
+        /**
+         * Destroys the least recently used details until the cache size is
+         * not exceeded, except for the details of the given items.
+         */
+        private void evictDetails(Collection<T> keptItems) {
+            Set<T> kept = new HashSet<>(keptItems);
+            List<T> evicted = new ArrayList<>();
+            Iterator<T> iterator = detailsGenerated.keySet().iterator();
+            while (detailsGenerated.size() - evicted.size() > detailsCacheSize
+                    && iterator.hasNext()) {
+                T item = iterator.next();
+                if (!kept.contains(item)) {
+                    evicted.add(item);
+                }
+            }
+            for (T item : evicted) {
+                detailsGenerated.remove(item);
+                if (itemDetailsDataGenerator != null) {
+                    // Destroys the details and marks them as pending
+                    refresh(item);
+                }
+            }
+        }
+
         @Override
         public void generateData(T item, JsonObject jsonObject) {
             if (itemDetailsDataGenerator != null && isDetailsVisible(item)) {
                 jsonObject.put("detailsOpened", true);
-                itemDetailsDataGenerator.generateData(item, jsonObject);
+                if (isDetailsGenerated(item)) {
+                    itemDetailsDataGenerator.generateData(item, jsonObject);
+                } else {
+                    // Generated when the row is rendered on the client
+                    jsonObject.put("detailsPending", true);
+                }
             }
         }
 
@@ -1333,6 +1461,7 @@ public class Grid<T> extends Component implements HasStyle, HasSize,
         @Override
         public void destroyData(T item) {
             detailsVisible.remove(item);
+            detailsGenerated.remove(item);
             if (itemDetailsDataGenerator != null) {
                 itemDetailsDataGenerator.destroyData(item);
             }
@@ -1343,6 +1472,7 @@ public class Grid<T> extends Component implements HasStyle, HasSize,
          */
         @Override
         public void destroyAllData() {
+            detailsGenerated.clear();
             if (itemDetailsDataGenerator != null) {
                 itemDetailsDataGenerator.destroyAllData();
             }
@@ -1351,7 +1481,7 @@ public class Grid<T> extends Component implements HasStyle, HasSize,
         @Override
         public void refreshData(T item) {
             if (itemDetailsDataGenerator != null) {
-                if (isDetailsVisible(item)) {
+                if (isDetailsVisible(item) && isDetailsGenerated(item)) {
                     itemDetailsDataGenerator.refreshData(item);
                 } else {
                     itemDetailsDataGenerator.destroyData(item);
@@ -1366,11 +1496,19 @@ public class Grid<T> extends Component implements HasStyle, HasSize,
 
             detailsVisible.clear();
             detailsVisible.addAll(items);
+            detailsGenerated.keySet().retainAll(items);
+            if (isLazy()) {
+                // Rows opened from the client are in the viewport
+                items.forEach(item -> detailsGenerated.put(item, Boolean.TRUE));
+            }
             if (itemDetailsDataGenerator != null) {
                 for (T item : toRefresh) {
                     refresh(item);
                 }
             }
+            if (isLazy()) {
+                evictDetails(items);
+            }
         }
     }
 
@@ -1462,6 +1600,10 @@ public class Grid<T> extends Component implements HasStyle, HasSize,
 
     private SerializableFunction<T, String> tooltipGenerator = item -> null;
 
+    private ColumnWidthEstimator columnWidthEstimator;
+    private ColumnWidthEstimation<T> columnWidthEstimation;
+    private Registration columnWidthEstimationRegistration;
+
     private SelectionPreservationHandler<T> selectionPreservationHandler;
 
     private PendingJavaScriptResult pendingSorterUpdate;
@@ -1787,6 +1929,10 @@ public class Grid<T> extends Component implements HasStyle, HasSize,
 
     private void handleDataChange(DataChangeEvent<T> dataChangeEvent) {
         onDataProviderChange();
+        if (columnWidthEstimation != null
+                && !(dataChangeEvent instanceof DataChangeEvent.DataRefreshEvent)) {
+            columnWidthEstimation.restart();
+        }
         if (!(dataChangeEvent instanceof DataChangeEvent.DataRefreshEvent)
                 && !(getSelectionModel() instanceof GridNoneSelectionModel)) {
             selectionPreservationHandler.handleDataChange(dataChangeEvent);
@@ -1908,14 +2054,15 @@ public class Grid<T> extends Component implements HasStyle, HasSize,
             BiFunction<Renderer<T>, String, C> columnFactory) {
         String columnId = createColumnId(false);
 
-        C column = addColumn(
-                new ColumnPathRenderer<T>(columnId,
-                        item -> formatValueToSendToTheClient(
-                                applyValueProvider(valueProvider, item))),
+        ValueProvider<T, String> textProvider = item -> formatValueToSendToTheClient(
+                applyValueProvider(valueProvider, item));
+        C column = addColumn(new ColumnPathRenderer<T>(columnId, textProvider),
                 columnFactory);
         ((Column<T>) column).comparator = ((a, b) -> compareMaybeComparables(
                 applyValueProvider(valueProvider, a),
                 applyValueProvider(valueProvider, b)));
+        ((Column<T>) column).textProvider = textProvider;
+        ((Column<T>) column).updateAutoWidth();
         return column;
     }
 
@@ -3688,6 +3835,49 @@ public class Grid<T> extends Component implements HasStyle, HasSize,
         return detailsManager.isDetailsVisible(item);
     }
 
+    /**
+     * Sets the maximum number of item details to keep generated when the
+     * details are generated lazily.
+     * <p>
+     * By default, the details of all items that have their details visible are
+     * generated when the items are sent to the client, which for details
+     * rendered with a {@link ComponentRenderer} means creating the components
+     * for all of them, even if most of the rows are not in the viewport. When
+     * the cache size is greater than zero, the details are generated only when
+     * their rows are rendered in the viewport of the grid, and only the given
+     * number of most recently generated details are kept. Details that are
+     * removed from the cache are generated again when their rows are rendered
+     * again.
+     * <p>
+     * The details of the rows rendered in the viewport are never removed from
+     * the cache, so the cache may temporarily hold more details than the given
+     * size if more details are visible at the same time.
+     *
+     * @param itemDetailsCacheSize
+     *            the maximum number of generated item details, or {@code 0}
+     *            to generate the details of all items eagerly
+     * @see #setItemDetailsRenderer(Renderer)
+     */
+    public void setItemDetailsCacheSize(int itemDetailsCacheSize) {
+        if (itemDetailsCacheSize < 0) {
+            throw new IllegalArgumentException(
+                    "The item details cache size cannot be negative");
+        }
+        detailsManager.setDetailsCacheSize(itemDetailsCacheSize);
+    }
+
+    /**
+     * Gets the maximum number of item details to keep generated when the
+     * details are generated lazily.
+     *
+     * @return the maximum number of generated item details, or {@code 0} if
+     *         the details of all items are generated eagerly
+     * @see #setItemDetailsCacheSize(int)
+     */
+    public int getItemDetailsCacheSize() {
+        return detailsManager.detailsCacheSize;
+    }
+
     @SuppressWarnings({ "rawtypes", "unchecked" })
     @Override
     public Registration addSortListener(
@@ -3911,6 +4101,15 @@ public class Grid<T> extends Component implements HasStyle, HasSize,
         }
     }
 
+    @ClientCallable(DisabledUpdateMode.ALWAYS)
+    private void generateItemDetails(JsonArray keys) {
+        List<T> items = new ArrayList<>();
+        for (int i = 0; i < keys.length(); i++) {
+            findByKey(keys.getString(i)).ifPresent(items::add);
+        }
+        detailsManager.generateDetails(items);
+    }
+
     @ClientCallable
     private void sortersChanged(JsonArray sorters) {
         GridSortOrderBuilder<T> sortOrderBuilder = new GridSortOrderBuilder<>();
@@ -4447,10 +4646,19 @@ public class Grid<T> extends Component implements HasStyle, HasSize,
     /**
      * Updates the {@code width} of all columns which have {@code autoWidth} set
      * to {@code true}.
+     * <p>
+     * The widths of columns that are estimated with the
+     * {@link #setColumnWidthEstimator(ColumnWidthEstimator) column width
+     * estimator} are estimated again from the data that is sent to the client
+     * after this call.
      *
      * @see Column#setAutoWidth(boolean)
      */
     public void recalculateColumnWidths() {
+        if (columnWidthEstimation != null) {
+            columnWidthEstimation.restart();
+            getDataCommunicator().reset();
+        }
         // Defer column width recalculation to occur after the data was
         // refreshed. The data communicator will insert the JS call to refresh
         // the client side grid in the beforeClientResponse hook, we need to
@@ -4461,6 +4669,56 @@ public class Grid<T> extends Component implements HasStyle, HasSize,
                 ctx -> getElement().callJsFunction("recalculateColumnWidths")));
     }
 
+    /**
+     * Sets the estimator for estimating the widths of columns with automatic
+     * width on the server.
+     * <p>
+     * By default, the browser measures the rendered cells of the columns that
+     * have {@link Column#setAutoWidth(boolean) automatic width} enabled, which
+     * requires rendering the content before the widths are known. When an
+     * estimator is set, the widths of such columns that have been added with
+     * {@link #addColumn(ValueProvider)} are instead estimated from the text of
+     * the first items sent to the client, and sent as fixed widths together
+     * with the data. The widths are estimated again whenever the data provider
+     * is changed or refreshed, and when
+     * {@link #recalculateColumnWidths()} is called.
+     * <p>
+     * Columns with other renderers are still measured by the browser.
+     *
+     * @param columnWidthEstimator
+     *            the estimator to use, or {@code null} to let the browser
+     *            measure all columns with automatic width
+     * @see ColumnWidthEstimator
+     */
+    public void setColumnWidthEstimator(
+            ColumnWidthEstimator columnWidthEstimator) {
+        this.columnWidthEstimator = columnWidthEstimator;
+        if (columnWidthEstimator != null && columnWidthEstimation == null) {
+            columnWidthEstimation = new ColumnWidthEstimation<>(this);
+            columnWidthEstimationRegistration = addDataGenerator(
+                    columnWidthEstimation);
+        } else if (columnWidthEstimator == null
+                && columnWidthEstimation != null) {
+            columnWidthEstimationRegistration.remove();
+            columnWidthEstimationRegistration = null;
+            columnWidthEstimation = null;
+        }
+        getColumns().forEach(Column::updateAutoWidth);
+        recalculateColumnWidths();
+    }
+
+    /**
+     * Gets the estimator for estimating the widths of columns with automatic
+     * width on the server.
+     *
+     * @return the column width estimator, or {@code null} if the widths are
+     *         measured by the browser
+     * @see #setColumnWidthEstimator(ColumnWidthEstimator)
+     */
+    public ColumnWidthEstimator getColumnWidthEstimator() {
+        return columnWidthEstimator;
+    }
+
     /**
      * Gets the function that is used for generating CSS class names for rows in
      * this grid.
@@ -4482,62 +4740,49 @@ public class Grid<T> extends Component implements HasStyle, HasSize,
     }
 
     private void generateTooltipTextData(T item, JsonObject jsonObject) {
-        JsonObject tooltips = Json.createObject();
-
-        String rowTooltip = tooltipGenerator.apply(item);
-        if (rowTooltip != null) {
-            tooltips.put("row", rowTooltip);
-        }
-
-        idToColumnMap.forEach((id, column) -> {
-            String cellTooltip = column.tooltipGenerator.apply(item);
-            if (cellTooltip != null) {
-                tooltips.put(id, cellTooltip);
-            }
-        });
-
-        if (tooltips.keys().length > 0) {
-            jsonObject.put("gridtooltips", tooltips);
-        }
+        generateRowAndCellData(item, jsonObject, "gridtooltips",
+                tooltipGenerator, column -> column.tooltipGenerator);
     }
 
     private void generateStyleData(T item, JsonObject jsonObject) {
-        JsonObject style = Json.createObject();
-
-        String rowClassName = classNameGenerator.apply(item);
-        if (rowClassName != null) {
-            style.put("row", rowClassName);
-        }
-
-        idToColumnMap.forEach((id, column) -> {
-            String cellClassName = column.getClassNameGenerator().apply(item);
-            if (cellClassName != null) {
-                style.put(id, cellClassName);
-            }
-        });
-
-        if (style.keys().length > 0) {
-            jsonObject.put("style", style);
-        }
+        generateRowAndCellData(item, jsonObject, "style", classNameGenerator,
+                Column::getClassNameGenerator);
     }
 
     private void generatePartData(T item, JsonObject jsonObject) {
-        JsonObject part = Json.createObject();
+        generateRowAndCellData(item, jsonObject, "part", partNameGenerator,
+                Column::getPartNameGenerator);
+    }
+
+    /**
+     * Generates an object with the value for the row and the values for the
+     * cells by column id. Most rows have no values, so the object is only
+     * created once the first value has been generated.
+     */
+    private void generateRowAndCellData(T item, JsonObject jsonObject,
+            String key, SerializableFunction<T, String> rowGenerator,
+            SerializableFunction<Column<T>, SerializableFunction<T, String>> cellGenerator) {
+        JsonObject values = null;
 
-        String rowPartName = partNameGenerator.apply(item);
-        if (rowPartName != null) {
-            part.put("row", rowPartName);
+        String rowValue = rowGenerator.apply(item);
+        if (rowValue != null) {
+            values = Json.createObject();
+            values.put("row", rowValue);
         }
 
-        idToColumnMap.forEach((id, column) -> {
-            String cellPartName = column.getPartNameGenerator().apply(item);
-            if (cellPartName != null) {
-                part.put(id, cellPartName);
+        for (Map.Entry<String, Column<T>> entry : idToColumnMap.entrySet()) {
+            String cellValue = cellGenerator.apply(entry.getValue())
+                    .apply(item);
+            if (cellValue != null) {
+                if (values == null) {
+                    values = Json.createObject();
+                }
+                values.put(entry.getKey(), cellValue);
             }
-        });
+        }
 
-        if (part.keys().length > 0) {
-            jsonObject.put("part", part);
+        if (values != null) {
+            jsonObject.put(key, values);
         }
     }
 
@@ -4552,14 +4797,15 @@ public class Grid<T> extends Component implements HasStyle, HasSize,
     }
 
     private void generateDragData(T item, JsonObject jsonObject) {
+        if (dragDataGenerators.isEmpty()) {
+            return;
+        }
         JsonObject dragData = Json.createObject();
 
         this.dragDataGenerators.entrySet().forEach(entry -> dragData
                 .put(entry.getKey(), entry.getValue().apply(item)));
 
-        if (dragData.keys().length > 0) {
-            jsonObject.put("dragData", dragData);
-        }
+        jsonObject.put("dragData", dragData);
     }
 
     private void generateSelectableData(T item, JsonObject jsonObject) {
@@ -4685,6 +4931,9 @@ public class Grid<T> extends Component implements HasStyle, HasSize,
 
     private void handleDataProviderChange(DataProvider<T, ?> dataProvider) {
         onDataProviderChange();
+        if (columnWidthEstimation != null) {
+            columnWidthEstimation.restart();
+        }
 
         if (dataProviderChangeRegistration != null) {
             dataProviderChangeRegistration.remove();
@@ -15,6 +15,7 @@
  */
 package com.vaadin.flow.component.grid.contextmenu;
 
+import java.util.List;
 import java.util.Optional;
 
 import com.vaadin.flow.component.Component;
@@ -28,6 +29,8 @@ import com.vaadin.flow.function.SerializablePredicate;
 import com.vaadin.flow.function.SerializableRunnable;
 import com.vaadin.flow.shared.Registration;
 
+import elemental.json.Json;
+import elemental.json.JsonArray;
 import elemental.json.JsonObject;
 
 /**
@@ -42,6 +45,9 @@ public class GridContextMenu<T> extends
         implements HasGridMenuItems<T> {
 
     private SerializablePredicate<T> dynamicContentHandler;
+    private boolean clientSideOpening;
+    private Registration itemStateGeneratorRegistration;
+    private int itemStateIdCounter;
 
     /**
      * Event that is fired when a {@link GridMenuItem} is clicked inside a
@@ -163,6 +169,49 @@ public class GridContextMenu<T> extends
                             + "Use ContextMenu for any other component.");
         }
         super.setTarget(target);
+        updateClientSideOpening();
+    }
+
+    /**
+     * Sets whether the context menu is opened on the client, without a server
+     * round-trip.
+     * <p>
+     * By default, the server is asked before the context menu is opened, which
+     * allows the {@link #setDynamicContentHandler(SerializablePredicate)
+     * dynamic content handler} to customize the menu for the clicked item.
+     * When client-side opening is enabled, the visibility and enabled state of
+     * the menu items are instead computed for each item when the item is sent
+     * to the client, using the providers set with
+     * {@link GridMenuItem#setVisibilityProvider(SerializablePredicate)} and
+     * {@link GridMenuItem#setEnabledProvider(SerializablePredicate)}, so the
+     * client can open the menu for an item right away. The menu is still
+     * opened through the server for anything else than an item, such as a
+     * header.
+     * <p>
+     * Client-side opening has no effect while a dynamic content handler is
+     * set, as the handler can only be called on the server.
+     *
+     * @param clientSideOpening
+     *            {@code true} to open the context menu on the client,
+     *            {@code false} to make a server round-trip first
+     */
+    @Override
+    public void setClientSideOpening(boolean clientSideOpening) {
+        this.clientSideOpening = clientSideOpening;
+        updateClientSideOpening();
+    }
+
+    /**
+     * Gets whether the context menu is opened on the client, without a server
+     * round-trip.
+     *
+     * @return {@code true} if client-side opening is enabled, {@code false}
+     *         otherwise
+     * @see #setClientSideOpening(boolean)
+     */
+    @Override
+    public boolean isClientSideOpening() {
+        return clientSideOpening;
     }
 
     @Override
@@ -248,6 +297,7 @@ public class GridContextMenu<T> extends
     public void setDynamicContentHandler(
             SerializablePredicate<T> dynamicContentHandler) {
         this.dynamicContentHandler = dynamicContentHandler;
+        updateClientSideOpening();
     }
 
     /**
@@ -257,12 +307,95 @@ public class GridContextMenu<T> extends
     protected boolean onBeforeOpenMenu(JsonObject eventDetail) {
         Grid<T> grid = (Grid<T>) getTarget();
         String key = eventDetail.getString("key");
+        final T item = grid.getDataCommunicator().getKeyMapper().get(key);
 
+        boolean open;
         if (getDynamicContentHandler() != null) {
-            final T item = grid.getDataCommunicator().getKeyMapper().get(key);
-            return getDynamicContentHandler().test(item);
+            open = getDynamicContentHandler().test(item);
+        } else {
+            open = super.onBeforeOpenMenu(eventDetail);
+        }
+
+        if (open && hasItemStateProviders(getItems())) {
+            grid.getElement().callJsFunction(
+                    "$connector.applyContextMenuState", getElement(),
+                    createItemState(item));
+        }
+        return open;
+    }
+
+    String createItemStateId() {
+        return String.valueOf(itemStateIdCounter++);
+    }
+
+    void onItemStateProviderChange() {
+        if (itemStateGeneratorRegistration != null) {
+            ((Grid<T>) getTarget()).getDataCommunicator().reset();
+        }
+    }
+
+    private void updateClientSideOpening() {
+        boolean enabled = clientSideOpening && dynamicContentHandler == null;
+        super.setClientSideOpening(enabled);
+
+        Grid<T> grid = (Grid<T>) getTarget();
+        if (itemStateGeneratorRegistration != null) {
+            itemStateGeneratorRegistration.remove();
+            itemStateGeneratorRegistration = null;
+        }
+        if (enabled && grid != null) {
+            itemStateGeneratorRegistration = grid
+                    .addDataGenerator(this::generateItemState);
+            grid.getDataCommunicator().reset();
+        }
+    }
+
+    private void generateItemState(T item, JsonObject jsonObject) {
+        jsonObject.put("contextMenuState", createItemState(item));
+    }
+
+    /**
+     * Creates the state of the menu items for the given Grid item, as a JSON
+     * object with the state IDs of the hidden and the disabled menu items.
+     * Only menu items that have a visibility or enabled provider are included.
+     */
+    JsonObject createItemState(T item) {
+        JsonArray hidden = Json.createArray();
+        JsonArray disabled = Json.createArray();
+        collectItemState(getItems(), item, hidden, disabled);
+
+        JsonObject state = Json.createObject();
+        if (hidden.length() > 0) {
+            state.put("hidden", hidden);
         }
+        if (disabled.length() > 0) {
+            state.put("disabled", disabled);
+        }
+        return state;
+    }
+
+    private void collectItemState(List<GridMenuItem<T>> menuItems, T item,
+            JsonArray hidden, JsonArray disabled) {
+        for (GridMenuItem<T> menuItem : menuItems) {
+            if (menuItem.hasItemStateProvider()) {
+                if (!menuItem.isVisibleFor(item)) {
+                    hidden.set(hidden.length(), menuItem.getStateId());
+                }
+                if (!menuItem.isEnabledFor(item)) {
+                    disabled.set(disabled.length(), menuItem.getStateId());
+                }
+            }
+            if (menuItem.isParentItem()) {
+                collectItemState(menuItem.getSubMenu().getItems(), item,
+                        hidden, disabled);
+            }
+        }
+    }
 
-        return super.onBeforeOpenMenu(eventDetail);
+    private boolean hasItemStateProviders(List<GridMenuItem<T>> menuItems) {
+        return menuItems.stream()
+                .anyMatch(menuItem -> menuItem.hasItemStateProvider()
+                        || (menuItem.isParentItem() && hasItemStateProviders(
+                                menuItem.getSubMenu().getItems())));
     }
 }
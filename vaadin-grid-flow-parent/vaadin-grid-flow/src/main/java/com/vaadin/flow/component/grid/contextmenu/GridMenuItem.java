@@ -19,6 +19,7 @@ import java.util.Objects;
 
 import com.vaadin.flow.component.ComponentEventListener;
 import com.vaadin.flow.component.contextmenu.MenuItemBase;
+import com.vaadin.flow.function.SerializablePredicate;
 import com.vaadin.flow.function.SerializableRunnable;
 import com.vaadin.flow.shared.Registration;
 
@@ -35,6 +36,9 @@ public class GridMenuItem<T> extends
         MenuItemBase<GridContextMenu<T>, GridMenuItem<T>, GridSubMenu<T>> {
 
     private final SerializableRunnable contentReset;
+    private SerializablePredicate<T> visibilityProvider;
+    private SerializablePredicate<T> enabledProvider;
+    private String stateId;
 
     /**
      * Creates a new instance using the context menu and its reset callback.
@@ -65,12 +69,122 @@ public class GridMenuItem<T> extends
     public Registration addMenuItemClickListener(
             ComponentEventListener<GridContextMenu.GridContextMenuItemClickEvent<T>> clickListener) {
         return getElement().addEventListener("click", event -> {
-            clickListener.onComponentEvent(
-                    new GridContextMenu.GridContextMenuItemClickEvent<T>(this,
-                            true));
+            GridContextMenu.GridContextMenuItemClickEvent<T> clickEvent = new GridContextMenu.GridContextMenuItemClickEvent<T>(
+                    this, true);
+            // Ignore clicks on items that are hidden or disabled for the
+            // target item
+            if (isAvailableFor(clickEvent.getItem().orElse(null))) {
+                clickListener.onComponentEvent(clickEvent);
+            }
         });
     }
 
+    /**
+     * Sets a callback that decides, for each item in the Grid, whether this
+     * menu item is visible when the context menu is opened for that item. The
+     * callback receives {@code null} when the context menu is opened for
+     * something else than an item, such as a header.
+     * <p>
+     * The menu item is hidden regardless of the callback when it has been
+     * hidden with {@link #setVisible(boolean)}.
+     *
+     * @param visibilityProvider
+     *            the callback that decides whether this menu item is visible
+     *            for a Grid item, or {@code null} to show it for all items
+     * @see GridContextMenu#setClientSideOpening(boolean)
+     */
+    public void setVisibilityProvider(
+            SerializablePredicate<T> visibilityProvider) {
+        this.visibilityProvider = visibilityProvider;
+        onItemStateProviderChange();
+    }
+
+    /**
+     * Gets the callback that decides whether this menu item is visible for an
+     * item in the Grid.
+     *
+     * @return the visibility provider, or {@code null} if not set
+     */
+    public SerializablePredicate<T> getVisibilityProvider() {
+        return visibilityProvider;
+    }
+
+    /**
+     * Sets a callback that decides, for each item in the Grid, whether this
+     * menu item is enabled when the context menu is opened for that item. The
+     * callback receives {@code null} when the context menu is opened for
+     * something else than an item, such as a header.
+     * <p>
+     * The menu item is disabled regardless of the callback when it has been
+     * disabled with {@link #setEnabled(boolean)}.
+     *
+     * @param enabledProvider
+     *            the callback that decides whether this menu item is enabled
+     *            for a Grid item, or {@code null} to enable it for all items
+     * @see GridContextMenu#setClientSideOpening(boolean)
+     */
+    public void setEnabledProvider(SerializablePredicate<T> enabledProvider) {
+        this.enabledProvider = enabledProvider;
+        onItemStateProviderChange();
+    }
+
+    /**
+     * Gets the callback that decides whether this menu item is enabled for an
+     * item in the Grid.
+     *
+     * @return the enabled provider, or {@code null} if not set
+     */
+    public SerializablePredicate<T> getEnabledProvider() {
+        return enabledProvider;
+    }
+
+    @Override
+    public void setVisible(boolean visible) {
+        super.setVisible(visible);
+        if (hasItemStateProvider()) {
+            getContextMenu().onItemStateProviderChange();
+        }
+    }
+
+    @Override
+    public void setEnabled(boolean enabled) {
+        super.setEnabled(enabled);
+        if (hasItemStateProvider()) {
+            getContextMenu().onItemStateProviderChange();
+        }
+    }
+
+    boolean hasItemStateProvider() {
+        return visibilityProvider != null || enabledProvider != null;
+    }
+
+    boolean isVisibleFor(T item) {
+        return isVisible() && (visibilityProvider == null
+                || visibilityProvider.test(item));
+    }
+
+    boolean isEnabledFor(T item) {
+        return isEnabled()
+                && (enabledProvider == null || enabledProvider.test(item));
+    }
+
+    private boolean isAvailableFor(T item) {
+        return !hasItemStateProvider()
+                || (isVisibleFor(item) && isEnabledFor(item));
+    }
+
+    String getStateId() {
+        return stateId;
+    }
+
+    private void onItemStateProviderChange() {
+        if (stateId == null && hasItemStateProvider()) {
+            stateId = getContextMenu().createItemStateId();
+            getElement().setProperty("_stateId", stateId);
+        }
+        getContextMenu().onItemStateProviderChange();
+    }
+
     @Override
     protected GridSubMenu<T> createSubMenu() {
         return new GridSubMenu<>(this, contentReset);
@@ -15,15 +15,26 @@
  */
 package com.vaadin.flow.component.grid.dataview;
 
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 
+import com.vaadin.flow.component.Component;
+import com.vaadin.flow.component.ComponentUtil;
 import com.vaadin.flow.component.grid.Grid;
 import com.vaadin.flow.data.provider.AbstractListDataView;
 import com.vaadin.flow.data.provider.DataCommunicator;
+import com.vaadin.flow.data.provider.DataProvider;
 import com.vaadin.flow.data.provider.IdentifierProvider;
+import com.vaadin.flow.data.provider.Query;
 import com.vaadin.flow.function.SerializableBiConsumer;
 import com.vaadin.flow.function.SerializableComparator;
 import com.vaadin.flow.function.SerializablePredicate;
+import com.vaadin.flow.shared.Registration;
 
 /**
  * Data view implementation for Grid with in-memory list data. Provides
@@ -61,6 +72,47 @@ public class GridListDataView<T> extends AbstractListDataView<T> {
                 .fetch(dataCommunicator.buildQuery(0, Integer.MAX_VALUE));
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The indexes of all items are resolved once for the current items,
+     * filtering and sorting of the Grid, and kept until any of them changes,
+     * so that subsequent lookups, for example by
+     * {@link Grid#scrollToItem(Object)}, don't need to fetch and sort the items
+     * again. Changes to the backing collection need to be followed by
+     * {@link #refreshAll()} or {@link #refreshItem(Object)}, as with any other
+     * use of the data view.
+     */
+    @Override
+    public Optional<Integer> getItemIndex(T item) {
+        Objects.requireNonNull(item, "Item cannot be null");
+        return Optional.ofNullable(getItemIndexCache()
+                .getIndex(getIdentifierProvider().apply(item)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private ItemIndexCache<T> getItemIndexCache() {
+        Query<T, ?> query = dataCommunicator.buildQuery(0, Integer.MAX_VALUE);
+        DataProvider<T, ?> dataProvider = getDataProvider();
+        // The default identifier provider is derived from the data provider,
+        // so only a custom one needs to be compared
+        Object customIdentifierProvider = ComponentUtil.getData(component,
+                IdentifierProvider.class);
+
+        ItemIndexCache<T> cache = ComponentUtil.getData(component,
+                ItemIndexCache.class);
+        if (cache == null || !cache.isValidFor(dataProvider, query,
+                customIdentifierProvider)) {
+            if (cache != null) {
+                cache.dispose();
+            }
+            cache = new ItemIndexCache<>(component, dataProvider, query,
+                    getIdentifierProvider(), customIdentifierProvider);
+            ComponentUtil.setData(component, ItemIndexCache.class, cache);
+        }
+        return cache;
+    }
+
     @Override
     public int getItemCount() {
         return dataCommunicator.getItemCount();
@@ -72,4 +124,94 @@ public class GridListDataView<T> extends AbstractListDataView<T> {
         super.setIdentifierProvider(identifierProvider);
         dataCommunicator.getKeyMapper().setIdentifierGetter(identifierProvider);
     }
+
+    /**
+     * Item indexes for a given state of the data provider, filter, sorting and
+     * identifier provider. Stored in the Grid, as data view instances are not
+     * kept by the Grid.
+     * <p>
+     * The indexes are kept only while the Grid is attached, as the data
+     * provider, which may be shared, is listened to for changes only then.
+     */
+    private static class ItemIndexCache<T> implements Serializable {
+        private final DataProvider<T, ?> dataProvider;
+        private final Query<T, ?> query;
+        private final IdentifierProvider<T> identifierProvider;
+        private final Object customIdentifierProvider;
+        private final Registration attachRegistration;
+        private final Registration detachRegistration;
+        private Registration dataProviderListenerRegistration;
+
+        private Map<Object, Integer> indexes;
+
+        private ItemIndexCache(Component component,
+                DataProvider<T, ?> dataProvider, Query<T, ?> query,
+                IdentifierProvider<T> identifierProvider,
+                Object customIdentifierProvider) {
+            this.dataProvider = dataProvider;
+            this.query = query;
+            this.identifierProvider = identifierProvider;
+            this.customIdentifierProvider = customIdentifierProvider;
+            if (component.isAttached()) {
+                addDataProviderListener();
+            }
+            attachRegistration = component
+                    .addAttachListener(event -> addDataProviderListener());
+            detachRegistration = component
+                    .addDetachListener(event -> removeDataProviderListener());
+        }
+
+        private void addDataProviderListener() {
+            if (dataProviderListenerRegistration == null) {
+                // Any refresh may change the items or their order
+                dataProviderListenerRegistration = dataProvider
+                        .addDataProviderListener(event -> indexes = null);
+            }
+        }
+
+        private void removeDataProviderListener() {
+            if (dataProviderListenerRegistration != null) {
+                dataProviderListenerRegistration.remove();
+                dataProviderListenerRegistration = null;
+            }
+            indexes = null;
+        }
+
+        private boolean isValidFor(DataProvider<T, ?> dataProvider,
+                Query<T, ?> query, Object identifierProvider) {
+            return this.dataProvider == dataProvider
+                    && this.query.getFilter().orElse(null) == query.getFilter()
+                            .orElse(null)
+                    && this.query.getInMemorySorting() == query
+                            .getInMemorySorting()
+                    && Objects.equals(this.query.getSortOrders(),
+                            query.getSortOrders())
+                    && this.customIdentifierProvider == identifierProvider;
+        }
+
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        private Integer getIndex(Object identifier) {
+            Map<Object, Integer> currentIndexes = indexes;
+            if (currentIndexes == null) {
+                Map<Object, Integer> newIndexes = new HashMap<>();
+                AtomicInteger index = new AtomicInteger();
+                ((DataProvider) dataProvider).fetch(query)
+                        .forEach(item -> newIndexes.putIfAbsent(
+                                identifierProvider.apply((T) item),
+                                index.getAndIncrement()));
+                currentIndexes = newIndexes;
+                // Without a listener, changes to the data would go unnoticed
+                if (dataProviderListenerRegistration != null) {
+                    indexes = newIndexes;
+                }
+            }
+            return currentIndexes.get(identifier);
+        }
+
+        private void dispose() {
+            removeDataProviderListener();
+            attachRegistration.remove();
+            detachRegistration.remove();
+        }
+    }
 }
@@ -0,0 +1,194 @@
+/*
+ * Copyright 2000-2025 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.component.treegrid;
+
+import java.io.Serializable;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.vaadin.flow.data.provider.Query;
+import com.vaadin.flow.data.provider.hierarchy.HierarchicalDataProvider;
+import com.vaadin.flow.data.provider.hierarchy.HierarchicalQuery;
+import com.vaadin.flow.shared.Registration;
+
+/**
+ * Index of the hierarchy of an in-memory data provider for a given state of
+ * the filter and sorting. For each item, the index keeps its parent, its depth
+ * and its position among its siblings, so that the path of an item can be
+ * resolved by following its ancestors instead of walking the child lists of
+ * the whole tree.
+ * <p>
+ * The index is built on first use and discarded whenever the data provider
+ * fires an event, as any refresh may change the items or their order.
+ *
+ * @param <T>
+ *            the item type
+ * @author Vaadin Ltd
+ */
+class HierarchyIndex<T> implements Serializable {
+
+    private static class Node<T> implements Serializable {
+        private final T item;
+        private final Node<T> parent;
+        private final int index;
+        private final int depth;
+
+        private Node(T item, Node<T> parent, int index) {
+            this.item = item;
+            this.parent = parent;
+            this.index = index;
+            this.depth = parent == null ? 0 : parent.depth + 1;
+        }
+    }
+
+    private final HierarchicalDataProvider<T, ?> dataProvider;
+    private final Query<T, ?> query;
+    private final Registration dataProviderListenerRegistration;
+
+    private Map<Object, Node<T>> nodes;
+
+    /**
+     * Creates a new index for the given data provider.
+     *
+     * @param dataProvider
+     *            the in-memory data provider to index, not {@code null}
+     * @param query
+     *            the query holding the filter and sorting to apply when
+     *            fetching the children of the items, not {@code null}
+     */
+    HierarchyIndex(HierarchicalDataProvider<T, ?> dataProvider,
+            Query<T, ?> query) {
+        this.dataProvider = Objects.requireNonNull(dataProvider);
+        this.query = Objects.requireNonNull(query);
+        dataProviderListenerRegistration = dataProvider
+                .addDataProviderListener(event -> nodes = null);
+    }
+
+    /**
+     * Checks whether this index is still valid for the given data provider,
+     * filter and sorting.
+     *
+     * @param dataProvider
+     *            the current data provider
+     * @param query
+     *            the query holding the current filter and sorting
+     * @return {@code true} if the index can be used, {@code false} if a new
+     *         index needs to be created
+     */
+    boolean isValidFor(HierarchicalDataProvider<T, ?> dataProvider,
+            Query<T, ?> query) {
+        return this.dataProvider == dataProvider
+                && this.query.getFilter().orElse(null) == query.getFilter()
+                        .orElse(null)
+                && this.query.getInMemorySorting() == query
+                        .getInMemorySorting()
+                && Objects.equals(this.query.getSortOrders(),
+                        query.getSortOrders());
+    }
+
+    /**
+     * Gets the indexes of the given item and its ancestors within their
+     * parents, starting from the root level. The returned path can be passed
+     * to {@link TreeGrid#scrollToIndex(int...)}.
+     *
+     * @param item
+     *            the item to get the path for
+     * @return the path of the item, or {@code null} if the item is not part of
+     *         the filtered hierarchy
+     */
+    int[] getIndexPath(T item) {
+        Node<T> node = getNode(item);
+        if (node == null) {
+            return null;
+        }
+        int[] path = new int[node.depth + 1];
+        for (; node != null; node = node.parent) {
+            path[node.depth] = node.index;
+        }
+        return path;
+    }
+
+    /**
+     * Gets the ancestors of the given item, starting from the root level.
+     *
+     * @param item
+     *            the item to get the ancestors for
+     * @return the ancestors of the item, or {@code null} if the item is not
+     *         part of the filtered hierarchy
+     */
+    List<T> getAncestors(T item) {
+        Node<T> node = getNode(item);
+        if (node == null) {
+            return null;
+        }
+        List<T> ancestors = new ArrayList<>(node.depth);
+        for (node = node.parent; node != null; node = node.parent) {
+            ancestors.add(node.item);
+        }
+        Collections.reverse(ancestors);
+        return ancestors;
+    }
+
+    /**
+     * Removes the data provider listener of this index.
+     */
+    void dispose() {
+        dataProviderListenerRegistration.remove();
+    }
+
+    private Node<T> getNode(T item) {
+        if (nodes == null) {
+            nodes = buildNodes();
+        }
+        return nodes.get(dataProvider.getId(item));
+    }
+
+    private Map<Object, Node<T>> buildNodes() {
+        Map<Object, Node<T>> newNodes = new HashMap<>();
+        Deque<Node<T>> parents = new ArrayDeque<>();
+        addChildren(null, newNodes, parents);
+        while (!parents.isEmpty()) {
+            addChildren(parents.pop(), newNodes, parents);
+        }
+        return newNodes;
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private void addChildren(Node<T> parent, Map<Object, Node<T>> newNodes,
+            Deque<Node<T>> parents) {
+        HierarchicalQuery childQuery = new HierarchicalQuery(0,
+                Integer.MAX_VALUE, query.getSortOrders(),
+                query.getInMemorySorting(), query.getFilter().orElse(null),
+                parent == null ? null : parent.item);
+        AtomicInteger index = new AtomicInteger();
+        ((HierarchicalDataProvider) dataProvider).fetchChildren(childQuery)
+                .forEach(child -> {
+                    Node<T> node = new Node<>((T) child, parent,
+                            index.getAndIncrement());
+                    newNodes.putIfAbsent(dataProvider.getId((T) child), node);
+                    if (dataProvider.hasChildren((T) child)) {
+                        parents.push(node);
+                    }
+                });
+    }
+}
@@ -28,6 +28,7 @@ import com.vaadin.flow.component.ClientCallable;
 import com.vaadin.flow.component.Component;
 import com.vaadin.flow.component.ComponentEventListener;
 import com.vaadin.flow.component.ComponentUtil;
+import com.vaadin.flow.component.DetachEvent;
 import com.vaadin.flow.component.dependency.JsModule;
 import com.vaadin.flow.component.grid.Grid;
 import com.vaadin.flow.component.grid.GridArrayUpdater;
@@ -43,6 +44,7 @@ import com.vaadin.flow.data.provider.CompositeDataGenerator;
 import com.vaadin.flow.data.provider.DataCommunicator;
 import com.vaadin.flow.data.provider.DataProvider;
 import com.vaadin.flow.data.provider.ListDataProvider;
+import com.vaadin.flow.data.provider.Query;
 import com.vaadin.flow.data.provider.hierarchy.HasHierarchicalDataProvider;
 import com.vaadin.flow.data.provider.hierarchy.HierarchicalArrayUpdater.HierarchicalUpdate;
 import com.vaadin.flow.data.provider.hierarchy.HierarchicalDataCommunicator;
@@ -213,6 +215,8 @@ public class TreeGrid<T> extends Grid<T>
         }
     }
 
+    private HierarchyIndex<T> hierarchyIndex;
+
     /**
      * Creates a new {@code TreeGrid} without support for creating columns based
      * on property names. Use an alternative constructor, such as
@@ -447,6 +451,7 @@ public class TreeGrid<T> extends Grid<T>
     public void setDataProvider(
             HierarchicalDataProvider<T, ?> hierarchicalDataProvider) {
         super.setDataProvider(hierarchicalDataProvider);
+        disposeHierarchyIndex();
     }
 
     /**
@@ -1167,21 +1172,76 @@ public class TreeGrid<T> extends Grid<T>
     }
 
     /**
-     * TreeGrid does not support scrolling to a given item. Use
-     * {@link #scrollToIndex(int...)} instead.
+     * Scrolls to the row presenting the given item. The ancestors of the item
+     * are expanded if they are not expanded yet.
      * <p>
-     * This method is inherited from Grid and has been marked as deprecated to
-     * indicate that it is not supported. This method will throw an
-     * {@link UnsupportedOperationException}.
+     * This method will <i>not</i> fire events for expanded nodes.
+     * <p>
+     * Scrolling to an item is only supported for in-memory data providers,
+     * such as a {@code TreeDataProvider}. The position of the item is resolved
+     * from an index of the hierarchy that is built on first use and kept
+     * until the data provider is refreshed or the filter or sorting changes.
+     * Use {@link #scrollToIndex(int...)} for other data providers.
      *
      * @param item
-     *            the item to scroll to
-     * @deprecated
+     *            the item to scroll to, not {@code null}
+     * @throws NullPointerException
+     *             if the {@code item} parameter is {@code null}
+     * @throws NoSuchElementException
+     *             if the {@code item} cannot be found
+     * @throws UnsupportedOperationException
+     *             if the data provider is not in-memory
      */
-    @Deprecated
     @Override
     public void scrollToItem(T item) {
-        throw new UnsupportedOperationException(
-                "scrollToItem method is not supported in TreeGrid");
+        Objects.requireNonNull(item, "Item to scroll to cannot be null.");
+        HierarchyIndex<T> index = getHierarchyIndex();
+        try {
+            int[] indexPath = index.getIndexPath(item);
+            if (indexPath == null) {
+                throw new NoSuchElementException(
+                        "Item to scroll to cannot be found: " + item);
+            }
+            getDataCommunicator().expand(index.getAncestors(item));
+            scrollToIndex(indexPath);
+        } finally {
+            if (!isAttached()) {
+                // The index listens to the data provider, which may outlive
+                // this component, so it is only kept while attached
+                disposeHierarchyIndex();
+            }
+        }
+    }
+
+    @Override
+    protected void onDetach(DetachEvent detachEvent) {
+        disposeHierarchyIndex();
+        super.onDetach(detachEvent);
+    }
+
+    private HierarchyIndex<T> getHierarchyIndex() {
+        HierarchicalDataProvider<T, SerializablePredicate<T>> dataProvider = getDataProvider();
+        if (dataProvider == null || !dataProvider.isInMemory()) {
+            throw new UnsupportedOperationException(
+                    "scrollToItem method is only supported in TreeGrid "
+                            + "with an in-memory data provider");
+        }
+        Query<T, ?> query = getDataCommunicator().buildQuery(0,
+                Integer.MAX_VALUE);
+        if (hierarchyIndex == null
+                || !hierarchyIndex.isValidFor(dataProvider, query)) {
+            if (hierarchyIndex != null) {
+                hierarchyIndex.dispose();
+            }
+            hierarchyIndex = new HierarchyIndex<>(dataProvider, query);
+        }
+        return hierarchyIndex;
+    }
+
+    private void disposeHierarchyIndex() {
+        if (hierarchyIndex != null) {
+            hierarchyIndex.dispose();
+            hierarchyIndex = null;
+        }
     }
 }
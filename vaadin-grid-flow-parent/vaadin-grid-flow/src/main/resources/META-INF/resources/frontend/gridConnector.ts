@@ -407,9 +407,34 @@ window.Vaadin.Flow.gridConnector.initLazy = (grid) => {
     });
   };
 
+  /* Keys of items with details opened but not yet generated on the server,
+   * which have been rendered in the viewport. Requested in batches.
+   */
+  let pendingDetailsKeys = new Set();
+  let pendingDetailsDebouncer;
+
+  const requestPendingDetails = function (item) {
+    pendingDetailsKeys.add(item.key);
+    pendingDetailsDebouncer = Debouncer.debounce(pendingDetailsDebouncer, animationFrame, () => {
+      // Send all rendered rows with opened details, so that the server does
+      // not evict the details of any of them to make room for the others
+      grid
+        ._getRenderedRows()
+        .filter((row) => !row.hidden && row._item && row._item.detailsOpened)
+        .forEach((row) => pendingDetailsKeys.add(row._item.key));
+      const keys = Array.from(pendingDetailsKeys);
+      pendingDetailsKeys.clear();
+      grid.$server.generateItemDetails(keys);
+    });
+  };
+
   grid._updateItem = function (row, item) {
     Grid.prototype._updateItem.call(grid, row, item);
 
+    if (!row.hidden && item && item.detailsOpened && item.detailsPending) {
+      requestPendingDetails(item);
+    }
+
     // There might be inactive component renderers on hidden rows that still refer to the
     // same component instance as one of the renderers on a visible row. Making the
     // inactive/hidden renderer attach the component might steal it from a visible/active one.
@@ -1024,6 +1049,35 @@ window.Vaadin.Flow.gridConnector.initLazy = (grid) => {
     return { key, columnId };
   };
 
+  grid.prepareClientSideContextMenu = function (contextMenu, event) {
+    const sourceEvent = event.detail.sourceEvent || event;
+    const { item } = grid.getEventContext(sourceEvent);
+    const state = item?.contextMenuState;
+    if (!state) {
+      // No precomputed state for the target, let the server decide
+      return undefined;
+    }
+    grid.$connector.applyContextMenuState(contextMenu, state);
+    return true;
+  };
+
+  grid.$connector.applyContextMenuState = function (contextMenu, state) {
+    const hidden = new Set(state.hidden);
+    const disabled = new Set(state.disabled);
+    const applyToItems = (items) => {
+      (items || []).forEach((item) => {
+        const stateId = item.component?._stateId;
+        if (stateId !== undefined) {
+          item.component.hidden = hidden.has(stateId);
+          item.component.disabled = disabled.has(stateId);
+          item.disabled = disabled.has(stateId);
+        }
+        applyToItems(item.children);
+      });
+    };
+    applyToItems(contextMenu.items);
+  };
+
   grid.preventContextMenu = function (event) {
     const isLeftClick = event.type === 'click';
     const { column } = grid.getEventContext(event);
@@ -0,0 +1,180 @@
+/*
+ * Copyright 2000-2025 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.component.grid;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.vaadin.flow.component.Text;
+import com.vaadin.flow.component.grid.Grid.Column;
+import com.vaadin.flow.data.provider.DataCommunicatorTest;
+import com.vaadin.flow.data.renderer.ComponentRenderer;
+
+public class ColumnWidthEstimatorTest {
+
+    private DataCommunicatorTest.MockUI ui;
+    private Grid<String> grid;
+    private List<String> items;
+    private ColumnWidthEstimator estimator;
+
+    @Before
+    public void setup() {
+        ui = new DataCommunicatorTest.MockUI();
+        grid = new Grid<>();
+        items = new ArrayList<>(List.of("a", "bb", "ccc"));
+        grid.setItems(items);
+        estimator = new ColumnWidthEstimator(10, 20);
+    }
+
+    @Test
+    public void estimateTextWidth_usesCharacterWidths() {
+        Assert.assertEquals(0, estimator.estimateTextWidth(null), 0);
+        Assert.assertEquals(0, estimator.estimateTextWidth(""), 0);
+        Assert.assertEquals(2.22, estimator.estimateTextWidth("i"), 0.001);
+        Assert.assertEquals(8.33, estimator.estimateTextWidth("M"), 0.001);
+        Assert.assertEquals(5.56 * 3, estimator.estimateTextWidth("123"),
+                0.001);
+        Assert.assertEquals(10, estimator.estimateTextWidth("漢"), 0.001);
+    }
+
+    @Test
+    public void estimateColumnWidth_usesWiderOfHeaderAndCells() {
+        Assert.assertEquals(20 + 17, estimator.estimateColumnWidth("123",
+                false, 10));
+        Assert.assertEquals(20 + 40, estimator.estimateColumnWidth("123",
+                false, 40));
+        Assert.assertEquals(20 + 27, estimator.estimateColumnWidth("123",
+                true, 10));
+    }
+
+    @Test
+    public void estimateColumnWidth_limitedByMinAndMaxWidth() {
+        estimator.setMinWidth(50);
+        estimator.setMaxWidth(100);
+
+        Assert.assertEquals(50, estimator.estimateColumnWidth(null, false, 0));
+        Assert.assertEquals(100,
+                estimator.estimateColumnWidth(null, false, 500));
+    }
+
+    @Test
+    public void estimatorSet_autoWidthTextColumn_notMeasuredByClient() {
+        Column<String> column = grid.addColumn(item -> item)
+                .setAutoWidth(true);
+        Assert.assertTrue(
+                column.getElement().getProperty("autoWidth", false));
+
+        grid.setColumnWidthEstimator(estimator);
+
+        Assert.assertTrue(column.isAutoWidth());
+        Assert.assertFalse(
+                column.getElement().getProperty("autoWidth", false));
+    }
+
+    @Test
+    public void estimatorSet_componentColumn_measuredByClient() {
+        grid.setColumnWidthEstimator(estimator);
+        Column<String> column = grid
+                .addColumn(new ComponentRenderer<>(item -> new Text(item)))
+                .setAutoWidth(true);
+
+        Assert.assertTrue(
+                column.getElement().getProperty("autoWidth", false));
+    }
+
+    @Test
+    public void estimatorRemoved_autoWidthTextColumn_measuredByClient() {
+        Column<String> column = grid.addColumn(item -> item)
+                .setAutoWidth(true);
+        grid.setColumnWidthEstimator(estimator);
+
+        grid.setColumnWidthEstimator(null);
+
+        Assert.assertTrue(
+                column.getElement().getProperty("autoWidth", false));
+    }
+
+    @Test
+    public void estimatorSet_dataSent_widthSetFromSampledItems() {
+        grid.setColumnWidthEstimator(estimator);
+        Column<String> autoWidthColumn = grid.addColumn(item -> item)
+                .setAutoWidth(true);
+        Column<String> fixedWidthColumn = grid.addColumn(item -> item)
+                .setWidth("200px");
+
+        fakeClientCommunication();
+
+        // "ccc" is 15px and the padding is 20px
+        Assert.assertEquals("35px", autoWidthColumn.getWidth());
+        Assert.assertEquals("200px", fixedWidthColumn.getWidth());
+    }
+
+    @Test
+    public void estimatorSet_onlySampleSizeItemsSampled() {
+        estimator.setSampleSize(2);
+        grid.setColumnWidthEstimator(estimator);
+        Column<String> column = grid.addColumn(item -> item)
+                .setAutoWidth(true);
+
+        fakeClientCommunication();
+
+        // "bb" is 11.12px and the padding is 20px
+        Assert.assertEquals("32px", column.getWidth());
+    }
+
+    @Test
+    public void estimatorSet_dataRefreshed_widthEstimatedAgain() {
+        grid.setColumnWidthEstimator(estimator);
+        Column<String> column = grid.addColumn(item -> item)
+                .setAutoWidth(true);
+        fakeClientCommunication();
+
+        items.add("ddddd");
+        grid.getDataProvider().refreshAll();
+        fakeClientCommunication();
+
+        // "ddddd" is 27.8px and the padding is 20px
+        Assert.assertEquals("48px", column.getWidth());
+    }
+
+    @Test
+    public void estimatorSet_recalculateColumnWidths_widthEstimatedAgain() {
+        grid.setColumnWidthEstimator(estimator);
+        Column<String> column = grid.addColumn(item -> item)
+                .setAutoWidth(true);
+        fakeClientCommunication();
+
+        column.setWidth("500px");
+        grid.recalculateColumnWidths();
+        fakeClientCommunication();
+
+        Assert.assertEquals("35px", column.getWidth());
+    }
+
+    private void fakeClientCommunication() {
+        if (grid.getUI().isEmpty()) {
+            ui.add(grid);
+            grid.getDataCommunicator().setRequestedRange(0, 50);
+        }
+        ui.getInternals().getStateTree().runExecutionsBeforeClientResponse();
+        ui.getInternals().getStateTree().collectChanges(ignore -> {
+        });
+    }
+}
@@ -0,0 +1,253 @@
+/*
+ * Copyright 2000-2025 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.component.grid;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.vaadin.flow.component.ClientCallable;
+import com.vaadin.flow.component.grid.Grid.Column;
+import com.vaadin.flow.data.provider.CompositeDataGenerator;
+import com.vaadin.flow.data.provider.DataCommunicator;
+import com.vaadin.flow.data.renderer.LitRenderer;
+import com.vaadin.flow.dom.DisabledUpdateMode;
+import com.vaadin.flow.dom.Element;
+import com.vaadin.flow.function.SerializableSupplier;
+import com.vaadin.flow.function.ValueProvider;
+
+import elemental.json.Json;
+import elemental.json.JsonArray;
+import elemental.json.JsonObject;
+
+public class GridRowDataGenerationTest {
+
+    private CapturingDataCommunicatorBuilder builder;
+    private Grid<String> grid;
+    private Column<String> column;
+
+    @Before
+    public void setup() {
+        builder = new CapturingDataCommunicatorBuilder();
+        grid = new TestGrid(builder);
+        column = grid.addColumn(item -> item);
+    }
+
+    @Test
+    public void noGenerators_noNestedObjectsGenerated() {
+        JsonObject json = generateData("foo");
+
+        Assert.assertFalse(json.hasKey("style"));
+        Assert.assertFalse(json.hasKey("part"));
+        Assert.assertFalse(json.hasKey("gridtooltips"));
+        Assert.assertFalse(json.hasKey("dragData"));
+    }
+
+    @Test
+    public void cellGenerators_valuesGeneratedByColumnId() {
+        column.setClassNameGenerator(item -> item.equals("foo") ? "a" : null);
+        column.setPartNameGenerator(item -> "b");
+        column.setTooltipGenerator(item -> "c");
+
+        JsonObject json = generateData("foo");
+
+        Assert.assertEquals("a", json.getObject("style")
+                .getString(column.getInternalId()));
+        Assert.assertEquals("b",
+                json.getObject("part").getString(column.getInternalId()));
+        Assert.assertEquals("c", json.getObject("gridtooltips")
+                .getString(column.getInternalId()));
+        Assert.assertFalse(generateData("bar").hasKey("style"));
+    }
+
+    @Test
+    public void rowGenerators_rowValuesGenerated() {
+        grid.setClassNameGenerator(item -> "a");
+        grid.setPartNameGenerator(item -> "b");
+        grid.setTooltipGenerator(item -> "c");
+
+        JsonObject json = generateData("foo");
+
+        Assert.assertEquals("a", json.getObject("style").getString("row"));
+        Assert.assertEquals("b", json.getObject("part").getString("row"));
+        Assert.assertEquals("c",
+                json.getObject("gridtooltips").getString("row"));
+        Assert.assertEquals(1, json.getObject("style").keys().length);
+    }
+
+    @Test
+    public void detailsVisible_eager_detailsGenerated() {
+        AtomicInteger generated = setItemDetailsRenderer();
+        grid.setDetailsVisible("foo", true);
+
+        JsonObject json = generateData("foo");
+
+        Assert.assertTrue(json.getBoolean("detailsOpened"));
+        Assert.assertFalse(json.hasKey("detailsPending"));
+        Assert.assertEquals(1, generated.get());
+    }
+
+    @Test
+    public void detailsVisible_lazy_detailsPendingUntilRequested() {
+        AtomicInteger generated = setItemDetailsRenderer();
+        grid.setItemDetailsCacheSize(10);
+        grid.setDetailsVisible("foo", true);
+
+        JsonObject json = generateData("foo");
+        Assert.assertTrue(json.getBoolean("detailsOpened"));
+        Assert.assertTrue(json.getBoolean("detailsPending"));
+        Assert.assertEquals(0, generated.get());
+
+        generateItemDetails("foo");
+        json = generateData("foo");
+        Assert.assertFalse(json.hasKey("detailsPending"));
+        Assert.assertEquals(1, generated.get());
+    }
+
+    @Test
+    public void detailsCacheSizeExceeded_leastRecentlyUsedDetailsEvicted() {
+        setItemDetailsRenderer();
+        grid.setItemDetailsCacheSize(2);
+        grid.setDetailsVisible("foo", true);
+        grid.setDetailsVisible("bar", true);
+        grid.setDetailsVisible("baz", true);
+
+        generateItemDetails("foo", "bar");
+        generateData("foo");
+        generateItemDetails("baz");
+
+        Assert.assertFalse(generateData("foo").hasKey("detailsPending"));
+        Assert.assertTrue(generateData("bar").hasKey("detailsPending"));
+        Assert.assertFalse(generateData("baz").hasKey("detailsPending"));
+        Assert.assertTrue(grid.isDetailsVisible("bar"));
+    }
+
+    @Test
+    public void moreRenderedDetailsThanCacheSize_renderedDetailsKept() {
+        AtomicInteger generated = setItemDetailsRenderer();
+        grid.setItemDetailsCacheSize(2);
+        grid.setDetailsVisible("foo", true);
+        grid.setDetailsVisible("bar", true);
+        grid.setDetailsVisible("baz", true);
+
+        generateItemDetails("foo", "bar", "baz");
+        Assert.assertFalse(generateData("foo").hasKey("detailsPending"));
+        Assert.assertFalse(generateData("bar").hasKey("detailsPending"));
+        Assert.assertFalse(generateData("baz").hasKey("detailsPending"));
+        Assert.assertEquals(3, generated.get());
+
+        generateItemDetails("foo", "bar", "baz");
+        Assert.assertFalse(generateData("foo").hasKey("detailsPending"));
+        Assert.assertFalse(generateData("bar").hasKey("detailsPending"));
+        Assert.assertFalse(generateData("baz").hasKey("detailsPending"));
+        Assert.assertEquals(6, generated.get());
+    }
+
+    @Test
+    public void disabledGrid_detailsGeneratedWhenRequested()
+            throws NoSuchMethodException {
+        AtomicInteger generated = setItemDetailsRenderer();
+        grid.setItemDetailsCacheSize(10);
+        grid.setDetailsVisible("foo", true);
+        grid.setEnabled(false);
+
+        // The client must be able to request details of a disabled grid
+        Assert.assertEquals(DisabledUpdateMode.ALWAYS,
+                Grid.class.getDeclaredMethod("generateItemDetails",
+                        JsonArray.class).getAnnotation(ClientCallable.class)
+                        .value());
+        generateItemDetails("foo");
+
+        Assert.assertFalse(generateData("foo").hasKey("detailsPending"));
+        Assert.assertEquals(1, generated.get());
+    }
+
+    @Test
+    public void detailsHidden_notGeneratedWhenRequested() {
+        AtomicInteger generated = setItemDetailsRenderer();
+        grid.setItemDetailsCacheSize(10);
+
+        generateItemDetails("foo");
+
+        Assert.assertFalse(generateData("foo").hasKey("detailsOpened"));
+        Assert.assertEquals(0, generated.get());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void negativeDetailsCacheSize_throws() {
+        grid.setItemDetailsCacheSize(-1);
+    }
+
+    private AtomicInteger setItemDetailsRenderer() {
+        AtomicInteger generated = new AtomicInteger();
+        grid.setItemDetailsRenderer(
+                LitRenderer.<String> of("${item.details}")
+                        .withProperty("details", item -> {
+                            generated.incrementAndGet();
+                            return item;
+                        }));
+        return generated;
+    }
+
+    private void generateItemDetails(String... items) {
+        JsonArray keys = Json.createArray();
+        for (String item : items) {
+            keys.set(keys.length(),
+                    grid.getDataCommunicator().getKeyMapper().key(item));
+        }
+        try {
+            Method method = Grid.class.getDeclaredMethod("generateItemDetails",
+                    JsonArray.class);
+            method.setAccessible(true);
+            method.invoke(grid, keys);
+        } catch (NoSuchMethodException | IllegalAccessException
+                | InvocationTargetException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private JsonObject generateData(String item) {
+        JsonObject json = Json.createObject();
+        builder.dataGenerator.generateData(item, json);
+        return json;
+    }
+
+    private static class TestGrid extends Grid<String> {
+        TestGrid(CapturingDataCommunicatorBuilder builder) {
+            super(50, null, builder);
+        }
+    }
+
+    private static class CapturingDataCommunicatorBuilder
+            extends Grid.DataCommunicatorBuilder<String, GridArrayUpdater> {
+
+        private CompositeDataGenerator<String> dataGenerator;
+
+        @Override
+        protected DataCommunicator<String> build(Element element,
+                CompositeDataGenerator<String> dataGenerator,
+                GridArrayUpdater arrayUpdater,
+                SerializableSupplier<ValueProvider<String, String>> uniqueKeyProviderSupplier) {
+            this.dataGenerator = dataGenerator;
+            return super.build(element, dataGenerator, arrayUpdater,
+                    uniqueKeyProviderSupplier);
+        }
+    }
+}
@@ -15,15 +15,25 @@
  */
 package com.vaadin.flow.component.grid;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 
 import com.vaadin.flow.component.treegrid.TreeGrid;
 import com.vaadin.flow.data.provider.DataCommunicatorTest;
+import com.vaadin.flow.data.provider.DataProviderListener;
 import com.vaadin.flow.data.provider.hierarchy.HierarchicalDataProvider;
+import com.vaadin.flow.data.provider.hierarchy.HierarchicalQuery;
 import com.vaadin.flow.data.provider.hierarchy.TreeData;
 import com.vaadin.flow.data.provider.hierarchy.TreeDataProvider;
+import com.vaadin.flow.function.SerializablePredicate;
+import com.vaadin.flow.shared.Registration;
 
 public class TreeGridTest {
 
@@ -73,6 +83,182 @@ public class TreeGridTest {
                 treeGrid.getDataCommunicator().getKeyMapper().get("key 2"));
     }
 
+    @Test
+    public void scrollToItem_nestedItem_expandsAncestorsAndScrollsToIndexPath() {
+        TreeData<Item> treeData = new TreeData<>();
+        Item root = addItems(treeData, null, "root", 2).get(1);
+        Item child = addItems(treeData, root, "child", 3).get(0);
+        Item grandChild = addItems(treeData, child, "grandChild", 3).get(2);
+        treeGrid.setDataProvider(new TreeDataProvider<>(treeData));
+
+        treeGrid.scrollToItem(grandChild);
+
+        Assert.assertTrue(treeGrid.isExpanded(root));
+        Assert.assertTrue(treeGrid.isExpanded(child));
+        Assert.assertFalse(treeGrid.isExpanded(grandChild));
+        Assert.assertEquals("this.scrollToIndex(1,0,2);",
+                getScrollToIndexExpression());
+    }
+
+    @Test
+    public void scrollToItem_rootItem_scrollsToRootIndex() {
+        TreeData<Item> treeData = new TreeData<>();
+        Item root = addItems(treeData, null, "root", 3).get(2);
+        treeGrid.setDataProvider(new TreeDataProvider<>(treeData));
+
+        treeGrid.scrollToItem(root);
+
+        Assert.assertEquals("this.scrollToIndex(2);",
+                getScrollToIndexExpression());
+    }
+
+    @Test
+    public void scrollToItem_multipleTimes_hierarchyFetchedOnce() {
+        TreeData<Item> treeData = new TreeData<>();
+        Item root = addItems(treeData, null, "root", 2).get(0);
+        List<Item> children = addItems(treeData, root, "child", 2);
+        AtomicInteger fetchCount = new AtomicInteger();
+        treeGrid.setDataProvider(new TreeDataProvider<>(treeData) {
+            @Override
+            public Stream<Item> fetchChildren(
+                    HierarchicalQuery<Item, SerializablePredicate<Item>> query) {
+                fetchCount.incrementAndGet();
+                return super.fetchChildren(query);
+            }
+        });
+
+        treeGrid.scrollToItem(children.get(0));
+        int fetchCountAfterFirstScroll = fetchCount.get();
+        treeGrid.scrollToItem(children.get(1));
+        treeGrid.scrollToItem(root);
+
+        Assert.assertEquals(fetchCountAfterFirstScroll, fetchCount.get());
+    }
+
+    @Test
+    public void scrollToItem_treeDataChangedAndRefreshed_usesNewHierarchy() {
+        TreeData<Item> treeData = new TreeData<>();
+        Item root = addItems(treeData, null, "root", 2).get(1);
+        Item child = addItems(treeData, root, "child", 2).get(1);
+        TreeDataProvider<Item> dataProvider = new TreeDataProvider<>(treeData);
+        treeGrid.setDataProvider(dataProvider);
+        treeGrid.scrollToItem(child);
+        getScrollToIndexExpression();
+
+        treeData.removeItem(treeData.getChildren(root).get(0));
+        dataProvider.refreshAll();
+        treeGrid.scrollToItem(child);
+
+        Assert.assertEquals("this.scrollToIndex(1,0);",
+                getScrollToIndexExpression());
+    }
+
+    @Test
+    public void scrollToItem_filterChanged_usesFilteredHierarchy() {
+        TreeData<Item> treeData = new TreeData<>();
+        Item root = addItems(treeData, null, "root", 1).get(0);
+        Item child = addItems(treeData, root, "child", 3).get(2);
+        TreeDataProvider<Item> dataProvider = new TreeDataProvider<>(treeData);
+        treeGrid.setDataProvider(dataProvider);
+        treeGrid.scrollToItem(child);
+        getScrollToIndexExpression();
+
+        dataProvider.setFilter(item -> !item.getKey().equals("child 0"));
+        treeGrid.scrollToItem(child);
+
+        Assert.assertEquals("this.scrollToIndex(0,1);",
+                getScrollToIndexExpression());
+    }
+
+    @Test
+    public void scrollToItem_gridDetached_dataProviderListenerRemoved() {
+        TreeData<Item> treeData = new TreeData<>();
+        Item root = addItems(treeData, null, "root", 2).get(1);
+        AtomicInteger listenerCount = new AtomicInteger();
+        TreeDataProvider<Item> dataProvider = new TreeDataProvider<>(
+                treeData) {
+            @Override
+            public Registration addDataProviderListener(
+                    DataProviderListener<Item> listener) {
+                listenerCount.incrementAndGet();
+                Registration registration = super.addDataProviderListener(
+                        listener);
+                return () -> {
+                    listenerCount.decrementAndGet();
+                    registration.remove();
+                };
+            }
+        };
+        treeGrid.setDataProvider(dataProvider);
+        ui.remove(treeGrid);
+        int detachedListenerCount = listenerCount.get();
+
+        treeGrid.scrollToItem(root);
+        Assert.assertEquals(detachedListenerCount, listenerCount.get());
+
+        ui.add(treeGrid);
+        treeGrid.scrollToItem(root);
+        ui.remove(treeGrid);
+        Assert.assertEquals(detachedListenerCount, listenerCount.get());
+    }
+
+    @Test
+    public void scrollToItem_dataProviderChanged_listenerRemoved() {
+        TreeData<Item> treeData = new TreeData<>();
+        Item root = addItems(treeData, null, "root", 2).get(1);
+        AtomicInteger listenerCount = new AtomicInteger();
+        treeGrid.setDataProvider(new TreeDataProvider<>(treeData) {
+            @Override
+            public Registration addDataProviderListener(
+                    DataProviderListener<Item> listener) {
+                listenerCount.incrementAndGet();
+                Registration registration = super.addDataProviderListener(
+                        listener);
+                return () -> {
+                    listenerCount.decrementAndGet();
+                    registration.remove();
+                };
+            }
+        });
+        treeGrid.scrollToItem(root);
+
+        treeGrid.setDataProvider(new TreeDataProvider<>(treeData));
+
+        Assert.assertEquals(0, listenerCount.get());
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void scrollToItem_unknownItem_throws() {
+        treeGrid.scrollToItem(new Item("unknown"));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void scrollToItem_lazyDataProvider_throws() {
+        TreeGrid<HierarchicalTestBean> lazyTreeGrid = new TreeGrid<>();
+        lazyTreeGrid.setDataProvider(new LazyHierarchicalDataProvider(2, 2));
+
+        lazyTreeGrid.scrollToItem(new HierarchicalTestBean(null, 0, 0));
+    }
+
+    private static List<Item> addItems(TreeData<Item> treeData,
+            Item parent, String prefix, int count) {
+        List<Item> items = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Item item = new Item(prefix + " " + i);
+            treeData.addItem(parent, item);
+            items.add(item);
+        }
+        return items;
+    }
+
+    private String getScrollToIndexExpression() {
+        ui.getInternals().getStateTree().runExecutionsBeforeClientResponse();
+        return ui.getInternals().dumpPendingJavaScriptInvocations().stream()
+                .map(invocation -> invocation.getInvocation().getExpression())
+                .filter(expression -> expression.contains("scrollToIndex"))
+                .reduce((first, second) -> second).orElse(null);
+    }
+
     private void fakeClientCommunication() {
         ui.getInternals().getStateTree().runExecutionsBeforeClientResponse();
         ui.getInternals().getStateTree().collectChanges(ignore -> {
@@ -34,6 +34,8 @@ import com.vaadin.flow.function.SerializableRunnable;
 import com.vaadin.flow.internal.StateNode;
 import com.vaadin.flow.shared.Registration;
 
+import elemental.json.JsonObject;
+
 public class GridContextMenuTest {
 
     private MenuManager menuManager = Mockito.mock(MenuManager.class);
@@ -122,4 +124,54 @@ public class GridContextMenuTest {
         Mockito.verify(element).executeJs(
                 "if (this.$contextMenuTargetConnector) { this.$contextMenuTargetConnector.removeConnector() }");
     }
+
+    @Test
+    public void setVisibilityProvider_stateIdSetToMenuItem() {
+        GridContextMenu<String> gridContextMenu = new GridContextMenu<>();
+        GridMenuItem<String> foo = gridContextMenu.addItem("foo", null);
+        GridMenuItem<String> bar = gridContextMenu.addItem("bar", null);
+
+        foo.setVisibilityProvider(item -> true);
+        bar.setEnabledProvider(item -> true);
+
+        Assert.assertEquals("0", foo.getElement().getProperty("_stateId"));
+        Assert.assertEquals("1", bar.getElement().getProperty("_stateId"));
+    }
+
+    @Test
+    public void createItemState_hiddenAndDisabledItemsListed() {
+        GridContextMenu<String> gridContextMenu = new GridContextMenu<>(
+                new Grid<>());
+        GridMenuItem<String> edit = gridContextMenu.addItem("edit", null);
+        GridMenuItem<String> delete = gridContextMenu.addItem("delete", null);
+        GridMenuItem<String> share = delete.getSubMenu().addItem("share",
+                null);
+        gridContextMenu.addItem("static", null);
+
+        edit.setEnabledProvider(item -> item.startsWith("a"));
+        delete.setVisibilityProvider(item -> item.length() > 3);
+        share.setVisibilityProvider(item -> item.endsWith("z"));
+
+        JsonObject state = gridContextMenu.createItemState("abc");
+        Assert.assertEquals("[\"1\",\"2\"]", state.get("hidden").toJson());
+        Assert.assertFalse(state.hasKey("disabled"));
+
+        state = gridContextMenu.createItemState("xyz1");
+        Assert.assertEquals("[\"2\"]", state.get("hidden").toJson());
+        Assert.assertEquals("[\"0\"]", state.get("disabled").toJson());
+    }
+
+    @Test
+    public void createItemState_menuItemDisabled_disabledForAllItems() {
+        GridContextMenu<String> gridContextMenu = new GridContextMenu<>(
+                new Grid<>());
+        GridMenuItem<String> edit = gridContextMenu.addItem("edit", null);
+        edit.setEnabledProvider(item -> true);
+
+        edit.setEnabled(false);
+
+        Assert.assertEquals("[\"0\"]",
+                gridContextMenu.createItemState("abc").get("disabled")
+                        .toJson());
+    }
 }
@@ -16,6 +16,8 @@
 package com.vaadin.flow.component.grid.dataview;
 
 import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 
@@ -24,11 +26,18 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import com.vaadin.flow.component.UI;
 import com.vaadin.flow.component.grid.Grid;
 import com.vaadin.flow.data.provider.AbstractListDataView;
 import com.vaadin.flow.data.provider.AbstractListDataViewListenerTest;
+import com.vaadin.flow.data.provider.DataProviderListener;
 import com.vaadin.flow.data.provider.HasListDataView;
 import com.vaadin.flow.data.provider.ListDataProvider;
+import com.vaadin.flow.data.provider.Query;
+import com.vaadin.flow.data.provider.SortDirection;
+import com.vaadin.flow.function.SerializablePredicate;
+import com.vaadin.flow.function.ValueProvider;
+import com.vaadin.flow.shared.Registration;
 
 public class GridListDataViewTest extends AbstractListDataViewListenerTest {
 
@@ -171,6 +180,116 @@ public class GridListDataViewTest extends AbstractListDataViewListenerTest {
                 dataView.contains("absent item"));
     }
 
+    @Test
+    public void getItemIndex_itemsFetchedOnlyOnce() {
+        AtomicInteger fetchCount = new AtomicInteger();
+        ListDataProvider<String> dataProvider = new ListDataProvider<>(
+                new ArrayList<>(List.of("first", "middle", "last"))) {
+            @Override
+            public Stream<String> fetch(
+                    Query<String, SerializablePredicate<String>> query) {
+                fetchCount.incrementAndGet();
+                return super.fetch(query);
+            }
+        };
+        Grid<String> grid = new Grid<>();
+        grid.setItems(dataProvider);
+        new UI().add(grid);
+
+        Assert.assertEquals(Optional.of(2),
+                grid.getListDataView().getItemIndex("last"));
+        Assert.assertEquals(Optional.of(0),
+                grid.getListDataView().getItemIndex("first"));
+        Assert.assertEquals(Optional.empty(),
+                grid.getListDataView().getItemIndex("absent item"));
+        Assert.assertEquals(1, fetchCount.get());
+    }
+
+    @Test
+    public void getItemIndex_gridDetached_dataProviderListenerRemoved() {
+        AtomicInteger listenerCount = new AtomicInteger();
+        ListDataProvider<String> dataProvider = new ListDataProvider<>(
+                new ArrayList<>(List.of("first", "middle", "last"))) {
+            @Override
+            public Registration addDataProviderListener(
+                    DataProviderListener<String> listener) {
+                listenerCount.incrementAndGet();
+                Registration registration = super.addDataProviderListener(
+                        listener);
+                return () -> {
+                    listenerCount.decrementAndGet();
+                    registration.remove();
+                };
+            }
+        };
+        Grid<String> grid = new Grid<>();
+        grid.setItems(dataProvider);
+        UI ui = new UI();
+        ui.add(grid);
+        ui.remove(grid);
+        int detachedListenerCount = listenerCount.get();
+        ui.add(grid);
+        int attachedListenerCount = listenerCount.get();
+
+        Assert.assertEquals(Optional.of(2),
+                grid.getListDataView().getItemIndex("last"));
+        Assert.assertEquals(attachedListenerCount + 1, listenerCount.get());
+
+        ui.remove(grid);
+        Assert.assertEquals(detachedListenerCount, listenerCount.get());
+        dataProvider.getItems().remove("first");
+        Assert.assertEquals(Optional.of(1),
+                grid.getListDataView().getItemIndex("last"));
+        Assert.assertEquals(detachedListenerCount, listenerCount.get());
+    }
+
+    @Test
+    public void getItemIndex_itemsChanged_indexUpdated() {
+        Grid<String> grid = new Grid<>();
+        GridListDataView<String> dataView = grid.setItems("first", "middle",
+                "last");
+        Assert.assertEquals(Optional.of(2), dataView.getItemIndex("last"));
+
+        dataView.addItemBefore("new", "first");
+        Assert.assertEquals(Optional.of(3), dataView.getItemIndex("last"));
+
+        dataView.removeItem("new");
+        Assert.assertEquals(Optional.of(2), dataView.getItemIndex("last"));
+    }
+
+    @Test
+    public void getItemIndex_filterAndSortingChanged_indexUpdated() {
+        Grid<String> grid = new Grid<>();
+        GridListDataView<String> dataView = grid.setItems("first", "middle",
+                "last");
+
+        dataView.setSortOrder(ValueProvider.identity(),
+                SortDirection.ASCENDING);
+        Assert.assertEquals(Optional.of(0), dataView.getItemIndex("first"));
+        Assert.assertEquals(Optional.of(1), dataView.getItemIndex("last"));
+
+        dataView.setFilter(item -> !item.equals("first"));
+        Assert.assertEquals(Optional.empty(), dataView.getItemIndex("first"));
+        Assert.assertEquals(Optional.of(0), dataView.getItemIndex("last"));
+
+        grid.getListDataView().removeFilters();
+        grid.getListDataView().removeSorting();
+        Assert.assertEquals(Optional.of(2),
+                grid.getListDataView().getItemIndex("last"));
+    }
+
+    @Test
+    public void getItemIndex_identifierProviderChanged_indexUpdated() {
+        Grid<String> grid = new Grid<>();
+        GridListDataView<String> dataView = grid.setItems("first", "middle",
+                "last");
+        Assert.assertEquals(Optional.empty(), dataView.getItemIndex("lost"));
+
+        dataView.setIdentifierProvider(item -> item.substring(0, 1));
+
+        Assert.assertEquals(Optional.of(2), dataView.getItemIndex("lost"));
+    }
+
     @Override
     protected HasListDataView<String, ? extends AbstractListDataView<String>> getComponent() {
         return new Grid<>();
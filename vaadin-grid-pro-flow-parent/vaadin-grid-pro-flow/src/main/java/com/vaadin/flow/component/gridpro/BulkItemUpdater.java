@@ -0,0 +1,38 @@
+/**
+ * Copyright 2000-2025 Vaadin Ltd.
+ *
+ * This program is available under Vaadin Commercial License and Service Terms.
+ *
+ * See {@literal <https://vaadin.com/commercial-license-and-service-terms>} for the full
+ * license.
+ */
+package com.vaadin.flow.component.gridpro;
+
+import java.util.Collection;
+
+import com.vaadin.flow.function.SerializableConsumer;
+
+/**
+ * Callback that is called with a batch of edited items when write-behind
+ * editing is enabled.
+ *
+ * @param <T>
+ *            the item type
+ *
+ * @see GridPro#setWriteBehind(BulkItemUpdater, int)
+ */
+@FunctionalInterface
+public interface BulkItemUpdater<T>
+        extends SerializableConsumer<Collection<T>> {
+
+    /**
+     * Called with the items that have been edited since the previous batch
+     * was committed. Each item is included only once, in the order in which
+     * the items were first edited.
+     *
+     * @param items
+     *            the edited items, not <code>null</code>
+     */
+    @Override
+    void accept(Collection<T> items);
+}
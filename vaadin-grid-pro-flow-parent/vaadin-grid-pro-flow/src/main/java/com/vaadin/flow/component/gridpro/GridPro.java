@@ -8,7 +8,11 @@
  */
 package com.vaadin.flow.component.gridpro;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -68,6 +72,13 @@ public class GridPro<E> extends Grid<E> {
 
     private Map<String, Column<E>> idToColumnMap = new HashMap<>();
 
+    private BulkItemUpdater<E> bulkItemUpdater;
+    private int writeBehindBatchSize;
+    private Duration writeBehindMaxDelay;
+    private final List<E> pendingEditItems = new ArrayList<>();
+    private final Map<E, Boolean> pendingRefreshItems = new IdentityHashMap<>();
+    private long firstPendingEditNanos;
+
     /**
      * Instantiates a new CrudGrid for the supplied bean type.
      *
@@ -137,6 +148,11 @@ public class GridPro<E> extends Grid<E> {
                                     + "Either change the hashCode implementation so that it does not rely on editable fields, or "
                                     + "override DataProvider.getId() to generate a stable ID that does not change when editing fields.");
                 }
+            }
+
+            if (bulkItemUpdater != null) {
+                queuePendingEdit(e.getItem(), !column.isManualRefresh());
+            } else if (!column.isManualRefresh()) {
                 getDataProvider().refreshItem(e.getItem());
             }
 
@@ -163,6 +179,145 @@ public class GridPro<E> extends Grid<E> {
         addAttachListener(e -> getElement().executeJs(
                 "window.Vaadin.Flow.gridProConnector.initUpdatingCellAnimation($0);",
                 getElement()));
+        addDetachListener(e -> flushPendingEdits());
+    }
+
+    /**
+     * Enables or disables write-behind editing.
+     * <p>
+     * By default, each edited cell is committed on its own: the column's
+     * {@link ItemUpdater} is called and the edited row is refreshed right
+     * away. With write-behind editing, the item updater is still called for
+     * each edit so that the item always reflects the entered values, but the
+     * edited items are buffered and passed to the given bulk updater in
+     * batches, for example to save them to a backend in a single operation.
+     * The rows of the committed items are refreshed together after the bulk
+     * updater has been called.
+     * <p>
+     * A batch is committed when it reaches the given size, when the delay set
+     * with {@link #setWriteBehindMaxDelay(Duration)} has passed, when
+     * {@link #flushPendingEdits()} is called, and when the grid is detached.
+     * <p>
+     * Setting the bulk updater to <code>null</code> disables write-behind
+     * editing after committing the pending edits with the previous bulk
+     * updater.
+     *
+     * @param bulkItemUpdater
+     *            the callback that commits a batch of edited items, or
+     *            <code>null</code> to disable write-behind editing
+     * @param batchSize
+     *            the number of edited items after which a batch is committed
+     *            automatically, must be greater than zero
+     */
+    public void setWriteBehind(BulkItemUpdater<E> bulkItemUpdater,
+            int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException(
+                    "Batch size must be greater than zero");
+        }
+        if (bulkItemUpdater == null) {
+            flushPendingEdits();
+        }
+        this.bulkItemUpdater = bulkItemUpdater;
+        this.writeBehindBatchSize = batchSize;
+    }
+
+    /**
+     * Gets the bulk updater used for write-behind editing.
+     *
+     * @return the bulk updater, or <code>null</code> if write-behind editing
+     *         is not enabled
+     * @see #setWriteBehind(BulkItemUpdater, int)
+     */
+    public BulkItemUpdater<E> getBulkItemUpdater() {
+        return bulkItemUpdater;
+    }
+
+    /**
+     * Sets the maximum time that edits are kept pending when write-behind
+     * editing is enabled. The delay is checked whenever a cell is edited, so a
+     * batch older than the delay is committed along with the next edit rather
+     * than in the background. Use {@link #flushPendingEdits()} to commit the
+     * pending edits at a specific moment.
+     *
+     * @param maxDelay
+     *            the maximum delay, or <code>null</code> to commit batches
+     *            only by size
+     * @see #setWriteBehind(BulkItemUpdater, int)
+     */
+    public void setWriteBehindMaxDelay(Duration maxDelay) {
+        this.writeBehindMaxDelay = maxDelay;
+    }
+
+    /**
+     * Gets the maximum time that edits are kept pending when write-behind
+     * editing is enabled.
+     *
+     * @return the maximum delay, or <code>null</code> if not set
+     */
+    public Duration getWriteBehindMaxDelay() {
+        return writeBehindMaxDelay;
+    }
+
+    /**
+     * Gets the items that have been edited but not yet committed with the
+     * bulk updater.
+     *
+     * @return an unmodifiable list of the pending items, in the order in which
+     *         they were first edited
+     * @see #setWriteBehind(BulkItemUpdater, int)
+     */
+    public List<E> getPendingEditItems() {
+        return Collections.unmodifiableList(pendingEditItems);
+    }
+
+    /**
+     * Commits the pending edits by passing the edited items to the bulk
+     * updater, and refreshes the rows of the committed items. Does nothing if
+     * there are no pending edits.
+     * <p>
+     * The pending edits are cleared before the bulk updater is called, so they
+     * are not committed again if the bulk updater throws an exception.
+     *
+     * @see #setWriteBehind(BulkItemUpdater, int)
+     */
+    public void flushPendingEdits() {
+        if (pendingEditItems.isEmpty()) {
+            return;
+        }
+        List<E> items = new ArrayList<>(pendingEditItems);
+        Map<E, Boolean> refreshItems = new IdentityHashMap<>(
+                pendingRefreshItems);
+        pendingEditItems.clear();
+        pendingRefreshItems.clear();
+
+        bulkItemUpdater.accept(Collections.unmodifiableList(items));
+
+        for (E item : items) {
+            if (refreshItems.containsKey(item)) {
+                getDataProvider().refreshItem(item);
+            }
+        }
+    }
+
+    private void queuePendingEdit(E item, boolean refresh) {
+        if (pendingEditItems.isEmpty()) {
+            firstPendingEditNanos = System.nanoTime();
+        }
+        if (pendingEditItems.stream().noneMatch(pending -> pending == item)) {
+            pendingEditItems.add(item);
+        }
+        if (refresh) {
+            pendingRefreshItems.put(item, Boolean.TRUE);
+        }
+
+        boolean batchFull = pendingEditItems.size() >= writeBehindBatchSize;
+        long pendingNanos = System.nanoTime() - firstPendingEditNanos;
+        boolean batchExpired = writeBehindMaxDelay != null
+                && pendingNanos >= writeBehindMaxDelay.toNanos();
+        if (batchFull || batchExpired) {
+            flushPendingEdits();
+        }
     }
 
     /**
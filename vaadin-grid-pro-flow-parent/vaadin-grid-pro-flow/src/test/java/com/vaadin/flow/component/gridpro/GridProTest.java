@@ -10,6 +10,7 @@ package com.vaadin.flow.component.gridpro;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.Assert;
 import org.junit.Before;
@@ -162,4 +163,76 @@ public class GridProTest {
         Mockito.verify(itemUpdater, Mockito.times(1)).accept(Mockito.any(),
                 Mockito.any());
     }
+
+    @Test
+    public void writeBehind_editsBufferedUntilBatchIsFull() {
+        Person otherItem = new Person("Bar", 1997);
+        Mockito.when(grid.getDataCommunicator().getKeyMapper().get("2"))
+                .thenReturn(otherItem);
+        List<List<Person>> batches = new ArrayList<>();
+        grid.setWriteBehind(items -> batches.add(new ArrayList<>(items)), 2);
+
+        fireItemPropertyChanged("1");
+        fireItemPropertyChanged("1");
+
+        Assert.assertEquals(List.of(testItem), grid.getPendingEditItems());
+        Assert.assertTrue(batches.isEmpty());
+        Mockito.verify(grid.getDataProvider(), Mockito.never())
+                .refreshItem(Mockito.any());
+
+        fireItemPropertyChanged("2");
+
+        Assert.assertEquals(List.of(List.of(testItem, otherItem)), batches);
+        Assert.assertTrue(grid.getPendingEditItems().isEmpty());
+        Mockito.verify(grid.getDataProvider(), Mockito.times(1))
+                .refreshItem(testItem);
+        Mockito.verify(grid.getDataProvider(), Mockito.times(1))
+                .refreshItem(otherItem);
+    }
+
+    @Test
+    public void writeBehind_flushPendingEdits_batchCommitted() {
+        List<List<Person>> batches = new ArrayList<>();
+        grid.setWriteBehind(items -> batches.add(new ArrayList<>(items)), 10);
+
+        fireItemPropertyChanged("1");
+        grid.flushPendingEdits();
+        grid.flushPendingEdits();
+
+        Assert.assertEquals(List.of(List.of(testItem)), batches);
+        Mockito.verify(grid.getDataProvider(), Mockito.times(1))
+                .refreshItem(testItem);
+    }
+
+    @Test
+    public void writeBehind_disabled_pendingEditsCommitted() {
+        List<List<Person>> batches = new ArrayList<>();
+        grid.setWriteBehind(items -> batches.add(new ArrayList<>(items)), 10);
+
+        fireItemPropertyChanged("1");
+        grid.setWriteBehind(null, 1);
+
+        Assert.assertEquals(List.of(List.of(testItem)), batches);
+        Assert.assertNull(grid.getBulkItemUpdater());
+
+        fireItemPropertyChanged("1");
+
+        Assert.assertEquals(1, batches.size());
+        Mockito.verify(grid.getDataProvider(), Mockito.times(2))
+                .refreshItem(testItem);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void writeBehind_invalidBatchSize_throws() {
+        grid.setWriteBehind(items -> {
+        }, 0);
+    }
+
+    private void fireItemPropertyChanged(String key) {
+        JsonObject item = new JreJsonFactory()
+                .parse("{\"key\": \"" + key + "\", \"col0\":\"foo\"}");
+        ComponentUtil.fireEvent(grid,
+                new GridPro.ItemPropertyChangedEvent<>(grid, false, item,
+                        "col0"));
+    }
 }
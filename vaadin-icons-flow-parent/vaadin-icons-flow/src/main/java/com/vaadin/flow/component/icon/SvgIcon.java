@@ -15,6 +15,9 @@
  */
 package com.vaadin.flow.component.icon;
 
+import java.util.Objects;
+
+import com.vaadin.flow.component.shared.SharedResource;
 import com.vaadin.flow.server.AbstractStreamResource;
 import com.vaadin.flow.server.StreamResource;
 
@@ -26,6 +29,9 @@ import com.vaadin.flow.server.StreamResource;
 public class SvgIcon extends AbstractIcon<SvgIcon> {
     private static final String STYLE_FILL = "fill";
 
+    // Referenced to keep the shared resource available while it is used
+    private SharedResource sharedSrc;
+
     /**
      * Default constructor. Creates an empty SVG icon.
      */
@@ -107,6 +113,7 @@ public class SvgIcon extends AbstractIcon<SvgIcon> {
      *            the source file of the icon
      */
     public void setSrc(String src) {
+        sharedSrc = null;
         getElement().setAttribute("src", src);
     }
 
@@ -133,6 +140,7 @@ public class SvgIcon extends AbstractIcon<SvgIcon> {
      *            the source value, not null
      */
     public void setSrc(AbstractStreamResource src) {
+        sharedSrc = null;
         getElement().setAttribute("src", src);
     }
 
@@ -151,6 +159,39 @@ public class SvgIcon extends AbstractIcon<SvgIcon> {
         setSymbol(symbol);
     }
 
+    /**
+     * Defines the source of the icon from the given {@link SharedResource}.
+     * The resource must contain a valid SVG element.
+     * <p>
+     * Unlike a stream resource, a shared resource is served from the same URL
+     * to all the users of the application, and it can be cached permanently
+     * by the browser. This makes it suitable for icons and icon sprites that
+     * are used in many places.
+     *
+     * @param src
+     *            the source value, not null
+     */
+    public void setSrc(SharedResource src) {
+        Objects.requireNonNull(src, "The source cannot be null");
+        getElement().setAttribute("src", src.getUrl());
+        sharedSrc = src;
+    }
+
+    /**
+     * Defines the src and the symbol to be used in the icon.
+     *
+     * @param src
+     *            the shared resource of the icon sprite file, not null
+     * @param symbol
+     *            the symbol reference of the icon
+     * @see #setSrc(SharedResource)
+     * @see #setSymbol(String)
+     */
+    public void setSrc(SharedResource src, String symbol) {
+        setSrc(src);
+        setSymbol(symbol);
+    }
+
     /**
      * Gets the source defined in the icon.
      *
@@ -24,6 +24,7 @@ import org.junit.Test;
 
 import com.vaadin.flow.component.UI;
 import com.vaadin.flow.component.icon.SvgIcon;
+import com.vaadin.flow.component.shared.SharedResource;
 import com.vaadin.flow.server.StreamResource;
 
 public class SvgIconTest {
@@ -154,6 +155,16 @@ public class SvgIconTest {
         Assert.assertTrue(icon.getSrc().contains("image.svg"));
     }
 
+    @Test
+    public void setSharedResource_hasSharedResourceUrl() {
+        var resource = SharedResource.create("image.svg", "image/svg+xml",
+                "<svg></svg>".getBytes(StandardCharsets.UTF_8));
+        var icon = new SvgIcon();
+        icon.setSrc(resource, "symbol");
+        Assert.assertEquals(resource.getUrl(), icon.getSrc());
+        Assert.assertEquals("symbol", icon.getSymbol());
+    }
+
     @Test
     public void setColor_hasColor() {
         var icon = new SvgIcon();
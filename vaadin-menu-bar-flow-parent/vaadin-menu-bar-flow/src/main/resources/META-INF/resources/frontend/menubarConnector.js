@@ -45,25 +45,37 @@ function initLazy(menubar, appId) {
      * When the method is called without providing a node id,
      * the previously generated items tree will be used.
      * That can be useful if you only want to sync the disabled and hidden properties of root items.
+     * When the ids of the changed containers are provided, only the corresponding parts
+     * of the previously generated items tree are regenerated.
      *
      * @param {number | undefined} nodeId
+     * @param {number[] | undefined} changedNodeIds
      */
-    generateItems(nodeId) {
+    generateItems(nodeId, changedNodeIds) {
       if (!menubar.shadowRoot) {
         // workaround for https://github.com/vaadin/flow/issues/5722
-        setTimeout(() => menubar.$connector.generateItems(nodeId));
+        setTimeout(() => menubar.$connector.generateItems(nodeId, changedNodeIds));
         return;
       }
 
       if (!menubar._container) {
         // Menu-bar defers first buttons render to avoid re-layout
         // See https://github.com/vaadin/web-components/issues/7271
-        queueMicrotask(() => menubar.$connector.generateItems(nodeId));
+        queueMicrotask(() => menubar.$connector.generateItems(nodeId, changedNodeIds));
         return;
       }
 
-      if (nodeId) {
-        menubar.__generatedItems = window.Vaadin.Flow.contextMenuConnector.generateItemsTree(appId, nodeId);
+      const contextMenuConnector = window.Vaadin.Flow.contextMenuConnector;
+      if (
+        nodeId &&
+        !(
+          changedNodeIds &&
+          menubar.__generatedItems &&
+          !changedNodeIds.includes(nodeId) &&
+          contextMenuConnector.updateItemsTree(appId, menubar.__generatedItems, changedNodeIds)
+        )
+      ) {
+        menubar.__generatedItems = contextMenuConnector.generateItemsTree(appId, nodeId);
       }
 
       let items = menubar.__generatedItems || [];
@@ -0,0 +1,68 @@
+/**
+ * Copyright 2000-2025 Vaadin Ltd.
+ *
+ * This program is available under Vaadin Commercial License and Service Terms.
+ *
+ * See {@literal <https://vaadin.com/commercial-license-and-service-terms>} for the full
+ * license.
+ */
+package com.vaadin.flow.component.richtexteditor;
+
+import java.io.Serializable;
+
+/**
+ * Handler for images that are inserted into a {@link RichTextEditor}.
+ * <p>
+ * Images that are pasted or inserted into the editor are initially embedded
+ * into the value as base64 encoded data URLs, which makes the value grow by the
+ * size of the images. When an image handler is set, such images are extracted
+ * from the value, passed to the handler for storing, and replaced with the URL
+ * returned by the handler.
+ *
+ * @author Vaadin Ltd
+ * @see RichTextEditor#setImageHandler(ImageHandler)
+ * @see StreamResourceImageHandler
+ */
+public interface ImageHandler extends Serializable {
+
+    /**
+     * Stores the given image and returns the URL that the image can be loaded
+     * from. The URL is used as the source of the image in the value of the
+     * editor.
+     *
+     * @param mimeType
+     *            the MIME type of the image, one of {@code image/png},
+     *            {@code image/jpeg}, {@code image/gif} or {@code image/webp}
+     * @param data
+     *            the image data
+     * @return the URL of the stored image, not {@code null}
+     */
+    String storeImage(String mimeType, byte[] data);
+
+    /**
+     * Checks whether the given URL refers to an image stored by this handler.
+     * <p>
+     * The editor only allows image sources that are data URLs. The sources
+     * for which this method returns {@code true} are allowed as well, and all
+     * other sources are removed when the value is sanitized.
+     *
+     * @param url
+     *            the URL to check
+     * @return {@code true} if the URL refers to an image stored by this
+     *         handler, {@code false} otherwise
+     */
+    boolean isStoredImage(String url);
+
+    /**
+     * Releases the stored images that are not used in the given value. The
+     * editor calls this method with its new value after every value change,
+     * so that images removed from the value do not need to be kept.
+     * <p>
+     * The default implementation does nothing, which keeps all stored images.
+     *
+     * @param value
+     *            the current HTML value of the editor
+     */
+    default void releaseUnusedImages(String value) {
+    }
+}
@@ -9,14 +9,21 @@
 package com.vaadin.flow.component.richtexteditor;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Base64;
 import java.util.Collections;
 import java.util.List;
+import java.util.Locale;
 import java.util.Objects;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import org.jsoup.nodes.Document;
+import org.jsoup.safety.Safelist;
 
 import com.vaadin.flow.component.AbstractSinglePropertyField;
 import com.vaadin.flow.component.AttachEvent;
+import com.vaadin.flow.component.ClientCallable;
 import com.vaadin.flow.component.ComponentEvent;
 import com.vaadin.flow.component.ComponentUtil;
 import com.vaadin.flow.component.CompositionNotifier;
@@ -65,18 +72,43 @@ import elemental.json.JsonType;
 @JsModule("@vaadin/polymer-legacy-adapter/style-modules.js")
 @NpmPackage(value = "@vaadin/rich-text-editor", version = "24.7.0-beta1")
 @JsModule("@vaadin/rich-text-editor/src/vaadin-rich-text-editor.js")
+@JsModule("./richTextEditorConnector.js")
 public class RichTextEditor
         extends AbstractSinglePropertyField<RichTextEditor, String>
         implements CompositionNotifier, InputNotifier, KeyNotifier, HasSize,
         HasStyle, HasValueChangeMode, HasThemeVariant<RichTextEditorVariant> {
 
+    /**
+     * Data URLs of raster images. Other types, such as SVG, can contain
+     * scripts and are never passed to the image handler.
+     */
+    private static final Pattern DATA_URL_PATTERN = Pattern.compile(
+            "^data:(image/(?:png|jpeg|gif|webp));base64,(.*)$",
+            Pattern.DOTALL | Pattern.CASE_INSENSITIVE);
+
+    private static final Safelist DEFAULT_SAFELIST = createSafelist(null);
+
     private ValueChangeMode currentMode;
     private RichTextEditorI18n i18n;
     private AsHtml asHtml;
     private AsDelta asDelta;
 
+    private ImageHandler imageHandler;
+
     private boolean pendingPresentationUpdate = false;
 
+    private boolean incrementalValueSync;
+
+    /**
+     * The sanitized top-level blocks of the HTML value, as last synchronized
+     * from the client in incremental mode, or {@code null} if the client
+     * needs to send the full value with the next synchronization.
+     */
+    private List<String> syncedBlocks;
+
+    private String emptyCheckValue;
+    private boolean emptyCheckResult;
+
     /**
      * Gets the internationalization object previously set for this component.
      * <p>
@@ -145,6 +177,12 @@ public class RichTextEditor
         setPresentationValue("");
 
         setValueChangeMode(ValueChangeMode.ON_CHANGE);
+
+        addValueChangeListener(event -> {
+            if (imageHandler != null) {
+                imageHandler.releaseUnusedImages(event.getValue());
+            }
+        });
     }
 
     /**
@@ -173,6 +211,9 @@ public class RichTextEditor
         if (this.i18n != null) {
             setI18nWithJS();
         }
+        if (incrementalValueSync) {
+            initIncrementalValueSync();
+        }
     }
 
     /**
@@ -188,8 +229,134 @@ public class RichTextEditor
     @Override
     public void setValueChangeMode(ValueChangeMode valueChangeMode) {
         currentMode = valueChangeMode;
-        setSynchronizedEvent(ValueChangeMode.eventForMode(valueChangeMode,
-                "html-value-changed"));
+        if (incrementalValueSync) {
+            setSynchronizedEvent(null);
+            runBeforeClientResponse(ui -> initIncrementalValueSync());
+        } else {
+            setSynchronizedEvent(ValueChangeMode.eventForMode(valueChangeMode,
+                    "html-value-changed"));
+        }
+    }
+
+    /**
+     * Sets whether the value is synchronized from the client incrementally.
+     * <p>
+     * By default, the full HTML value is sent to the server with every value
+     * change, and sanitized as a whole. In incremental mode, the value is
+     * split into its top-level blocks, such as paragraphs and lists, and only
+     * the blocks that have changed since the previous synchronization are sent
+     * to the server, where they are sanitized and merged into the value kept
+     * on the server. This reduces both the amount of transferred data and the
+     * processing on the server for long documents, especially with
+     * {@link ValueChangeMode#EAGER} or {@link ValueChangeMode#LAZY}.
+     * <p>
+     * After the value has been set on the server, the next synchronization
+     * sends the full value once. The value change mode is respected in the
+     * same way as by default, with {@link ValueChangeMode#LAZY} and
+     * {@link ValueChangeMode#TIMEOUT} using the default change timeout.
+     *
+     * @param incrementalValueSync
+     *            {@code true} to synchronize the value incrementally,
+     *            {@code false} to synchronize the full value
+     */
+    public void setIncrementalValueSync(boolean incrementalValueSync) {
+        if (this.incrementalValueSync == incrementalValueSync) {
+            return;
+        }
+        this.incrementalValueSync = incrementalValueSync;
+        syncedBlocks = null;
+        if (!incrementalValueSync) {
+            getElement().executeJs(
+                    "window.Vaadin.Flow.richTextEditorConnector.disableIncrementalSync(this)");
+        }
+        setValueChangeMode(currentMode);
+    }
+
+    /**
+     * Gets whether the value is synchronized from the client incrementally.
+     *
+     * @return {@code true} if the value is synchronized incrementally,
+     *         {@code false} otherwise
+     * @see #setIncrementalValueSync(boolean)
+     */
+    public boolean isIncrementalValueSync() {
+        return incrementalValueSync;
+    }
+
+    private void initIncrementalValueSync() {
+        if (!incrementalValueSync) {
+            return;
+        }
+        int timeout = currentMode == ValueChangeMode.LAZY
+                || currentMode == ValueChangeMode.TIMEOUT
+                        ? ValueChangeMode.DEFAULT_CHANGE_TIMEOUT
+                        : 0;
+        getElement().executeJs(
+                "window.Vaadin.Flow.richTextEditorConnector.initIncrementalSync(this, $0, $1, $2)",
+                ValueChangeMode.eventForMode(currentMode,
+                        "html-value-changed"),
+                timeout, currentMode == ValueChangeMode.TIMEOUT);
+    }
+
+    /**
+     * Updates the value from the blocks that have changed on the client since
+     * the previous synchronization.
+     *
+     * @param start
+     *            the index of the first changed block
+     * @param deleteCount
+     *            the number of blocks replaced by the given blocks, or
+     *            {@code -1} if the given blocks are the full value
+     * @param blocks
+     *            the changed top-level blocks of the HTML value
+     * @param blockCount
+     *            the number of blocks in the value on the client, used for
+     *            detecting whether the server is out of sync
+     */
+    @ClientCallable
+    void updateHtmlValueBlocks(int start, int deleteCount,
+            JsonArray blocks, int blockCount) {
+        if (!incrementalValueSync) {
+            return;
+        }
+        if (isReadOnly()) {
+            // Changes of a read-only editor are ignored, the next
+            // synchronization after that has to send the full value
+            syncedBlocks = null;
+            return;
+        }
+        if (deleteCount >= 0 && (syncedBlocks == null || start < 0
+                || start + deleteCount > syncedBlocks.size())) {
+            requestFullValueSync();
+            return;
+        }
+        List<String> sanitizedBlocks = new ArrayList<>(blocks.length());
+        for (int i = 0; i < blocks.length(); i++) {
+            sanitizedBlocks.add(sanitize(blocks.getString(i), imageHandler));
+        }
+        if (deleteCount < 0) {
+            syncedBlocks = sanitizedBlocks;
+        } else {
+            syncedBlocks.subList(start, start + deleteCount).clear();
+            syncedBlocks.addAll(start, sanitizedBlocks);
+        }
+        if (syncedBlocks.size() != blockCount) {
+            requestFullValueSync();
+            return;
+        }
+
+        String htmlValue = String.join("", syncedBlocks);
+        String modelValue = extractImages(htmlValue);
+        if (!modelValue.equals(htmlValue)) {
+            runBeforeClientResponse(ui -> setPresentationValue(getValue()));
+        }
+        setModelValue(modelValue, true);
+    }
+
+    private void requestFullValueSync() {
+        syncedBlocks = null;
+        getElement().executeJs(
+                "window.Vaadin.Flow.richTextEditorConnector.requestFullSync(this)");
     }
 
     /**
@@ -227,7 +394,7 @@ public class RichTextEditor
         if (withDeltaCheck) {
             checkForDeltaValue(value);
         }
-        super.setValue(value);
+        super.setValue(extractImages(value));
     }
 
     private void checkForDeltaValue(String value) {
@@ -242,7 +409,9 @@ public class RichTextEditor
 
     @Override
     protected void setPresentationValue(String newPresentationValue) {
-        String presentationValue = modelToPresentation(newPresentationValue);
+        String presentationValue = modelToPresentation(this,
+                newPresentationValue);
+        syncedBlocks = null;
         getElement().setProperty("htmlValue", presentationValue);
         // htmlValue property is not writeable, HTML value needs to be set using
         // method exposed by web component instead
@@ -251,19 +420,110 @@ public class RichTextEditor
             runBeforeClientResponse(ui -> {
                 getElement().callJsFunction("dangerouslySetHtmlValue",
                         getElement().getProperty("htmlValue"));
+                if (incrementalValueSync) {
+                    // The value of the client is derived from the new value,
+                    // so it needs to be synchronized in full next time
+                    getElement().executeJs(
+                            "window.Vaadin.Flow.richTextEditorConnector.resetBaseline(this)");
+                }
                 pendingPresentationUpdate = false;
             });
         }
     }
 
-    private static String presentationToModel(String htmlValue) {
+    private static String presentationToModel(RichTextEditor editor,
+            String htmlValue) {
         // Sanitize HTML coming from client
-        return sanitize(htmlValue);
+        String sanitizedValue = sanitize(htmlValue, editor.imageHandler);
+        String modelValue = editor.extractImages(sanitizedValue);
+        if (!modelValue.equals(sanitizedValue)) {
+            // Replace the inlined images on the client as well, so that they
+            // are not synchronized again with the next value change
+            editor.runBeforeClientResponse(
+                    ui -> editor.setPresentationValue(editor.getValue()));
+        }
+        return modelValue;
     }
 
-    private static String modelToPresentation(String htmlValue) {
+    private static String modelToPresentation(RichTextEditor editor,
+            String htmlValue) {
         // Sanitize HTML sent to client
-        return sanitize(htmlValue);
+        return sanitize(htmlValue, editor.imageHandler);
+    }
+
+    /**
+     * Sets the handler for images that are inserted into the editor.
+     * <p>
+     * By default, images are embedded into the value as base64 encoded data
+     * URLs, which means that the value, which is synchronized in full with
+     * every change, grows by the size of the images. When a handler is set,
+     * the images are extracted from the value, stored by the handler, and
+     * replaced with the URLs returned by the handler, both on the server and
+     * in the browser. This also applies to values set on the server.
+     * <p>
+     * Note that the images still need to be transferred to the server once,
+     * as part of the value change that inserts them. Only PNG, JPEG, GIF and
+     * WebP images are passed to the handler; other data URLs are left in the
+     * value as they are. After every value change, the handler may release
+     * the images that are no longer used in the value, see
+     * {@link ImageHandler#releaseUnusedImages(String)}.
+     *
+     * @param imageHandler
+     *            the image handler, or {@code null} to embed images into the
+     *            value
+     * @see StreamResourceImageHandler
+     */
+    public void setImageHandler(ImageHandler imageHandler) {
+        this.imageHandler = imageHandler;
+    }
+
+    /**
+     * Gets the handler for images that are inserted into the editor.
+     *
+     * @return the image handler, or {@code null} if images are embedded into
+     *         the value
+     * @see #setImageHandler(ImageHandler)
+     */
+    public ImageHandler getImageHandler() {
+        return imageHandler;
+    }
+
+    /**
+     * Replaces the sources of the images that are embedded as data URLs with
+     * URLs of images stored by the image handler.
+     *
+     * @param htmlValue
+     *            the HTML value to process
+     * @return the processed HTML value, or the given value if there is no
+     *         image handler or no embedded images
+     */
+    private String extractImages(String htmlValue) {
+        if (imageHandler == null || !htmlValue.contains("data:")) {
+            return htmlValue;
+        }
+        Document document = org.jsoup.Jsoup.parseBodyFragment(htmlValue);
+        boolean extracted = false;
+        for (var image : document.select("img[src^=data:]")) {
+            Matcher matcher = DATA_URL_PATTERN.matcher(image.attr("src"));
+            if (!matcher.matches()) {
+                continue;
+            }
+            byte[] data;
+            try {
+                data = Base64.getMimeDecoder().decode(matcher.group(2));
+            } catch (IllegalArgumentException e) {
+                // Leave malformed data as is
+                continue;
+            }
+            image.attr("src", imageHandler.storeImage(
+                    matcher.group(1).toLowerCase(Locale.ROOT), data));
+            extracted = true;
+        }
+        if (!extracted) {
+            return htmlValue;
+        }
+        document.outputSettings().prettyPrint(false);
+        return document.body().html();
     }
 
     /**
@@ -285,7 +545,11 @@ public class RichTextEditor
      */
     @Override
     public boolean isEmpty() {
-        Document document = org.jsoup.Jsoup.parse(getValue());
+        String value = getValue();
+        if (value.equals(emptyCheckValue)) {
+            return emptyCheckResult;
+        }
+        Document document = org.jsoup.Jsoup.parse(value);
 
         // Get non-normalized text including spaces and newlines
         // Note that <br>s count as newlines
@@ -298,7 +562,9 @@ public class RichTextEditor
         boolean hasText = !text.isEmpty();
         boolean hasImages = document.selectFirst("img") != null;
 
-        return !hasText && !hasImages;
+        emptyCheckValue = value;
+        emptyCheckResult = !hasText && !hasImages;
+        return emptyCheckResult;
     }
 
     /**
@@ -371,17 +637,37 @@ public class RichTextEditor
     }
 
     static String sanitize(String html) {
+        return sanitize(html, null);
+    }
+
+    static String sanitize(String html, ImageHandler imageHandler) {
         var settings = new org.jsoup.nodes.Document.OutputSettings();
         settings.prettyPrint(false);
-        var safeHtml = org.jsoup.Jsoup.clean(html, "",
-                org.jsoup.safety.Safelist.basic()
-                        .addTags("img", "h1", "h2", "h3", "s")
-                        .addAttributes("img", "align", "alt", "height", "src",
-                                "title", "width")
-                        .addAttributes(":all", "style")
-                        .addProtocols("img", "src", "data"),
-                settings);
-        return safeHtml;
+        var safelist = imageHandler == null ? DEFAULT_SAFELIST
+                : createSafelist(imageHandler);
+        return org.jsoup.Jsoup.clean(html, "", safelist, settings);
+    }
+
+    private static Safelist createSafelist(ImageHandler imageHandler) {
+        var safelist = new Safelist(Safelist.basic()) {
+            @Override
+            public boolean isSafeAttribute(String tagName,
+                    org.jsoup.nodes.Element element,
+                    org.jsoup.nodes.Attribute attribute) {
+                // Allow images stored by the image handler
+                if (imageHandler != null && "img".equals(tagName)
+                        && "src".equals(attribute.getKey())
+                        && imageHandler.isStoredImage(attribute.getValue())) {
+                    return true;
+                }
+                return super.isSafeAttribute(tagName, element, attribute);
+            }
+        };
+        return safelist.addTags("img", "h1", "h2", "h3", "s")
+                .addAttributes("img", "align", "alt", "height", "src", "title",
+                        "width")
+                .addAttributes(":all", "style")
+                .addProtocols("img", "src", "data");
     }
 
     /**
@@ -0,0 +1,149 @@
+/**
+ * Copyright 2000-2025 Vaadin Ltd.
+ *
+ * This program is available under Vaadin Commercial License and Service Terms.
+ *
+ * See {@literal <https://vaadin.com/commercial-license-and-service-terms>} for the full
+ * license.
+ */
+package com.vaadin.flow.component.richtexteditor;
+
+import java.io.ByteArrayInputStream;
+import java.io.Serializable;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.vaadin.flow.server.StreamRegistration;
+import com.vaadin.flow.server.StreamResource;
+import com.vaadin.flow.server.VaadinSession;
+
+/**
+ * An {@link ImageHandler} that keeps the images in memory and serves them as
+ * {@link StreamResource}s registered to the current session.
+ * <p>
+ * Images with the same content are stored only once. The images can be
+ * retrieved by their URL with {@link #getImage(String)}, for example in order
+ * to persist them together with the value of the editor.
+ * <p>
+ * Only PNG, JPEG, GIF and WebP images are accepted, since other types, such
+ * as SVG or HTML, could run scripts when opened from the application's
+ * origin. The images are served with {@code X-Content-Type-Options: nosniff}.
+ * <p>
+ * The resources are registered to the session that is current when an image
+ * is stored, so a handler should be used only within a single session, for
+ * example by creating one for each editor.
+ * <p>
+ * An image is kept until a value change of the editor removes it from the
+ * value: the image is then dropped and its resource unregistered, so the URL
+ * stops working, and the image is not restored if the removal is undone in
+ * the browser. A handler must therefore not be shared by several editors.
+ * All remaining images are released together with the session.
+ *
+ * @author Vaadin Ltd
+ */
+public class StreamResourceImageHandler implements ImageHandler {
+
+    private static final Set<String> IMAGE_TYPES = Set.of("image/png",
+            "image/jpeg", "image/gif", "image/webp");
+
+    private final Map<String, String> urlsByHash = new ConcurrentHashMap<>();
+    private final Map<String, StoredImage> imagesByUrl =
+            new ConcurrentHashMap<>();
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException
+     *             if the MIME type is not one of the supported image types
+     * @throws IllegalStateException
+     *             if there is no current session
+     */
+    @Override
+    public String storeImage(String mimeType, byte[] data) {
+        if (!IMAGE_TYPES.contains(mimeType)) {
+            throw new IllegalArgumentException(
+                    "Unsupported image type: " + mimeType);
+        }
+        var hash = hash(data);
+        var url = urlsByHash.get(hash);
+        if (url != null) {
+            return url;
+        }
+
+        var session = VaadinSession.getCurrent();
+        if (session == null) {
+            throw new IllegalStateException(
+                    "Images can only be stored while a session is available");
+        }
+        var fileName = hash + "." + getExtension(mimeType);
+        var resource = new StreamResource(fileName,
+                () -> new ByteArrayInputStream(data));
+        resource.setContentType(mimeType);
+        resource.setHeader("X-Content-Type-Options", "nosniff");
+        var registration = session.getResourceRegistry()
+                .registerResource(resource);
+        url = registration.getResourceUri().toString();
+
+        urlsByHash.put(hash, url);
+        imagesByUrl.put(url, new StoredImage(hash, data, registration));
+        return url;
+    }
+
+    @Override
+    public boolean isStoredImage(String url) {
+        return imagesByUrl.containsKey(url);
+    }
+
+    /**
+     * Gets the data of the image stored with the given URL.
+     *
+     * @param url
+     *            the URL returned when the image was stored
+     * @return the image data, or {@code null} if no image has been stored with
+     *         the given URL
+     */
+    public byte[] getImage(String url) {
+        var image = imagesByUrl.get(url);
+        return image == null ? null : image.data();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The images whose URL does not occur in the value are removed from this
+     * handler and their resources are unregistered from the session.
+     */
+    @Override
+    public void releaseUnusedImages(String value) {
+        var images = imagesByUrl.entrySet().iterator();
+        while (images.hasNext()) {
+            var image = images.next();
+            if (!value.contains(image.getKey())) {
+                images.remove();
+                urlsByHash.remove(image.getValue().hash());
+                image.getValue().registration().unregister();
+            }
+        }
+    }
+
+    private record StoredImage(String hash, byte[] data,
+            StreamRegistration registration) implements Serializable {
+    }
+
+    private static String getExtension(String mimeType) {
+        return mimeType.substring(mimeType.indexOf('/') + 1);
+    }
+
+    private static String hash(byte[] data) {
+        try {
+            return HexFormat.of().formatHex(
+                    MessageDigest.getInstance("SHA-256").digest(data));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
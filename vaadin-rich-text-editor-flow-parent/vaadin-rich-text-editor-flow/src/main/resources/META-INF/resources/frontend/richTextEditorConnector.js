@@ -0,0 +1,112 @@
+/**
+ * @license
+ * Copyright 2000-2025 Vaadin Ltd.
+ *
+ * This program is available under Vaadin Commercial License and Service Terms.
+ *
+ * See <https://vaadin.com/commercial-license-and-service-terms> for the full
+ * license.
+ */
+/**
+ * Splits the given HTML value into its top-level blocks, such as paragraphs
+ * and lists, so that joining the blocks results in the same HTML.
+ */
+function splitBlocks(html) {
+  const template = document.createElement('template');
+  template.innerHTML = html;
+  const blocks = [];
+  template.content.childNodes.forEach((node) => {
+    if (node.nodeType === Node.ELEMENT_NODE) {
+      blocks.push(node.outerHTML);
+    } else if (node.nodeType === Node.TEXT_NODE) {
+      const wrapper = document.createElement('span');
+      wrapper.textContent = node.textContent;
+      blocks.push(wrapper.innerHTML);
+    }
+  });
+  return blocks;
+}
+
+window.Vaadin.Flow.richTextEditorConnector = {
+  initIncrementalSync(editor, eventName, timeout, throttle) {
+    this.disableIncrementalSync(editor);
+
+    // The blocks last sent to the server, or null if the full value needs to
+    // be sent with the next synchronization
+    let baseline = null;
+    let timer = null;
+
+    const sync = () => {
+      clearTimeout(timer);
+      timer = null;
+      const blocks = splitBlocks(editor.htmlValue || '');
+      if (!baseline) {
+        baseline = blocks;
+        editor.$server.updateHtmlValueBlocks(0, -1, blocks, blocks.length);
+        return;
+      }
+
+      // Only send the blocks between the unchanged head and tail
+      const maxLength = Math.min(blocks.length, baseline.length);
+      let start = 0;
+      while (start < maxLength && blocks[start] === baseline[start]) {
+        start++;
+      }
+      let end = 0;
+      while (
+        end < maxLength - start &&
+        blocks[blocks.length - 1 - end] === baseline[baseline.length - 1 - end]
+      ) {
+        end++;
+      }
+      const deleteCount = baseline.length - start - end;
+      const changedBlocks = blocks.slice(start, blocks.length - end);
+      if (deleteCount === 0 && changedBlocks.length === 0) {
+        return;
+      }
+      baseline = blocks;
+      editor.$server.updateHtmlValueBlocks(start, deleteCount, changedBlocks, blocks.length);
+    };
+
+    const listener = () => {
+      if (!timeout) {
+        sync();
+      } else if (throttle) {
+        timer ||= setTimeout(sync, timeout);
+      } else {
+        clearTimeout(timer);
+        timer = setTimeout(sync, timeout);
+      }
+    };
+    editor.addEventListener(eventName, listener);
+
+    editor.$incrementalSync = {
+      resetBaseline() {
+        baseline = null;
+      },
+      requestFullSync() {
+        baseline = null;
+        sync();
+      },
+      disable() {
+        clearTimeout(timer);
+        editor.removeEventListener(eventName, listener);
+      }
+    };
+  },
+
+  disableIncrementalSync(editor) {
+    if (editor.$incrementalSync) {
+      editor.$incrementalSync.disable();
+      editor.$incrementalSync = undefined;
+    }
+  },
+
+  resetBaseline(editor) {
+    editor.$incrementalSync?.resetBaseline();
+  },
+
+  requestFullSync(editor) {
+    editor.$incrementalSync?.requestFullSync();
+  }
+};
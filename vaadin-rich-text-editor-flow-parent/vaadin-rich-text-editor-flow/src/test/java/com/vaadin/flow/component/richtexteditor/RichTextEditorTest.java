@@ -10,6 +10,8 @@ package com.vaadin.flow.component.richtexteditor;
 
 import static org.junit.Assert.assertEquals;
 
+import java.net.URI;
+import java.util.ArrayList;
 import java.util.List;
 
 import org.junit.After;
@@ -25,9 +27,11 @@ import com.vaadin.flow.component.HasValue.ValueChangeEvent;
 import com.vaadin.flow.component.UI;
 import com.vaadin.flow.di.Instantiator;
 import com.vaadin.flow.dom.Element;
+import com.vaadin.flow.server.StreamResourceRegistry;
 import com.vaadin.flow.server.VaadinService;
 import com.vaadin.flow.server.VaadinSession;
 
+import elemental.json.Json;
 import elemental.json.JsonArray;
 
 /**
@@ -259,4 +263,187 @@ public class RichTextEditorTest {
         List<String> options = rte.getColorOptions();
         Assert.assertEquals(4, options.size());
     }
+
+    @Test
+    public void setImageHandler_setValueWithDataUrl_imageStoredByHandler() {
+        TestImageHandler imageHandler = new TestImageHandler();
+        RichTextEditor rte = new RichTextEditor();
+        rte.setImageHandler(imageHandler);
+
+        rte.setValue("<p><img src=\"data:image/gif;base64,"
+                + "R0lGODlhAQABAIAAAAAAAP///ywAAAAAAQABAAACAUwAOw==\"></p>");
+
+        Assert.assertEquals("<p><img src=\"images/0\"></p>", rte.getValue());
+        Assert.assertEquals("image/gif", imageHandler.mimeTypes.get(0));
+        Assert.assertEquals(34, imageHandler.images.get(0).length);
+        Assert.assertEquals("<p><img src=\"images/0\"></p>",
+                rte.getElement().getProperty("htmlValue"));
+    }
+
+    @Test
+    public void noImageHandler_setValueWithDataUrl_imageKept() {
+        RichTextEditor rte = new RichTextEditor();
+        String value = "<p><img src=\"data:image/gif;base64,"
+                + "R0lGODlhAQABAIAAAAAAAP///ywAAAAAAQABAAACAUwAOw==\"></p>";
+
+        rte.setValue(value);
+
+        Assert.assertEquals(value, rte.getValue());
+    }
+
+    @Test
+    public void setImageHandler_setValueWithScriptableDataUrls_notStored() {
+        TestImageHandler imageHandler = new TestImageHandler();
+        RichTextEditor rte = new RichTextEditor();
+        rte.setImageHandler(imageHandler);
+
+        rte.setValue("<p><img src=\"data:text/html;base64,"
+                + "PHNjcmlwdD5hbGVydCgxKTwvc2NyaXB0Pg==\">"
+                + "<img src=\"data:image/svg+xml;base64,"
+                + "PHN2ZyBvbmxvYWQ9ImFsZXJ0KDEpIi8+\"></p>");
+
+        Assert.assertTrue(imageHandler.images.isEmpty());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void streamResourceImageHandler_storeSvg_throws() {
+        new StreamResourceImageHandler().storeImage("image/svg+xml",
+                "<svg onload=\"alert(1)\"/>".getBytes());
+    }
+
+    @Test
+    public void streamResourceImageHandler_imageRemovedFromValue_released()
+            throws Exception {
+        VaadinSession session = Mockito.mock(VaadinSession.class);
+        StreamResourceRegistry registry = new StreamResourceRegistry(session);
+        Mockito.when(session.getResourceRegistry()).thenReturn(registry);
+        VaadinSession.setCurrent(session);
+        try {
+            StreamResourceImageHandler imageHandler =
+                    new StreamResourceImageHandler();
+            RichTextEditor rte = new RichTextEditor();
+            rte.setImageHandler(imageHandler);
+
+            rte.setValue("<p><img src=\"data:image/gif;base64,"
+                    + "R0lGODlhAQABAIAAAAAAAP///ywAAAAAAQABAAACAUwAOw==\">"
+                    + "</p>");
+            String url = rte.getValue().replaceAll(".*src=\"([^\"]*)\".*",
+                    "$1");
+            Assert.assertTrue(imageHandler.isStoredImage(url));
+            Assert.assertTrue(registry.getResource(new URI(url)).isPresent());
+
+            rte.setValue("<p>text</p>");
+
+            Assert.assertFalse(imageHandler.isStoredImage(url));
+            Assert.assertNull(imageHandler.getImage(url));
+            Assert.assertFalse(registry.getResource(new URI(url)).isPresent());
+        } finally {
+            VaadinSession.setCurrent(null);
+        }
+    }
+
+    @Test
+    public void sanitize_imageStoredByHandler_sourceKept() {
+        TestImageHandler imageHandler = new TestImageHandler();
+        imageHandler.storeImage("image/png", new byte[0]);
+
+        Assert.assertEquals("<img src=\"images/0\">", RichTextEditor
+                .sanitize("<img src=\"images/0\">", imageHandler));
+        Assert.assertEquals("<img>", RichTextEditor
+                .sanitize("<img src=\"images/1\">", imageHandler));
+        Assert.assertEquals("<img>",
+                RichTextEditor.sanitize("<img src=\"images/0\">"));
+    }
+
+    private static class TestImageHandler implements ImageHandler {
+        private final List<String> mimeTypes = new ArrayList<>();
+        private final List<byte[]> images = new ArrayList<>();
+
+        @Override
+        public String storeImage(String mimeType, byte[] data) {
+            mimeTypes.add(mimeType);
+            images.add(data);
+            return "images/" + (images.size() - 1);
+        }
+
+        @Override
+        public boolean isStoredImage(String url) {
+            return url.startsWith("images/") && Integer
+                    .parseInt(url.substring("images/".length())) < images
+                            .size();
+        }
+    }
+
+    @Test
+    public void incrementalValueSync_readOnly_changesIgnored() {
+        RichTextEditor rte = new RichTextEditor();
+        rte.setIncrementalValueSync(true);
+        rte.setValue("<p>a</p>");
+        rte.setReadOnly(true);
+
+        rte.updateHtmlValueBlocks(0, -1, toJsonArray("<p>b</p>"), 1);
+
+        Assert.assertEquals("<p>a</p>", rte.getValue());
+    }
+
+    @Test
+    public void incrementalValueSync_changedBlocksMergedIntoValue() {
+        RichTextEditor rte = new RichTextEditor();
+        rte.setIncrementalValueSync(true);
+
+        rte.updateHtmlValueBlocks(0, -1, toJsonArray("<p>a</p>", "<p>b</p>"),
+                2);
+        Assert.assertEquals("<p>a</p><p>b</p>", rte.getValue());
+
+        rte.updateHtmlValueBlocks(1, 1, toJsonArray("<p>c</p>", "<p>d</p>"),
+                3);
+        Assert.assertEquals("<p>a</p><p>c</p><p>d</p>", rte.getValue());
+
+        rte.updateHtmlValueBlocks(0, 2, toJsonArray(), 1);
+        Assert.assertEquals("<p>d</p>", rte.getValue());
+    }
+
+    @Test
+    public void incrementalValueSync_changedBlocksSanitized() {
+        RichTextEditor rte = new RichTextEditor();
+        rte.setIncrementalValueSync(true);
+
+        rte.updateHtmlValueBlocks(0, -1,
+                toJsonArray("<p onclick=\"alert()\">a</p>",
+                        "<script>alert()</script>"),
+                2);
+
+        Assert.assertEquals("<p>a</p>", rte.getValue());
+    }
+
+    @Test
+    public void incrementalValueSync_valueSetOnServer_changedBlocksIgnored() {
+        RichTextEditor rte = new RichTextEditor();
+        rte.setIncrementalValueSync(true);
+        rte.updateHtmlValueBlocks(0, -1, toJsonArray("<p>a</p>"), 1);
+
+        rte.setValue("<p>b</p>");
+        rte.updateHtmlValueBlocks(0, 1, toJsonArray("<p>c</p>"), 1);
+
+        Assert.assertEquals("<p>b</p>", rte.getValue());
+    }
+
+    @Test
+    public void incrementalValueSync_blockCountMismatch_changedBlocksIgnored() {
+        RichTextEditor rte = new RichTextEditor();
+        rte.setIncrementalValueSync(true);
+        rte.updateHtmlValueBlocks(0, -1, toJsonArray("<p>a</p>"), 1);
+
+        rte.updateHtmlValueBlocks(0, 1, toJsonArray("<p>b</p>"), 2);
+
+        Assert.assertEquals("<p>a</p>", rte.getValue());
+    }
+
+    private static JsonArray toJsonArray(String... values) {
+        JsonArray array = Json.createArray();
+        for (String value : values) {
+            array.set(array.length(), value);
+        }
+        return array;
+    }
 }
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2000-2025 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.component.sidenav;
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.vaadin.flow.component.Component;
+import com.vaadin.flow.router.RouteConfiguration;
+import com.vaadin.flow.router.RouteParameters;
+import com.vaadin.flow.server.RouteRegistry;
+
+/**
+ * Cache of the URLs of the navigation targets, shared by all the navigation
+ * items that use the same route registry. Resolving a URL through the router
+ * is relatively costly, and the same views are typically linked to from the
+ * navigation of every UI.
+ * <p>
+ * The cached URLs of a registry are discarded whenever its routes change.
+ *
+ * @author Vaadin Ltd
+ */
+final class RouteUrlCache implements Serializable {
+
+    /**
+     * The maximum number of URLs cached per registry. Views with many
+     * different route parameters could otherwise fill the cache indefinitely.
+     */
+    static final int MAX_SIZE = 10000;
+
+    private static final Map<RouteRegistry, RouteUrlCache> CACHES = Collections
+            .synchronizedMap(new WeakHashMap<>());
+
+    private record Key(Class<? extends Component> view,
+            RouteParameters routeParameters) implements Serializable {
+    }
+
+    private final Map<Key, String> urls = new ConcurrentHashMap<>();
+
+    private RouteUrlCache() {
+    }
+
+    /**
+     * Gets the URL of the given view with the given route parameters.
+     *
+     * @param registry
+     *            the route registry to resolve the URL with, not {@code null}
+     * @param view
+     *            the navigation target, not {@code null}
+     * @param routeParameters
+     *            the route parameters, not {@code null}
+     * @return the URL of the navigation target
+     * @throws com.vaadin.flow.router.NotFoundException
+     *             if the view is not a navigation target of the registry
+     */
+    static String getUrl(RouteRegistry registry,
+            Class<? extends Component> view, RouteParameters routeParameters) {
+        Objects.requireNonNull(registry);
+        RouteUrlCache cache = CACHES.computeIfAbsent(registry, key -> {
+            RouteUrlCache newCache = new RouteUrlCache();
+            key.addRoutesChangeListener(event -> newCache.urls.clear());
+            return newCache;
+        });
+        Key key = new Key(view, routeParameters);
+        String url = cache.urls.get(key);
+        if (url == null) {
+            url = RouteConfiguration.forRegistry(registry).getUrl(view,
+                    routeParameters);
+            if (cache.urls.size() >= MAX_SIZE) {
+                cache.urls.clear();
+            }
+            cache.urls.put(key, url);
+        }
+        return url;
+    }
+}
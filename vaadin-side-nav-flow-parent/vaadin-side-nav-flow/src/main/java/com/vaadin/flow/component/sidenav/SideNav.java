@@ -24,7 +24,11 @@ import com.vaadin.flow.component.Synchronize;
 import com.vaadin.flow.component.Tag;
 import com.vaadin.flow.component.dependency.JsModule;
 import com.vaadin.flow.component.dependency.NpmPackage;
+import com.vaadin.flow.data.provider.hierarchy.HierarchicalDataProvider;
+import com.vaadin.flow.data.provider.hierarchy.TreeData;
+import com.vaadin.flow.data.provider.hierarchy.TreeDataProvider;
 import com.vaadin.flow.dom.Element;
+import com.vaadin.flow.function.SerializableFunction;
 import com.vaadin.flow.internal.JsonSerializer;
 
 /**
@@ -148,6 +152,60 @@ public class SideNav extends SideNavItemContainer implements HasSize, HasStyle {
         getElement().setProperty("collapsed", !expanded);
     }
 
+    /**
+     * Replaces the items of this menu with items created from the given
+     * hierarchical data provider. The root items of the data provider are
+     * created immediately, while the children of an item are fetched from
+     * the data provider and created only when the item is expanded for the
+     * first time. This keeps the cost of constructing large navigation
+     * hierarchies proportional to the number of items that are actually
+     * shown.
+     * <p>
+     * The item generator is called for each data item when its navigation
+     * item is created, and it should return a new {@link SideNavItem}
+     * without children. The data provider is not listened to for changes;
+     * call this method again to reload the items.
+     * <p>
+     * Note that as the children of collapsed items are not created, a
+     * collapsed item is not expanded automatically when one of its
+     * descendants would match the current route.
+     *
+     * @param dataProvider
+     *            the data provider of the items, not {@code null}
+     * @param itemGenerator
+     *            the function that creates the navigation item for a data
+     *            item, not {@code null}
+     * @param <T>
+     *            the type of the data items
+     */
+    public <T> void setItems(HierarchicalDataProvider<T, ?> dataProvider,
+            SerializableFunction<T, SideNavItem> itemGenerator) {
+        SideNavItemLoader<T> loader = new SideNavItemLoader<>(dataProvider,
+                itemGenerator);
+        removeAll();
+        loader.addItems(this, null);
+    }
+
+    /**
+     * Replaces the items of this menu with items created from the given tree
+     * data. The children of an item are created only when the item is
+     * expanded for the first time.
+     *
+     * @param treeData
+     *            the tree data of the items, not {@code null}
+     * @param itemGenerator
+     *            the function that creates the navigation item for a data
+     *            item, not {@code null}
+     * @param <T>
+     *            the type of the data items
+     * @see #setItems(HierarchicalDataProvider, SerializableFunction)
+     */
+    public <T> void setItems(TreeData<T> treeData,
+            SerializableFunction<T, SideNavItem> itemGenerator) {
+        Objects.requireNonNull(treeData, "Tree data cannot be null");
+        setItems(new TreeDataProvider<>(treeData), itemGenerator);
+    }
+
     /**
      * Gets the internationalization object previously set for this component.
      * <p>
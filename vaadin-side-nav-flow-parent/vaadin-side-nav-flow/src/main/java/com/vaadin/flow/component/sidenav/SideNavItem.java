@@ -39,7 +39,6 @@ import com.vaadin.flow.internal.UrlUtil;
 import com.vaadin.flow.router.HasUrlParameter;
 import com.vaadin.flow.router.QueryParameters;
 import com.vaadin.flow.router.RouteAlias;
-import com.vaadin.flow.router.RouteConfiguration;
 import com.vaadin.flow.router.RouteParameters;
 import com.vaadin.flow.router.internal.ConfigureRoutes;
 import com.vaadin.flow.router.internal.HasUrlParameterFormat;
@@ -337,9 +336,9 @@ public class SideNavItem extends SideNavItemContainer
             setPath((String) null);
             setPathAliases(Collections.emptySet());
         } else {
-            RouteConfiguration routeConfiguration = RouteConfiguration
-                    .forRegistry(ComponentUtil.getRouter(this).getRegistry());
-            setPath(routeConfiguration.getUrl(view, routeParameters));
+            setPath(RouteUrlCache.getUrl(
+                    ComponentUtil.getRouter(this).getRegistry(), view,
+                    routeParameters));
             setPathAliases(getPathAliasesFromView(view, routeParameters));
         }
     }
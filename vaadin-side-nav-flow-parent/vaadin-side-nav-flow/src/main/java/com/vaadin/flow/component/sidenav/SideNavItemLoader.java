@@ -0,0 +1,98 @@
+/*
+ * Copyright 2000-2025 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.component.sidenav;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+import com.vaadin.flow.data.provider.hierarchy.HierarchicalDataProvider;
+import com.vaadin.flow.data.provider.hierarchy.HierarchicalQuery;
+import com.vaadin.flow.dom.Element;
+import com.vaadin.flow.function.SerializableFunction;
+import com.vaadin.flow.shared.Registration;
+
+/**
+ * Creates the navigation items of a {@link SideNav} from a hierarchical data
+ * provider. The children of an item are created only when the item is
+ * expanded for the first time.
+ *
+ * @param <T>
+ *            the type of the data items
+ * @author Vaadin Ltd
+ */
+class SideNavItemLoader<T> implements Serializable {
+
+    private final HierarchicalDataProvider<T, ?> dataProvider;
+    private final SerializableFunction<T, SideNavItem> itemGenerator;
+
+    SideNavItemLoader(HierarchicalDataProvider<T, ?> dataProvider,
+            SerializableFunction<T, SideNavItem> itemGenerator) {
+        this.dataProvider = Objects.requireNonNull(dataProvider,
+                "Data provider cannot be null");
+        this.itemGenerator = Objects.requireNonNull(itemGenerator,
+                "Item generator cannot be null");
+    }
+
+    /**
+     * Creates the navigation items for the children of the given data item
+     * and adds them to the given container.
+     *
+     * @param container
+     *            the container to add the navigation items to
+     * @param parent
+     *            the parent data item, or {@code null} for the root items
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    void addItems(SideNavItemContainer container, T parent) {
+        ((HierarchicalDataProvider) dataProvider)
+                .fetchChildren(new HierarchicalQuery<>(null, parent))
+                .forEach(child -> {
+                    T item = (T) child;
+                    SideNavItem navItem = Objects.requireNonNull(
+                            itemGenerator.apply(item),
+                            "Item generator cannot return null");
+                    container.addItem(navItem);
+                    if (dataProvider.hasChildren(item)) {
+                        addItemsOnExpand(navItem, item);
+                    }
+                });
+    }
+
+    private void addItemsOnExpand(SideNavItem navItem, T item) {
+        if (navItem.isExpanded()) {
+            addItems(navItem, item);
+            return;
+        }
+        // The web component only shows the toggle button for items that
+        // have children, so a hidden placeholder is added until the item is
+        // expanded. The placeholder is not a SideNavItem, so it is not
+        // included in getItems().
+        Element placeholder = new Element(navItem.getElement().getTag());
+        placeholder.setAttribute("slot", "children");
+        placeholder.setVisible(false);
+        navItem.getElement().appendChild(placeholder);
+
+        Registration[] registration = new Registration[1];
+        registration[0] = navItem.getElement()
+                .addPropertyChangeListener("expanded", event -> {
+                    if (navItem.isExpanded()) {
+                        registration[0].remove();
+                        navItem.getElement().removeChild(placeholder);
+                        addItems(navItem, item);
+                    }
+                });
+    }
+}
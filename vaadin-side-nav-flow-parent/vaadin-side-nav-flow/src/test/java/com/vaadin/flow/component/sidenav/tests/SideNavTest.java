@@ -30,6 +30,7 @@ import org.junit.Test;
 
 import com.vaadin.flow.component.sidenav.SideNav;
 import com.vaadin.flow.component.sidenav.SideNavItem;
+import com.vaadin.flow.data.provider.hierarchy.TreeData;
 import com.vaadin.flow.dom.Element;
 
 public class SideNavTest {
@@ -399,6 +400,78 @@ public class SideNavTest {
         Assert.assertEquals(sideNav.getItems(), sideNavItems);
     }
 
+    @Test
+    public void setItemsFromTreeData_onlyRootItemsCreated() {
+        List<String> createdItems = new ArrayList<>();
+        sideNav.setItems(createTreeData(), item -> {
+            createdItems.add(item);
+            return new SideNavItem(item);
+        });
+
+        Assert.assertEquals(List.of("Customers", "Settings"), createdItems);
+        Assert.assertEquals(List.of("Customers", "Settings"), sideNav
+                .getItems().stream().map(SideNavItem::getLabel).toList());
+        SideNavItem customers = sideNav.getItems().get(0);
+        Assert.assertTrue(customers.getItems().isEmpty());
+        // a placeholder makes the web component show the toggle button
+        Assert.assertEquals(1, customers.getElement().getChildren()
+                .filter(child -> "children".equals(child.getAttribute("slot")))
+                .count());
+    }
+
+    @Test
+    public void setItemsFromTreeData_expandItem_childrenCreated() {
+        List<String> createdItems = new ArrayList<>();
+        sideNav.setItems(createTreeData(), item -> {
+            createdItems.add(item);
+            return new SideNavItem(item);
+        });
+        SideNavItem customers = sideNav.getItems().get(0);
+
+        customers.setExpanded(true);
+
+        Assert.assertEquals(List.of("Customer 1", "Customer 2"), customers
+                .getItems().stream().map(SideNavItem::getLabel).toList());
+        Assert.assertEquals(2, customers.getElement().getChildren()
+                .filter(child -> "children".equals(child.getAttribute("slot")))
+                .count());
+        Assert.assertFalse(createdItems.contains("Customer 1 orders"));
+
+        customers.setExpanded(false);
+        customers.setExpanded(true);
+        Assert.assertEquals(4, createdItems.size());
+    }
+
+    @Test
+    public void setItemsFromTreeData_expandedByGenerator_childrenCreated() {
+        sideNav.setItems(createTreeData(), item -> {
+            SideNavItem navItem = new SideNavItem(item);
+            navItem.setExpanded(true);
+            return navItem;
+        });
+
+        SideNavItem customer = sideNav.getItems().get(0).getItems().get(0);
+        Assert.assertEquals("Customer 1 orders",
+                customer.getItems().get(0).getLabel());
+    }
+
+    @Test
+    public void setItemsFromTreeData_existingItemsRemoved() {
+        sideNav.addItem(new SideNavItem("Existing"));
+
+        sideNav.setItems(createTreeData(), SideNavItem::new);
+
+        Assert.assertEquals(2, sideNav.getItems().size());
+    }
+
+    private TreeData<String> createTreeData() {
+        TreeData<String> treeData = new TreeData<>();
+        treeData.addRootItems("Customers", "Settings");
+        treeData.addItems("Customers", "Customer 1", "Customer 2");
+        treeData.addItem("Customer 1", "Customer 1 orders");
+        return treeData;
+    }
+
     enum SetLabelOption {
         SET_NO_LABEL,
         SET_LABEL_BEFORE_ITEMS_CREATION,
@@ -45,6 +45,7 @@ public class SheetChartWrapper extends SheetOverlayWrapper
             + "disable them. Visit <a href=\"https://vaadin.com/spreadsheet\">vaadin.com/spreadsheet</a> for more info.";
 
     private MinimizableComponentContainer wrapper;
+    private OverlayChangeListener overlayChangeListener;
 
     private static ChartCreator chartCreator;
     private final XSSFChart chartXml;
@@ -78,12 +79,14 @@ public class SheetChartWrapper extends SheetOverlayWrapper
 
         this.chartXml = chartXml;
         this.spreadsheet = spreadsheet;
-
-        wrapper = new MinimizableComponentContainer();
-        wrapper.setSizeFull();
     }
 
     private void initContent(XSSFChart chartXml, Spreadsheet spreadsheet) {
+        if (wrapper == null) {
+            wrapper = new MinimizableComponentContainer();
+            wrapper.setSizeFull();
+            wrapper.setMinimizeListener(overlayChangeListener);
+        }
         if (wrapper.getContent() == null) {
             Component content;
 
@@ -102,7 +105,10 @@ public class SheetChartWrapper extends SheetOverlayWrapper
 
     @Override
     public void setOverlayChangeListener(OverlayChangeListener listener) {
-        wrapper.setMinimizeListener(listener);
+        overlayChangeListener = listener;
+        if (wrapper != null) {
+            wrapper.setMinimizeListener(listener);
+        }
     }
 
     public static void setChartCreator(ChartCreator newChartCreator) {
@@ -127,6 +133,14 @@ public class SheetChartWrapper extends SheetOverlayWrapper
         return wrapper;
     }
 
+    @Override
+    protected void release() {
+        // a minimized chart is kept so that it stays minimized
+        if (wrapper != null && !wrapper.isMinimized()) {
+            wrapper = null;
+        }
+    }
+
     @Override
     public Type getType() {
         return OverlayInfo.Type.COMPONENT;
@@ -134,7 +148,7 @@ public class SheetChartWrapper extends SheetOverlayWrapper
 
     @Override
     public float getHeight(Sheet sheet, float[] rowH) {
-        if (wrapper.isMinimized()) {
+        if (wrapper != null && wrapper.isMinimized()) {
             return 0;
         }
 
@@ -143,7 +157,7 @@ public class SheetChartWrapper extends SheetOverlayWrapper
 
     @Override
     public float getWidth(Sheet sheet, int[] colW, int defaultColumnWidthPX) {
-        if (wrapper.isMinimized()) {
+        if (wrapper != null && wrapper.isMinimized()) {
             return 0;
         }
 
@@ -15,6 +15,7 @@ import org.apache.poi.ss.usermodel.ClientAnchor;
 
 import com.vaadin.flow.component.spreadsheet.client.OverlayInfo;
 import com.vaadin.flow.component.spreadsheet.client.OverlayInfo.Type;
+import com.vaadin.flow.function.SerializableSupplier;
 import com.vaadin.flow.server.StreamResource;
 
 /**
@@ -30,11 +31,27 @@ public class SheetImageWrapper extends SheetOverlayWrapper
 
     private StreamResource resource;
 
-    private final byte[] data;
+    private final SerializableSupplier<byte[]> data;
     private final String MIMEType;
 
     public SheetImageWrapper(ClientAnchor anchor, String MIMEType,
             byte[] data) {
+        this(anchor, MIMEType, () -> data);
+    }
+
+    /**
+     * Creates a wrapper for an image whose data is read only when the image
+     * is requested by the browser.
+     *
+     * @param anchor
+     *            the anchor of the image
+     * @param MIMEType
+     *            the MIME type of the image
+     * @param data
+     *            the supplier of the image data
+     */
+    SheetImageWrapper(ClientAnchor anchor, String MIMEType,
+            SerializableSupplier<byte[]> data) {
         super(anchor);
         this.MIMEType = MIMEType;
         this.data = data;
@@ -49,13 +66,18 @@ public class SheetImageWrapper extends SheetOverlayWrapper
     public StreamResource getResource() {
         if (resource == null) {
             resource = new StreamResource(getId(),
-                    () -> new ByteArrayInputStream(data));
+                    () -> new ByteArrayInputStream(data.get()));
             resource.setContentType(MIMEType);
         }
 
         return resource;
     }
 
+    @Override
+    protected void release() {
+        resource = null;
+    }
+
     @Override
     public Type getType() {
         return OverlayInfo.Type.IMAGE;
@@ -0,0 +1,96 @@
+/**
+ * Copyright 2000-2025 Vaadin Ltd.
+ *
+ * This program is available under Vaadin Commercial License and Service Terms.
+ *
+ * See {@literal <https://vaadin.com/commercial-license-and-service-terms>} for the full
+ * license.
+ */
+package com.vaadin.flow.component.spreadsheet;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.TreeMap;
+
+import org.apache.poi.ss.usermodel.ClientAnchor;
+import org.apache.poi.ss.usermodel.ClientAnchor.AnchorType;
+import org.apache.poi.xssf.usermodel.XSSFClientAnchor;
+
+/**
+ * Index of the overlays of a sheet by the rows of their anchors, used for
+ * finding the overlays near the visible area without checking all the
+ * overlays of the sheet on every scroll.
+ * <p>
+ * Overlays that are not positioned by their anchor rows, like the ones that
+ * don't move with the cells, are always returned.
+ *
+ * @author Vaadin Ltd.
+ */
+@SuppressWarnings("serial")
+class SheetOverlayIndex implements Serializable {
+
+    private final TreeMap<Integer, List<SheetOverlayWrapper>> overlaysByFirstRow = new TreeMap<Integer, List<SheetOverlayWrapper>>();
+    private final List<SheetOverlayWrapper> unanchoredOverlays = new ArrayList<SheetOverlayWrapper>();
+    private int maxRowSpan;
+
+    /**
+     * Adds the given overlay to the index.
+     *
+     * @param overlay
+     *            the overlay to add, with an anchor
+     */
+    void add(SheetOverlayWrapper overlay) {
+        ClientAnchor anchor = overlay.getAnchor();
+        int row1 = anchor.getRow1();
+        int row2 = anchor.getRow2();
+        if ((AnchorType.DONT_MOVE_AND_RESIZE.equals(anchor.getAnchorType())
+                && anchor instanceof XSSFClientAnchor) || row2 < row1
+                || (anchor.getCol2() == 0 && row2 == 0)) {
+            unanchoredOverlays.add(overlay);
+        } else {
+            overlaysByFirstRow
+                    .computeIfAbsent(row1,
+                            row -> new ArrayList<SheetOverlayWrapper>())
+                    .add(overlay);
+            maxRowSpan = Math.max(maxRowSpan, row2 - row1);
+        }
+    }
+
+    /**
+     * Removes all overlays from the index.
+     */
+    void clear() {
+        overlaysByFirstRow.clear();
+        unanchoredOverlays.clear();
+        maxRowSpan = 0;
+    }
+
+    /**
+     * Adds the overlays whose anchors may intersect the given rows to the
+     * given collection.
+     *
+     * @param firstRow
+     *            index of the first row, 0-based
+     * @param lastRow
+     *            index of the last row, 0-based
+     * @param overlays
+     *            the collection to add the overlays to
+     */
+    void collectOverlays(int firstRow, int lastRow,
+            Collection<SheetOverlayWrapper> overlays) {
+        overlays.addAll(unanchoredOverlays);
+        if (firstRow > lastRow) {
+            return;
+        }
+        for (List<SheetOverlayWrapper> rowOverlays : overlaysByFirstRow
+                .subMap(firstRow - maxRowSpan, true, lastRow, true).values()) {
+            for (SheetOverlayWrapper overlay : rowOverlays) {
+                if (overlay.getAnchor().getRow2() >= firstRow) {
+                    overlays.add(overlay);
+                }
+            }
+        }
+    }
+}
@@ -268,6 +268,15 @@ public abstract class SheetOverlayWrapper implements Serializable {
         this.visible = visible;
     }
 
+    /**
+     * Releases the content of this overlay that can be recreated when the
+     * overlay is displayed again, like components and resources. Called when
+     * the overlay is no longer visible and it is far from the visible area.
+     */
+    protected void release() {
+        // NOP
+    }
+
     /**
      * Gets the anchor for this image within the sheet containing this image.
      *
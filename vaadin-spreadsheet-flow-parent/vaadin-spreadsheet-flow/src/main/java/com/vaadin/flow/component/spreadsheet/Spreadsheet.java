@@ -23,6 +23,8 @@ import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -1026,6 +1028,27 @@ public class Spreadsheet extends Component
 
     private Set<Component> customComponents = new HashSet<Component>();
 
+    /**
+     * The custom components and editors of the visible cells, as returned by
+     * the component factory, by cell key. Cells that are already loaded are
+     * not queried from the factory again while they stay visible.
+     */
+    private Map<String, LoadedCustomCell> loadedCustomCells = new HashMap<String, LoadedCustomCell>();
+
+    /**
+     * Custom components of cells that have been scrolled out of view, by
+     * column index, in the order they were released.
+     */
+    private LinkedHashMap<Component, Integer> customComponentPool = new LinkedHashMap<Component, Integer>();
+
+    private int customComponentPoolSize;
+
+    /**
+     * Set while loading the cells for a scroll, in which case only the cells
+     * that entered or left the viewport are loaded from the component factory.
+     */
+    private boolean loadingScrolledCells;
+
     private Map<CellReference, PopupButton> sheetPopupButtons = new HashMap<CellReference, PopupButton>();
 
     private HashSet<PopupButton> attachedPopupButtons = new HashSet<PopupButton>();
@@ -1035,6 +1058,14 @@ public class Spreadsheet extends Component
      */
     private HashSet<SheetOverlayWrapper> sheetOverlays;
 
+    private final SheetOverlayIndex sheetOverlayIndex = new SheetOverlayIndex();
+
+    /**
+     * Overlays that are visible or near the visible area, and whose content
+     * has not been released.
+     */
+    private final Set<SheetOverlayWrapper> loadedOverlays = new HashSet<SheetOverlayWrapper>();
+
     private Set<Component> overlayComponents = new HashSet<Component>();
 
     private HashSet<SpreadsheetTable> tables;
@@ -1512,7 +1543,12 @@ public class Spreadsheet extends Component
             this.lastRow = lastRow;
             this.firstColumn = firstColumn;
             this.lastColumn = lastColumn;
-            loadCells(firstRow, firstColumn, lastRow, lastColumn);
+            loadingScrolledCells = !reloadCellDataOnNextScroll;
+            try {
+                loadCells(firstRow, firstColumn, lastRow, lastColumn);
+            } finally {
+                loadingScrolledCells = false;
+            }
         }
         if (initialSheetSelection != null) {
             selectionManager.onSheetAddressChanged(initialSheetSelection, true);
@@ -2377,6 +2413,9 @@ public class Spreadsheet extends Component
      */
     void markCellAsUpdated(Cell cell, boolean cellStyleUpdated) {
         valueManager.cellUpdated(cell);
+        // query the component factory again for the cell on next load
+        loadedCustomCells.remove(SpreadsheetUtil
+                .toKey(cell.getColumnIndex() + 1, cell.getRowIndex() + 1));
         if (cellStyleUpdated) {
             styler.cellStyleUpdated(cell, true);
         }
@@ -2393,6 +2432,8 @@ public class Spreadsheet extends Component
      */
     public void markCellAsDeleted(Cell cell, boolean cellStyleUpdated) {
         valueManager.cellDeleted(cell);
+        loadedCustomCells.remove(SpreadsheetUtil
+                .toKey(cell.getColumnIndex() + 1, cell.getRowIndex() + 1));
         if (cellStyleUpdated) {
             styler.cellStyleUpdated(cell, true);
         }
@@ -2901,6 +2942,10 @@ public class Spreadsheet extends Component
      *            the amount of lines that rows has been moved
      */
     private void rowsMoved(int first, int last, int n) {
+        // Custom components, the cells of the moved rows may now be empty
+        removeLoadedCustomCells(Math.min(first, first + n),
+                Math.max(last, last + n));
+
         // Merged regions
         if (n < 0) {
             // Remove merged cells from deleted rows. POI will handle the other
@@ -2962,6 +3007,25 @@ public class Spreadsheet extends Component
         }
     }
 
+    /**
+     * Removes the loaded custom cells of the given rows, so that the component
+     * factory is queried again for them on next load.
+     *
+     * @param first
+     *            the first row, 0-based
+     * @param last
+     *            the last row, 0-based
+     */
+    private void removeLoadedCustomCells(int first, int last) {
+        for (Iterator<String> i = loadedCustomCells.keySet().iterator(); i
+                .hasNext();) {
+            int row = SpreadsheetUtil.getRowFromKey(i.next()) - 1;
+            if (first <= row && row <= last) {
+                i.remove();
+            }
+        }
+    }
+
     private boolean numberOfRowsAboveWasChanged(int row, int last, int first) {
         return first <= row && row <= last;
     }
@@ -3058,6 +3122,7 @@ public class Spreadsheet extends Component
         setRowH(_rowH);
         updateMergedRegions();
         valueManager.updateDeletedRowsInClientCache(startRow + 1, endRow + 1);
+        removeLoadedCustomCells(startRow, endRow);
 
         if (hasSheetOverlays()) {
             reloadImageSizesFromPOI = true;
@@ -3555,6 +3620,11 @@ public class Spreadsheet extends Component
             removeOverlayData(image);
         }
         sheetOverlays.clear();
+        sheetOverlayIndex.clear();
+        loadedOverlays.clear();
+        if (getOverlays() != null && !getOverlays().isEmpty()) {
+            setOverlays(new HashMap<String, OverlayInfo>());
+        }
     }
 
     void setInternalWorkbook(Workbook workbook) {
@@ -3643,6 +3713,8 @@ public class Spreadsheet extends Component
             unRegisterCustomComponent(c);
         }
         customComponents.clear();
+        loadedCustomCells.clear();
+        clearCustomComponentPool();
 
         if (attachedPopupButtons != null && !attachedPopupButtons.isEmpty()) {
             for (PopupButton sf : new ArrayList<PopupButton>(
@@ -3920,7 +3992,7 @@ public class Spreadsheet extends Component
      */
     protected void loadCells(int firstRow, int firstColumn, int lastRow,
             int lastColumn) {
-        loadCustomComponents();
+        loadCustomComponents(!loadingScrolledCells);
         loadHyperLinks();
         loadCellComments();
         loadOrUpdateOverlays();
@@ -4138,23 +4210,57 @@ public class Spreadsheet extends Component
                 reloadImageSizesFromPOI = false;
             }
 
-            for (final SheetOverlayWrapper overlay : sheetOverlays) {
+            // Only the overlays anchored near the visible area are checked.
+            // Overlays within one viewport from the visible area keep their
+            // content for scrolling back, farther ones are released.
+            int rowMargin = Math.max(lastRow - firstRow + 1, 0);
+            int columnMargin = Math.max(lastColumn - firstColumn + 1, 0);
+            Set<SheetOverlayWrapper> overlays = new LinkedHashSet<SheetOverlayWrapper>(
+                    loadedOverlays);
+            int verticalSplitPosition = getLastFrozenRow();
+            if (verticalSplitPosition > 0) {
+                sheetOverlayIndex.collectOverlays(0, verticalSplitPosition - 1,
+                        overlays);
+            }
+            sheetOverlayIndex.collectOverlays(firstRow - 1 - rowMargin,
+                    lastRow - 1 + rowMargin, overlays);
+
+            HashMap<String, OverlayInfo> _overlays = new HashMap<String, OverlayInfo>();
+            for (final SheetOverlayWrapper overlay : overlays) {
                 if (isOverlayVisible(overlay)) {
-                    addOverlayData(overlay);
-                    overlay.setVisible(true);
+                    if (!overlay.isVisible()) {
+                        addOverlayData(overlay);
+                        overlay.setVisible(true);
+                    }
+                    if (overlay.getId() != null) {
+                        _overlays.put(overlay.getId(),
+                                createOverlayInfo(overlay));
+                    }
+                    loadedOverlays.add(overlay);
                 } else {
                     // was visible but went out of visibility
                     if (overlay.isVisible()) {
                         removeOverlayData(overlay);
                         overlay.setVisible(false);
                     }
+                    if (overlay.isVisible(Math.max(firstRow - rowMargin, 1),
+                            Math.max(firstColumn - columnMargin, 1),
+                            lastRow + rowMargin, lastColumn + columnMargin)) {
+                        loadedOverlays.add(overlay);
+                    } else if (loadedOverlays.remove(overlay)) {
+                        overlay.release();
+                    }
                 }
             }
+            if (!_overlays.equals(getOverlays())) {
+                setOverlays(_overlays);
+            }
         }
     }
 
     /**
-     * Adds necessary data to display the overlay in the current view.
+     * Adds necessary data to display the overlay in the current view. The
+     * position of the overlay is sent by loadOrUpdateOverlays.
      */
     private void addOverlayData(final SheetOverlayWrapper overlay) {
         if (overlay.getComponent(true) != null) {
@@ -4166,20 +4272,12 @@ public class Spreadsheet extends Component
             setResource(overlay.getId(), overlay.getResource());
         }
 
-        if (overlay.getId() != null) {
-            HashMap<String, OverlayInfo> _overlays = getOverlays() != null
-                    ? new HashMap<>(getOverlays())
-                    : new HashMap<>();
-            _overlays.put(overlay.getId(), createOverlayInfo(overlay));
-            setOverlays(_overlays);
-
-            overlay.setOverlayChangeListener(new OverlayChangeListener() {
-                @Override
-                public void overlayChanged() {
-                    loadOrUpdateOverlays();
-                }
-            });
-        }
+        overlay.setOverlayChangeListener(new OverlayChangeListener() {
+            @Override
+            public void overlayChanged() {
+                loadOrUpdateOverlays();
+            }
+        });
     }
 
     /**
@@ -4187,11 +4285,6 @@ public class Spreadsheet extends Component
      */
     private void removeOverlayData(final SheetOverlayWrapper overlay) {
         if (overlay.getId() != null) {
-            if (getOverlays() != null) {
-                HashMap<String, OverlayInfo> _overlays = getOverlays();
-                _overlays.remove(overlay.getId());
-                setOverlays(_overlays);
-            }
             setResource(overlay.getId(), (StreamResource) null);
         }
 
@@ -4459,65 +4552,137 @@ public class Spreadsheet extends Component
         setInvalidFormulaCells(_invalidFormulaCells);
     }
 
+    private static class LoadedCustomCell implements Serializable {
+        private static final LoadedCustomCell EMPTY = new LoadedCustomCell(-1,
+                -1, null, null);
+
+        private final int row;
+        private final int column;
+        private final Component component;
+        private final Component editor;
+
+        private LoadedCustomCell(int row, int column, Component component,
+                Component editor) {
+            this.row = row;
+            this.column = column;
+            this.component = component;
+            this.editor = editor;
+        }
+    }
+
     /**
      * Loads the custom components for the currently viewed cells and clears
      * previous components that are not currently visible.
      */
     private void loadCustomComponents() {
+        loadCustomComponents(true);
+    }
+
+    /**
+     * Loads the custom components for the currently viewed cells and clears
+     * previous components that are not currently visible.
+     *
+     * @param reloadAll
+     *            <code>true</code> to query the component factory for all the
+     *            visible cells, <code>false</code> to query it only for the
+     *            cells that have not been loaded while they have been visible
+     */
+    private void loadCustomComponents(boolean reloadAll) {
         if (customComponentFactory != null) {
-            HashMap<String, String> _cellKeysToEditorIdMap = getCellKeysToEditorIdMap() != null
-                    ? new HashMap<>(getCellKeysToEditorIdMap())
-                    : null;
-            if (_cellKeysToEditorIdMap == null) {
-                _cellKeysToEditorIdMap = new HashMap<String, String>();
-            } else {
-                _cellKeysToEditorIdMap.clear();
-            }
-            setCellKeysToEditorIdMap(_cellKeysToEditorIdMap);
-            HashMap<String, String> _componentIDtoCellKeysMap = getComponentIDtoCellKeysMap() != null
-                    ? new HashMap<>(getComponentIDtoCellKeysMap())
-                    : null;
-            if (_componentIDtoCellKeysMap == null) {
-                _componentIDtoCellKeysMap = new HashMap<String, String>();
-            } else {
-                _componentIDtoCellKeysMap.clear();
-            }
-            setComponentIDtoCellKeysMap(_componentIDtoCellKeysMap);
             if (customComponents == null) {
                 customComponents = new HashSet<Component>();
             }
-            HashSet<Component> newCustomComponents = new HashSet<Component>();
-            Set<Integer> rowsWithComponents = new HashSet<Integer>();
+            if (reloadAll) {
+                loadedCustomCells.clear();
+                clearCustomComponentPool();
+            }
+            Set<String> visibleCells = new HashSet<String>();
+            List<CellReference> newCells = new ArrayList<CellReference>();
             // iteration indexes 0-based
             int verticalSplitPosition = getLastFrozenRow();
             int horizontalSplitPosition = getLastFrozenColumn();
             if (verticalSplitPosition > 0 && horizontalSplitPosition > 0) {
                 // top left pane
-                loadRangeComponents(newCustomComponents, rowsWithComponents, 1,
-                        1, verticalSplitPosition, horizontalSplitPosition);
+                collectRangeCells(visibleCells, newCells, 1, 1,
+                        verticalSplitPosition, horizontalSplitPosition);
             }
             if (verticalSplitPosition > 0) {
                 // top right pane
-                loadRangeComponents(newCustomComponents, rowsWithComponents, 1,
-                        firstColumn, verticalSplitPosition, lastColumn);
+                collectRangeCells(visibleCells, newCells, 1, firstColumn,
+                        verticalSplitPosition, lastColumn);
             }
             if (horizontalSplitPosition > 0) {
                 // bottom left pane
-                loadRangeComponents(newCustomComponents, rowsWithComponents,
-                        firstRow, 1, lastRow, horizontalSplitPosition);
+                collectRangeCells(visibleCells, newCells, firstRow, 1,
+                        lastRow, horizontalSplitPosition);
             }
-            loadRangeComponents(newCustomComponents, rowsWithComponents,
-                    firstRow, firstColumn, lastRow, lastColumn);
-            // unregister old
-            for (Iterator<Component> i = customComponents.iterator(); i
-                    .hasNext();) {
-                Component c = i.next();
-                if (!newCustomComponents.contains(c)) {
-                    unRegisterCustomComponent(c);
+            collectRangeCells(visibleCells, newCells, firstRow, firstColumn,
+                    lastRow, lastColumn);
+
+            // release the components of the cells that are no longer visible,
+            // so that they can be reused for the new cells
+            for (Iterator<Entry<String, LoadedCustomCell>> i = loadedCustomCells
+                    .entrySet().iterator(); i.hasNext();) {
+                Entry<String, LoadedCustomCell> entry = i.next();
+                if (!visibleCells.contains(entry.getKey())) {
+                    LoadedCustomCell loadedCell = entry.getValue();
+                    if (loadedCell.component != null
+                            && customComponentPoolSize > 0) {
+                        customComponentPool.put(loadedCell.component,
+                                loadedCell.column);
+                    }
                     i.remove();
                 }
             }
+            for (CellReference cellReference : newCells) {
+                loadCell(cellReference.getRow(), cellReference.getCol());
+            }
+
+            HashMap<String, String> _cellKeysToEditorIdMap = new HashMap<String, String>();
+            HashMap<String, String> _componentIDtoCellKeysMap = new HashMap<String, String>();
+            HashSet<Component> newCustomComponents = new HashSet<Component>();
+            Set<Integer> rowsWithComponents = new HashSet<Integer>();
+            for (Entry<String, LoadedCustomCell> entry : loadedCustomCells
+                    .entrySet()) {
+                LoadedCustomCell loadedCell = entry.getValue();
+                if (loadedCell.component != null) {
+                    _componentIDtoCellKeysMap.put(
+                            getComponentNodeId(loadedCell.component),
+                            entry.getKey());
+                    newCustomComponents.add(loadedCell.component);
+                    rowsWithComponents.add(loadedCell.row);
+                } else if (loadedCell.editor != null) {
+                    _cellKeysToEditorIdMap.put(entry.getKey(),
+                            getComponentNodeId(loadedCell.editor));
+                    newCustomComponents.add(loadedCell.editor);
+                    rowsWithComponents.add(loadedCell.row);
+                }
+            }
+            customComponentPool.keySet().removeAll(newCustomComponents);
+
+            // register new, unregister old unless pooled
+            for (Component c : newCustomComponents) {
+                if (!customComponents.contains(c)) {
+                    registerCustomComponent(c);
+                }
+            }
+            for (Component c : customComponents) {
+                if (!newCustomComponents.contains(c)
+                        && !customComponentPool.containsKey(c)) {
+                    unRegisterCustomComponent(c);
+                }
+            }
             customComponents = newCustomComponents;
+            trimCustomComponentPool();
+
+            // only send the maps to the client when they have changed
+            if (!_cellKeysToEditorIdMap.equals(getCellKeysToEditorIdMap())) {
+                setCellKeysToEditorIdMap(_cellKeysToEditorIdMap);
+            }
+            if (!_componentIDtoCellKeysMap
+                    .equals(getComponentIDtoCellKeysMap())) {
+                setComponentIDtoCellKeysMap(_componentIDtoCellKeysMap);
+            }
 
             if (!rowsWithComponents.isEmpty()) {
                 handleRowSizes(rowsWithComponents);
@@ -4532,59 +4697,30 @@ public class Spreadsheet extends Component
                 }
                 customComponents.clear();
             }
+            loadedCustomCells.clear();
+            clearCustomComponentPool();
             handleRowSizes(new HashSet<Integer>());
         }
     }
 
-    void loadRangeComponents(HashSet<Component> newCustomComponents,
-            Set<Integer> rowsWithComponents, int row1, int col1, int row2,
+    /**
+     * Collects the keys of the cells in the given range, and the cells that
+     * have not been loaded yet. Cells that are inside a merged region are
+     * skipped.
+     */
+    private void collectRangeCells(Set<String> visibleCells,
+            List<CellReference> newCells, int row1, int col1, int row2,
             int col2) {
-        HashMap<String, String> _componentIDtoCellKeysMap = getComponentIDtoCellKeysMap();
-        HashMap<String, String> _cellKeysToEditorIdMap = getCellKeysToEditorIdMap();
         for (int r = row1 - 1; r < row2; r++) {
-            final Row row = getActiveSheet().getRow(r);
             for (int c = col1 - 1; c < col2; c++) {
-                // Cells that are inside a merged region are skipped:
                 MergedRegion region = mergedRegionContainer
                         .getMergedRegion(c + 1, r + 1);
                 if (region == null
                         || (region.col1 == (c + 1) && region.row1 == (r + 1))) {
-                    Cell cell = null;
-                    if (row != null) {
-                        cell = row.getCell(c);
-                    }
-                    // check if the cell has a custom component
-                    Component customComponent = customComponentFactory
-                            .getCustomComponentForCell(cell, r, c, this,
-                                    getActiveSheet());
-                    if (customComponent != null) {
-                        final String key = SpreadsheetUtil.toKey(c + 1, r + 1);
-                        if (!customComponents.contains(customComponent)) {
-                            registerCustomComponent(customComponent);
-                        }
-                        _componentIDtoCellKeysMap
-                                .put(getComponentNodeId(customComponent), key);
-                        newCustomComponents.add(customComponent);
-                        rowsWithComponents.add(r);
-                    } else if (!isCellLocked(cell)) {
-                        // no custom component and not locked, check if
-                        // the cell has a custom editor
-                        Component customEditor = customComponentFactory
-                                .getCustomEditorForCell(cell, r, c, this,
-                                        getActiveSheet());
-                        if (customEditor != null) {
-                            final String key = SpreadsheetUtil.toKey(c + 1,
-                                    r + 1);
-                            if (!newCustomComponents.contains(customEditor)
-                                    && !customComponents
-                                            .contains(customEditor)) {
-                                registerCustomComponent(customEditor);
-                            }
-                            _cellKeysToEditorIdMap.put(key,
-                                    getComponentNodeId(customEditor));
-                            newCustomComponents.add(customEditor);
-                            rowsWithComponents.add(r);
-                        }
+                    final String key = SpreadsheetUtil.toKey(c + 1, r + 1);
+                    if (visibleCells.add(key)
+                            && !loadedCustomCells.containsKey(key)) {
+                        newCells.add(new CellReference(r, c));
                     }
                 }
                 if (region != null) {
@@ -4592,8 +4728,118 @@ public class Spreadsheet extends Component
                 }
             }
         }
-        setCellKeysToEditorIdMap(_cellKeysToEditorIdMap);
-        setComponentIDtoCellKeysMap(_componentIDtoCellKeysMap);
+    }
+
+    /**
+     * Loads the custom component or the custom editor of the given cell from
+     * the component factory.
+     *
+     * @param r
+     *            row index, 0-based
+     * @param c
+     *            column index, 0-based
+     */
+    private void loadCell(int r, int c) {
+        final Row row = getActiveSheet().getRow(r);
+        Cell cell = null;
+        if (row != null) {
+            cell = row.getCell(c);
+        }
+        // check if the cell has a custom component
+        Component customComponent = getPooledCustomComponent(cell, r, c);
+        if (customComponent == null) {
+            customComponent = customComponentFactory
+                    .getCustomComponentForCell(cell, r, c, this,
+                            getActiveSheet());
+        }
+        Component customEditor = null;
+        if (customComponent == null && !isCellLocked(cell)) {
+            // no custom component and not locked, check if the cell has a
+            // custom editor
+            customEditor = customComponentFactory.getCustomEditorForCell(cell,
+                    r, c, this, getActiveSheet());
+        }
+        loadedCustomCells.put(SpreadsheetUtil.toKey(c + 1, r + 1),
+                customComponent == null && customEditor == null
+                        ? LoadedCustomCell.EMPTY
+                        : new LoadedCustomCell(r, c, customComponent,
+                                customEditor));
+    }
+
+    private Component getPooledCustomComponent(Cell cell, int r, int c) {
+        for (Entry<Component, Integer> entry : customComponentPool
+                .entrySet()) {
+            if (entry.getValue() == c) {
+                Component component = entry.getKey();
+                if (customComponentFactory.rebindCustomComponent(component,
+                        cell, r, c, this, getActiveSheet())) {
+                    customComponentPool.remove(component);
+                    return component;
+                }
+                // only the least recently released component is offered
+                return null;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Unregisters the least recently released components from the pool until
+     * the pool fits the configured size.
+     */
+    private void trimCustomComponentPool() {
+        for (Iterator<Component> i = customComponentPool.keySet()
+                .iterator(); i.hasNext()
+                        && customComponentPool.size() > customComponentPoolSize;) {
+            Component c = i.next();
+            i.remove();
+            if (customComponents == null || !customComponents.contains(c)) {
+                unRegisterCustomComponent(c);
+            }
+        }
+    }
+
+    private void clearCustomComponentPool() {
+        for (Component c : customComponentPool.keySet()) {
+            if (customComponents == null || !customComponents.contains(c)) {
+                unRegisterCustomComponent(c);
+            }
+        }
+        customComponentPool.clear();
+    }
+
+    /**
+     * Sets the maximum number of custom components that are kept for reuse
+     * after their cells have been scrolled out of view. Pooled components stay
+     * attached to the spreadsheet, and are offered to
+     * {@link SpreadsheetComponentFactory#rebindCustomComponent(Component, Cell, int, int, Spreadsheet, Sheet)}
+     * when a cell of the same column is scrolled into view, so that the
+     * factory can update an existing component instead of creating a new one.
+     * <p>
+     * The default is 0, which means that the components are detached from the
+     * spreadsheet as soon as their cells are no longer visible.
+     *
+     * @param customComponentPoolSize
+     *            the maximum number of pooled components, not negative
+     */
+    public void setCustomComponentPoolSize(int customComponentPoolSize) {
+        if (customComponentPoolSize < 0) {
+            throw new IllegalArgumentException(
+                    "Custom component pool size cannot be negative");
+        }
+        this.customComponentPoolSize = customComponentPoolSize;
+        trimCustomComponentPool();
+    }
+
+    /**
+     * Gets the maximum number of custom components that are kept for reuse
+     * after their cells have been scrolled out of view.
+     *
+     * @return the maximum number of pooled components
+     * @see #setCustomComponentPoolSize(int)
+     */
+    public int getCustomComponentPoolSize() {
+        return customComponentPoolSize;
     }
 
     private String getComponentNodeId(Component component) {
@@ -4721,6 +4967,8 @@ public class Spreadsheet extends Component
                 }
                 customComponents.clear();
             }
+            loadedCustomCells.clear();
+            clearCustomComponentPool();
         }
     }
 
@@ -5940,7 +6188,9 @@ public class Spreadsheet extends Component
     }
 
     public void addSheetOverlay(SheetOverlayWrapper image) {
-        sheetOverlays.add(image);
+        if (sheetOverlays.add(image)) {
+            sheetOverlayIndex.add(image);
+        }
     }
 
     /**
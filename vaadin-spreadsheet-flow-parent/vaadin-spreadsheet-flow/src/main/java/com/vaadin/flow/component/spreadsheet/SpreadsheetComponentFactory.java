@@ -146,4 +146,44 @@ public interface SpreadsheetComponentFactory extends Serializable {
      */
     void onCustomEditorDisplayed(Cell cell, int rowIndex, int columnIndex,
             Spreadsheet spreadsheet, Sheet sheet, Component customEditor);
+
+    /**
+     * Called when a cell with no loaded custom component becomes visible and
+     * the spreadsheet has a component that was previously shown in a cell of
+     * the same column, but whose cell has been scrolled out of view. The
+     * component is only offered when a component pool has been enabled with
+     * {@link Spreadsheet#setCustomComponentPoolSize(int)}.
+     * <p>
+     * Reusing components avoids creating a new component and sending it to
+     * the client for every cell that is scrolled into view. If the component
+     * can be updated to show the given cell, update it and return
+     * <code>true</code>. Otherwise, return <code>false</code>, in which case
+     * {@link #getCustomComponentForCell(Cell, int, int, Spreadsheet, Sheet)}
+     * is called for the cell as usual.
+     * <p>
+     * The default implementation does not reuse components.
+     *
+     * @param component
+     *            A component previously returned by
+     *            {@link #getCustomComponentForCell(Cell, int, int, Spreadsheet, Sheet)}
+     *            that is no longer displayed
+     * @param cell
+     *            Cell that should display the component or <code>null</code> if
+     *            the cell doesn't yet exist inside POI
+     * @param rowIndex
+     *            0-based
+     * @param columnIndex
+     *            0-based
+     * @param spreadsheet
+     *            The target Spreadsheet component
+     * @param sheet
+     *            The active sheet of the workbook (never <code>null</code>)
+     * @return <code>true</code> if the component was updated to be displayed
+     *         inside the given cell, <code>false</code> otherwise
+     */
+    default boolean rebindCustomComponent(Component component, Cell cell,
+            int rowIndex, int columnIndex, Spreadsheet spreadsheet,
+            Sheet sheet) {
+        return false;
+    }
 }
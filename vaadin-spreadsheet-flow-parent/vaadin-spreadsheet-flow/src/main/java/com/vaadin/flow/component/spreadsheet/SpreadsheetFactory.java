@@ -901,7 +901,7 @@ public class SpreadsheetFactory implements Serializable {
         HSSFPictureData pictureData = ((HSSFPicture) shape).getPictureData();
         if (anchor != null) {
             SheetImageWrapper image = new SheetImageWrapper(anchor,
-                    pictureData.getMimeType(), pictureData.getData());
+                    pictureData.getMimeType(), pictureData::getData);
             spreadsheet.addSheetOverlay(image);
         } else {
             LOGGER.debug("IMAGE WITHOUT ANCHOR: " + pictureData.toString());
@@ -915,8 +915,9 @@ public class SpreadsheetFactory implements Serializable {
 
         XSSFPictureData pictureData = shape.getPictureData();
 
+        // the picture data is only read when the image is displayed
         SheetImageWrapper image = new SheetImageWrapper(anchor,
-                pictureData.getMimeType(), pictureData.getData());
+                pictureData.getMimeType(), pictureData::getData);
 
         return image;
     }
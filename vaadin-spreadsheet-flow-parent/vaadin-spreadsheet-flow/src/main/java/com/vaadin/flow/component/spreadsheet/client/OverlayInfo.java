@@ -9,6 +9,7 @@
 package com.vaadin.flow.component.spreadsheet.client;
 
 import java.io.Serializable;
+import java.util.Objects;
 
 @SuppressWarnings("serial")
 public class OverlayInfo implements Serializable {
@@ -31,4 +32,23 @@ public class OverlayInfo implements Serializable {
     public float height;
     public float dy;
     public float dx;
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        OverlayInfo other = (OverlayInfo) obj;
+        return type == other.type && col == other.col && row == other.row
+                && width == other.width && height == other.height
+                && dy == other.dy && dx == other.dx;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, col, row, width, height, dy, dx);
+    }
 }
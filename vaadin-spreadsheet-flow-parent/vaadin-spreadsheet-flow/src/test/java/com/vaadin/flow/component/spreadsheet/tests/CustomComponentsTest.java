@@ -8,7 +8,13 @@
  */
 package com.vaadin.flow.component.spreadsheet.tests;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellType;
 import org.apache.poi.ss.usermodel.Sheet;
 import org.junit.Assert;
 import org.junit.Before;
@@ -77,4 +83,197 @@ public class CustomComponentsTest {
         Assert.assertFalse(customComponent.getParent().isPresent());
     }
 
+    @Test
+    public void scroll_onlyCellsEnteringViewportQueried() {
+        CountingComponentFactory factory = new CountingComponentFactory();
+        spreadsheet.setSpreadsheetComponentFactory(factory);
+        Assert.assertEquals(100, factory.queriedCells);
+
+        TestHelper.fireClientEvent(spreadsheet, "onSheetScroll",
+                "[2, 1, 11, 10]");
+
+        Assert.assertEquals(110, factory.queriedCells);
+    }
+
+    @Test
+    public void reloadVisibleCellContents_allVisibleCellsQueried() {
+        CountingComponentFactory factory = new CountingComponentFactory();
+        spreadsheet.setSpreadsheetComponentFactory(factory);
+
+        spreadsheet.reloadVisibleCellContents();
+
+        Assert.assertEquals(200, factory.queriedCells);
+    }
+
+    @Test
+    public void scrollBack_customComponentQueriedAgain() {
+        TestHelper.fireClientEvent(spreadsheet, "onSheetScroll",
+                "[10, 10, 20, 20]");
+        TestHelper.fireClientEvent(spreadsheet, "onSheetScroll",
+                "[1, 1, 10, 10]");
+
+        Assert.assertEquals(spreadsheet, customComponent.getParent().get());
+    }
+
+    @Test
+    public void poolSizeSet_scroll_componentsRebound() {
+        CountingComponentFactory factory = new CountingComponentFactory();
+        factory.rebind = true;
+        spreadsheet.setCustomComponentPoolSize(10);
+        spreadsheet.setSpreadsheetComponentFactory(factory);
+        Assert.assertEquals(10, factory.createdComponents);
+        Component component = factory.lastCreatedComponent;
+
+        TestHelper.fireClientEvent(spreadsheet, "onSheetScroll",
+                "[11, 1, 20, 10]");
+
+        Assert.assertEquals(10, factory.createdComponents);
+        Assert.assertEquals(10, factory.reboundComponents);
+        Assert.assertEquals(spreadsheet, component.getParent().get());
+    }
+
+    @Test
+    public void poolSizeSet_factoryDoesNotRebind_componentsCreated() {
+        CountingComponentFactory factory = new CountingComponentFactory();
+        spreadsheet.setCustomComponentPoolSize(5);
+        spreadsheet.setSpreadsheetComponentFactory(factory);
+
+        TestHelper.fireClientEvent(spreadsheet, "onSheetScroll",
+                "[11, 1, 20, 10]");
+
+        Assert.assertEquals(20, factory.createdComponents);
+        Assert.assertEquals(0, factory.reboundComponents);
+    }
+
+    @Test
+    public void poolSizeSetToZero_pooledComponentsDetached() {
+        CountingComponentFactory factory = new CountingComponentFactory();
+        spreadsheet.setCustomComponentPoolSize(10);
+        spreadsheet.setSpreadsheetComponentFactory(factory);
+        Component component = factory.lastCreatedComponent;
+        TestHelper.fireClientEvent(spreadsheet, "onSheetScroll",
+                "[11, 1, 20, 10]");
+
+        spreadsheet.setCustomComponentPoolSize(0);
+
+        Assert.assertFalse(component.getParent().isPresent());
+    }
+
+    @Test
+    public void cellDeleted_customComponentDetached() {
+        ValueComponentFactory factory = new ValueComponentFactory();
+        spreadsheet.setSpreadsheetComponentFactory(factory);
+        Cell cell = spreadsheet.createCell(2, 1, "value");
+        spreadsheet.refreshCells(cell);
+        Component component = factory.components.get("value");
+        Assert.assertEquals(spreadsheet, component.getParent().get());
+
+        cell.getRow().removeCell(cell);
+        spreadsheet.markCellAsDeleted(cell, false);
+
+        Assert.assertFalse(component.getParent().isPresent());
+    }
+
+    @Test
+    public void rowsDeleted_customComponentDetached() {
+        ValueComponentFactory factory = new ValueComponentFactory();
+        spreadsheet.setSpreadsheetComponentFactory(factory);
+        spreadsheet.refreshCells(spreadsheet.createCell(2, 1, "value"));
+        Component component = factory.components.get("value");
+
+        spreadsheet.deleteRows(2, 2);
+
+        Assert.assertFalse(component.getParent().isPresent());
+    }
+
+    @Test
+    public void rowsShifted_customComponentsQueriedForMovedCells() {
+        ValueComponentFactory factory = new ValueComponentFactory();
+        spreadsheet.setSpreadsheetComponentFactory(factory);
+        spreadsheet.refreshCells(spreadsheet.createCell(2, 1, "value"));
+
+        spreadsheet.shiftRows(2, 2, 2);
+
+        Assert.assertEquals(List.of(2, 4), factory.componentRows);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void setNegativePoolSize_throws() {
+        spreadsheet.setCustomComponentPoolSize(-1);
+    }
+
+    /**
+     * Returns a new component for the cells with a string value.
+     */
+    private static class ValueComponentFactory
+            implements SpreadsheetComponentFactory {
+        private final Map<String, Component> components = new HashMap<>();
+        private final List<Integer> componentRows = new ArrayList<>();
+
+        @Override
+        public Component getCustomComponentForCell(Cell cell, int rowIndex,
+                int columnIndex, Spreadsheet spreadsheet, Sheet sheet) {
+            if (cell == null || cell.getCellType() != CellType.STRING) {
+                return null;
+            }
+            Component component = new Span(cell.getStringCellValue());
+            components.put(cell.getStringCellValue(), component);
+            componentRows.add(rowIndex);
+            return component;
+        }
+
+        @Override
+        public Component getCustomEditorForCell(Cell cell, int rowIndex,
+                int columnIndex, Spreadsheet spreadsheet, Sheet sheet) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns a new component for the cells of the second column, and counts
+     * the calls.
+     */
+    private static class CountingComponentFactory
+            implements SpreadsheetComponentFactory {
+        private int queriedCells;
+        private int createdComponents;
+        private int reboundComponents;
+        private boolean rebind;
+        private Component lastCreatedComponent;
+
+        @Override
+        public Component getCustomComponentForCell(Cell cell, int rowIndex,
+                int columnIndex, Spreadsheet spreadsheet, Sheet sheet) {
+            queriedCells++;
+            if (columnIndex == 1) {
+                createdComponents++;
+                lastCreatedComponent = new Span("Row " + rowIndex);
+                return lastCreatedComponent;
+            }
+            return null;
+        }
+
+        @Override
+        public boolean rebindCustomComponent(Component component, Cell cell,
+                int rowIndex, int columnIndex, Spreadsheet spreadsheet,
+                Sheet sheet) {
+            if (rebind) {
+                reboundComponents++;
+                ((Span) component).setText("Row " + rowIndex);
+            }
+            return rebind;
+        }
+
+        @Override
+        public Component getCustomEditorForCell(Cell cell, int rowIndex,
+                int columnIndex, Spreadsheet spreadsheet, Sheet sheet) {
+            return null;
+        }
+
+        @Override
+        public void onCustomEditorDisplayed(Cell cell, int rowIndex,
+                int columnIndex, Spreadsheet spreadsheet, Sheet sheet,
+                Component customEditor) {
+        }
+    }
 }
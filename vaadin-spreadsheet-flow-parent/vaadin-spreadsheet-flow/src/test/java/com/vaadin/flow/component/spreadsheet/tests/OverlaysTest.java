@@ -0,0 +1,80 @@
+/**
+ * Copyright 2000-2025 Vaadin Ltd.
+ *
+ * This program is available under Vaadin Commercial License and Service Terms.
+ *
+ * See {@literal <https://vaadin.com/commercial-license-and-service-terms>} for the full
+ * license.
+ */
+package com.vaadin.flow.component.spreadsheet.tests;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFDrawing;
+import org.apache.poi.xssf.usermodel.XSSFSheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.vaadin.flow.component.spreadsheet.Spreadsheet;
+
+public class OverlaysTest {
+    private Spreadsheet spreadsheet;
+
+    @Before
+    public void init() {
+        XSSFWorkbook workbook = new XSSFWorkbook();
+        XSSFSheet sheet = workbook.createSheet();
+        XSSFDrawing drawing = sheet.createDrawingPatriarch();
+        int picture = workbook.addPicture(new byte[] { 1, 2, 3 },
+                Workbook.PICTURE_TYPE_PNG);
+        drawing.createPicture(drawing.createAnchor(0, 0, 0, 0, 1, 1, 3, 4),
+                picture);
+        drawing.createPicture(
+                drawing.createAnchor(0, 0, 0, 0, 1, 200, 3, 203), picture);
+
+        spreadsheet = new Spreadsheet(workbook);
+        // Simulate initial scroll with a viewport of 20x10 cells.
+        TestHelper.fireClientEvent(spreadsheet, "onSheetScroll",
+                "[1, 1, 20, 10]");
+    }
+
+    @Test
+    public void initialScroll_onlyVisibleImageRegistered() {
+        Assert.assertEquals(1, getImageResources().size());
+    }
+
+    @Test
+    public void scrollToOtherImage_onlyVisibleImageRegistered() {
+        List<String> initialResources = getImageResources();
+
+        TestHelper.fireClientEvent(spreadsheet, "onSheetScroll",
+                "[195, 1, 215, 10]");
+
+        List<String> resources = getImageResources();
+        Assert.assertEquals(1, resources.size());
+        Assert.assertNotEquals(initialResources, resources);
+    }
+
+    @Test
+    public void scrollAwayAndBack_imageRegisteredAgain() {
+        List<String> initialResources = getImageResources();
+
+        TestHelper.fireClientEvent(spreadsheet, "onSheetScroll",
+                "[100, 1, 120, 10]");
+        Assert.assertTrue(getImageResources().isEmpty());
+
+        TestHelper.fireClientEvent(spreadsheet, "onSheetScroll",
+                "[1, 1, 20, 10]");
+        Assert.assertEquals(initialResources, getImageResources());
+    }
+
+    private List<String> getImageResources() {
+        return spreadsheet.getElement().getAttributeNames()
+                .filter(name -> name.startsWith("resource-"))
+                .collect(Collectors.toList());
+    }
+}
@@ -15,7 +15,9 @@
  */
 package com.vaadin.flow.component.tabs;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
@@ -36,6 +38,7 @@ import com.vaadin.flow.component.shared.HasThemeVariant;
 import com.vaadin.flow.component.shared.SlotUtils;
 import com.vaadin.flow.dom.Element;
 import com.vaadin.flow.function.SerializableConsumer;
+import com.vaadin.flow.function.SerializableSupplier;
 import com.vaadin.flow.shared.Registration;
 
 /**
@@ -54,6 +57,16 @@ public class TabSheet extends Component implements HasPrefix, HasStyle, HasSize,
 
     private Map<Tab, Element> tabToContent = new HashMap<>();
 
+    private Map<Tab, SerializableSupplier<? extends Component>> tabToContentSupplier = new HashMap<>();
+
+    // Tabs whose content has been attached, from least to most recently
+    // selected
+    private LinkedHashSet<Tab> recentlySelectedTabs = new LinkedHashSet<>();
+
+    private int maxAttachedContentCount = 0;
+
+    private boolean discardDetachedContent;
+
     /**
      * The default constructor.
      */
@@ -135,20 +148,101 @@ public class TabSheet extends Component implements HasPrefix, HasStyle, HasSize,
             tabs.addTabAtIndex(position, tab);
         }
 
-        // Make sure possible old content related to the same tab gets removed
-        if (tabToContent.containsKey(tab)) {
-            tabToContent.get(tab).removeFromParent();
-        }
+        removeContent(tab);
+        setContent(tab, content);
 
-        linkTabToContent(tab, content);
+        updateContent();
 
-        tabToContent.put(tab, content.getElement());
+        return tab;
+    }
+
+    /**
+     * Adds a tab created from the given text, with content that is created
+     * when the tab is selected for the first time.
+     *
+     * @param tabText
+     *            the text of the tab
+     * @param contentSupplier
+     *            the supplier of the content related to the tab
+     * @return the created tab
+     * @see #addLazy(Tab, SerializableSupplier, int)
+     */
+    public Tab addLazy(String tabText,
+            SerializableSupplier<? extends Component> contentSupplier) {
+        return addLazy(new Tab(tabText), contentSupplier);
+    }
+
+    /**
+     * Adds a tab with content that is created when the tab is selected for
+     * the first time.
+     *
+     * @param tab
+     *            the tab
+     * @param contentSupplier
+     *            the supplier of the content related to the tab
+     * @return the added tab
+     * @see #addLazy(Tab, SerializableSupplier, int)
+     */
+    public Tab addLazy(Tab tab,
+            SerializableSupplier<? extends Component> contentSupplier) {
+        return addLazy(tab, contentSupplier, -1);
+    }
+
+    /**
+     * Adds a tab to the given position, with content that is created when the
+     * tab is selected for the first time.
+     * <p>
+     * Until the tab is selected, {@link #getComponent(Tab)} returns
+     * {@code null} for the tab. If
+     * {@link #setDiscardDetachedContent(boolean) discarding detached content}
+     * is enabled, the supplier is invoked again when the tab is selected after
+     * its content has been discarded.
+     *
+     * @param tab
+     *            the tab
+     * @param contentSupplier
+     *            the supplier of the content related to the tab
+     * @param position
+     *            the position where the tab should be added. If negative, the
+     *            tab is added at the end.
+     * @return the added tab
+     */
+    public Tab addLazy(Tab tab,
+            SerializableSupplier<? extends Component> contentSupplier,
+            int position) {
+        Objects.requireNonNull(tab, "The tab to be added cannot be null");
+        Objects.requireNonNull(contentSupplier,
+                "The content supplier cannot be null");
+
+        if (position < 0) {
+            tabs.add(tab);
+        } else {
+            tabs.addTabAtIndex(position, tab);
+        }
+
+        removeContent(tab);
+        tabToContentSupplier.put(tab, contentSupplier);
 
         updateContent();
 
         return tab;
     }
 
+    private void setContent(Tab tab, Component content) {
+        linkTabToContent(tab, content);
+        tabToContent.put(tab, content.getElement());
+    }
+
+    private void removeContent(Tab tab) {
+        // Make sure possible old content related to the same tab gets removed
+        var content = tabToContent.remove(tab);
+        if (content != null) {
+            content.removeFromParent();
+        }
+        tabToContentSupplier.remove(tab);
+        recentlySelectedTabs.remove(tab);
+    }
+
     private void linkTabToContent(Tab tab, Component content) {
         runBeforeClientResponse(ui -> {
             // On the client, content is associated with a tab by id
@@ -171,8 +265,7 @@ public class TabSheet extends Component implements HasPrefix, HasStyle, HasSize,
      */
     public void remove(Tab tab) {
         Objects.requireNonNull(tab, "The tab to be removed cannot be null");
-        var content = tabToContent.remove(tab);
-        content.removeFromParent();
+        removeContent(tab);
         tabs.remove(tab);
     }
 
@@ -309,7 +402,9 @@ public class TabSheet extends Component implements HasPrefix, HasStyle, HasSize,
      *            the tab to look up, can not be <code>null</code>
      * @return The component instance associated with the given tab, or
      *         <code>null</code> if the {@link TabSheet} does not contain the
-     *         tab.
+     *         tab or if the content of a tab added with
+     *         {@link #addLazy(Tab, SerializableSupplier)} has not been created
+     *         yet.
      */
     public Component getComponent(Tab tab) {
         Objects.requireNonNull(tab,
@@ -322,6 +417,71 @@ public class TabSheet extends Component implements HasPrefix, HasStyle, HasSize,
         return tabContent.getComponent().orElse(null);
     }
 
+    /**
+     * Sets the maximum number of tab contents that are kept attached. When the
+     * limit is exceeded, the contents of the least recently selected tabs are
+     * detached, which frees the resources they use on the client and in the
+     * state tree. Detached contents are attached again when their tab is
+     * selected.
+     * <p>
+     * By default, the content of a tab stays attached after the tab has been
+     * selected once.
+     *
+     * @param maxAttachedContentCount
+     *            the maximum number of attached tab contents, including the
+     *            content of the selected tab, or 0 for no limit
+     * @see #setDiscardDetachedContent(boolean)
+     */
+    public void setMaxAttachedContentCount(int maxAttachedContentCount) {
+        if (maxAttachedContentCount < 0) {
+            throw new IllegalArgumentException(
+                    "The maximum number of attached contents cannot be negative");
+        }
+        this.maxAttachedContentCount = maxAttachedContentCount;
+        detachLeastRecentlySelectedContent();
+    }
+
+    /**
+     * Gets the maximum number of tab contents that are kept attached.
+     *
+     * @return the maximum number of attached tab contents, or 0 for no limit
+     * @see #setMaxAttachedContentCount(int)
+     */
+    public int getMaxAttachedContentCount() {
+        return maxAttachedContentCount;
+    }
+
+    /**
+     * Sets whether the contents of tabs added with
+     * {@link #addLazy(Tab, SerializableSupplier)} are discarded when they are
+     * detached because of the
+     * {@link #setMaxAttachedContentCount(int) maximum number of attached
+     * contents}. Discarded contents are created again with the supplier when
+     * their tab is selected, so that they don't use any memory until then.
+     * <p>
+     * Contents added with {@link #add(Tab, Component)} are never discarded.
+     * By default, detached contents are not discarded.
+     *
+     * @param discardDetachedContent
+     *            {@code true} to discard detached lazy contents, {@code false}
+     *            to keep them for the next selection
+     */
+    public void setDiscardDetachedContent(boolean discardDetachedContent) {
+        this.discardDetachedContent = discardDetachedContent;
+    }
+
+    /**
+     * Gets whether detached contents of tabs added with
+     * {@link #addLazy(Tab, SerializableSupplier)} are discarded.
+     *
+     * @return {@code true} if detached lazy contents are discarded,
+     *         {@code false} otherwise
+     * @see #setDiscardDetachedContent(boolean)
+     */
+    public boolean isDiscardDetachedContent() {
+        return discardDetachedContent;
+    }
+
     /**
      * Adds a listener for {@link SelectedChangeEvent}.
      *
@@ -351,6 +511,19 @@ public class TabSheet extends Component implements HasPrefix, HasStyle, HasSize,
      * are disabled so they can't be interacted with.
      */
     private void updateContent() {
+        var selectedTab = tabs.getSelectedTab();
+        if (selectedTab != null) {
+            var contentSupplier = tabToContentSupplier.get(selectedTab);
+            if (contentSupplier != null
+                    && !tabToContent.containsKey(selectedTab)) {
+                setContent(selectedTab, createContent(contentSupplier));
+            }
+            if (tabToContent.containsKey(selectedTab)) {
+                recentlySelectedTabs.remove(selectedTab);
+                recentlySelectedTabs.add(selectedTab);
+            }
+        }
+
         for (Map.Entry<Tab, Element> entry : tabToContent.entrySet()) {
             var tab = entry.getKey();
             var content = entry.getValue();
@@ -367,6 +540,47 @@ public class TabSheet extends Component implements HasPrefix, HasStyle, HasSize,
                 content.getNode().setEnabled(false);
             }
         }
+
+        detachLeastRecentlySelectedContent();
+    }
+
+    private static Component createContent(
+            SerializableSupplier<? extends Component> contentSupplier) {
+        Component content = Objects.requireNonNull(contentSupplier.get(),
+                "The content supplier cannot return null");
+        if (content instanceof Text) {
+            throw new IllegalArgumentException(
+                    "Text as content is not supported. Consider wrapping the Text inside a Div.");
+        }
+        return content;
+    }
+
+    private void detachLeastRecentlySelectedContent() {
+        if (maxAttachedContentCount == 0) {
+            return;
+        }
+        var attachedTabs = new ArrayList<Tab>();
+        for (Tab tab : recentlySelectedTabs) {
+            var content = tabToContent.get(tab);
+            if (content != null && content.getParent() != null) {
+                attachedTabs.add(tab);
+            }
+        }
+        var selectedTab = tabs.getSelectedTab();
+        var detachCount = attachedTabs.size() - maxAttachedContentCount;
+        for (int i = 0; i < attachedTabs.size() && detachCount > 0; i++) {
+            var tab = attachedTabs.get(i);
+            if (tab.equals(selectedTab)) {
+                continue;
+            }
+            tabToContent.get(tab).removeFromParent();
+            recentlySelectedTabs.remove(tab);
+            if (discardDetachedContent
+                    && tabToContentSupplier.containsKey(tab)) {
+                tabToContent.remove(tab);
+            }
+            detachCount--;
+        }
     }
 
     /**
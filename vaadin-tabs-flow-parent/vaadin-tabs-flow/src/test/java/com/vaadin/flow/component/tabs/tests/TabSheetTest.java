@@ -523,6 +523,150 @@ public class TabSheetTest {
         tabSheet.getComponent(null);
     }
 
+    @Test
+    public void addLazy_contentNotCreatedUntilSelected() {
+        tabSheet.add("Tab 0", new Span("Content 0"));
+        var supplierCalls = new AtomicInteger();
+        var content1 = new Span("Content 1");
+        var tab1 = tabSheet.addLazy("Tab 1", () -> {
+            supplierCalls.incrementAndGet();
+            return content1;
+        });
+
+        Assert.assertEquals(0, supplierCalls.get());
+        Assert.assertNull(tabSheet.getComponent(tab1));
+
+        tabSheet.setSelectedTab(tab1);
+
+        Assert.assertEquals(1, supplierCalls.get());
+        Assert.assertEquals(tabSheet, content1.getParent().get());
+        Assert.assertEquals(content1, tabSheet.getComponent(tab1));
+        Assert.assertEquals(tab1, tabSheet.getTab(content1));
+    }
+
+    @Test
+    public void addLazy_firstTab_contentCreated() {
+        var content = new Span("Content 0");
+        var tab = tabSheet.addLazy("Tab 0", () -> content);
+
+        Assert.assertEquals(tab, tabSheet.getSelectedTab());
+        Assert.assertEquals(tabSheet, content.getParent().get());
+    }
+
+    @Test
+    public void addLazy_reselected_contentCreatedOnce() {
+        var supplierCalls = new AtomicInteger();
+        var tab0 = tabSheet.addLazy("Tab 0", () -> {
+            supplierCalls.incrementAndGet();
+            return new Span("Content 0");
+        });
+        var tab1 = tabSheet.add("Tab 1", new Span("Content 1"));
+
+        tabSheet.setSelectedTab(tab1);
+        tabSheet.setSelectedTab(tab0);
+
+        Assert.assertEquals(1, supplierCalls.get());
+    }
+
+    @Test
+    public void addLazy_assignsTabId() {
+        var content = new Span("Content 0");
+        var tab = tabSheet.addLazy("Tab 0", () -> content);
+        flushBeforeClientResponse();
+
+        Assert.assertEquals(tab.getId().get(),
+                content.getElement().getAttribute("tab"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void addLazy_textContent_throws() {
+        tabSheet.addLazy("Tab 0", () -> new Text("Content 0"));
+    }
+
+    @Test
+    public void removeLazyTab_contentNotCreated_removesTab() {
+        tabSheet.add("Tab 0", new Span("Content 0"));
+        var tab1 = tabSheet.addLazy("Tab 1", () -> new Span("Content 1"));
+
+        tabSheet.remove(tab1);
+
+        Assert.assertEquals(1, tabSheet.getTabCount());
+    }
+
+    @Test
+    public void maxAttachedContentCount_leastRecentlySelectedContentDetached() {
+        tabSheet.setMaxAttachedContentCount(2);
+        var content0 = new Span("Content 0");
+        var content1 = new Span("Content 1");
+        var content2 = new Span("Content 2");
+        var tab0 = tabSheet.add("Tab 0", content0);
+        var tab1 = tabSheet.add("Tab 1", content1);
+        var tab2 = tabSheet.add("Tab 2", content2);
+
+        tabSheet.setSelectedTab(tab1);
+        tabSheet.setSelectedTab(tab0);
+        tabSheet.setSelectedTab(tab2);
+
+        Assert.assertTrue(content0.getParent().isPresent());
+        Assert.assertFalse(content1.getParent().isPresent());
+        Assert.assertTrue(content2.getParent().isPresent());
+        Assert.assertEquals(content1, tabSheet.getComponent(tab1));
+
+        tabSheet.setSelectedTab(tab1);
+
+        Assert.assertFalse(content0.getParent().isPresent());
+        Assert.assertTrue(content1.getParent().isPresent());
+        Assert.assertTrue(content1.isEnabled());
+    }
+
+    @Test
+    public void maxAttachedContentCount_lowered_detachesContents() {
+        var content0 = new Span("Content 0");
+        var content1 = new Span("Content 1");
+        var tab0 = tabSheet.add("Tab 0", content0);
+        var tab1 = tabSheet.add("Tab 1", content1);
+        tabSheet.setSelectedTab(tab1);
+        tabSheet.setSelectedTab(tab0);
+
+        tabSheet.setMaxAttachedContentCount(1);
+
+        Assert.assertTrue(content0.getParent().isPresent());
+        Assert.assertFalse(content1.getParent().isPresent());
+    }
+
+    @Test
+    public void discardDetachedContent_lazyContentRecreated() {
+        tabSheet.setMaxAttachedContentCount(1);
+        tabSheet.setDiscardDetachedContent(true);
+        var supplierCalls = new AtomicInteger();
+        var tab0 = tabSheet.addLazy("Tab 0", () -> {
+            supplierCalls.incrementAndGet();
+            return new Span("Content 0");
+        });
+        var content1 = new Span("Content 1");
+        var tab1 = tabSheet.add("Tab 1", content1);
+        var firstContent0 = tabSheet.getComponent(tab0);
+
+        tabSheet.setSelectedTab(tab1);
+
+        Assert.assertNull(tabSheet.getComponent(tab0));
+        Assert.assertFalse(firstContent0.getParent().isPresent());
+
+        tabSheet.setSelectedTab(tab0);
+
+        Assert.assertEquals(2, supplierCalls.get());
+        Assert.assertNotEquals(firstContent0, tabSheet.getComponent(tab0));
+        Assert.assertTrue(tabSheet.getComponent(tab0).getParent().isPresent());
+        // Eagerly added content is detached but not discarded
+        Assert.assertFalse(content1.getParent().isPresent());
+        Assert.assertEquals(content1, tabSheet.getComponent(tab1));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void maxAttachedContentCount_negative_throws() {
+        tabSheet.setMaxAttachedContentCount(-1);
+    }
+
     private void flushBeforeClientResponse() {
         UIInternals internals = ui.getInternals();
         internals.getStateTree().runExecutionsBeforeClientResponse();